@@ -17,7 +17,9 @@ import ai.djl.translate.Translator;
 import com.azure.ai.openai.OpenAIClient;
 import com.azure.ai.openai.OpenAIClientBuilder;
 import com.azure.core.credential.AzureKeyCredential;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.vectorize.DefaultEmbedder;
+import com.redis.om.spring.vectorize.DjlModels;
 import com.redis.om.spring.vectorize.Embedder;
 import com.redis.om.spring.vectorize.face.FaceDetectionTranslator;
 import com.redis.om.spring.vectorize.face.FaceFeatureTranslator;
@@ -37,6 +39,7 @@ import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.vertexai.palm2.VertexAiPaLm2EmbeddingModel;
 import org.springframework.ai.vertexai.palm2.api.VertexAiPaLm2Api;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -101,6 +104,7 @@ public class RedisAiConfiguration {
         .build();
   }
 
+  @Lazy
   @Bean(name = "djlFaceDetectionModel")
   public ZooModel<Image, DetectedObjects> faceDetectionModel(
       @Nullable @Qualifier("djlFaceDetectionModelCriteria") Criteria<Image, DetectedObjects> criteria) {
@@ -130,21 +134,30 @@ public class RedisAiConfiguration {
         .build();
   }
 
-  @Bean(name = "djlFaceEmbeddingModel")
-  public ZooModel<Image, float[]> faceEmbeddingModel(
-      @Nullable @Qualifier("djlFaceEmbeddingModelCriteria") Criteria<Image, float[]> criteria) {
-    try {
-      return criteria != null ? ModelZoo.loadModel(criteria) : null;
-    } catch (Exception e) {
-      logger.warn("Error retrieving default DJL face embeddings model", e);
-      return null;
-    }
+  /**
+   * The models used for embedding, loaded according to {@code redis.om.spring.ai.djl.loading}.
+   */
+  @Bean(name = "djlModels")
+  public DjlModels djlModels( //
+      @Nullable @Qualifier("djlImageEmbeddingModelCriteria") Criteria<Image, byte[]> imageEmbeddingCriteria, //
+      @Nullable @Qualifier("djlFaceEmbeddingModelCriteria") Criteria<Image, float[]> faceEmbeddingCriteria, //
+      RedisOMAiProperties properties) {
+    return new DjlModels(imageEmbeddingCriteria, faceEmbeddingCriteria, () -> loadSentenceTokenizer(properties),
+        properties.getDjl().getLoading());
   }
 
-  @Bean(name = "djlImageEmbeddingModel")
-  public ZooModel<Image, byte[]> imageModel(
-      @Nullable @Qualifier("djlImageEmbeddingModelCriteria") Criteria<Image, byte[]> criteria) throws MalformedModelException, ModelNotFoundException, IOException {
-    return criteria != null ? ModelZoo.loadModel(criteria) : null;
+  // the model beans below are views of the models owned (and closed) by djlModels, created on first use
+
+  @Lazy
+  @Bean(name = "djlFaceEmbeddingModel", destroyMethod = "")
+  public ZooModel<Image, float[]> faceEmbeddingModel(@Qualifier("djlModels") DjlModels models) {
+    return models.getFaceEmbeddingModel();
+  }
+
+  @Lazy
+  @Bean(name = "djlImageEmbeddingModel", destroyMethod = "")
+  public ZooModel<Image, byte[]> imageModel(@Qualifier("djlModels") DjlModels models) {
+    return models.getImageEmbeddingModel();
   }
 
   @Bean(name = "djlDefaultImagePipeline")
@@ -161,8 +174,13 @@ public class RedisAiConfiguration {
             .add(new ToTensor());
   }
 
-  @Bean(name = "djlSentenceTokenizer")
-  public HuggingFaceTokenizer sentenceTokenizer(RedisOMAiProperties properties) {
+  @Lazy
+  @Bean(name = "djlSentenceTokenizer", destroyMethod = "")
+  public HuggingFaceTokenizer sentenceTokenizer(@Qualifier("djlModels") DjlModels models) {
+    return models.getSentenceTokenizer();
+  }
+
+  private static HuggingFaceTokenizer loadSentenceTokenizer(RedisOMAiProperties properties) {
     Map<String, String> options = Map.of( //
             "maxLength", properties.getDjl().getSentenceTokenizerMaxLength(), //
             "modelMaxLength", properties.getDjl().getSentenceTokenizerModelMaxLength() //
@@ -439,19 +457,20 @@ public class RedisAiConfiguration {
   @Primary
   @Bean(name = "featureExtractor")
   public Embedder featureExtractor(
-      @Nullable @Qualifier("djlImageEmbeddingModel") ZooModel<Image, byte[]> imageEmbeddingModel,
-      @Nullable @Qualifier("djlFaceEmbeddingModel") ZooModel<Image, float[]> faceEmbeddingModel,
+      @Qualifier("djlModels") DjlModels djlModels,
       @Nullable @Qualifier("djlImageFactory") ImageFactory imageFactory,
       @Nullable @Qualifier("djlDefaultImagePipeline") Pipeline defaultImagePipeline,
-      @Nullable @Qualifier("djlSentenceTokenizer") HuggingFaceTokenizer sentenceTokenizer,
       @Nullable OpenAiEmbeddingModel openAITextVectorizer, @Nullable OpenAIClient azureOpenAIClient,
       @Nullable VertexAiPaLm2EmbeddingModel vertexAiPaLm2EmbeddingModel,
       @Nullable BedrockCohereEmbeddingModel bedrockCohereEmbeddingModel,
       @Nullable BedrockTitanEmbeddingModel bedrockTitanEmbeddingModel,
       RedisOMAiProperties properties,
-      ApplicationContext ac) {
-    return new DefaultEmbedder(ac, imageEmbeddingModel, faceEmbeddingModel, imageFactory, defaultImagePipeline,
-            sentenceTokenizer, openAITextVectorizer, azureOpenAIClient, vertexAiPaLm2EmbeddingModel,
-            bedrockCohereEmbeddingModel, bedrockTitanEmbeddingModel, properties);
+      ApplicationContext ac,
+      ObjectProvider<RedisOMMetrics> metrics) {
+    DefaultEmbedder embedder = new DefaultEmbedder(ac, djlModels, imageFactory, defaultImagePipeline,
+            openAITextVectorizer, azureOpenAIClient, vertexAiPaLm2EmbeddingModel, bedrockCohereEmbeddingModel,
+            bedrockTitanEmbeddingModel, properties);
+    embedder.setMetrics(RedisOMMetrics.compose(metrics.orderedStream().toList()));
+    return embedder;
   }
 }
@@ -7,6 +7,8 @@ import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
 import com.redis.om.spring.mapping.RedisEnhancedPersistentEntity;
+import com.redis.om.spring.materialized.MaterializedAggregationMaintainer;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.vectorize.Embedder;
@@ -16,6 +18,7 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisKeyCommands;
 import org.springframework.data.redis.core.*;
@@ -39,6 +42,7 @@ import redis.clients.jedis.search.SearchResult;
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static com.redis.om.spring.util.ObjectUtils.*;
 
@@ -50,6 +54,7 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
   private final RedisModulesOperations<String> modulesOperations;
   private final RediSearchIndexer indexer;
   private final EntityAuditor auditor;
+  private final MaterializedAggregationMaintainer materializedAggregations;
   private final Embedder embedder;
   private final RedisOMProperties redisOMProperties;
 
@@ -123,6 +128,7 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     this.modulesOperations = (RedisModulesOperations<String>) rmo;
     this.indexer = indexer;
     this.auditor = new EntityAuditor(this.redisOperations);
+    this.materializedAggregations = new MaterializedAggregationMaintainer(this.modulesOperations.template());
     this.embedder = embedder;
     this.redisOMProperties = redisOMProperties;
   }
@@ -154,18 +160,28 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
       rdo.setId(idAsString);
     }
 
-    redisOperations.executePipelined((RedisCallback<Object>) connection -> {
-      byte[] objectKey = createKey(sanitizeKeyspace(rdo.getKeyspace()), rdo.getId());
-      connection.keyCommands().del(objectKey);
-      Map<byte[], byte[]> rawMap = rdo.getBucket().rawMap();
-      connection.hashCommands().hMSet(objectKey, rawMap);
+    RedisOMMetrics metrics = modulesOperations.metrics();
+    String targetKeyspace = sanitizeKeyspace(rdo.getKeyspace());
+    Map<byte[], byte[]> rawMap = rdo.getBucket().rawMap();
+    if (metrics.isEnabled()) {
+      metrics.recordPayload("HSET", targetKeyspace, RedisOMMetrics.hashLength(rawMap));
+    }
+    metrics.timeCommand("HSET", targetKeyspace,
+        () -> redisOperations.executePipelined((RedisCallback<Object>) connection -> {
+          byte[] objectKey = createKey(targetKeyspace, rdo.getId());
+          connection.keyCommands().del(objectKey);
+          connection.hashCommands().hMSet(objectKey, rawMap);
+
+          if (willExpire(rdo)) {
+            connection.keyCommands().expire(objectKey, rdo.getTimeToLive());
+          }
 
-      if (willExpire(rdo)) {
-        connection.keyCommands().expire(objectKey, rdo.getTimeToLive());
-      }
+          return null;
+        }));
 
-      return null;
-    });
+    if (!(item instanceof RedisData)) {
+      materializedAggregations.onSave(rdo.getId(), item);
+    }
 
     return item;
   }
@@ -186,18 +202,22 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
 
     byte[] binId = createKey(stringKeyspace, stringId);
 
-    Map<byte[], byte[]> raw = redisOperations.execute(
-        (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(binId));
+    RedisOMMetrics metrics = modulesOperations.metrics();
+    Map<byte[], byte[]> raw = metrics.timeCommand("HGETALL", stringKeyspace, () -> redisOperations.execute(
+        (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(binId)));
 
     if (CollectionUtils.isEmpty(raw)) {
       return null;
     }
+    if (metrics.isEnabled()) {
+      metrics.recordPayload("HGETALL", stringKeyspace, RedisOMMetrics.hashLength(raw));
+    }
 
     RedisData data = new RedisData(raw);
     data.setId(stringId);
     data.setKeyspace(stringKeyspace);
 
-    return readTimeToLiveIfSet(binId, converter.read(type, data));
+    return readTimeToLiveIfSet(binId, metrics.timeDeserialization(stringKeyspace, () -> converter.read(type, data)));
   }
 
   /*
@@ -210,6 +230,9 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
   @Override
   public void deleteAllOf(String keyspace) {
     Class<?> type = indexer.getEntityClassForKeyspace(keyspace);
+    if (type != null) {
+      materializedAggregations.clear(type);
+    }
     String searchIndex = indexer.getIndexName(keyspace);
     SearchOperations<String> searchOps = modulesOperations.opsForSearch(searchIndex);
     if (redisOMProperties.getRepository().isDropAndRecreateIndexOnDeleteAll()) {
@@ -267,14 +290,21 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
   @SuppressWarnings("unchecked")
   @Override
   public <T> List<T> getAllOf(String keyspace, Class<T> type, long offset, int rows) {
-    String searchIndex = indexer.getIndexName(keyspace);
-    SearchOperations<String> searchOps = modulesOperations.opsForSearch(searchIndex);
-    Query query = new Query("*");
     offset = Math.max(0, offset);
     int limit = rows;
     if (limit <= 0) {
       limit = redisOMProperties.getRepository().getQuery().getLimit();
     }
+    if (!indexer.canSearch(type)) {
+      String prefix = keyspace.endsWith(":") ? keyspace : keyspace + ":";
+      List<String> keys = new ArrayList<>();
+      scanKeyspace(keyspace, offset, limit, keys::add);
+      return keys.stream()
+          .map(key -> get(key.substring(prefix.length()), keyspace, type)).filter(Objects::nonNull).toList();
+    }
+    String searchIndex = indexer.getIndexName(keyspace);
+    SearchOperations<String> searchOps = modulesOperations.opsForSearch(searchIndex);
+    Query query = new Query("*");
     query.limit(Math.toIntExact(offset), limit);
     SearchResult searchResult = searchOps.search(query);
 
@@ -305,6 +335,7 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
         connection.keyCommands().unlink(keyToDelete);
         return null;
       });
+      materializedAggregations.onDelete(type, stringId);
     }
 
     return o;
@@ -318,6 +349,9 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
    */
   @Override
   public long count(String keyspace) {
+    if (!indexer.canSearch(indexer.getEntityClassForKeyspace(keyspace))) {
+      return scanKeyspace(keyspace, 0, 0, key -> { });
+    }
     String indexName = indexer.getIndexName(keyspace);
     SearchOperations<String> search = modulesOperations.opsForSearch(indexName);
     // FT.SEARCH index * LIMIT 0 0
@@ -400,6 +434,14 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
 
       return null;
     });
+
+    // partial updates don't carry the whole entity, re-read it to refresh its contribution
+    if (MaterializedAggregationMaintainer.hasMaterializedAggregations(update.getTarget())) {
+      Object updated = get(stringId, keyspace, update.getTarget());
+      if (updated != null) {
+        materializedAggregations.onSave(stringId, updated);
+      }
+    }
   }
 
   private RedisUpdateObject fetchDeletePathsFromHash(RedisUpdateObject redisUpdateObject, String path,
@@ -562,6 +604,33 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     return toBytes(keyspace.endsWith(":") ? keyspace + id : keyspace + ":" + id);
   }
 
+  /**
+   * Walks the keys of a keyspace with {@code SCAN}, for when its index is not ready yet. The keys come in no
+   * particular order; the sets of the secondary indexes and the phantom copies of expiring entities are skipped.
+   *
+   * @param limit the maximum number of keys, all of them if not positive
+   * @return the number of keys passed to the action
+   */
+  private long scanKeyspace(String keyspace, long offset, int limit, Consumer<String> action) {
+    String prefix = keyspace.endsWith(":") ? keyspace : keyspace + ":";
+    ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").type(DataType.HASH).count(1000).build();
+    long skipped = 0;
+    long taken = 0;
+    try (Cursor<String> cursor = modulesOperations.template().scan(options)) {
+      while (cursor.hasNext() && (limit <= 0 || taken < limit)) {
+        String key = cursor.next();
+        if (key.endsWith(MappingRedisOMConverter.KeyspaceIdentifier.PHANTOM_SUFFIX)) {
+          continue;
+        }
+        if (skipped++ >= offset) {
+          action.accept(key);
+          taken++;
+        }
+      }
+    }
+    return taken;
+  }
+
   /**
    * Container holding update information like fields to remove from the Redis
    * Hash.
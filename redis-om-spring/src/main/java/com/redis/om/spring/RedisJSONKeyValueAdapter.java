@@ -8,6 +8,7 @@ import com.redis.om.spring.convert.RedisOMCustomConversions;
 import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.mapping.RedisEnhancedPersistentEntity;
+import com.redis.om.spring.materialized.MaterializedAggregationMaintainer;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
@@ -22,9 +23,11 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Reference;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.RedisCustomConversions;
@@ -46,13 +49,17 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static com.redis.om.spring.util.ObjectUtils.isPrimitiveOfType;
 
 public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   private static final Log logger = LogFactory.getLog(RedisJSONKeyValueAdapter.class);
+  // the type SCAN reports for RedisJSON documents
+  private static final String JSON_TYPE = "ReJSON-RL";
   private final JSONOperations<?> redisJSONOperations;
   private final RedisOperations<?, ?> redisOperations;
   private final RedisMappingContext mappingContext;
@@ -60,6 +67,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   private final RediSearchIndexer indexer;
   private final GsonBuilder gsonBuilder;
   private final EntityAuditor auditor;
+  private final MaterializedAggregationMaintainer materializedAggregations;
   private final Embedder embedder;
   private final RedisOMProperties redisOMProperties;
 
@@ -88,6 +96,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     this.mappingContext = mappingContext;
     this.indexer = indexer;
     this.auditor = new EntityAuditor(this.redisOperations);
+    this.materializedAggregations = new MaterializedAggregationMaintainer(modulesOperations.template());
     this.gsonBuilder = gsonBuilder;
     this.embedder = embedder;
     this.redisOMProperties = redisOMProperties;
@@ -116,6 +125,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
 
     ops.set(key, item);
     processReferences(key, item);
+    materializedAggregations.onSave(stringId, item);
 
     redisOperations.execute((RedisCallback<Object>) connection -> {
       maybeTtl.ifPresent(ttl -> {
@@ -160,14 +170,20 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
    */
   @Override
   public <T> List<T> getAllOf(String keyspace, Class<T> type, long offset, int rows) {
-    String searchIndex = indexer.getIndexName(keyspace);
-    SearchOperations<String> searchOps = modulesOperations.opsForSearch(searchIndex);
-    Query query = new Query("*");
     offset = Math.max(0, offset);
     int limit = rows;
     if (limit <= 0) {
       limit = redisOMProperties.getRepository().getQuery().getLimit();
     }
+    if (!indexer.canSearch(type)) {
+      List<String> keys = new ArrayList<>();
+      scanKeyspace(keyspace, offset, limit, keys::add);
+      return keys.stream().map(key -> get(key, type)).filter(Objects::nonNull)
+          .toList();
+    }
+    String searchIndex = indexer.getIndexName(keyspace);
+    SearchOperations<String> searchOps = modulesOperations.opsForSearch(searchIndex);
+    Query query = new Query("*");
     query.limit(Math.toIntExact(offset), limit);
     SearchResult searchResult = searchOps.search(query);
     Gson gson = gsonBuilder.create();
@@ -206,6 +222,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     if (entity != null) {
       String key = createKeyAsString(keyspace, stringId);
       ops.del(key, Path2.ROOT_PATH);
+      materializedAggregations.onDelete(type, stringId);
     }
 
     return entity;
@@ -221,6 +238,9 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   @Override
   public void deleteAllOf(String keyspace) {
     Class<?> type = indexer.getEntityClassForKeyspace(keyspace);
+    if (type != null) {
+      materializedAggregations.clear(type);
+    }
     String searchIndex = indexer.getIndexName(keyspace);
     SearchOperations<String> searchOps = modulesOperations.opsForSearch(searchIndex);
     if (redisOMProperties.getRepository().isDropAndRecreateIndexOnDeleteAll()) {
@@ -257,6 +277,9 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
    */
   @Override
   public long count(String keyspace) {
+    if (!indexer.canSearch(indexer.getEntityClassForKeyspace(keyspace))) {
+      return scanKeyspace(keyspace, 0, 0, key -> { });
+    }
     String indexName = indexer.getIndexName(keyspace);
     SearchOperations<String> search = modulesOperations.opsForSearch(indexName);
     // FT.SEARCH index * LIMIT 0 0
@@ -458,4 +481,28 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
 
     return getConverter().getConversionService().convert(value, String.class);
   }
+
+  /**
+   * Walks the keys of a keyspace with {@code SCAN}, for when its index is not ready yet. The keys come in no
+   * particular order; keys of other types under the same prefix are skipped.
+   *
+   * @param limit the maximum number of keys, all of them if not positive
+   * @return the number of keys passed to the action
+   */
+  private long scanKeyspace(String keyspace, long offset, int limit, Consumer<String> action) {
+    String prefix = keyspace.endsWith(":") ? keyspace : keyspace + ":";
+    ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").type(JSON_TYPE).count(1000).build();
+    long skipped = 0;
+    long taken = 0;
+    try (Cursor<String> cursor = modulesOperations.template().scan(options)) {
+      while (cursor.hasNext() && (limit <= 0 || taken < limit)) {
+        String key = cursor.next();
+        if (skipped++ >= offset) {
+          action.accept(key);
+          taken++;
+        }
+      }
+    }
+    return taken;
+  }
 }
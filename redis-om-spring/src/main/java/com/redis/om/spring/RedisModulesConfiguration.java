@@ -6,22 +6,31 @@ import com.redis.om.spring.annotations.Bloom;
 import com.redis.om.spring.annotations.Cuckoo;
 import com.redis.om.spring.annotations.Document;
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.indexing.EntityRegistry;
+import com.redis.om.spring.indexing.IndexAdvisor;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
+import com.redis.om.spring.metrics.RedisOMMetrics;
+import com.redis.om.spring.ops.AsyncExecutor;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.pds.BloomOperations;
 import com.redis.om.spring.ops.pds.CuckooFilterOperations;
+import com.redis.om.spring.ops.search.QueryFieldUsage;
+import com.redis.om.spring.ops.search.SlowQueryLog;
 import com.redis.om.spring.search.stream.EntityStream;
 import com.redis.om.spring.search.stream.EntityStreamImpl;
 import com.redis.om.spring.serialization.gson.*;
+import com.redis.om.spring.util.ParallelTasks;
 import com.redis.om.spring.vectorize.Embedder;
+import com.redis.om.spring.vectorize.cache.SemanticCacheManager;
 import com.redis.om.spring.vectorize.NoopEmbedder;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
@@ -45,11 +54,10 @@ import org.springframework.lang.Nullable;
 import redis.clients.jedis.bloom.CFReserveParams;
 
 import java.time.*;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Set;
 
-import static com.redis.om.spring.util.ObjectUtils.getBeanDefinitionsFor;
 import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
 
 @Configuration(proxyBeanMethods = false)
@@ -60,6 +68,7 @@ import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively
 @ComponentScan("com.redis.om.spring.autocomplete")
 @ComponentScan("com.redis.om.spring.metamodel")
 @ComponentScan("com.redis.om.spring.util")
+@ImportRuntimeHints(RedisOMRuntimeHints.class)
 public class RedisModulesConfiguration {
 
   private static final Log logger = LogFactory.getLog(RedisModulesConfiguration.class);
@@ -106,8 +115,36 @@ public class RedisModulesConfiguration {
   RedisModulesOperations<?> redisModulesOperations( //
       RedisModulesClient rmc, //
       StringRedisTemplate template, //
-      @Qualifier("omGsonBuilder") GsonBuilder gsonBuilder) {
-    return new RedisModulesOperations<>(rmc, template, gsonBuilder);
+      @Qualifier("omGsonBuilder") GsonBuilder gsonBuilder, //
+      @Qualifier("redisOMQueryFieldUsage") QueryFieldUsage fieldUsage, //
+      ObjectProvider<RedisOMMetrics> metrics, //
+      @Qualifier("redisOMSlowQueryLog") SlowQueryLog slowQueryLog, //
+      @Qualifier("redisOMAsyncExecutor") AsyncExecutor asyncExecutor) {
+    return new RedisModulesOperations<>(rmc, template, gsonBuilder, fieldUsage,
+        RedisOMMetrics.compose(metrics.orderedStream().toList()), slowQueryLog, asyncExecutor);
+  }
+
+  @Bean(name = "redisOMAsyncExecutor")
+  AsyncExecutor asyncExecutor(RedisOMProperties properties, JedisConnectionFactory jedisConnectionFactory) {
+    int maxConcurrency = properties.getRepository().getAsyncMaxConcurrency();
+    if (maxConcurrency <= 0) {
+      // as many operations as connections, so that they don't queue on the pool
+      GenericObjectPoolConfig<?> pool = jedisConnectionFactory.getPoolConfig();
+      maxConcurrency = pool != null ? pool.getMaxTotal() : GenericObjectPoolConfig.DEFAULT_MAX_TOTAL;
+    }
+    return new AsyncExecutor(maxConcurrency, properties.getRepository().isAsyncVirtualThreads());
+  }
+
+  @Bean(name = "redisOMQueryFieldUsage")
+  QueryFieldUsage queryFieldUsage(RedisOMProperties properties) {
+    return new QueryFieldUsage(properties.getRepository().isTrackQueryFieldUsage());
+  }
+
+  @Bean(name = "redisOMSlowQueryLog")
+  SlowQueryLog slowQueryLog(RedisOMProperties properties) {
+    RedisOMProperties.Observability observability = properties.getObservability();
+    return new SlowQueryLog(observability.isSlowQueryLogEnabled(), observability.getSlowQueryThreshold(),
+        observability.getSlowQueryProfileSampleRate(), observability.getSlowQueryBufferSize());
   }
 
   @Bean(name = "redisJSONOperations")
@@ -191,20 +228,40 @@ public class RedisModulesConfiguration {
     return new EntityStreamImpl(redisModulesOperations, gsonBuilder, indexer);
   }
 
+  @Bean(name = "semanticCacheManager")
+  SemanticCacheManager semanticCacheManager(RedisModulesOperations<?> redisModulesOperations,
+      RediSearchIndexer indexer, @Nullable @Qualifier("featureExtractor") Embedder embedder,
+      RedisOMProperties properties) {
+    return new SemanticCacheManager(redisModulesOperations, indexer, embedder, properties);
+  }
+
   @Bean(name = "redisOMCacheManager")
   public CacheManager getCacheManager() {
     return new ConcurrentMapCacheManager();
   }
 
+  @Bean(name = "redisOMIndexAdvisor")
+  @SuppressWarnings("unchecked")
+  public IndexAdvisor indexAdvisor(RediSearchIndexer indexer, RedisModulesOperations<?> redisModulesOperations) {
+    return new IndexAdvisor(indexer, (RedisModulesOperations<String>) redisModulesOperations);
+  }
+
+  @Bean(name = "redisOMEntityRegistry")
+  public EntityRegistry entityRegistry(ApplicationContext ac) {
+    return new EntityRegistry(ac);
+  }
+
   @EventListener(ContextRefreshedEvent.class)
   public void ensureIndexesAreCreated(ContextRefreshedEvent cre) {
     logger.info("Creating Indexes......");
 
     ApplicationContext ac = cre.getApplicationContext();
+    long start = System.nanoTime();
 
     RediSearchIndexer indexer = (RediSearchIndexer) ac.getBean("rediSearchIndexer");
-    indexer.createIndicesFor(Document.class);
-    indexer.createIndicesFor(RedisHash.class);
+    indexer.createIndicesFor(ac.getBean(EntityRegistry.class).getEntityClasses());
+
+    logger.info(String.format("Created indexes in %s ms", elapsedMillis(start)));
   }
 
   @EventListener(ContextRefreshedEvent.class)
@@ -212,26 +269,30 @@ public class RedisModulesConfiguration {
     ApplicationContext ac = cre.getApplicationContext();
     @SuppressWarnings("unchecked") RedisModulesOperations<String> rmo = (RedisModulesOperations<String>) ac.getBean(
         "redisModulesOperations");
-
-    Set<BeanDefinition> beanDefs = getBeanDefinitionsFor(ac, Document.class, RedisHash.class);
-
-    for (BeanDefinition beanDef : beanDefs) {
-      try {
-        Class<?> cl = Class.forName(beanDef.getBeanClassName());
-        for (java.lang.reflect.Field field : getDeclaredFieldsTransitively(cl)) {
-          if (field.isAnnotationPresent(Bloom.class)) {
-            Bloom bloom = field.getAnnotation(Bloom.class);
-            BloomOperations<String> ops = rmo.opsForBloom();
-            String filterName = !ObjectUtils.isEmpty(bloom.name()) ?
-                bloom.name() :
-                String.format("bf:%s:%s", cl.getSimpleName(), field.getName());
-            ops.createFilter(filterName, bloom.capacity(), bloom.errorRate());
-          }
+    long start = System.nanoTime();
+
+    List<Runnable> creations = new ArrayList<>();
+    for (Class<?> cl : ac.getBean(EntityRegistry.class).getEntityClasses()) {
+      for (java.lang.reflect.Field field : getDeclaredFieldsTransitively(cl)) {
+        if (field.isAnnotationPresent(Bloom.class)) {
+          Bloom bloom = field.getAnnotation(Bloom.class);
+          String filterName = !ObjectUtils.isEmpty(bloom.name()) ?
+              bloom.name() :
+              String.format("bf:%s:%s", cl.getSimpleName(), field.getName());
+          creations.add(() -> {
+            try {
+              BloomOperations<String> ops = rmo.opsForBloom();
+              ops.createFilter(filterName, bloom.capacity(), bloom.errorRate());
+            } catch (Exception e) {
+              logger.debug("Error during processing of @Bloom annotation: ", e);
+            }
+          });
         }
-      } catch (Exception e) {
-        logger.debug("Error during processing of @Bloom annotation: ", e);
       }
     }
+    ParallelTasks.forEach(creations, getBootstrapParallelism(ac), "redis-om-bloom-creation", Runnable::run);
+
+    logger.info(String.format("Created %s Bloom filters in %s ms", creations.size(), elapsedMillis(start)));
   }
 
   @EventListener(ContextRefreshedEvent.class)
@@ -239,28 +300,32 @@ public class RedisModulesConfiguration {
     ApplicationContext ac = cre.getApplicationContext();
     @SuppressWarnings("unchecked") RedisModulesOperations<String> rmo = (RedisModulesOperations<String>) ac.getBean(
         "redisModulesOperations");
-
-    Set<BeanDefinition> beanDefs = getBeanDefinitionsFor(ac, Document.class, RedisHash.class);
-
-    for (BeanDefinition beanDef : beanDefs) {
-      try {
-        Class<?> cl = Class.forName(beanDef.getBeanClassName());
-        for (java.lang.reflect.Field field : getDeclaredFieldsTransitively(cl)) {
-          if (field.isAnnotationPresent(Cuckoo.class)) {
-            Cuckoo cuckoo = field.getAnnotation(Cuckoo.class);
-            CuckooFilterOperations<String> ops = rmo.opsForCuckoFilter();
-            String filterName = !ObjectUtils.isEmpty(cuckoo.name()) ?
-                cuckoo.name() :
-                String.format("cf:%s:%s", cl.getSimpleName(), field.getName());
-            CFReserveParams params = CFReserveParams.reserveParams().bucketSize(cuckoo.bucketSize())
-                .expansion(cuckoo.expansion()).maxIterations(cuckoo.maxIterations());
-            ops.createFilter(filterName, cuckoo.capacity(), params);
-          }
+    long start = System.nanoTime();
+
+    List<Runnable> creations = new ArrayList<>();
+    for (Class<?> cl : ac.getBean(EntityRegistry.class).getEntityClasses()) {
+      for (java.lang.reflect.Field field : getDeclaredFieldsTransitively(cl)) {
+        if (field.isAnnotationPresent(Cuckoo.class)) {
+          Cuckoo cuckoo = field.getAnnotation(Cuckoo.class);
+          String filterName = !ObjectUtils.isEmpty(cuckoo.name()) ?
+              cuckoo.name() :
+              String.format("cf:%s:%s", cl.getSimpleName(), field.getName());
+          CFReserveParams params = CFReserveParams.reserveParams().bucketSize(cuckoo.bucketSize())
+              .expansion(cuckoo.expansion()).maxIterations(cuckoo.maxIterations());
+          creations.add(() -> {
+            try {
+              CuckooFilterOperations<String> ops = rmo.opsForCuckoFilter();
+              ops.createFilter(filterName, cuckoo.capacity(), params);
+            } catch (Exception e) {
+              logger.debug("Error during processing of @Cuckoo annotation: ", e);
+            }
+          });
         }
-      } catch (Exception e) {
-        logger.debug("Error during processing of @Bloom annotation: ", e);
       }
     }
+    ParallelTasks.forEach(creations, getBootstrapParallelism(ac), "redis-om-cuckoo-creation", Runnable::run);
+
+    logger.info(String.format("Created %s Cuckoo filters in %s ms", creations.size(), elapsedMillis(start)));
   }
 
   @EventListener(ContextRefreshedEvent.class)
@@ -268,11 +333,22 @@ public class RedisModulesConfiguration {
     logger.info("Registering Reference Serializers......");
 
     ApplicationContext ac = cre.getApplicationContext();
+    long start = System.nanoTime();
     GsonBuilder gsonBuilder = (GsonBuilder) ac.getBean("omGsonBuilder");
     GsonReferenceSerializerRegistrar registrar = new GsonReferenceSerializerRegistrar(gsonBuilder, ac);
 
     registrar.registerReferencesFor(Document.class);
     registrar.registerReferencesFor(RedisHash.class);
+
+    logger.info(String.format("Registered Reference Serializers in %s ms", elapsedMillis(start)));
+  }
+
+  private static int getBootstrapParallelism(ApplicationContext ac) {
+    return ac.getBean(RedisOMProperties.class).getRepository().getBootstrapParallelism();
+  }
+
+  private static long elapsedMillis(long startNanos) {
+    return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
   }
 
   @ConditionalOnProperty(name = "redis.om.spring.ai.enabled", havingValue = "false", matchIfMissing = true)
@@ -1,10 +1,16 @@
 package com.redis.om.spring;
 
+import com.redis.om.spring.annotations.EmbeddingProvider;
+import com.redis.om.spring.vectorize.DjlModels;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.ai.openai.api.OpenAiApi.EmbeddingModel;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
 @ConditionalOnProperty(name = "redis.om.spring.ai.enabled")
 @ConfigurationProperties(
     prefix = "redis.om.spring.ai", ignoreInvalidFields = true
@@ -18,6 +24,7 @@ public class RedisOMAiProperties {
   private final BedrockCohere bedrockCohere = new BedrockCohere();
   private final BedrockTitan bedrockTitan = new BedrockTitan();
   private final Ollama ollama = new Ollama();
+  private final EmbeddingDispatcher embeddingDispatcher = new EmbeddingDispatcher();
 
   public boolean isEnabled() {
     return this.enabled;
@@ -55,6 +62,10 @@ public class RedisOMAiProperties {
     return ollama;
   }
 
+  public EmbeddingDispatcher getEmbeddingDispatcher() {
+    return embeddingDispatcher;
+  }
+
   // DJL properties
   public static class Djl {
     private static final String DEFAULT_ENGINE = "PyTorch";
@@ -91,6 +102,16 @@ public class RedisOMAiProperties {
     @NotNull
     private String faceEmbeddingModelModelUrls = "https://resources.djl.ai/test-models/pytorch/face_feature.zip";
 
+    // image and face inference, 0 sizes the predictor pools to the available processors
+    private int predictorPoolSize = 0;
+    private int predictorBatchSize = 32;
+
+    // model loading, and what writes do while the models load
+    private DjlModels.Loading loading = DjlModels.Loading.BACKGROUND;
+    private DjlModels.NotReadyPolicy notReadyPolicy = DjlModels.NotReadyPolicy.BLOCK;
+    private Duration readyTimeout = Duration.ofMinutes(5);
+    private int maxQueuedEntities = 10000;
+
     public Djl() {
     }
 
@@ -206,8 +227,63 @@ public class RedisOMAiProperties {
       this.faceEmbeddingModelModelUrls = faceEmbeddingModelModelUrls;
     }
 
+    public int getPredictorPoolSize() {
+      return this.predictorPoolSize;
+    }
+
+    public void setPredictorPoolSize(int predictorPoolSize) {
+      this.predictorPoolSize = predictorPoolSize;
+    }
+
+    /**
+     * @return the configured pool size, or the number of available processors when not set
+     */
+    public int getEffectivePredictorPoolSize() {
+      return this.predictorPoolSize > 0 ? this.predictorPoolSize : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getPredictorBatchSize() {
+      return this.predictorBatchSize;
+    }
+
+    public void setPredictorBatchSize(int predictorBatchSize) {
+      this.predictorBatchSize = predictorBatchSize;
+    }
+
+    public DjlModels.Loading getLoading() {
+      return this.loading;
+    }
+
+    public void setLoading(DjlModels.Loading loading) {
+      this.loading = loading;
+    }
+
+    public DjlModels.NotReadyPolicy getNotReadyPolicy() {
+      return this.notReadyPolicy;
+    }
+
+    public void setNotReadyPolicy(DjlModels.NotReadyPolicy notReadyPolicy) {
+      this.notReadyPolicy = notReadyPolicy;
+    }
+
+    public Duration getReadyTimeout() {
+      return this.readyTimeout;
+    }
+
+    public void setReadyTimeout(Duration readyTimeout) {
+      this.readyTimeout = readyTimeout;
+    }
+
+    public int getMaxQueuedEntities() {
+      return this.maxQueuedEntities;
+    }
+
+    public void setMaxQueuedEntities(int maxQueuedEntities) {
+      this.maxQueuedEntities = maxQueuedEntities;
+    }
+
     public String toString() {
-      return "RedisOMSpringProperties.Ai.Djl(imageEmbeddingModelEngine=" + this.getImageEmbeddingModelEngine() + ", imageEmbeddingModelModelUrls=" + this.getImageEmbeddingModelModelUrls() + ", defaultImagePipelineResizeWidth=" + this.getDefaultImagePipelineResizeWidth() + ", defaultImagePipelineResizeHeight=" + this.getDefaultImagePipelineResizeHeight() + ", defaultImagePipelineCenterCrop=" + this.isDefaultImagePipelineCenterCrop() + ", sentenceTokenizerMaxLength=" + this.getSentenceTokenizerMaxLength() + ", sentenceTokenizerModelMaxLength=" + this.getSentenceTokenizerModelMaxLength() + ", sentenceTokenizerModel=" + this.getSentenceTokenizerModel() + ", faceDetectionModelEngine=" + this.getFaceDetectionModelEngine() + ", faceDetectionModelName=" + this.getFaceDetectionModelName() + ", faceDetectionModelModelUrls=" + this.getFaceDetectionModelModelUrls() + ", faceEmbeddingModelEngine=" + this.getFaceEmbeddingModelEngine() + ", faceEmbeddingModelName=" + this.getFaceEmbeddingModelName() + ", faceEmbeddingModelModelUrls=" + this.getFaceEmbeddingModelModelUrls() + ")";
+      return "RedisOMSpringProperties.Ai.Djl(imageEmbeddingModelEngine=" + this.getImageEmbeddingModelEngine() + ", imageEmbeddingModelModelUrls=" + this.getImageEmbeddingModelModelUrls() + ", defaultImagePipelineResizeWidth=" + this.getDefaultImagePipelineResizeWidth() + ", defaultImagePipelineResizeHeight=" + this.getDefaultImagePipelineResizeHeight() + ", defaultImagePipelineCenterCrop=" + this.isDefaultImagePipelineCenterCrop() + ", sentenceTokenizerMaxLength=" + this.getSentenceTokenizerMaxLength() + ", sentenceTokenizerModelMaxLength=" + this.getSentenceTokenizerModelMaxLength() + ", sentenceTokenizerModel=" + this.getSentenceTokenizerModel() + ", faceDetectionModelEngine=" + this.getFaceDetectionModelEngine() + ", faceDetectionModelName=" + this.getFaceDetectionModelName() + ", faceDetectionModelModelUrls=" + this.getFaceDetectionModelModelUrls() + ", faceEmbeddingModelEngine=" + this.getFaceEmbeddingModelEngine() + ", faceEmbeddingModelName=" + this.getFaceEmbeddingModelName() + ", faceEmbeddingModelModelUrls=" + this.getFaceEmbeddingModelModelUrls() + ", predictorPoolSize=" + this.getPredictorPoolSize() + ", predictorBatchSize=" + this.getPredictorBatchSize() + ", loading=" + this.getLoading() + ", notReadyPolicy=" + this.getNotReadyPolicy() + ")";
     }
   }
 
@@ -232,6 +308,78 @@ public class RedisOMAiProperties {
     }
   }
 
+  // remote embedding providers: batching, concurrency and rate limit handling
+  public static class EmbeddingDispatcher {
+    private Duration batchWindow = Duration.ofMillis(10);
+    private int maxConcurrency = 4;
+    private int maxRetries = 5;
+    private Duration initialBackoff = Duration.ofMillis(500);
+    private Duration maxBackoff = Duration.ofSeconds(30);
+    // texts per call by provider, overriding the provider limits below
+    private final Map<EmbeddingProvider, Integer> maxBatchSize = new EnumMap<>(EmbeddingProvider.class);
+
+    public Duration getBatchWindow() {
+      return batchWindow;
+    }
+
+    public void setBatchWindow(Duration batchWindow) {
+      this.batchWindow = batchWindow;
+    }
+
+    public int getMaxConcurrency() {
+      return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getMaxRetries() {
+      return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+      this.maxRetries = maxRetries;
+    }
+
+    public Duration getInitialBackoff() {
+      return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+      this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+      return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+      this.maxBackoff = maxBackoff;
+    }
+
+    public Map<EmbeddingProvider, Integer> getMaxBatchSize() {
+      return maxBatchSize;
+    }
+
+    /**
+     * @return the configured batch size of the provider, or the number of inputs its embedding API accepts per call
+     */
+    public int getMaxBatchSize(EmbeddingProvider provider) {
+      Integer configured = maxBatchSize.get(provider);
+      if (configured != null) {
+        return configured;
+      }
+      return switch (provider) {
+        case OPENAI -> 2048;
+        case AZURE_OPENAI -> 16;
+        case VERTEX_AI -> 5;
+        case AMAZON_BEDROCK_COHERE -> 96;
+        case DJL, OLLAMA, AMAZON_BEDROCK_TITAN -> 1;
+      };
+    }
+  }
+
   public static class Ollama {
     private String baseUrl = "http://localhost:11434";
 
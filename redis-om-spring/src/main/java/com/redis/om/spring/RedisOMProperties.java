@@ -1,8 +1,10 @@
 package com.redis.om.spring;
 
+import com.redis.om.spring.indexing.IndexNotReadyPolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.data.geo.Metrics;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,6 +19,8 @@ public class RedisOMProperties {
   // repository properties
   private final Repository repository = new Repository();
   private final References references = new References();
+  private final SemanticCache semanticCache = new SemanticCache();
+  private final Observability observability = new Observability();
 
   public Repository getRepository() {
     return repository;
@@ -26,10 +30,42 @@ public class RedisOMProperties {
     return references;
   }
 
+  public SemanticCache getSemanticCache() {
+    return semanticCache;
+  }
+
+  public Observability getObservability() {
+    return observability;
+  }
+
   public static class Repository {
     private final Query query = new Query();
     private boolean dropAndRecreateIndexOnDeleteAll = false;
     private int deleteBatchSize = 500;
+    // concurrent index and filter creations at startup
+    private int bootstrapParallelism = 8;
+    // find the entities in the index generated by the metamodel generator instead of scanning the classpath; only
+    // for applications whose entity jars are all built with the generator, an entity missing from the index (or
+    // annotated through a meta-annotation) is not registered: no repository, no index
+    private boolean useEntityIndex = false;
+    // alter or rebuild the existing SKIP_IF_EXIST indexes whose schema fingerprint changed
+    private boolean evolveIndexSchemas = true;
+    // REINDEX_AND_SWAP and async indexes: how often an index being built is checked, and how long it may take
+    private Duration reindexPollInterval = Duration.ofSeconds(1);
+    private Duration reindexTimeout = Duration.ofHours(2);
+    // queries on an entity whose @Document(async = true) index is not ready yet, or suspended by a bulk ingest of this
+    // instance; other instances don't know about the suspension and get unknown index errors
+    private IndexNotReadyPolicy asyncIndexNotReadyPolicy = IndexNotReadyPolicy.WAIT;
+    private Duration asyncIndexReadyTimeout = Duration.ofSeconds(30);
+    // entities per pipelined write of a bulk ingest session
+    private int bulkIngestBatchSize = 1000;
+    // record the fields each query uses, for the index advisor; off by default, as it parses the arguments of every
+    // search on the query path
+    private boolean trackQueryFieldUsage = false;
+    private long indexAdvisorMinQueries = 100;
+    // the *Async operations: at most this many at once, 0 for the size of the Jedis pool
+    private int asyncMaxConcurrency = 0;
+    private boolean asyncVirtualThreads = true;
 
     public Query getQuery() {
       return query;
@@ -51,6 +87,102 @@ public class RedisOMProperties {
       this.deleteBatchSize = deleteBatchSize;
     }
 
+    public int getBootstrapParallelism() {
+      return bootstrapParallelism;
+    }
+
+    public void setBootstrapParallelism(int bootstrapParallelism) {
+      this.bootstrapParallelism = bootstrapParallelism;
+    }
+
+    public boolean isUseEntityIndex() {
+      return useEntityIndex;
+    }
+
+    public void setUseEntityIndex(boolean useEntityIndex) {
+      this.useEntityIndex = useEntityIndex;
+    }
+
+    public boolean isEvolveIndexSchemas() {
+      return evolveIndexSchemas;
+    }
+
+    public void setEvolveIndexSchemas(boolean evolveIndexSchemas) {
+      this.evolveIndexSchemas = evolveIndexSchemas;
+    }
+
+    public Duration getReindexPollInterval() {
+      return reindexPollInterval;
+    }
+
+    public void setReindexPollInterval(Duration reindexPollInterval) {
+      this.reindexPollInterval = reindexPollInterval;
+    }
+
+    public Duration getReindexTimeout() {
+      return reindexTimeout;
+    }
+
+    public void setReindexTimeout(Duration reindexTimeout) {
+      this.reindexTimeout = reindexTimeout;
+    }
+
+    public IndexNotReadyPolicy getAsyncIndexNotReadyPolicy() {
+      return asyncIndexNotReadyPolicy;
+    }
+
+    public void setAsyncIndexNotReadyPolicy(IndexNotReadyPolicy asyncIndexNotReadyPolicy) {
+      this.asyncIndexNotReadyPolicy = asyncIndexNotReadyPolicy;
+    }
+
+    public Duration getAsyncIndexReadyTimeout() {
+      return asyncIndexReadyTimeout;
+    }
+
+    public void setAsyncIndexReadyTimeout(Duration asyncIndexReadyTimeout) {
+      this.asyncIndexReadyTimeout = asyncIndexReadyTimeout;
+    }
+
+    public int getBulkIngestBatchSize() {
+      return bulkIngestBatchSize;
+    }
+
+    public void setBulkIngestBatchSize(int bulkIngestBatchSize) {
+      this.bulkIngestBatchSize = bulkIngestBatchSize;
+    }
+
+    public boolean isTrackQueryFieldUsage() {
+      return trackQueryFieldUsage;
+    }
+
+    public void setTrackQueryFieldUsage(boolean trackQueryFieldUsage) {
+      this.trackQueryFieldUsage = trackQueryFieldUsage;
+    }
+
+    public long getIndexAdvisorMinQueries() {
+      return indexAdvisorMinQueries;
+    }
+
+    public void setIndexAdvisorMinQueries(long indexAdvisorMinQueries) {
+      this.indexAdvisorMinQueries = indexAdvisorMinQueries;
+    }
+
+    public int getAsyncMaxConcurrency() {
+      return asyncMaxConcurrency;
+    }
+
+    public void setAsyncMaxConcurrency(int asyncMaxConcurrency) {
+      this.asyncMaxConcurrency = asyncMaxConcurrency;
+    }
+
+    public boolean isAsyncVirtualThreads() {
+      return asyncVirtualThreads;
+    }
+
+    public void setAsyncVirtualThreads(boolean asyncVirtualThreads) {
+      this.asyncVirtualThreads = asyncVirtualThreads;
+    }
+
     public static class Query {
       private int limit = MAX_SEARCH_RESULTS;
       private double defaultDistance = DEFAULT_DISTANCE;
@@ -102,4 +234,95 @@ public class RedisOMProperties {
       this.cachedReferenceClasses = cachedReferenceClasses;
     }
   }
+
+  public static class SemanticCache {
+    // the largest distance between two query embeddings for one to be answered with the results of the other
+    private double distanceThreshold = 0.1;
+    private Duration ttl = Duration.ofHours(1);
+    private long maxEntries = 10000;
+
+    public double getDistanceThreshold() {
+      return distanceThreshold;
+    }
+
+    public void setDistanceThreshold(double distanceThreshold) {
+      this.distanceThreshold = distanceThreshold;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+
+    public long getMaxEntries() {
+      return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+  }
+
+  public static class Observability {
+    // Micrometer meters for the commands, pipelines and caches, see MicrometerRedisOMMetrics
+    private boolean metricsEnabled = false;
+    // OpenTelemetry spans for the repository methods, search streams and commands, see OpenTelemetryRedisOMTracing
+    private boolean tracingEnabled = false;
+    // log and keep the searches and aggregations slower than the threshold, profiling a sample of them
+    private boolean slowQueryLogEnabled = false;
+    private Duration slowQueryThreshold = Duration.ofMillis(500);
+    private double slowQueryProfileSampleRate = 0.0;
+    private int slowQueryBufferSize = 100;
+
+    public boolean isMetricsEnabled() {
+      return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+      this.metricsEnabled = metricsEnabled;
+    }
+
+    public boolean isTracingEnabled() {
+      return tracingEnabled;
+    }
+
+    public void setTracingEnabled(boolean tracingEnabled) {
+      this.tracingEnabled = tracingEnabled;
+    }
+
+    public boolean isSlowQueryLogEnabled() {
+      return slowQueryLogEnabled;
+    }
+
+    public void setSlowQueryLogEnabled(boolean slowQueryLogEnabled) {
+      this.slowQueryLogEnabled = slowQueryLogEnabled;
+    }
+
+    public Duration getSlowQueryThreshold() {
+      return slowQueryThreshold;
+    }
+
+    public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+      this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    public double getSlowQueryProfileSampleRate() {
+      return slowQueryProfileSampleRate;
+    }
+
+    public void setSlowQueryProfileSampleRate(double slowQueryProfileSampleRate) {
+      this.slowQueryProfileSampleRate = slowQueryProfileSampleRate;
+    }
+
+    public int getSlowQueryBufferSize() {
+      return slowQueryBufferSize;
+    }
+
+    public void setSlowQueryBufferSize(int slowQueryBufferSize) {
+      this.slowQueryBufferSize = slowQueryBufferSize;
+    }
+  }
 }
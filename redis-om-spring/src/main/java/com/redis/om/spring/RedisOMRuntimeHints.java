@@ -0,0 +1,50 @@
+package com.redis.om.spring;
+
+import com.redis.om.spring.metamodel.EntityIndex;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Runtime hints for ahead-of-time processing and native images: the {@link EntityIndex} resource, and reflective
+ * access to the indexed entities (with their superclasses) and to their generated metamodels.
+ */
+public class RedisOMRuntimeHints implements RuntimeHintsRegistrar {
+  private static final MemberCategory[] ENTITY_MEMBERS = { MemberCategory.DECLARED_FIELDS,
+      MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+      MemberCategory.INVOKE_PUBLIC_METHODS };
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    hints.resources().registerPattern(EntityIndex.LOCATION);
+    EntityIndex.load(classLoader).ifPresent(entities -> entities.keySet().forEach(className -> {
+      registerEntity(hints, className, classLoader);
+      hints.reflection().registerType(TypeReference.of(metamodelClassName(className)), MemberCategory.PUBLIC_FIELDS,
+          MemberCategory.DECLARED_FIELDS);
+    }));
+  }
+
+  private static void registerEntity(RuntimeHints hints, String className, ClassLoader classLoader) {
+    try {
+      // the fields of the superclasses are part of the schema too
+      for (Class<?> cl = Class.forName(className, false, classLoader); cl != null && cl != Object.class;
+           cl = cl.getSuperclass()) {
+        hints.reflection().registerType(cl, ENTITY_MEMBERS);
+      }
+    } catch (ClassNotFoundException | LinkageError e) {
+      hints.reflection().registerType(TypeReference.of(className), ENTITY_MEMBERS);
+    }
+  }
+
+  /**
+   * The metamodel of {@code com.example.Person} is {@code com.example.Person$}, and the one of the inner class
+   * {@code com.example.Outer$Person} is {@code com.example.Person$}.
+   */
+  static String metamodelClassName(String className) {
+    int lastDot = className.lastIndexOf('.');
+    String packagePrefix = lastDot >= 0 ? className.substring(0, lastDot + 1) : "";
+    String binarySimpleName = className.substring(lastDot + 1);
+    return packagePrefix + binarySimpleName.substring(binarySimpleName.lastIndexOf('$') + 1) + "$";
+  }
+}
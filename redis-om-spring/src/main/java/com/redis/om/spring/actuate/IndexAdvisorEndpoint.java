@@ -0,0 +1,41 @@
+package com.redis.om.spring.actuate;
+
+import com.redis.om.spring.indexing.IndexAdvisor;
+import com.redis.om.spring.indexing.IndexAdvisor.IndexReport;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Exposes the {@link IndexAdvisor} reports: {@code /actuator/redisindexes} for all the indexes, the largest projected
+ * savings first, {@code /actuator/redisindexes/{index}} for one. A delete resets the recorded field usage, e.g. after
+ * a schema change.
+ */
+@Endpoint(id = "redisindexes")
+public class IndexAdvisorEndpoint {
+  private final IndexAdvisor advisor;
+
+  public IndexAdvisorEndpoint(IndexAdvisor advisor) {
+    this.advisor = advisor;
+  }
+
+  @ReadOperation
+  public List<IndexReport> indexes() {
+    return advisor.report();
+  }
+
+  @ReadOperation
+  @Nullable
+  public IndexReport index(@Selector String index) {
+    return advisor.report(index).orElse(null);
+  }
+
+  @DeleteOperation
+  public void resetUsage() {
+    advisor.resetUsage();
+  }
+}
@@ -0,0 +1,32 @@
+package com.redis.om.spring.actuate;
+
+import com.redis.om.spring.RedisModulesConfiguration;
+import com.redis.om.spring.indexing.IndexAdvisor;
+import com.redis.om.spring.ops.search.SlowQueryLog;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Actuator endpoints, when Spring Boot Actuator is on the classpath.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+@AutoConfigureAfter(RedisModulesConfiguration.class)
+public class RedisOMActuatorConfiguration {
+
+  @Bean(name = "redisOMIndexAdvisorEndpoint")
+  @ConditionalOnMissingBean
+  public IndexAdvisorEndpoint indexAdvisorEndpoint(IndexAdvisor advisor) {
+    return new IndexAdvisorEndpoint(advisor);
+  }
+
+  @Bean(name = "redisOMSlowQueryEndpoint")
+  @ConditionalOnMissingBean
+  public SlowQueryEndpoint slowQueryEndpoint(@Qualifier("redisOMSlowQueryLog") SlowQueryLog slowQueryLog) {
+    return new SlowQueryEndpoint(slowQueryLog);
+  }
+}
@@ -0,0 +1,32 @@
+package com.redis.om.spring.actuate;
+
+import com.redis.om.spring.ops.search.SlowQueryLog;
+import com.redis.om.spring.ops.search.SlowQueryLog.SlowQuery;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Exposes the {@link SlowQueryLog}: {@code /actuator/redisslowqueries} lists the slow queries kept, the most recent
+ * first, with their profile when they were sampled. A delete clears them.
+ */
+@Endpoint(id = "redisslowqueries")
+public class SlowQueryEndpoint {
+  private final SlowQueryLog slowQueryLog;
+
+  public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+    this.slowQueryLog = slowQueryLog;
+  }
+
+  @ReadOperation
+  public List<SlowQuery> slowQueries() {
+    return slowQueryLog.getEntries();
+  }
+
+  @DeleteOperation
+  public void clear() {
+    slowQueryLog.clear();
+  }
+}
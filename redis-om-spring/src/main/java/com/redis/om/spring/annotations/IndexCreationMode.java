@@ -3,5 +3,11 @@ package com.redis.om.spring.annotations;
 public enum IndexCreationMode {
   SKIP_IF_EXIST,
   SKIP_ALWAYS,
-  DROP_AND_RECREATE
+  DROP_AND_RECREATE,
+  /**
+   * Queries go through an alias of the index name. When the schema changes, a new version of the index
+   * ({@code <name>_v<N>}) is built on the same prefix and the alias is swapped to it once its documents are indexed,
+   * so the old version keeps answering queries in the meantime.
+   */
+  REINDEX_AND_SWAP
 }
@@ -40,7 +40,7 @@ public @interface Indexed {
   // Indexing methods
   VectorAlgorithm algorithm() default VectorAlgorithm.FLAT;
 
-  // Vector type. Current supported types are FLOAT32 and FLOAT64.
+  // Vector type: FLOAT32, FLOAT64, or the reduced precision FLOAT16, BFLOAT16 and INT8 (converted from FLOAT32).
   VectorType type() default VectorType.FLOAT32;
 
   // Specifies the number of attributes for the index. Must be specified.
@@ -0,0 +1,30 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares an aggregation over all the entities of a type that is kept up to date as entities are saved, updated
+ * and deleted through the repositories, instead of being computed with {@code FT.AGGREGATE} on every read. For
+ * example:
+ *
+ * <pre>
+ * &#64;MaterializedAggregation(name = "byCategory", groupBy = "category", reduce = {
+ *     &#64;Reducer(func = ReducerFunction.COUNT), &#64;Reducer(func = ReducerFunction.SUM, args = "price")
+ * })
+ * </pre>
+ * <p>
+ * Only reducers that can be maintained incrementally are supported: {@code COUNT}, {@code SUM} and {@code AVG}
+ * over a numeric property. The count per group is always maintained. Results are read with
+ * {@code EntityStream.materialized(type, name)}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Repeatable(MaterializedAggregations.class)
+public @interface MaterializedAggregation {
+  String name();
+
+  String groupBy();
+
+  Reducer[] reduce() default { @Reducer(func = ReducerFunction.COUNT) };
+}
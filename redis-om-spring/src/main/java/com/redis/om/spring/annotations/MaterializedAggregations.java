@@ -0,0 +1,10 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+public @interface MaterializedAggregations {
+  MaterializedAggregation[] value();
+}
@@ -283,6 +283,10 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       return null;
     }
 
+    if (persistentProperty.getType() == byte[].class && persistentProperty.getField() != null) {
+      return com.redis.om.spring.util.ObjectUtils.float32BlobFor(persistentProperty.getField(), sourceBytes);
+    }
+
     if (customConversions.hasCustomReadTarget(byte[].class, persistentProperty.getType())) {
       return fromBytes(sourceBytes, persistentProperty.getType());
     }
@@ -625,6 +629,10 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
         }
       } else {
 
+        if (propertyValue instanceof byte[] blob && persistentProperty.getField() != null) {
+          // vectors of a reduced precision type are stored as such, converted from FLOAT32
+          propertyValue = com.redis.om.spring.util.ObjectUtils.vectorBlobFor(persistentProperty.getField(), blob);
+        }
         if (propertyValue != null) {
           writeToBucket(propertyStringPath, propertyValue, sink, persistentProperty.getType());
         }
@@ -0,0 +1,192 @@
+package com.redis.om.spring.indexing;
+
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.EnableRedisDocumentRepositories;
+import com.redis.om.spring.annotations.EnableRedisEnhancedRepositories;
+import com.redis.om.spring.metamodel.EntityIndex;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.util.Pair;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.*;
+
+import static com.redis.om.spring.util.ObjectUtils.getEnableRedisDocumentRepositories;
+import static com.redis.om.spring.util.ObjectUtils.getEnableRedisEnhancedRepositories;
+
+/**
+ * The {@link Document} and {@link RedisHash} entity classes of the application, in the base packages of the
+ * {@link EnableRedisDocumentRepositories} and {@link EnableRedisEnhancedRepositories} configurations. They are found
+ * on first use and shared by index creation, filter creation and reference registration.
+ * <p>
+ * By default the base packages are scanned once. With {@code redis.om.spring.repository.use-entity-index=true} the
+ * entities are read from the {@link EntityIndex} of the metamodel generator instead, when there is one on the
+ * classpath: the index is trusted to be complete, an entity missing from it (compiled without the generator, lost
+ * when merging resources into a shaded jar, or annotated through a meta-annotation) is not registered.
+ */
+public class EntityRegistry {
+  private static final Log logger = LogFactory.getLog(EntityRegistry.class);
+  private static final List<Class<? extends Annotation>> ENTITY_ANNOTATIONS = List.of(Document.class,
+      RedisHash.class);
+
+  private final ApplicationContext ac;
+  private Map<Class<? extends Annotation>, Set<Class<?>>> entityClasses;
+  private Duration scanTime = Duration.ZERO;
+
+  public EntityRegistry(ApplicationContext ac) {
+    this.ac = ac;
+  }
+
+  /**
+   * @return the entity classes annotated with {@link Document} or {@link RedisHash}, directly or as a
+   *     meta-annotation, in scan order
+   */
+  public Set<Class<?>> getEntityClasses() {
+    Set<Class<?>> all = new LinkedHashSet<>();
+    scan().values().forEach(all::addAll);
+    return all;
+  }
+
+  /**
+   * @return whether entities are registered by the annotation, i.e. it is {@link Document} or {@link RedisHash}
+   */
+  public boolean isEntityAnnotation(Class<?> annotation) {
+    return ENTITY_ANNOTATIONS.contains(annotation);
+  }
+
+  /**
+   * @param annotation {@link Document} or {@link RedisHash}
+   */
+  public Set<Class<?>> getEntityClassesAnnotatedWith(Class<? extends Annotation> annotation) {
+    Set<Class<?>> classes = scan().get(annotation);
+    if (classes == null) {
+      throw new IllegalArgumentException(
+          String.format("Entities are registered by %s, not by %s", ENTITY_ANNOTATIONS, annotation.getName()));
+    }
+    return classes;
+  }
+
+  /**
+   * @return how long finding the entities took
+   */
+  public Duration getScanTime() {
+    scan();
+    return scanTime;
+  }
+
+  private synchronized Map<Class<? extends Annotation>, Set<Class<?>>> scan() {
+    if (entityClasses != null) {
+      return entityClasses;
+    }
+    long start = System.nanoTime();
+
+    Set<String> packages = new LinkedHashSet<>();
+    for (Pair<EnableRedisDocumentRepositories, String> pair : getEnableRedisDocumentRepositories(ac)) {
+      packages.addAll(basePackages(pair.getFirst().basePackages(), pair.getFirst().basePackageClasses(),
+          pair.getSecond()));
+    }
+    for (Pair<EnableRedisEnhancedRepositories, String> pair : getEnableRedisEnhancedRepositories(ac)) {
+      packages.addAll(basePackages(pair.getFirst().basePackages(), pair.getFirst().basePackageClasses(),
+          pair.getSecond()));
+    }
+
+    // a package nested in another scanned package adds nothing but a second walk of its classes
+    packages.removeIf(pkg -> packages.stream().anyMatch(other -> pkg.startsWith(other + ".")));
+
+    Optional<Map<String, String>> index = ac.getBean(RedisOMProperties.class).getRepository().isUseEntityIndex() ?
+        EntityIndex.load(ac.getClassLoader() != null ? ac.getClassLoader() : getClass().getClassLoader()) :
+        Optional.empty();
+    String source = index.isPresent() ? "the entity index" : "a classpath scan";
+    Map<Class<? extends Annotation>, Set<Class<?>>> scanned = index.isPresent() ?
+        fromIndex(index.get(), packages) :
+        fromScan(packages);
+
+    scanned.replaceAll((a, classes) -> Collections.unmodifiableSet(classes));
+    entityClasses = Collections.unmodifiableMap(scanned);
+    scanTime = Duration.ofNanos(System.nanoTime() - start);
+    logger.info(String.format("Found %s @Document and %s @RedisHash entities in %s packages with %s in %s ms",
+        scanned.get(Document.class).size(), scanned.get(RedisHash.class).size(), packages.size(), source,
+        scanTime.toMillis()));
+    return entityClasses;
+  }
+
+  static Map<Class<? extends Annotation>, Set<Class<?>>> fromIndex(Map<String, String> index,
+      Set<String> packages) {
+    Map<Class<? extends Annotation>, Set<Class<?>>> scanned = new LinkedHashMap<>();
+    ENTITY_ANNOTATIONS.forEach(a -> scanned.put(a, new LinkedHashSet<>()));
+    index.forEach((className, annotationName) -> {
+      if (packages.stream().noneMatch(pkg -> pkg.isEmpty() || className.startsWith(pkg + "."))) {
+        return;
+      }
+      Optional<Class<? extends Annotation>> annotation = ENTITY_ANNOTATIONS.stream()
+          .filter(a -> a.getName().equals(annotationName)).findFirst();
+      if (annotation.isEmpty()) {
+        return;
+      }
+      try {
+        scanned.get(annotation.get()).add(Class.forName(className));
+      } catch (ClassNotFoundException | LinkageError e) {
+        logger.warn(String.format("Skipping entity %s because %s", className, e.getMessage()));
+      }
+    });
+    return scanned;
+  }
+
+  private static Map<Class<? extends Annotation>, Set<Class<?>>> fromScan(Set<String> packages) {
+    ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
+    ENTITY_ANNOTATIONS.forEach(a -> provider.addIncludeFilter(new AnnotationTypeFilter(a)));
+
+    Map<Class<? extends Annotation>, Set<Class<?>>> scanned = new LinkedHashMap<>();
+    ENTITY_ANNOTATIONS.forEach(a -> scanned.put(a, new LinkedHashSet<>()));
+    Set<String> seen = new HashSet<>();
+    for (String pkg : packages) {
+      for (BeanDefinition beanDef : provider.findCandidateComponents(pkg)) {
+        String className = beanDef.getBeanClassName();
+        if (className == null || !seen.add(className)) {
+          continue;
+        }
+        try {
+          Class<?> cl = Class.forName(className);
+          AnnotationMetadata metadata = beanDef instanceof AnnotatedBeanDefinition abd ? abd.getMetadata() : null;
+          for (Class<? extends Annotation> annotation : ENTITY_ANNOTATIONS) {
+            if (isAnnotatedWith(cl, metadata, annotation)) {
+              scanned.get(annotation).add(cl);
+            }
+          }
+        } catch (ClassNotFoundException | LinkageError e) {
+          logger.warn(String.format("Skipping entity %s because %s", className, e.getMessage()));
+        }
+      }
+    }
+    return scanned;
+  }
+
+  private static List<String> basePackages(String[] basePackages, Class<?>[] basePackageClasses,
+      String configurationPackage) {
+    if (basePackages.length > 0) {
+      return List.of(basePackages);
+    } else if (basePackageClasses.length > 0) {
+      return Arrays.stream(basePackageClasses).map(Class::getPackageName).toList();
+    } else {
+      return List.of(configurationPackage);
+    }
+  }
+
+  // same rule as the scan filter: present on the class itself or as a meta-annotation
+  private static boolean isAnnotatedWith(Class<?> cl, AnnotationMetadata metadata,
+      Class<? extends Annotation> annotation) {
+    if (metadata != null) {
+      return metadata.hasAnnotation(annotation.getName()) || metadata.hasMetaAnnotation(annotation.getName());
+    }
+    return cl.isAnnotationPresent(annotation);
+  }
+}
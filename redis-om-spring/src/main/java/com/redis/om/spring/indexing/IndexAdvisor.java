@@ -0,0 +1,254 @@
+package com.redis.om.spring.indexing;
+
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.ops.search.QueryFieldUsage;
+import com.redis.om.spring.ops.search.QueryFieldUsage.FieldUsage;
+import com.redis.om.spring.ops.search.QueryFieldUsage.IndexUsage;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Advises on the memory of the search indexes: joins the statistics of each index ({@code FT.INFO}) with the
+ * {@link QueryFieldUsage} recorded since startup, and recommends schema changes for the fields the queries don't
+ * need as they are indexed: dropping {@code SORTABLE} from fields never sorted on, {@code NOINDEX} for fields only
+ * sorted on, tags instead of text for fields only matched exactly, and removing fields no query uses. The usage is
+ * only recorded with {@code redis.om.spring.repository.track-query-field-usage} enabled; without it, the reports
+ * have the index statistics and no recommendations.
+ * <p>
+ * {@code FT.INFO} has no per-field sizes, so the projected savings split each structure evenly between the fields
+ * stored in it: they are estimates to rank the recommendations, not exact figures.
+ */
+public class IndexAdvisor {
+  private static final Log logger = LogFactory.getLog(IndexAdvisor.class);
+
+  private final RediSearchIndexer indexer;
+  private final RedisModulesOperations<String> rmo;
+
+  public IndexAdvisor(RediSearchIndexer indexer, RedisModulesOperations<String> rmo) {
+    this.indexer = indexer;
+    this.rmo = rmo;
+  }
+
+  /**
+   * @return a report for each index of an entity class
+   */
+  public List<IndexReport> report() {
+    List<IndexReport> reports = new ArrayList<>();
+    for (Class<?> entityClass : indexer.getIndexedEntityClasses()) {
+      report(indexer.getIndexName(entityClass)).ifPresent(reports::add);
+    }
+    reports.sort(Comparator.comparingDouble(IndexReport::projectedSavingsMb).reversed());
+    return reports;
+  }
+
+  /**
+   * @return the report of an index, or empty if it doesn't exist
+   */
+  public Optional<IndexReport> report(String indexName) {
+    Map<String, Object> info;
+    try {
+      info = rmo.opsForSearch(indexName).getInfo();
+    } catch (JedisDataException jde) {
+      logger.debug(String.format("No statistics for index %s: %s", indexName, jde.getMessage()));
+      return Optional.empty();
+    }
+    QueryFieldUsage fieldUsage = rmo.fieldUsage();
+    IndexUsage usage = fieldUsage != null ? fieldUsage.getUsage(indexName) : new IndexUsage(0, 0, Map.of());
+    boolean tracked = fieldUsage != null && fieldUsage.isEnabled();
+    return Optional.of(advise(indexName, info, usage, tracked ? indexer.getProperties().getRepository()
+        .getIndexAdvisorMinQueries() : Long.MAX_VALUE));
+  }
+
+  /**
+   * Forgets the field usage recorded so far, e.g. once the recommended schema changes are made.
+   */
+  public void resetUsage() {
+    if (rmo.fieldUsage() != null) {
+      rmo.fieldUsage().reset();
+    }
+  }
+
+  /**
+   * @param minQueries the number of queries on the index below which the usage is too scarce to recommend anything
+   */
+  static IndexReport advise(String indexName, Map<String, Object> info, IndexUsage usage, long minQueries) {
+    IndexMemory memory = new IndexMemory( //
+        size(info, "inverted_sz_mb"), //
+        size(info, "offset_vectors_sz_mb"), //
+        size(info, "vector_index_sz_mb"), //
+        size(info, "sortable_values_size_mb"), //
+        size(info, "doc_table_size_mb"), //
+        size(info, "key_table_size_mb"));
+
+    List<FieldReport> fields = new ArrayList<>();
+    for (Object attribute : list(info.get("attributes"))) {
+      fields.add(fieldReport(list(attribute), usage));
+    }
+
+    List<Recommendation> recommendations = new ArrayList<>();
+    if (usage.queries() >= minQueries) {
+      long indexed = fields.stream().filter(f -> !f.noIndex() && !f.isVector()).count();
+      long sortable = fields.stream().filter(FieldReport::sortable).count();
+      long text = fields.stream().filter(f -> f.type().equals("TEXT") && !f.noIndex()).count();
+      long vectors = fields.stream().filter(FieldReport::isVector).count();
+      double invertedShare = share(memory.invertedMb(), indexed);
+      double sortableShare = share(memory.sortableMb(), sortable);
+      double offsetsShare = share(memory.offsetVectorsMb(), text);
+      double vectorShare = share(memory.vectorMb(), vectors);
+
+      for (FieldReport field : fields) {
+        FieldUsage used = field.usage();
+        boolean filtered = used.filtered() > 0;
+        boolean ordered = used.sorted() > 0 || used.aggregated() > 0;
+        if (field.isVector()) {
+          if (!filtered) {
+            recommendations.add(new Recommendation(field.name(), Action.REMOVE_FIELD,
+                "no query searched the vector field", vectorShare));
+          }
+        } else if (!filtered && !ordered) {
+          double savings = (field.noIndex() ? 0 : invertedShare) + (field.sortable() ? sortableShare : 0);
+          recommendations.add(new Recommendation(field.name(), Action.REMOVE_FIELD,
+              "no query filtered, sorted or aggregated on the field", savings));
+        } else if (!filtered && !field.noIndex()) {
+          recommendations.add(new Recommendation(field.name(), Action.NOINDEX,
+              "the field is only sorted or aggregated on, never filtered", invertedShare));
+        } else {
+          if (field.sortable() && !ordered) {
+            recommendations.add(new Recommendation(field.name(), Action.DROP_SORTABLE,
+                "no query sorted or aggregated on the field", sortableShare));
+          }
+          if (field.type().equals("TEXT") && filtered && used.fullTextFiltered() == 0
+              && usage.freeTextQueries() == 0) {
+            recommendations.add(new Recommendation(field.name(), Action.TEXT_TO_TAG,
+                "the field is only matched on exact terms, never with full-text search", offsetsShare));
+          }
+        }
+      }
+      recommendations.sort(Comparator.comparingDouble(Recommendation::projectedSavingsMb).reversed());
+    }
+
+    double savings = recommendations.stream().mapToDouble(Recommendation::projectedSavingsMb).sum();
+    return new IndexReport(indexName, (long) size(info, "num_docs"), memory, usage.queries(), fields,
+        recommendations, savings);
+  }
+
+  private static FieldReport fieldReport(List<?> attribute, IndexUsage usage) {
+    String identifier = null;
+    String name = null;
+    String type = "";
+    boolean sortable = false;
+    boolean noIndex = false;
+    for (int i = 0; i < attribute.size(); i++) {
+      String token = string(attribute.get(i));
+      switch (token) {
+        case "identifier" -> identifier = i + 1 < attribute.size() ? string(attribute.get(++i)) : null;
+        case "attribute" -> name = i + 1 < attribute.size() ? string(attribute.get(++i)) : null;
+        case "type" -> type = i + 1 < attribute.size() ? string(attribute.get(++i)) : "";
+        case "SORTABLE" -> sortable = true;
+        case "NOINDEX" -> noIndex = true;
+        default -> {
+        }
+      }
+    }
+    if (name == null) {
+      name = identifier;
+    }
+    FieldUsage used = usage.field(name);
+    if (identifier != null && identifier.startsWith("$.") && !identifier.substring(2).equals(name)) {
+      // returned fields are named by their path
+      FieldUsage byPath = usage.field(identifier.substring(2));
+      used = new FieldUsage(used.filtered() + byPath.filtered(), used.fullTextFiltered() + byPath.fullTextFiltered(),
+          used.sorted() + byPath.sorted(), used.returned() + byPath.returned(),
+          used.aggregated() + byPath.aggregated());
+    }
+    return new FieldReport(name, identifier, type, sortable, noIndex, used);
+  }
+
+  private static double share(double sizeMb, long fields) {
+    return fields > 0 ? sizeMb / fields : 0d;
+  }
+
+  private static double size(Map<String, Object> info, String name) {
+    Object value = info.get(name);
+    if (value instanceof Number number) {
+      return number.doubleValue();
+    }
+    try {
+      return value != null ? Double.parseDouble(string(value)) : 0d;
+    } catch (NumberFormatException e) {
+      // i.e. nan for an empty index
+      return 0d;
+    }
+  }
+
+  private static List<?> list(Object value) {
+    return value instanceof List<?> list ? list : List.of();
+  }
+
+  private static String string(Object value) {
+    return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+  }
+
+  public enum Action {
+    /** keep the field indexed, without a sortable copy of its values */
+    DROP_SORTABLE,
+    /** keep the field sortable, without indexing it for filters */
+    NOINDEX,
+    /** index the field as a tag, which keeps no term offsets */
+    TEXT_TO_TAG,
+    /** remove the field from the index */
+    REMOVE_FIELD
+  }
+
+  /**
+   * @param field              the name of the field in the index
+   * @param action             the change to the schema of the field
+   * @param reason             what the recorded queries did with the field
+   * @param projectedSavingsMb the estimated memory freed by the change
+   */
+  public record Recommendation(String field, Action action, String reason, double projectedSavingsMb) {
+  }
+
+  /**
+   * @param name     the name of the field in the index (its alias)
+   * @param path     the hash field or JSON path the field is read from
+   * @param type     the index type of the field, e.g. {@code TEXT} or {@code TAG}
+   * @param sortable whether the index keeps a sortable copy of the values
+   * @param noIndex  whether the field is only sortable, not indexed for filters
+   * @param usage    what the recorded queries did with the field
+   */
+  public record FieldReport(String name, String path, String type, boolean sortable, boolean noIndex,
+                            FieldUsage usage) {
+    boolean isVector() {
+      return type.equals("VECTOR");
+    }
+  }
+
+  /**
+   * The memory of an index by structure, in megabytes, as reported by {@code FT.INFO}.
+   */
+  public record IndexMemory(double invertedMb, double offsetVectorsMb, double vectorMb, double sortableMb,
+                            double docTableMb, double keyTableMb) {
+    public double totalMb() {
+      return invertedMb + offsetVectorsMb + vectorMb + sortableMb + docTableMb + keyTableMb;
+    }
+  }
+
+  /**
+   * @param indexName          the name of the index
+   * @param numDocs            the number of documents in the index
+   * @param memory             the memory of the index
+   * @param queries            the number of queries recorded on the index
+   * @param fields             the fields of the index with their usage
+   * @param recommendations    the recommended schema changes, the largest savings first
+   * @param projectedSavingsMb the estimated memory freed by all the recommendations
+   */
+  public record IndexReport(String indexName, long numDocs, IndexMemory memory, long queries,
+                            List<FieldReport> fields, List<Recommendation> recommendations,
+                            double projectedSavingsMb) {
+  }
+}
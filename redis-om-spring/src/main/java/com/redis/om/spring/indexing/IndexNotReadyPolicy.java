@@ -0,0 +1,17 @@
+package com.redis.om.spring.indexing;
+
+/**
+ * What a query does when the index of its entity, created asynchronously ({@code @Document(async = true)}), is not
+ * ready yet.
+ */
+public enum IndexNotReadyPolicy {
+  /** wait for the index, up to the configured timeout, then fail */
+  WAIT,
+  /** fail right away */
+  FAIL,
+  /**
+   * read the entities by scanning their keyspace where the operation allows it (find all, count), wait otherwise;
+   * the scan returns the entities in no particular order
+   */
+  SCAN
+}
@@ -0,0 +1,26 @@
+package com.redis.om.spring.indexing;
+
+/**
+ * The state of the index of an entity class, see {@link RediSearchIndexer#getIndexStatus(Class)}.
+ *
+ * @param state          where the index is in its creation
+ * @param percentIndexed the share of the documents indexed so far, from 0 to 1
+ */
+public record IndexStatus(State state, double percentIndexed) {
+  public enum State {
+    /** the index is being created, asynchronously */
+    CREATING,
+    /** the index exists and is scanning the existing documents */
+    INDEXING,
+    /** the index exists and has indexed the existing documents */
+    READY,
+    /** the index could not be created */
+    FAILED,
+    /** the index is dropped for a bulk ingest, see {@link RediSearchIndexer#suspendIndexFor(Class)} */
+    SUSPENDED
+  }
+
+  public boolean isReady() {
+    return state == State.READY;
+  }
+}
@@ -8,24 +8,29 @@ import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.annotations.*;
 import com.redis.om.spring.id.IdFilter;
 import com.redis.om.spring.id.IdentifierFilter;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.repository.query.QueryUtils;
 import com.redis.om.spring.serialization.gson.EnumTypeAdapter;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.Tuples;
+import com.redis.om.spring.util.ParallelTasks;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.annotation.Reference;
 import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisHash;
 import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration.KeyspaceSettings;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ClassUtils;
@@ -35,29 +40,40 @@ import redis.clients.jedis.search.FieldName;
 import redis.clients.jedis.search.IndexDataType;
 import redis.clients.jedis.search.schemafields.*;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.*;
 
 import static com.redis.om.spring.util.ObjectUtils.*;
 
 @Component
-public class RediSearchIndexer {
+public class RediSearchIndexer implements DisposableBean {
   private static final Log logger = LogFactory.getLog(RediSearchIndexer.class);
   private static final String SKIPPING_INDEX_CREATION = "Skipping index creation for %s because %s";
+  private static final String SCHEMA_KEY_PREFIX = "redis-om:index-schema:";
+  private static final String SCHEMA_LOCK_SUFFIX = ":lock";
+  private static final Duration SCHEMA_LOCK_LEASE = Duration.ofSeconds(30);
+  private static final Duration SCHEMA_LOCK_POLL_INTERVAL = Duration.ofMillis(100);
+  private static final RedisScript<Long> RELEASE_SCHEMA_LOCK = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
   private final Map<String, Class<?>> keyspaceToEntityClass = new ConcurrentHashMap<>();
   private final Map<Class<?>, String> entityClassToKeySpace = new ConcurrentHashMap<>();
   private final Map<Class<?>, String> entityClassToIndexName = new ConcurrentHashMap<>();
   private final Map<Class<?>, IdentifierFilter<?>> entityClassToIdentifierFilter = new ConcurrentHashMap<>();
-  private final List<Class<?>> indexedEntityClasses = new ArrayList<>();
+  private final List<Class<?>> indexedEntityClasses = new CopyOnWriteArrayList<>();
   private final Map<Class<?>, List<SearchField>> entityClassToSchema = new ConcurrentHashMap<>();
   private final Map<Pair<Class<?>, String>, String> entityClassFieldToAlias = new ConcurrentHashMap<>();
+  private final Map<Class<?>, AsyncIndex> asyncIndexes = new ConcurrentHashMap<>();
+  private ExecutorService asyncIndexExecutor;
   private final ApplicationContext ac;
   private final RedisModulesOperations<String> rmo;
   private final RedisMappingContext mappingContext;
@@ -73,29 +89,56 @@ public class RediSearchIndexer {
     this.gsonBuilder = gsonBuilder;
   }
 
+  @SuppressWarnings("unchecked")
   public void createIndicesFor(Class<?> cls) {
-    Set<BeanDefinition> beanDefs = new HashSet<>(getBeanDefinitionsFor(ac, cls));
+    EntityRegistry registry = ac.getBean(EntityRegistry.class);
+    if (!registry.isEntityAnnotation(cls)) {
+      logger.warn(String.format("No entities are annotated with %s, no indexes created", cls.getName()));
+      return;
+    }
+    Set<Class<?>> entityClasses = registry.getEntityClassesAnnotatedWith((Class<? extends Annotation>) cls);
 
-    logger.info(String.format("Found %s @%s annotated Beans...", beanDefs.size(), cls.getSimpleName()));
+    logger.info(String.format("Found %s @%s annotated Beans...", entityClasses.size(), cls.getSimpleName()));
 
-    for (BeanDefinition beanDef : beanDefs) {
-      try {
-        Class<?> cl = Class.forName(beanDef.getBeanClassName());
-        logger.info(String.format("Creating index for %s annotated Entity...", cl.getSimpleName()));
-        createIndexFor(cl);
-      } catch (ClassNotFoundException e) {
-        logger.warn(String.format(SKIPPING_INDEX_CREATION, beanDef.getBeanClassName(), e.getMessage()));
-      }
+    createIndicesFor(entityClasses);
+  }
+
+  /**
+   * Creates the indexes of the entity classes. The schemas are computed and registered one class after the other,
+   * then the indexes are created on the server concurrently, see
+   * {@link RedisOMProperties.Repository#getBootstrapParallelism()}.
+   */
+  public void createIndicesFor(Collection<Class<?>> entityClasses) {
+    List<IndexCreation> creations = new ArrayList<>(entityClasses.size());
+    for (Class<?> cl : entityClasses) {
+      logger.info(String.format("Creating index for %s annotated Entity...", cl.getSimpleName()));
+      prepareIndexFor(cl).ifPresent(creation -> {
+        if (isAsync(cl)) {
+          createIndexAsync(creation);
+        } else {
+          creations.add(creation);
+        }
+      });
     }
+    ParallelTasks.forEach(creations, properties.getRepository().getBootstrapParallelism(), "redis-om-index-creation",
+        this::createIndex);
   }
 
   public void createIndexFor(Class<?> cl) {
+    prepareIndexFor(cl).ifPresent(this::createIndex);
+  }
+
+  /**
+   * Computes the schema of the index of an entity class and registers its keyspace, aliases and settings, without
+   * going to the server.
+   */
+  private Optional<IndexCreation> prepareIndexFor(Class<?> cl) {
     Optional<IndexDataType> maybeType = determineIndexTarget(cl);
     IndexDataType idxType;
     if (maybeType.isPresent()) {
       idxType = maybeType.get();
     } else {
-      return;
+      return Optional.empty();
     }
     boolean isDocument = idxType == IndexDataType.JSON;
     Optional<Document> document = isDocument ? Optional.of(cl.getAnnotation(Document.class)) : Optional.empty();
@@ -136,8 +179,6 @@ public class RediSearchIndexer {
       createIndexedFieldsForIdFields(cl, searchFields.stream().map(SearchField::getSchemaField).toList(),
           isDocument).forEach(searchFields::add);
 
-      SearchOperations<String> opsForSearch = rmo.opsForSearch(indexName);
-
       FTCreateParams params = createIndexDefinition(cl, idxType);
 
       Optional<String> maybeEntityPrefix;
@@ -156,35 +197,534 @@ public class RediSearchIndexer {
       List<SchemaField> fields = searchFields.stream().map(SearchField::getSchemaField).toList();
       entityClassToSchema.put(cl, searchFields);
       entityClassToIndexName.put(cl, indexName);
-      if (maybeIndexingOptions.isPresent()) {
-        IndexingOptions options = maybeIndexingOptions.get();
-        switch (options.creationMode()) {
-          case SKIP_IF_EXIST:
-            opsForSearch.createIndex(params, fields);
+      IndexCreationMode creationMode = maybeIndexingOptions.map(IndexingOptions::creationMode)
+          .orElse(IndexCreationMode.SKIP_IF_EXIST);
+      return Optional.of(new IndexCreation(cl, indexName, params, fields, creationMode));
+    } catch (Exception e) {
+      logger.warn(String.format(SKIPPING_INDEX_CREATION, indexName, e.getMessage()));
+      return Optional.empty();
+    }
+  }
+
+  private boolean createIndex(IndexCreation creation) {
+    String indexName = creation.indexName();
+    SearchOperations<String> opsForSearch = rmo.opsForSearch(indexName);
+    try {
+      switch (creation.creationMode()) {
+        case SKIP_IF_EXIST:
+          if (properties.getRepository().isEvolveIndexSchemas()) {
+            createOrEvolveIndex(creation, opsForSearch);
+          } else {
+            opsForSearch.createIndex(creation.params(), creation.fields());
             logger.info(String.format("Created index %s...", indexName));
-            break;
-          case DROP_AND_RECREATE:
-            if (indexExistsFor(cl)) {
-              opsForSearch.dropIndex();
-              logger.info(String.format("Dropped index %s", indexName));
-            }
-            opsForSearch.createIndex(params, fields);
-            logger.info(String.format("Created index %s", indexName));
-            break;
-          case SKIP_ALWAYS:
-            // do nothing and like it!
-            logger.info(String.format("Skipped index creation for %s", cl.getSimpleName()));
-            break;
-        }
-      } else {
-        opsForSearch.createIndex(params, fields);
-        logger.info(String.format("Created index %s", indexName));
+          }
+          break;
+        case DROP_AND_RECREATE:
+          Optional<String> existing = physicalIndexFor(indexName);
+          if (existing.isPresent()) {
+            rmo.opsForSearch(existing.get()).dropIndex();
+            logger.info(String.format("Dropped index %s", existing.get()));
+          }
+          opsForSearch.createIndex(creation.params(), creation.fields());
+          logger.info(String.format("Created index %s", indexName));
+          storeFingerprint(indexName, SchemaFingerprint.of(creation.params(), creation.fields()));
+          break;
+        case REINDEX_AND_SWAP:
+          if (isUpToDate(creation)) {
+            logger.info(String.format("Index %s is up to date", indexName));
+          } else {
+            reindexAndSwap(creation);
+          }
+          break;
+        case SKIP_ALWAYS:
+          // do nothing and like it!
+          logger.info(String.format("Skipped index creation for %s", creation.entityClass().getSimpleName()));
+          break;
       }
+      return true;
     } catch (Exception e) {
       logger.warn(String.format(SKIPPING_INDEX_CREATION, indexName, e.getMessage()));
+      return false;
+    }
+  }
+
+  private static boolean isAsync(Class<?> cl) {
+    Document document = cl.getAnnotation(Document.class);
+    return document != null && document.async();
+  }
+
+  /**
+   * Creates the index of a {@code @Document(async = true)} entity on a background thread and follows its scan of the
+   * existing documents until it is ready, see {@link #getIndexStatus(Class)}.
+   */
+  private CompletableFuture<Void> createIndexAsync(IndexCreation creation) {
+    AsyncIndex asyncIndex = pendingAsyncIndexFor(creation.entityClass());
+    asyncIndex.state = IndexStatus.State.CREATING;
+    asyncIndexExecutor().execute(() -> {
+      try {
+        if (!createIndex(creation)) {
+          throw new IllegalStateException(String.format("Could not create index %s", creation.indexName()));
+        }
+        if (creation.creationMode() != IndexCreationMode.SKIP_ALWAYS) {
+          asyncIndex.state = IndexStatus.State.INDEXING;
+          awaitIndexed(creation.indexName());
+        }
+        asyncIndex.state = IndexStatus.State.READY;
+        asyncIndex.ready.complete(null);
+        logger.info(String.format("Index %s is ready", creation.indexName()));
+      } catch (Exception e) {
+        asyncIndex.state = IndexStatus.State.FAILED;
+        asyncIndex.ready.completeExceptionally(e);
+        logger.warn(String.format("Index %s failed: %s", creation.indexName(), e.getMessage()));
+      }
+    });
+    return asyncIndex.ready;
+  }
+
+  /**
+   * Drops the index of an entity class ahead of a bulk load, keeping its documents, its schema and its registrations.
+   * Until {@link #rebuildIndexFor(Class)}, searches on the entity class follow the {@link IndexNotReadyPolicy} and its
+   * status is {@link IndexStatus.State#SUSPENDED}.
+   * <p>
+   * The index is shared: only this instance knows it is suspended. Searches from other instances fail with an unknown
+   * index error until the rebuild creates it again, so suspend an index only while nothing else queries it.
+   *
+   * @throws IllegalStateException for an index created outside of Redis OM ({@link IndexCreationMode#SKIP_ALWAYS}),
+   *                               which could not be created again
+   */
+  public void suspendIndexFor(Class<?> cl) {
+    String indexName = getIndexName(cl);
+    IndexingOptions indexingOptions = cl.getAnnotation(IndexingOptions.class);
+    if (indexingOptions != null && indexingOptions.creationMode() == IndexCreationMode.SKIP_ALWAYS) {
+      throw new IllegalStateException(String.format("Index %s is managed outside of Redis OM, it can't be suspended",
+          indexName));
+    }
+    pendingAsyncIndexFor(cl).state = IndexStatus.State.SUSPENDED;
+    physicalIndexFor(indexName).ifPresent(name -> {
+      rmo.opsForSearch(name).dropIndex();
+      logger.info(String.format("Dropped index %s", name));
+    });
+    rmo.template().delete(schemaKey(indexName));
+  }
+
+  /**
+   * Creates the index of an entity class again after {@link #suspendIndexFor(Class)}, on a background thread.
+   *
+   * @return completes once the existing documents are indexed
+   */
+  public CompletableFuture<Void> rebuildIndexFor(Class<?> cl) {
+    return prepareIndexFor(cl).map(this::createIndexAsync).orElseGet(() -> CompletableFuture.failedFuture(
+        new IllegalArgumentException(String.format("%s is not an indexed entity", cl.getName()))));
+  }
+
+  // searches waiting on a suspended index keep waiting on the same entry once it is rebuilt
+  private AsyncIndex pendingAsyncIndexFor(Class<?> cl) {
+    return asyncIndexes.compute(cl,
+        (key, existing) -> existing != null && !existing.ready.isDone() ? existing : new AsyncIndex());
+  }
+
+  private synchronized ExecutorService asyncIndexExecutor() {
+    if (asyncIndexExecutor == null) {
+      asyncIndexExecutor = Executors.newFixedThreadPool(
+          Math.max(1, properties.getRepository().getBootstrapParallelism()), r -> {
+            Thread thread = new Thread(r, "redis-om-async-index");
+            thread.setDaemon(true);
+            return thread;
+          });
+    }
+    return asyncIndexExecutor;
+  }
+
+  /**
+   * Stops the threads creating {@code @Document(async = true)} indexes; an index still being followed is reported as
+   * failed.
+   */
+  @Override
+  public synchronized void destroy() {
+    if (asyncIndexExecutor != null) {
+      asyncIndexExecutor.shutdownNow();
+      asyncIndexExecutor = null;
+    }
+    asyncIndexes.values().stream().filter(asyncIndex -> !asyncIndex.ready.isDone()).forEach(asyncIndex -> {
+      asyncIndex.state = IndexStatus.State.FAILED;
+      asyncIndex.ready.completeExceptionally(new IllegalStateException("The indexer was shut down"));
+    });
+  }
+
+  /**
+   * @return the state of the index of an entity class; indexes created synchronously are ready once created
+   */
+  public Optional<IndexStatus> getIndexStatus(Class<?> entityClass) {
+    AsyncIndex asyncIndex = asyncIndexes.get(entityClass);
+    if (asyncIndex == null) {
+      return indexDefinitionExistsFor(entityClass) ?
+          Optional.of(new IndexStatus(IndexStatus.State.READY, 1d)) :
+          Optional.empty();
+    }
+    IndexStatus.State state = asyncIndex.state;
+    double percentIndexed = switch (state) {
+      case READY -> 1d;
+      case INDEXING -> percentIndexedOf(entityClass);
+      default -> 0d;
+    };
+    return Optional.of(new IndexStatus(state, percentIndexed));
+  }
+
+  /**
+   * Applies the {@link IndexNotReadyPolicy} before a search on an entity whose index is created asynchronously:
+   * returns once the index is ready, or fails.
+   */
+  public void awaitIndexReady(Class<?> entityClass) {
+    checkIndexReady(entityClass, false);
+  }
+
+  /**
+   * Like {@link #awaitIndexReady(Class)}, for operations that can read the entities by scanning their keyspace
+   * instead.
+   *
+   * @return whether to search the index, {@code false} to scan the keyspace
+   */
+  public boolean canSearch(Class<?> entityClass) {
+    return checkIndexReady(entityClass, true);
+  }
+
+  private boolean checkIndexReady(Class<?> entityClass, boolean canScan) {
+    AsyncIndex asyncIndex = entityClass != null ? asyncIndexes.get(entityClass) : null;
+    if (asyncIndex == null || asyncIndex.state == IndexStatus.State.READY) {
+      return true;
+    }
+    String indexName = getIndexName(entityClass);
+    IndexNotReadyPolicy policy = properties.getRepository().getAsyncIndexNotReadyPolicy();
+    if (policy == IndexNotReadyPolicy.SCAN && canScan) {
+      return false;
+    }
+    if (policy == IndexNotReadyPolicy.FAIL) {
+      throw new IllegalStateException(String.format("Index %s is not ready: %s", indexName, asyncIndex.state));
+    }
+    Duration timeout = properties.getRepository().getAsyncIndexReadyTimeout();
+    try {
+      asyncIndex.ready.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(String.format("Interrupted while waiting for index %s", indexName), e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(String.format("Index %s failed", indexName), e.getCause());
+    } catch (TimeoutException e) {
+      throw new IllegalStateException(String.format("Index %s is not ready after %s", indexName, timeout), e);
+    }
+  }
+
+  private double percentIndexedOf(Class<?> entityClass) {
+    try {
+      String percentIndexed = infoValue(getIndexInfo(entityClass), "percent_indexed");
+      return percentIndexed != null ? Double.parseDouble(percentIndexed) : 0d;
+    } catch (Exception e) {
+      return 0d;
+    }
+  }
+
+  private static class AsyncIndex {
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private volatile IndexStatus.State state = IndexStatus.State.CREATING;
+  }
+
+  /**
+   * Creates the index unless it exists with the same schema fingerprint. An existing index whose schema only gained
+   * fields is altered to add them; any other change drops the index, keeping the documents, and creates it again,
+   * which re-indexes the documents in the background; an index behind an alias is rebuilt as a new version and the
+   * alias swapped to it, as {@link #reindexFor(Class)} does. Instances starting together take turns through a lock next to
+   * the fingerprint, so the ones after the first find the schema up to date.
+   */
+  private void createOrEvolveIndex(IndexCreation creation, SearchOperations<String> opsForSearch)
+      throws InterruptedException, TimeoutException {
+    String lockKey = schemaKey(creation.indexName()) + SCHEMA_LOCK_SUFFIX;
+    String token = UUID.randomUUID().toString();
+    long deadline = System.nanoTime() + SCHEMA_LOCK_LEASE.multipliedBy(2).toNanos();
+    while (!Boolean.TRUE.equals(rmo.template().opsForValue().setIfAbsent(lockKey, token, SCHEMA_LOCK_LEASE))) {
+      if (System.nanoTime() > deadline) {
+        throw new TimeoutException(String.format("Schema of index %s is still locked by %s", creation.indexName(),
+            lockKey));
+      }
+      Thread.sleep(SCHEMA_LOCK_POLL_INTERVAL.toMillis());
+    }
+    try {
+      evolveIndex(creation, opsForSearch);
+    } finally {
+      rmo.template().execute(RELEASE_SCHEMA_LOCK, List.of(lockKey), token);
     }
   }
 
+  private void evolveIndex(IndexCreation creation, SearchOperations<String> opsForSearch) {
+    String indexName = creation.indexName();
+    SchemaFingerprint current = SchemaFingerprint.of(creation.params(), creation.fields());
+
+    Optional<String> physicalIndex = physicalIndexFor(indexName);
+    if (physicalIndex.isEmpty()) {
+      opsForSearch.createIndex(creation.params(), creation.fields());
+      storeFingerprint(indexName, current);
+      logger.info(String.format("Created index %s", indexName));
+      return;
+    }
+    // an index behind an alias (REINDEX_AND_SWAP before) is altered or dropped by its own name
+    opsForSearch = rmo.opsForSearch(physicalIndex.get());
+
+    HashOperations<String, String, String> hashOps = rmo.template().opsForHash();
+    Optional<SchemaFingerprint> maybeStored = SchemaFingerprint.fromHash(hashOps.entries(schemaKey(indexName)));
+    if (maybeStored.isEmpty()) {
+      // created before fingerprints were stored, its schema is assumed current from now on
+      storeFingerprint(indexName, current);
+      logger.info(String.format("Index %s exists, recorded its schema fingerprint", indexName));
+      return;
+    }
+
+    SchemaFingerprint stored = maybeStored.get();
+    if (stored.getFingerprint().equals(current.getFingerprint())) {
+      logger.info(String.format("Index %s is up to date", indexName));
+      return;
+    }
+
+    Optional<Set<String>> maybeAdded = current.addedFieldsSince(stored);
+    if (maybeAdded.isPresent()) {
+      SchemaField[] added = creation.fields().stream()
+          .filter(field -> maybeAdded.get().contains(SchemaFingerprint.keyOf(field))).toArray(SchemaField[]::new);
+      opsForSearch.alterIndex(added);
+      storeFingerprint(indexName, current);
+      logger.info(String.format("Altered index %s, added fields %s", indexName, maybeAdded.get()));
+    } else if (!physicalIndex.get().equals(indexName)) {
+      // dropping the index would drop the alias the queries go through, a new version takes its place instead
+      logger.warn(String.format("Schema of index %s changed incompatibly, reindexing it", indexName));
+      reindexAndSwap(creation);
+    } else {
+      logger.warn(String.format("Schema of index %s changed incompatibly, rebuilding it", indexName));
+      opsForSearch.dropIndex();
+      opsForSearch.createIndex(creation.params(), creation.fields());
+      storeFingerprint(indexName, current);
+      logger.info(String.format("Created index %s", indexName));
+    }
+  }
+
+  /**
+   * Rebuilds the index of an entity class without downtime, as with {@link IndexCreationMode#REINDEX_AND_SWAP}: a
+   * new version of the index is built on the same prefix while the current one keeps answering queries, then the
+   * alias the queries go through is swapped to it and the current version is dropped.
+   *
+   * @return completes with the name of the new version once the alias points to it
+   */
+  public CompletableFuture<String> reindexFor(Class<?> cl) {
+    return prepareIndexFor(cl).map(this::reindexAndSwap).orElseGet(() -> CompletableFuture.failedFuture(
+        new IllegalArgumentException(String.format("%s is not an indexed entity", cl.getName()))));
+  }
+
+  private boolean isUpToDate(IndexCreation creation) {
+    if (physicalIndexFor(creation.indexName()).isEmpty()) {
+      return false;
+    }
+    HashOperations<String, String, String> hashOps = rmo.template().opsForHash();
+    String stored = hashOps.get(schemaKey(creation.indexName()), SchemaFingerprint.FINGERPRINT);
+    if (stored == null) {
+      // created before fingerprints were stored, its schema is assumed current from now on
+      storeFingerprint(creation.indexName(), SchemaFingerprint.of(creation.params(), creation.fields()));
+      return true;
+    }
+    return stored.equals(SchemaFingerprint.of(creation.params(), creation.fields()).getFingerprint());
+  }
+
+  private CompletableFuture<String> reindexAndSwap(IndexCreation creation) {
+    String alias = creation.indexName();
+    SchemaFingerprint fingerprint = SchemaFingerprint.of(creation.params(), creation.fields());
+    Optional<String> current = physicalIndexFor(alias);
+    String next = String.format("%s_v%s", alias, current.map(RediSearchIndexer::indexVersionOf).orElse(0) + 1);
+
+    SearchOperations<String> opsForNext = rmo.opsForSearch(next);
+    if (physicalIndexFor(next).isPresent()) {
+      String nextFingerprint = rmo.template().<String, String>opsForHash()
+          .get(schemaKey(next), SchemaFingerprint.FINGERPRINT);
+      if (fingerprint.getFingerprint().equals(nextFingerprint)) {
+        // left by an instance that stopped mid-build, or still being built by another one: finish the swap
+        logger.info(String.format("Index %s exists with the same schema, resuming the reindex of %s", next, alias));
+      } else {
+        logger.warn(String.format("Dropping index %s left by an interrupted reindex of %s", next, alias));
+        opsForNext.dropIndex();
+        createNextIndex(creation, next, fingerprint);
+      }
+    } else {
+      try {
+        createNextIndex(creation, next, fingerprint);
+      } catch (JedisDataException jde) {
+        // another instance created the same version in between, it is built from the same documents
+        logger.info(String.format("Index %s was created by another instance, resuming the reindex of %s", next,
+            alias));
+      }
+    }
+
+    if (current.isEmpty()) {
+      swapAlias(alias, current, next);
+      storeFingerprint(alias, fingerprint);
+      rmo.template().delete(schemaKey(next));
+      return CompletableFuture.completedFuture(next);
+    }
+
+    CompletableFuture<String> swapped = new CompletableFuture<>();
+    Thread reindexer = new Thread(() -> {
+      try {
+        awaitIndexed(next);
+        swapAlias(alias, current, next);
+        storeFingerprint(alias, fingerprint);
+        rmo.template().delete(schemaKey(next));
+        logger.info(String.format("Swapped alias %s from %s to %s", alias, current.get(), next));
+        swapped.complete(next);
+      } catch (Exception e) {
+        logger.warn(String.format("Reindex of %s into %s failed, keeping %s: %s", alias, next, current.get(),
+            e.getMessage()));
+        try {
+          if (physicalIndexFor(alias).filter(next::equals).isEmpty()) {
+            opsForNext.dropIndex();
+            rmo.template().delete(schemaKey(next));
+          }
+        } catch (Exception dropFailure) {
+          logger.debug(String.format("Could not drop index %s", next), dropFailure);
+        }
+        swapped.completeExceptionally(e);
+      }
+    }, "redis-om-reindex-" + alias);
+    reindexer.setDaemon(true);
+    reindexer.start();
+    return swapped;
+  }
+
+  /**
+   * Creates the next version of an index with its fingerprint stored under its own name, so that a version left
+   * behind by a stopped instance can be told apart from a stale one.
+   */
+  private void createNextIndex(IndexCreation creation, String next, SchemaFingerprint fingerprint) {
+    rmo.opsForSearch(next).createIndex(creation.params(), creation.fields());
+    storeFingerprint(next, fingerprint);
+    logger.info(String.format("Created index %s", next));
+  }
+
+  /**
+   * Points the alias to the next version and drops the current one. Another instance finishing the same reindex may
+   * have done it already, in which case there is nothing left to do.
+   */
+  private void swapAlias(String alias, Optional<String> current, String next) {
+    if (physicalIndexFor(alias).filter(next::equals).isPresent()) {
+      return;
+    }
+    SearchOperations<String> opsForNext = rmo.opsForSearch(next);
+    if (current.isEmpty()) {
+      opsForNext.addAlias(alias);
+    } else if (current.get().equals(alias)) {
+      // a plain index holds the name, it has to go before the alias can take it
+      rmo.opsForSearch(alias).dropIndex();
+      opsForNext.addAlias(alias);
+    } else {
+      opsForNext.updateAlias(alias);
+      rmo.opsForSearch(current.get()).dropIndex();
+    }
+  }
+
+  private void awaitIndexed(String indexName) throws InterruptedException, TimeoutException {
+    Duration pollInterval = properties.getRepository().getReindexPollInterval();
+    long deadline = System.nanoTime() + properties.getRepository().getReindexTimeout().toNanos();
+    while (!isIndexed(rmo.opsForSearch(indexName).getInfo())) {
+      if (System.nanoTime() > deadline) {
+        throw new TimeoutException(String.format("Index %s is still indexing after %s", indexName,
+            properties.getRepository().getReindexTimeout()));
+      }
+      Thread.sleep(pollInterval.toMillis());
+    }
+  }
+
+  /**
+   * @return whether the background scan of an index is done, from its {@code FT.INFO}
+   */
+  static boolean isIndexed(Map<String, Object> info) {
+    String indexing = infoValue(info, "indexing");
+    String percentIndexed = infoValue(info, "percent_indexed");
+    boolean scanning = indexing != null && !indexing.equals("0");
+    boolean complete = percentIndexed == null || Double.parseDouble(percentIndexed) >= 1d;
+    return !scanning && complete;
+  }
+
+  private static String infoValue(Map<String, Object> info, String name) {
+    Object value = info.get(name);
+    if (value == null) {
+      return null;
+    }
+    return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : value.toString();
+  }
+
+  /**
+   * @return the version of a {@code <name>_v<N>} index, 0 for any other name
+   */
+  static int indexVersionOf(String indexName) {
+    int suffix = indexName.lastIndexOf("_v");
+    if (suffix < 0) {
+      return 0;
+    }
+    try {
+      return Integer.parseInt(indexName.substring(suffix + 2));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * @return the name of the index a name resolves to, itself or the index behind the alias, or empty if there is none
+   */
+  private Optional<String> physicalIndexFor(String indexName) {
+    try {
+      Map<String, Object> info = rmo.opsForSearch(indexName).getInfo();
+      return Optional.ofNullable(infoValue(info, "index_name")).or(() -> Optional.of(indexName));
+    } catch (JedisDataException jde) {
+      String message = jde.getMessage() != null ? jde.getMessage().toLowerCase() : "";
+      if (message.contains("unknown index name") || message.contains("no such index")) {
+        return Optional.empty();
+      }
+      throw jde;
+    }
+  }
+
+  private void storeFingerprint(String indexName, SchemaFingerprint fingerprint) {
+    String key = schemaKey(indexName);
+    rmo.template().delete(key);
+    rmo.template().opsForHash().putAll(key, fingerprint.toHash());
+  }
+
+  private static String schemaKey(String indexName) {
+    return SCHEMA_KEY_PREFIX + indexName;
+  }
+
+  private record IndexCreation(Class<?> entityClass, String indexName, FTCreateParams params, List<SchemaField> fields,
+                               IndexCreationMode creationMode) {
+  }
+
+  /**
+   * Creates, unless it exists, a hash index holding a single FLAT vector field, for collections of vectors kept by
+   * the library itself (i.e. semantic caches) rather than by an entity class.
+   */
+  public void createVectorIndex(String indexName, String prefix, String vectorField, VectorType type, int dimension,
+      DistanceMetric distanceMetric) {
+    SearchOperations<String> opsForSearch = rmo.opsForSearch(indexName);
+    try {
+      opsForSearch.getInfo();
+      return;
+    } catch (JedisDataException jde) {
+      if (!jde.getMessage().contains("Unknown index name")) {
+        throw jde;
+      }
+    }
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put("TYPE", type.toString());
+    attributes.put("DIM", dimension);
+    attributes.put("DISTANCE_METRIC", distanceMetric);
+    FTCreateParams params = FTCreateParams.createParams().on(IndexDataType.HASH).prefix(prefix);
+    opsForSearch.createIndex(params,
+        List.of(new VectorField(vectorField, VectorField.VectorAlgorithm.FLAT, attributes)));
+    logger.info(String.format("Created index %s", indexName));
+  }
+
   public void dropIndexAndDocumentsFor(Class<?> cl) {
     dropIndex(cl, true, false);
   }
@@ -213,6 +753,7 @@ public class RediSearchIndexer {
     String key = getKeyspace(keyspace);
     keyspaceToEntityClass.put(key, entityClass);
     entityClassToKeySpace.put(entityClass, key);
+    RedisOMMetrics.registerKeyspace(key);
     indexedEntityClasses.add(entityClass);
   }
 
@@ -255,6 +796,10 @@ public class RediSearchIndexer {
     return indexedEntityClasses.contains(entityClass);
   }
 
+  public List<Class<?>> getIndexedEntityClasses() {
+    return List.copyOf(indexedEntityClasses);
+  }
+
   public boolean indexExistsFor(Class<?> entityClass) {
     try {
       return getIndexInfo(entityClass) != null;
@@ -713,12 +1258,13 @@ public class RediSearchIndexer {
   private void dropIndex(Class<?> cl, boolean dropDocuments, boolean recreateIndex) {
     String indexName = entityClassToIndexName.get(cl);
     try {
-      SearchOperations<String> opsForSearch = rmo.opsForSearch(indexName);
+      SearchOperations<String> opsForSearch = rmo.opsForSearch(physicalIndexFor(indexName).orElse(indexName));
       if (dropDocuments) {
         opsForSearch.dropIndexAndDocuments();
       } else {
         opsForSearch.dropIndex();
       }
+      rmo.template().delete(schemaKey(indexName));
       String entityPrefix = generateEntityPrefix(cl);
       removeKeySpaceMapping(entityPrefix, cl);
       if (recreateIndex) {
@@ -0,0 +1,120 @@
+package com.redis.om.spring.indexing;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.args.Rawable;
+import redis.clients.jedis.params.IParams;
+import redis.clients.jedis.search.FTCreateParams;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.search.schemafields.SchemaField;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * The fingerprint of an index schema: a hash of the index definition (data type, prefix, filter, language, score)
+ * and one hash per field, keyed by the field's alias, each taken over the arguments {@code FT.CREATE} would be sent.
+ * It is stored in Redis next to the index so that a restart can tell an unchanged schema from one with added fields,
+ * which {@code FT.ALTER} can apply, and from an incompatible one, which needs the index rebuilt. A renamed alias reads
+ * as a removed field and an added one, so it is incompatible.
+ */
+final class SchemaFingerprint {
+  static final String FINGERPRINT = "fingerprint";
+  static final String DEFINITION = "definition";
+  static final String FIELD_PREFIX = "field:";
+
+  private final String definition;
+  private final Map<String, String> fields;
+  private final String fingerprint;
+
+  private SchemaFingerprint(String definition, Map<String, String> fields) {
+    this.definition = definition;
+    this.fields = fields;
+    StringBuilder all = new StringBuilder(definition);
+    fields.forEach((name, hash) -> all.append('\n').append(name).append('=').append(hash));
+    this.fingerprint = sha256(all.toString());
+  }
+
+  static SchemaFingerprint of(FTCreateParams params, List<SchemaField> schemaFields) {
+    Map<String, String> fields = new TreeMap<>();
+    for (SchemaField field : schemaFields) {
+      fields.put(keyOf(field), sha256(render(field)));
+    }
+    return new SchemaFingerprint(sha256(render(params)), fields);
+  }
+
+  /**
+   * @return the name a field is known by in the index, its alias, or its path when it has none
+   */
+  static String keyOf(SchemaField field) {
+    String alias = field.getFieldName().getAttribute();
+    return alias != null ? alias : field.getFieldName().getName();
+  }
+
+  /**
+   * @param stored the hash written by {@link #toHash()}
+   * @return the fingerprint, or empty if nothing was stored
+   */
+  static Optional<SchemaFingerprint> fromHash(Map<String, String> stored) {
+    if (stored == null || !stored.containsKey(DEFINITION)) {
+      return Optional.empty();
+    }
+    Map<String, String> fields = new TreeMap<>();
+    stored.forEach((key, hash) -> {
+      if (key.startsWith(FIELD_PREFIX)) {
+        fields.put(key.substring(FIELD_PREFIX.length()), hash);
+      }
+    });
+    return Optional.of(new SchemaFingerprint(stored.get(DEFINITION), fields));
+  }
+
+  Map<String, String> toHash() {
+    Map<String, String> hash = new LinkedHashMap<>();
+    hash.put(FINGERPRINT, fingerprint);
+    hash.put(DEFINITION, definition);
+    fields.forEach((name, fieldHash) -> hash.put(FIELD_PREFIX + name, fieldHash));
+    return hash;
+  }
+
+  String getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * @return the fields added since the previous schema, or empty if the change is not additive: the definition
+   *     changed, or a field was removed or redefined
+   */
+  Optional<Set<String>> addedFieldsSince(SchemaFingerprint previous) {
+    if (!definition.equals(previous.definition)) {
+      return Optional.empty();
+    }
+    for (Map.Entry<String, String> field : previous.fields.entrySet()) {
+      if (!field.getValue().equals(fields.get(field.getKey()))) {
+        return Optional.empty();
+      }
+    }
+    Set<String> added = new TreeSet<>(fields.keySet());
+    added.removeAll(previous.fields.keySet());
+    return Optional.of(added);
+  }
+
+  private static String render(IParams params) {
+    CommandArguments args = new CommandArguments(SearchCommand.CREATE);
+    params.addParams(args);
+    StringJoiner rendered = new StringJoiner(" ");
+    for (Rawable arg : args) {
+      rendered.add(new String(arg.getRaw(), StandardCharsets.UTF_8));
+    }
+    return rendered.toString();
+  }
+
+  private static String sha256(String value) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
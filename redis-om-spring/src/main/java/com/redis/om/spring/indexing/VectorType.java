@@ -1,6 +1,32 @@
 package com.redis.om.spring.indexing;
 
+/**
+ * The element type of an indexed vector. FLOAT16 and BFLOAT16 halve the memory of FLOAT32 vectors; INT8 quarters
+ * it, quantizing each component (expected in [-1, 1], i.e. a normalized embedding) to a signed byte. Vectors are
+ * written and queried as FLOAT32 by the application and converted to the indexed type, see
+ * {@link com.redis.om.spring.util.ObjectUtils#floatArrayToByteArray(float[], VectorType)}.
+ */
 public enum VectorType {
-  FLOAT32,
-  FLOAT64
+  FLOAT32(4),
+  FLOAT64(8),
+  FLOAT16(2),
+  BFLOAT16(2),
+  INT8(1);
+
+  private final int bytesPerElement;
+
+  VectorType(int bytesPerElement) {
+    this.bytesPerElement = bytesPerElement;
+  }
+
+  public int getBytesPerElement() {
+    return bytesPerElement;
+  }
+
+  /**
+   * @return whether vectors of this type are stored in less memory than FLOAT32 vectors
+   */
+  public boolean isReducedPrecision() {
+    return bytesPerElement < FLOAT32.bytesPerElement;
+  }
 }
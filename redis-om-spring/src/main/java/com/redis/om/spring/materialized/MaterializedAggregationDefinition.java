@@ -0,0 +1,142 @@
+package com.redis.om.spring.materialized;
+
+import com.redis.om.spring.annotations.MaterializedAggregation;
+import com.redis.om.spring.annotations.Reducer;
+import com.redis.om.spring.util.ObjectUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parsed form of a {@link MaterializedAggregation}: the grouping property, the numeric properties whose sums
+ * are kept, and the keys holding the state of the view. All keys of a view share a hash tag so the view can be
+ * updated atomically with a script, also on a cluster:
+ * <ul>
+ * <li>{@code materialized:{<entity class>:<name>}:count} - sorted set, count per group</li>
+ * <li>{@code materialized:{<entity class>:<name>}:sum:<property>} - sorted set, sum of the property per group</li>
+ * <li>{@code materialized:{<entity class>:<name>}:entries} - hash, the current contribution of each entity id</li>
+ * </ul>
+ */
+public class MaterializedAggregationDefinition {
+  private static final Map<Class<?>, List<MaterializedAggregationDefinition>> definitions = new ConcurrentHashMap<>();
+
+  private final Class<?> entityClass;
+  private final String name;
+  private final String groupBy;
+  private final List<String> summedProperties;
+  private final String keyPrefix;
+
+  MaterializedAggregationDefinition(Class<?> entityClass, String name, String groupBy,
+      List<String> summedProperties) {
+    this.entityClass = entityClass;
+    this.name = name;
+    this.groupBy = groupBy;
+    this.summedProperties = summedProperties;
+    this.keyPrefix = String.format("materialized:{%s:%s}:", entityClass.getName(), name);
+  }
+
+  /**
+   * Returns the materialized aggregations declared on an entity class, parsed once per class.
+   */
+  public static List<MaterializedAggregationDefinition> of(Class<?> entityClass) {
+    return definitions.computeIfAbsent(ClassUtils.getUserClass(entityClass),
+        MaterializedAggregationDefinition::parse);
+  }
+
+  public static Optional<MaterializedAggregationDefinition> of(Class<?> entityClass, String name) {
+    return of(entityClass).stream().filter(d -> d.getName().equals(name)).findFirst();
+  }
+
+  private static List<MaterializedAggregationDefinition> parse(Class<?> entityClass) {
+    MaterializedAggregation[] annotations = entityClass.getAnnotationsByType(MaterializedAggregation.class);
+    List<MaterializedAggregationDefinition> parsed = new ArrayList<>();
+    for (MaterializedAggregation annotation : annotations) {
+      Field groupByField = fieldFor(entityClass, annotation.name(), annotation.groupBy());
+      if (ObjectUtils.isCollection(groupByField.getType()) || groupByField.getType().isArray()) {
+        throw new IllegalArgumentException(
+            String.format("Materialized aggregation %s on %s cannot group by collection property %s",
+                annotation.name(), entityClass.getName(), annotation.groupBy()));
+      }
+      Set<String> summed = new LinkedHashSet<>();
+      for (Reducer reducer : annotation.reduce()) {
+        switch (reducer.func()) {
+          case COUNT -> {
+            // the count per group is always maintained
+          }
+          case SUM, AVG -> {
+            if (reducer.args().length != 1) {
+              throw new IllegalArgumentException(
+                  String.format("Materialized aggregation %s on %s: %s takes exactly one property",
+                      annotation.name(), entityClass.getName(), reducer.func()));
+            }
+            Field field = fieldFor(entityClass, annotation.name(), reducer.args()[0]);
+            Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(field.getType());
+            if (!Number.class.isAssignableFrom(type)) {
+              throw new IllegalArgumentException(
+                  String.format("Materialized aggregation %s on %s: property %s is not numeric", annotation.name(),
+                      entityClass.getName(), field.getName()));
+            }
+            summed.add(field.getName());
+          }
+          default -> throw new IllegalArgumentException(
+              String.format("Materialized aggregation %s on %s: %s cannot be maintained incrementally",
+                  annotation.name(), entityClass.getName(), reducer.func()));
+        }
+      }
+      parsed.add(new MaterializedAggregationDefinition(entityClass, annotation.name(), groupByField.getName(),
+          List.copyOf(summed)));
+    }
+    return List.copyOf(parsed);
+  }
+
+  private static Field fieldFor(Class<?> entityClass, String name, String property) {
+    try {
+      return ObjectUtils.getDeclaredFieldTransitively(entityClass, property);
+    } catch (NoSuchFieldException e) {
+      throw new IllegalArgumentException(
+          String.format("Materialized aggregation %s on %s refers to unknown property %s", name,
+              entityClass.getName(), property), e);
+    }
+  }
+
+  public Class<?> getEntityClass() {
+    return entityClass;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getGroupBy() {
+    return groupBy;
+  }
+
+  public List<String> getSummedProperties() {
+    return summedProperties;
+  }
+
+  public String getCountKey() {
+    return keyPrefix + "count";
+  }
+
+  public String getSumKey(String property) {
+    return keyPrefix + "sum:" + property;
+  }
+
+  public String getEntriesKey() {
+    return keyPrefix + "entries";
+  }
+
+  /**
+   * The keys as expected by the maintenance script: entries, count, then one sum key per summed property.
+   */
+  List<String> getKeys() {
+    List<String> keys = new ArrayList<>(summedProperties.size() + 2);
+    keys.add(getEntriesKey());
+    keys.add(getCountKey());
+    summedProperties.forEach(p -> keys.add(getSumKey(p)));
+    return keys;
+  }
+}
@@ -0,0 +1,146 @@
+package com.redis.om.spring.materialized;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the materialized aggregations of an entity type in step with its writes. Every entity id records its
+ * current contribution (group and summed values) so that an overwrite or a delete can retract the previous
+ * contribution without reading the entity back. Each change is applied by a single script call, atomically for
+ * the view.
+ * <p>
+ * Writes that bypass the repositories (including key expiration) are not seen; {@link #rebuild(Class, Iterable)}
+ * reconciles a view with the stored entities.
+ */
+public class MaterializedAggregationMaintainer {
+  static final String SEPARATOR = "\u001f";
+
+  // KEYS: entries, count, sum keys... ARGV: id, 'put' or 'del', group, summed values...
+  private static final String MAINTAIN_SCRIPT = """
+      local old = redis.call('HGET', KEYS[1], ARGV[1])
+      if old then
+        local parts = {}
+        local from = 1
+        while true do
+          local sep = string.find(old, '\\31', from, true)
+          if not sep then
+            table.insert(parts, string.sub(old, from))
+            break
+          end
+          table.insert(parts, string.sub(old, from, sep - 1))
+          from = sep + 1
+        end
+        local group = parts[1]
+        local count = tonumber(redis.call('ZINCRBY', KEYS[2], -1, group))
+        if count <= 0 then
+          for i = 2, #KEYS do redis.call('ZREM', KEYS[i], group) end
+        else
+          for i = 3, #KEYS do redis.call('ZINCRBY', KEYS[i], -tonumber(parts[i - 1]), group) end
+        end
+      end
+      if ARGV[2] == 'put' then
+        redis.call('ZINCRBY', KEYS[2], 1, ARGV[3])
+        for i = 3, #KEYS do redis.call('ZINCRBY', KEYS[i], ARGV[i + 1], ARGV[3]) end
+        redis.call('HSET', KEYS[1], ARGV[1], table.concat(ARGV, '\\31', 3))
+      elseif old then
+        redis.call('HDEL', KEYS[1], ARGV[1])
+      end
+      return 0
+      """;
+
+  static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>(MAINTAIN_SCRIPT, Long.class);
+
+  private final StringRedisTemplate template;
+
+  public MaterializedAggregationMaintainer(StringRedisTemplate template) {
+    this.template = template;
+  }
+
+  public static boolean hasMaterializedAggregations(Class<?> entityClass) {
+    return !MaterializedAggregationDefinition.of(entityClass).isEmpty();
+  }
+
+  /**
+   * Applies the saved state of an entity to the views of its type, replacing its previous contribution.
+   */
+  public void onSave(Object id, Object entity) {
+    for (MaterializedAggregationDefinition definition : MaterializedAggregationDefinition.of(entity.getClass())) {
+      template.execute(SCRIPT, definition.getKeys(), argsFor(definition, id.toString(), entity).toArray());
+    }
+  }
+
+  /**
+   * Queues the maintenance of the views of an entity on a pipeline, see {@link #prepare(Jedis)}.
+   */
+  public void onSave(Pipeline pipeline, Object id, Object entity) {
+    for (MaterializedAggregationDefinition definition : MaterializedAggregationDefinition.of(entity.getClass())) {
+      pipeline.evalsha(SCRIPT.getSha1(), definition.getKeys(), argsFor(definition, id.toString(), entity));
+    }
+  }
+
+  /**
+   * Makes sure the maintenance script is loaded before its sha is used on a pipeline.
+   */
+  public void prepare(Jedis jedis) {
+    jedis.scriptLoad(SCRIPT.getScriptAsString());
+  }
+
+  /**
+   * Retracts the contribution of a deleted entity from the views of its type.
+   */
+  public void onDelete(Class<?> entityClass, Object id) {
+    for (MaterializedAggregationDefinition definition : MaterializedAggregationDefinition.of(entityClass)) {
+      template.execute(SCRIPT, definition.getKeys(), id.toString(), "del");
+    }
+  }
+
+  /**
+   * Empties the views of an entity type, i.e. when all its entities are deleted.
+   */
+  public void clear(Class<?> entityClass) {
+    for (MaterializedAggregationDefinition definition : MaterializedAggregationDefinition.of(entityClass)) {
+      template.delete(definition.getKeys());
+    }
+  }
+
+  /**
+   * Recomputes the views of an entity type from the given (complete) set of entities. Writes running concurrently
+   * with a rebuild can be lost.
+   */
+  public void rebuild(Class<?> entityClass, Iterable<?> entities) {
+    clear(entityClass);
+    for (Object entity : entities) {
+      Object id = com.redis.om.spring.util.ObjectUtils.getIdFieldForEntity(entity);
+      if (id != null) {
+        onSave(id, entity);
+      }
+    }
+  }
+
+  private static List<String> argsFor(MaterializedAggregationDefinition definition, String id, Object entity) {
+    BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
+    Object group = wrapper.getPropertyValue(definition.getGroupBy());
+    if (group == null) {
+      // entities without a group don't contribute, but might have before
+      return List.of(id, "del");
+    }
+
+    List<String> args = new ArrayList<>(definition.getSummedProperties().size() + 3);
+    args.add(id);
+    args.add("put");
+    args.add(group instanceof Enum<?> e ? e.name() : group.toString());
+    for (String property : definition.getSummedProperties()) {
+      Object value = wrapper.getPropertyValue(property);
+      args.add(value instanceof Number n ? Double.toString(n.doubleValue()) : "0");
+    }
+    return args;
+  }
+}
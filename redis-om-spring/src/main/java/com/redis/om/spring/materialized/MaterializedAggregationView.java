@@ -0,0 +1,104 @@
+package com.redis.om.spring.materialized;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.util.*;
+
+/**
+ * Read access to a {@link com.redis.om.spring.annotations.MaterializedAggregation}. Lookups for a single group
+ * are a {@code ZSCORE} on the maintained sorted sets; no aggregation runs on the index.
+ */
+public class MaterializedAggregationView {
+  private final MaterializedAggregationDefinition definition;
+  private final StringRedisTemplate template;
+
+  public MaterializedAggregationView(MaterializedAggregationDefinition definition, StringRedisTemplate template) {
+    this.definition = definition;
+    this.template = template;
+  }
+
+  public String getName() {
+    return definition.getName();
+  }
+
+  public long count(Object group) {
+    Double score = template.opsForZSet().score(definition.getCountKey(), asGroup(group));
+    return score != null ? score.longValue() : 0L;
+  }
+
+  public double sum(String property, Object group) {
+    Double score = template.opsForZSet().score(sumKey(property), asGroup(group));
+    return score != null ? score : 0d;
+  }
+
+  /**
+   * @return the average of the property over the group, empty if the group has no entities
+   */
+  public OptionalDouble avg(String property, Object group) {
+    String sumKey = sumKey(property);
+    long count = count(group);
+    if (count <= 0) {
+      return OptionalDouble.empty();
+    }
+    Double sum = template.opsForZSet().score(sumKey, asGroup(group));
+    return OptionalDouble.of((sum != null ? sum : 0d) / count);
+  }
+
+  public Set<String> groups() {
+    Set<String> groups = template.opsForZSet().range(definition.getCountKey(), 0, -1);
+    return groups != null ? groups : Set.of();
+  }
+
+  /**
+   * @return all the groups with their counts, largest first
+   */
+  public Map<String, Long> counts() {
+    return topByCount(-1);
+  }
+
+  /**
+   * @param limit the number of groups to return, or a negative number for all
+   * @return the groups with the largest counts, largest first
+   */
+  public Map<String, Long> topByCount(int limit) {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    reverseRange(definition.getCountKey(), limit).forEach(t -> counts.put(t.getValue(), t.getScore().longValue()));
+    return counts;
+  }
+
+  /**
+   * @return all the groups with the sum of the property, largest first
+   */
+  public Map<String, Double> sums(String property) {
+    return topBySum(property, -1);
+  }
+
+  /**
+   * @param limit the number of groups to return, or a negative number for all
+   * @return the groups with the largest sums of the property, largest first
+   */
+  public Map<String, Double> topBySum(String property, int limit) {
+    Map<String, Double> sums = new LinkedHashMap<>();
+    reverseRange(sumKey(property), limit).forEach(t -> sums.put(t.getValue(), t.getScore()));
+    return sums;
+  }
+
+  private Set<TypedTuple<String>> reverseRange(String key, int limit) {
+    Set<TypedTuple<String>> tuples = template.opsForZSet().reverseRangeWithScores(key, 0, limit < 0 ? -1 : limit - 1);
+    return tuples != null ? tuples : Set.of();
+  }
+
+  private String sumKey(String property) {
+    if (!definition.getSummedProperties().contains(property)) {
+      throw new IllegalArgumentException(
+          String.format("Materialized aggregation %s does not sum %s, summed properties are %s", definition.getName(),
+              property, definition.getSummedProperties()));
+    }
+    return definition.getSumKey(property);
+  }
+
+  private static String asGroup(Object group) {
+    return group instanceof Enum<?> e ? e.name() : group.toString();
+  }
+}
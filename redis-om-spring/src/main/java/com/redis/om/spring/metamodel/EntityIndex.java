@@ -0,0 +1,66 @@
+package com.redis.om.spring.metamodel;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * The index of the {@code @Document} and {@code @RedisHash} entities of a compilation, written by the
+ * {@link MetamodelGenerator} next to the compiled classes. Each line maps the binary name of an entity class to the
+ * name of its entity annotation.
+ * <p>
+ * Every jar built with the annotation processor carries its own index; {@link #load(ClassLoader)} merges them.
+ */
+public final class EntityIndex {
+  public static final String LOCATION = "META-INF/redis-om/entities.properties";
+
+  private EntityIndex() {
+  }
+
+  /**
+   * @return the entities of all the indexes visible to the class loader, by class name, or empty if there is none
+   */
+  public static Optional<Map<String, String>> load(ClassLoader classLoader) {
+    try {
+      Enumeration<URL> resources = classLoader.getResources(LOCATION);
+      if (!resources.hasMoreElements()) {
+        return Optional.empty();
+      }
+      Map<String, String> entities = new LinkedHashMap<>();
+      while (resources.hasMoreElements()) {
+        try (Reader reader = new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8)) {
+          entities.putAll(read(reader));
+        }
+      }
+      return Optional.of(entities);
+    } catch (IOException e) {
+      throw new UncheckedIOException(String.format("Could not read the entity index %s", LOCATION), e);
+    }
+  }
+
+  public static Map<String, String> read(Reader reader) throws IOException {
+    Map<String, String> entities = new LinkedHashMap<>();
+    BufferedReader lines = new BufferedReader(reader);
+    String line;
+    while ((line = lines.readLine()) != null) {
+      line = line.trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      int separator = line.indexOf('=');
+      if (separator < 1) {
+        throw new IllegalArgumentException(String.format("Invalid entity index entry: %s", line));
+      }
+      entities.put(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+    }
+    return entities;
+  }
+
+  public static void write(Map<String, String> entities, Writer writer) throws IOException {
+    writer.write("# Generated by the Redis OM Spring metamodel generator\n");
+    for (Map.Entry<String, String> entity : entities.entrySet()) {
+      writer.write(entity.getKey() + "=" + entity.getValue() + "\n");
+    }
+  }
+}
@@ -25,8 +25,11 @@ import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Field;
 import java.time.Instant;
@@ -52,6 +55,7 @@ public final class MetamodelGenerator extends AbstractProcessor {
   private static final Set<String> DISALLOWED_ACCESS_LEVELS = Stream.of("PROTECTED", "PRIVATE", "NONE")
       .collect(Collectors.collectingAndThen(Collectors.toSet(), Collections::unmodifiableSet));
   private final Map<String, Integer> depthMap = new HashMap<>();
+  private final Map<String, String> entityIndex = new TreeMap<>();
   private ProcessingEnvironment processingEnvironment;
   private Messager messager;
   private TypeElement objectTypeElement;
@@ -92,7 +96,11 @@ public final class MetamodelGenerator extends AbstractProcessor {
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
 
-    if (annotations.isEmpty() || roundEnv.processingOver()) {
+    if (roundEnv.processingOver()) {
+      writeEntityIndex();
+      return false;
+    }
+    if (annotations.isEmpty()) {
       // Allow other processors to run
       return false;
     }
@@ -103,6 +111,8 @@ public final class MetamodelGenerator extends AbstractProcessor {
         .flatMap(Collection::stream).collect(Collectors.toSet());
 
     metamodelCandidates.stream().filter(ae -> ae.getKind() == ElementKind.CLASS).forEach(ae -> {
+      String binaryName = processingEnvironment.getElementUtils().getBinaryName((TypeElement) ae).toString();
+      entityIndex.put(binaryName, documentEntities.contains(ae) ? Document.class.getName() : RedisHash.class.getName());
       try {
         generateMetaModelClass(ae);
       } catch (IOException ioe) {
@@ -114,6 +124,39 @@ public final class MetamodelGenerator extends AbstractProcessor {
     return true;
   }
 
+  /**
+   * Writes the {@link EntityIndex} of the entities of the compilation, so that they are found at runtime without
+   * scanning the classpath. Entries of a previous (incremental) compilation are kept while their class still exists.
+   */
+  private void writeEntityIndex() {
+    if (entityIndex.isEmpty()) {
+      return;
+    }
+    Filer filer = processingEnvironment.getFiler();
+    try {
+      FileObject previous = filer.getResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.LOCATION);
+      try (Reader reader = previous.openReader(true)) {
+        EntityIndex.read(reader).forEach((className, annotation) -> {
+          if (processingEnvironment.getElementUtils().getTypeElement(className.replace('$', '.')) != null) {
+            entityIndex.putIfAbsent(className, annotation);
+          }
+        });
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      // no previous index
+    }
+    try {
+      FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.LOCATION);
+      try (Writer writer = index.openWriter()) {
+        EntityIndex.write(entityIndex, writer);
+      }
+      messager.printMessage(Diagnostic.Kind.NOTE,
+          "Generating Entity Index: " + EntityIndex.LOCATION + " (" + entityIndex.size() + " entities)");
+    } catch (IOException ioe) {
+      messager.printMessage(Diagnostic.Kind.WARNING, "Cannot generate entity index because " + ioe.getMessage());
+    }
+  }
+
   void generateMetaModelClass(final Element annotatedElement) throws IOException {
     Pair<Boolean, String> innerClassInfo = isInnerClassWithEnclosing(annotatedElement);
     boolean isInnerClass = innerClassInfo.getFirst();
@@ -3,6 +3,7 @@ package com.redis.om.spring.metamodel.indexed;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 import com.redis.om.spring.search.stream.predicates.vector.KNNPredicate;
+import com.redis.om.spring.search.stream.predicates.vector.VectorRangePredicate;
 
 public class VectorField<E, T> extends MetamodelField<E, T> {
   public VectorField(SearchFieldAccessor field, boolean indexed) {
@@ -20,4 +21,12 @@ public class VectorField<E, T> extends MetamodelField<E, T> {
   public KNNPredicate<E, T> knn(int k, float[] blobAttribute) {
     return new KNNPredicate<>(searchFieldAccessor, k, blobAttribute);
   }
+
+  public VectorRangePredicate<E, T> withinRadius(byte[] blobAttribute, double radius) {
+    return new VectorRangePredicate<>(searchFieldAccessor, blobAttribute, radius);
+  }
+
+  public VectorRangePredicate<E, T> withinRadius(float[] blobAttribute, double radius) {
+    return new VectorRangePredicate<>(searchFieldAccessor, blobAttribute, radius);
+  }
 }
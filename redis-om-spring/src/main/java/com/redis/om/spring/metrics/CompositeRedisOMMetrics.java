@@ -0,0 +1,107 @@
+package com.redis.om.spring.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Calls several instrumentations, nesting the timed calls so that the first one times the others too.
+ */
+class CompositeRedisOMMetrics implements RedisOMMetrics {
+  private final List<RedisOMMetrics> delegates;
+
+  CompositeRedisOMMetrics(List<RedisOMMetrics> delegates) {
+    this.delegates = List.copyOf(delegates);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public <T> T timeOperation(String operation, String target, Supplier<T> call) {
+    Supplier<T> nested = call;
+    for (int i = delegates.size() - 1; i >= 0; i--) {
+      RedisOMMetrics delegate = delegates.get(i);
+      Supplier<T> inner = nested;
+      nested = () -> delegate.timeOperation(operation, target, inner);
+    }
+    return nested.get();
+  }
+
+  @Override
+  public <T> CompletableFuture<T> timeAsyncOperation(String operation, String target,
+      Supplier<CompletableFuture<T>> call) {
+    Supplier<CompletableFuture<T>> nested = call;
+    for (int i = delegates.size() - 1; i >= 0; i--) {
+      RedisOMMetrics delegate = delegates.get(i);
+      Supplier<CompletableFuture<T>> inner = nested;
+      nested = () -> delegate.timeAsyncOperation(operation, target, inner);
+    }
+    return nested.get();
+  }
+
+  @Override
+  public <T> T timeCommand(String command, String target, Supplier<T> call) {
+    Supplier<T> nested = call;
+    for (int i = delegates.size() - 1; i >= 0; i--) {
+      RedisOMMetrics delegate = delegates.get(i);
+      Supplier<T> inner = nested;
+      nested = () -> delegate.timeCommand(command, target, inner);
+    }
+    return nested.get();
+  }
+
+  @Override
+  public <T> T timeDeserialization(String target, Supplier<T> call) {
+    Supplier<T> nested = call;
+    for (int i = delegates.size() - 1; i >= 0; i--) {
+      RedisOMMetrics delegate = delegates.get(i);
+      Supplier<T> inner = nested;
+      nested = () -> delegate.timeDeserialization(target, inner);
+    }
+    return nested.get();
+  }
+
+  @Override
+  public void recordQuery(String command, String target, Supplier<String> queryShape) {
+    delegates.forEach(delegate -> delegate.recordQuery(command, target, queryShape));
+  }
+
+  @Override
+  public void recordResults(String command, String target, long results) {
+    delegates.forEach(delegate -> delegate.recordResults(command, target, results));
+  }
+
+  @Override
+  public void recordPayload(String command, String target, long bytes) {
+    delegates.forEach(delegate -> delegate.recordPayload(command, target, bytes));
+  }
+
+  @Override
+  public void recordBatch(String operation, String target, int size) {
+    delegates.forEach(delegate -> delegate.recordBatch(operation, target, size));
+  }
+
+  @Override
+  public void recordCacheAccess(String cache, boolean hit) {
+    delegates.forEach(delegate -> delegate.recordCacheAccess(cache, hit));
+  }
+
+  @Override
+  public void registerGauge(String name, String target, Supplier<Number> value) {
+    delegates.forEach(delegate -> delegate.registerGauge(name, target, value));
+  }
+
+  @Override
+  public void registerCounter(String name, String target, Supplier<Number> total) {
+    delegates.forEach(delegate -> delegate.registerCounter(name, target, total));
+  }
+
+  @Override
+  public void registerTimeGauge(String name, String target, Supplier<Duration> value) {
+    delegates.forEach(delegate -> delegate.registerTimeGauge(name, target, value));
+  }
+}
@@ -0,0 +1,34 @@
+package com.redis.om.spring.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The keyspaces of the entity types, as registered by the indexer, to tag the commands on a key with the keyspace it
+ * belongs to. Ids may contain {@code :}, so the keyspace is the longest registered prefix of the key, not the part
+ * before its last {@code :}.
+ */
+final class KnownKeyspaces {
+  static final String OTHER = "other";
+
+  private static final Set<String> KEYSPACES = ConcurrentHashMap.newKeySet();
+
+  private KnownKeyspaces() {
+  }
+
+  static void register(String keyspace) {
+    KEYSPACES.add(keyspace.endsWith(":") ? keyspace : keyspace + ":");
+  }
+
+  static String of(Object key) {
+    String asString = String.valueOf(key);
+    String keyspace = OTHER;
+    for (int separator = asString.indexOf(':'); separator >= 0; separator = asString.indexOf(':', separator + 1)) {
+      String prefix = asString.substring(0, separator + 1);
+      if (KEYSPACES.contains(prefix)) {
+        keyspace = prefix;
+      }
+    }
+    return keyspace;
+  }
+}
@@ -0,0 +1,180 @@
+package com.redis.om.spring.metrics;
+
+import io.micrometer.core.instrument.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records the Redis OM operations as Micrometer meters:
+ * <ul>
+ *   <li>{@code redis.om.operations}, a timer of the repository methods, search streams, reference resolutions and
+ *   embeddings by {@code operation}, {@code target} and {@code outcome}</li>
+ *   <li>{@code redis.om.commands}, a timer by {@code command}, {@code target} and {@code outcome}</li>
+ *   <li>{@code redis.om.deserialization}, a timer by {@code target}</li>
+ *   <li>{@code redis.om.command.results}, a distribution of result counts by {@code command} and {@code target}</li>
+ *   <li>{@code redis.om.command.payload}, a distribution of payload bytes by {@code command} and {@code target}</li>
+ *   <li>{@code redis.om.pipeline.batch.size}, a distribution of the entities or updates per pipeline by
+ *   {@code operation} and {@code target}</li>
+ *   <li>{@code redis.om.cache.requests}, a counter by {@code cache} and {@code result} ({@code hit} or
+ *   {@code miss})</li>
+ *   <li>the values registered by the components keeping them, such as the embedding dispatchers
+ *   ({@code redis.om.embedding.*} by {@code target}, the provider and model) and the DJL models
+ *   ({@code redis.om.djl.load.time} by {@code target}, the model or {@code all})</li>
+ * </ul>
+ * Percentiles and histograms are left to the {@code MeterFilter}s of the application.
+ */
+public class MicrometerRedisOMMetrics implements RedisOMMetrics {
+  public static final String OPERATIONS = "redis.om.operations";
+  public static final String COMMANDS = "redis.om.commands";
+  public static final String DESERIALIZATION = "redis.om.deserialization";
+  public static final String RESULTS = "redis.om.command.results";
+  public static final String PAYLOAD = "redis.om.command.payload";
+  public static final String PIPELINE_BATCH_SIZE = "redis.om.pipeline.batch.size";
+  public static final String CACHE_REQUESTS = "redis.om.cache.requests";
+
+  private final MeterRegistry registry;
+  private final Map<MeterKey, Meter> meters = new ConcurrentHashMap<>();
+  // the meters of registered values only hold them weakly
+  private final Set<Object> sampled = ConcurrentHashMap.newKeySet();
+
+  public MicrometerRedisOMMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public <T> T timeOperation(String operation, String target, Supplier<T> call) {
+    return time(OPERATIONS, "operation", operation, target, call);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> timeAsyncOperation(String operation, String target,
+      Supplier<CompletableFuture<T>> call) {
+    long start = registry.config().clock().monotonicTime();
+    CompletableFuture<T> future;
+    try {
+      future = call.get();
+    } catch (RuntimeException | Error e) {
+      long elapsed = registry.config().clock().monotonicTime() - start;
+      timer(OPERATIONS, "operation", operation, target, "error").record(elapsed, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+    future.whenComplete((result, failure) -> {
+      long elapsed = registry.config().clock().monotonicTime() - start;
+      timer(OPERATIONS, "operation", operation, target, failure == null ? "success" : "error")
+          .record(elapsed, TimeUnit.NANOSECONDS);
+    });
+    return future;
+  }
+
+  @Override
+  public <T> T timeCommand(String command, String target, Supplier<T> call) {
+    return time(COMMANDS, "command", command, target, call);
+  }
+
+  @Override
+  public <T> T timeDeserialization(String target, Supplier<T> call) {
+    long start = registry.config().clock().monotonicTime();
+    try {
+      return call.get();
+    } finally {
+      long elapsed = registry.config().clock().monotonicTime() - start;
+      timer(DESERIALIZATION, null, null, target, null).record(elapsed, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void recordResults(String command, String target, long results) {
+    summary(RESULTS, "command", command, target, null).record(results);
+  }
+
+  @Override
+  public void recordPayload(String command, String target, long bytes) {
+    summary(PAYLOAD, "command", command, target, "bytes").record(bytes);
+  }
+
+  @Override
+  public void recordBatch(String operation, String target, int size) {
+    summary(PIPELINE_BATCH_SIZE, "operation", operation, target, null).record(size);
+  }
+
+  @Override
+  public void recordCacheAccess(String cache, boolean hit) {
+    String result = hit ? "hit" : "miss";
+    meter(new MeterKey(CACHE_REQUESTS, cache, result, null),
+        k -> Counter.builder(CACHE_REQUESTS).tag("cache", cache).tag("result", result).register(registry),
+        Counter.class).increment();
+  }
+
+  @Override
+  public void registerGauge(String name, String target, Supplier<Number> value) {
+    sampled.add(value);
+    Gauge.builder(name, value).tag("target", target).register(registry);
+  }
+
+  @Override
+  public void registerCounter(String name, String target, Supplier<Number> total) {
+    sampled.add(total);
+    FunctionCounter.builder(name, total, t -> t.get().doubleValue()).tag("target", target).register(registry);
+  }
+
+  @Override
+  public void registerTimeGauge(String name, String target, Supplier<Duration> value) {
+    sampled.add(value);
+    TimeGauge.builder(name, value, TimeUnit.NANOSECONDS, v -> v.get().toNanos()).tag("target", target)
+        .register(registry);
+  }
+
+  private <T> T time(String name, String kind, String value, String target, Supplier<T> call) {
+    long start = registry.config().clock().monotonicTime();
+    String outcome = "error";
+    try {
+      T result = call.get();
+      outcome = "success";
+      return result;
+    } finally {
+      long elapsed = registry.config().clock().monotonicTime() - start;
+      timer(name, kind, value, target, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Timer timer(String name, String kind, String value, String nullableTarget, String outcome) {
+    String target = nullableTarget != null ? nullableTarget : "none";
+    return meter(new MeterKey(name, value, target, outcome), k -> {
+      Timer.Builder builder = Timer.builder(name).tag("target", target);
+      if (kind != null) {
+        builder.tag(kind, value);
+      }
+      if (outcome != null) {
+        builder.tag("outcome", outcome);
+      }
+      return builder.register(registry);
+    }, Timer.class);
+  }
+
+  private DistributionSummary summary(String name, String kind, String value, String nullableTarget,
+      String baseUnit) {
+    String target = nullableTarget != null ? nullableTarget : "none";
+    return meter(new MeterKey(name, value, target, null),
+        k -> DistributionSummary.builder(name).baseUnit(baseUnit).tag(kind, value).tag("target", target)
+            .register(registry), DistributionSummary.class);
+  }
+
+  private <M extends Meter> M meter(MeterKey key, Function<MeterKey, Meter> factory, Class<M> type) {
+    return type.cast(meters.computeIfAbsent(key, factory));
+  }
+
+  private record MeterKey(String name, String first, String second, String third) {
+  }
+}
@@ -0,0 +1,203 @@
+package com.redis.om.spring.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Instrumentation points of the Redis OM operations. The library calls them on every command; the default
+ * {@link #NOOP} implementation records nothing, {@link MicrometerRedisOMMetrics} records them as Micrometer meters
+ * when {@code redis.om.spring.observability.metrics-enabled} is set, and
+ * {@link com.redis.om.spring.tracing.OpenTelemetryRedisOMTracing} as OpenTelemetry spans when
+ * {@code redis.om.spring.observability.tracing-enabled} is set. With both, the calls go to each of them, see
+ * {@link #compose(List)}.
+ * <p>
+ * The {@code target} of a measurement is the index, keyspace or filter a command works on, never a key, so that tags
+ * keep a cardinality bounded by the number of entity types.
+ */
+public interface RedisOMMetrics {
+  RedisOMMetrics NOOP = new RedisOMMetrics() {
+  };
+
+  default boolean isEnabled() {
+    return false;
+  }
+
+  /**
+   * Times an operation of the application made of commands and client-side work: a repository method, a search stream
+   * terminal operation, the resolution of references or the embedding of entities. The commands it sends are timed
+   * within it.
+   *
+   * @param operation the operation, e.g. {@code PersonRepository.findByName} or {@code embed}
+   * @param target    the entity type, index or keyspace the operation works on
+   */
+  default <T> T timeOperation(String operation, String target, Supplier<T> call) {
+    return call.get();
+  }
+
+  default void timeOperation(String operation, String target, Runnable call) {
+    timeOperation(operation, target, () -> {
+      call.run();
+      return null;
+    });
+  }
+
+  /**
+   * Times an asynchronous operation, e.g. a repository {@code *Async} method, from its call to the completion of the
+   * future it returns. The commands it sends are timed within it.
+   *
+   * @return the future returned by the call
+   * @see #timeOperation(String, String, Supplier)
+   */
+  default <T> CompletableFuture<T> timeAsyncOperation(String operation, String target,
+      Supplier<CompletableFuture<T>> call) {
+    return call.get();
+  }
+
+  /**
+   * Times a command, from sending it to its parsed reply.
+   *
+   * @param command the command, e.g. {@code FT.SEARCH}, {@code JSON.GET} or {@code PIPELINE}
+   * @param target  the index, keyspace or filter the command works on
+   */
+  default <T> T timeCommand(String command, String target, Supplier<T> call) {
+    return call.get();
+  }
+
+  default void timeCommand(String command, String target, Runnable call) {
+    timeCommand(command, target, () -> {
+      call.run();
+      return null;
+    });
+  }
+
+  /**
+   * Times the mapping of a reply to entities, apart from {@link #timeCommand(String, String, Supplier)}.
+   */
+  default <T> T timeDeserialization(String target, Supplier<T> call) {
+    return call.get();
+  }
+
+  /**
+   * Records the shape of a query, called within {@link #timeCommand(String, String, Supplier)} of its command.
+   *
+   * @param queryShape renders the query with its values left out, so that queries differing only by their values
+   *                   have the same shape; only called by implementations that record it
+   */
+  default void recordQuery(String command, String target, Supplier<String> queryShape) {
+  }
+
+  /**
+   * Records the number of results (documents, rows or entities) a command returned.
+   */
+  default void recordResults(String command, String target, long results) {
+  }
+
+  /**
+   * Records the size of the payload a command sent or received.
+   */
+  default void recordPayload(String command, String target, long bytes) {
+  }
+
+  /**
+   * Records the size of a pipelined batch, the number of entities or updates it writes.
+   *
+   * @param operation the operation that built the pipeline, e.g. {@code saveAll}
+   */
+  default void recordBatch(String operation, String target, int size) {
+  }
+
+  /**
+   * Counts a cache lookup.
+   *
+   * @param cache the name of the cache
+   */
+  default void recordCacheAccess(String cache, boolean hit) {
+  }
+
+  /**
+   * Registers a level kept outside of the calls, read whenever the meters are, e.g. the texts waiting for an
+   * embedding call.
+   *
+   * @param name   the name of the meter
+   * @param target what the value is about, e.g. the dispatcher of a provider and model
+   */
+  default void registerGauge(String name, String target, Supplier<Number> value) {
+  }
+
+  /**
+   * Registers a total that only grows, kept outside of the calls, e.g. the calls an embedding dispatcher made.
+   */
+  default void registerCounter(String name, String target, Supplier<Number> total) {
+  }
+
+  /**
+   * Registers a duration kept outside of the calls, e.g. how long loading a model took.
+   */
+  default void registerTimeGauge(String name, String target, Supplier<Duration> value) {
+  }
+
+  /**
+   * @return the instrumentation calling each of the given ones, the first outermost
+   */
+  static RedisOMMetrics compose(List<RedisOMMetrics> metrics) {
+    List<RedisOMMetrics> enabled = metrics.stream().filter(RedisOMMetrics::isEnabled).toList();
+    return switch (enabled.size()) {
+      case 0 -> NOOP;
+      case 1 -> enabled.get(0);
+      default -> new CompositeRedisOMMetrics(enabled);
+    };
+  }
+
+  /**
+   * Registers the keyspace of an entity type, for {@link #keyspaceOf(Object)}.
+   */
+  static void registerKeyspace(String keyspace) {
+    KnownKeyspaces.register(keyspace);
+  }
+
+  /**
+   * @return the registered keyspace of a key, i.e. {@code person:} for {@code person:01H...}, or {@code other} for a
+   *     key outside of them, so that ids never make it into a tag
+   */
+  static String keyspaceOf(Object key) {
+    return KnownKeyspaces.of(key);
+  }
+
+  /**
+   * @return the length of a string in UTF-8, without encoding it
+   */
+  static long utf8Length(String value) {
+    if (value == null) {
+      return 0;
+    }
+    long length = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < value.length()) {
+        length += 4;
+        i++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * @return the size of the fields and values of a hash
+   */
+  static long hashLength(Map<byte[], byte[]> hash) {
+    long length = 0;
+    for (Map.Entry<byte[], byte[]> entry : hash.entrySet()) {
+      length += entry.getKey().length + (entry.getValue() != null ? entry.getValue().length : 0);
+    }
+    return length;
+  }
+}
@@ -0,0 +1,27 @@
+package com.redis.om.spring.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer instrumentation, when {@code redis.om.spring.observability.metrics-enabled} is set and Micrometer is on
+ * the classpath. The meters go to the application's {@link MeterRegistry}, or to the global registry if there is
+ * none.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(name = "redis.om.spring.observability.metrics-enabled", havingValue = "true")
+public class RedisOMMetricsConfiguration {
+
+  @Bean(name = "redisOMMetrics")
+  @ConditionalOnMissingBean(name = "redisOMMetrics")
+  public RedisOMMetrics redisOMMetrics(ObjectProvider<MeterRegistry> registry) {
+    return new MicrometerRedisOMMetrics(registry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+}
@@ -0,0 +1,126 @@
+package com.redis.om.spring.ops;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the asynchronous repository and search stream operations, e.g. {@code findByIdAsync} or
+ * {@code collectAsync}, so that independent lookups overlap their round trips.
+ * <p>
+ * The operations run on virtual threads when the JVM has them (Java 21+), on a fixed pool of daemon threads
+ * otherwise. Either way at most {@code maxConcurrency} of them run at once, the others wait for a permit: the
+ * default is the size of the Jedis connection pool, so that the operations don't queue on the pool instead. An
+ * operation must not wait on another asynchronous operation, which could wait for the permit it holds.
+ * <p>
+ * With OpenTelemetry on the classpath, an operation runs in the context of its caller, so that the spans of its
+ * commands are children of the caller's span.
+ */
+public class AsyncExecutor implements Executor, AutoCloseable {
+  private static final Log logger = LogFactory.getLog(AsyncExecutor.class);
+  private static final boolean OPENTELEMETRY_PRESENT = ClassUtils.isPresent("io.opentelemetry.context.Context",
+      AsyncExecutor.class.getClassLoader());
+
+  private final int maxConcurrency;
+  private final boolean virtualThreads;
+  private final Semaphore permits;
+  private ExecutorService executor;
+
+  /**
+   * @param maxConcurrency the number of operations running at once
+   * @param virtualThreads whether to run the operations on virtual threads, when the JVM has them
+   */
+  public AsyncExecutor(int maxConcurrency, boolean virtualThreads) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException(
+          String.format("Async max concurrency must be positive, was %s", maxConcurrency));
+    }
+    this.maxConcurrency = maxConcurrency;
+    this.virtualThreads = virtualThreads;
+    this.permits = new Semaphore(maxConcurrency);
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * @return the result of the call, computed asynchronously
+   */
+  public <T> CompletableFuture<T> supply(Supplier<T> call) {
+    Supplier<T> inContext = OPENTELEMETRY_PRESENT ? OpenTelemetryContext.wrap(call) : call;
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CompletionException(e);
+      }
+      try {
+        return inContext.get();
+      } finally {
+        permits.release();
+      }
+    }, this);
+  }
+
+  /**
+   * @return completes once the call ran asynchronously
+   */
+  public CompletableFuture<Void> run(Runnable call) {
+    return supply(() -> {
+      call.run();
+      return null;
+    });
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    executor().execute(task);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  private synchronized ExecutorService executor() {
+    if (executor == null) {
+      executor = virtualThreads ? newVirtualThreadExecutor() : null;
+      if (executor == null) {
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(maxConcurrency, r -> {
+          Thread thread = new Thread(r, "redis-om-async-" + threads.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * @return an executor starting a virtual thread per task, or {@code null} before Java 21
+   */
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      logger.debug("No virtual threads on this JVM, async operations run on platform threads");
+      return null;
+    }
+  }
+
+  // only loaded with OpenTelemetry on the classpath
+  private static final class OpenTelemetryContext {
+    static <T> Supplier<T> wrap(Supplier<T> call) {
+      return io.opentelemetry.context.Context.current().wrapSupplier(call);
+    }
+  }
+}
@@ -2,34 +2,48 @@ package com.redis.om.spring.ops;
 
 import com.google.gson.GsonBuilder;
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.json.JSONOperationsImpl;
 import com.redis.om.spring.ops.pds.*;
+import com.redis.om.spring.ops.search.QueryFieldUsage;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.ops.search.SearchOperationsImpl;
+import com.redis.om.spring.ops.search.SlowQueryLog;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 public record RedisModulesOperations<K>(RedisModulesClient client, StringRedisTemplate template,
-                                        GsonBuilder gsonBuilder) {
+                                        GsonBuilder gsonBuilder, QueryFieldUsage fieldUsage,
+                                        RedisOMMetrics metrics, SlowQueryLog slowQueryLog,
+                                        AsyncExecutor asyncExecutor) {
+
+  /**
+   * Operations without metrics, slow query logging or query field tracking. The caller owns the executor and closes it.
+   */
+  public RedisModulesOperations(RedisModulesClient client, StringRedisTemplate template, GsonBuilder gsonBuilder,
+      AsyncExecutor asyncExecutor) {
+    this(client, template, gsonBuilder, new QueryFieldUsage(false), RedisOMMetrics.NOOP, SlowQueryLog.disabled(),
+        asyncExecutor);
+  }
 
   public JSONOperations<K> opsForJSON() {
-    return new JSONOperationsImpl<>(client, gsonBuilder);
+    return new JSONOperationsImpl<>(client, gsonBuilder, metrics);
   }
 
   public SearchOperations<K> opsForSearch(K index) {
-    return new SearchOperationsImpl<>(index, client, template);
+    return new SearchOperationsImpl<>(index, client, template, fieldUsage, metrics, slowQueryLog);
   }
 
   public BloomOperations<K> opsForBloom() {
-    return new BloomOperationsImpl<>(client);
+    return new BloomOperationsImpl<>(client, metrics);
   }
 
   public CountMinSketchOperations<K> opsForCountMinSketch() {
-    return new CountMinSketchOperationsImpl<>(client);
+    return new CountMinSketchOperationsImpl<>(client, metrics);
   }
 
   public CuckooFilterOperations<K> opsForCuckoFilter() {
-    return new CuckooFilterOperationsImpl<>(client);
+    return new CuckooFilterOperationsImpl<>(client, metrics);
   }
 
   public TopKOperations<K> opsForTopK() {
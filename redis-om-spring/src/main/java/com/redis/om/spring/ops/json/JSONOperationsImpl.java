@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.internal.LinkedTreeMap;
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import org.json.JSONArray;
 import org.springframework.lang.Nullable;
 import redis.clients.jedis.json.JsonSetParams;
@@ -17,11 +18,17 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
   private final GsonBuilder builder;
   private final RedisModulesClient client;
+  private final RedisOMMetrics metrics;
   private Gson gson;
 
   public JSONOperationsImpl(RedisModulesClient client, GsonBuilder builder) {
+    this(client, builder, RedisOMMetrics.NOOP);
+  }
+
+  public JSONOperationsImpl(RedisModulesClient client, GsonBuilder builder, RedisOMMetrics metrics) {
     this.client = client;
     this.builder = builder;
+    this.metrics = metrics;
   }
 
   @Override
@@ -32,7 +39,8 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   @Nullable
   @Override
   public String get(K key) {
-    var result = client.clientForJSON().jsonGet(key.toString(), Path2.ROOT_PATH);
+    var result = metrics.timeCommand("JSON.GET", RedisOMMetrics.keyspaceOf(key),
+        () -> client.clientForJSON().jsonGet(key.toString(), Path2.ROOT_PATH));
     if (result instanceof JSONArray jsonArray) {
       return !jsonArray.isEmpty() ? jsonArray.get(0).toString() : null;
     } else if (result instanceof LinkedTreeMap<?, ?> linkedTreeMap) {
@@ -49,17 +57,23 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
   @Override
   public <T> T get(K key, Class<T> clazz, Path2 path) {
-    var result = client.clientForJSON().jsonGet(key.toString(), path);
-    String asString;
-    if (result instanceof JSONArray jsonArray) {
-      return extractValueAsClassFromJSONArray(jsonArray, clazz);
-    } else if (result instanceof LinkedTreeMap<?, ?> linkedTreeMap) {
-      asString = getGson().toJson(linkedTreeMap);
-    } else {
-      asString = result != null ? result.toString() : null;
-    }
-
-    return result != null ? getGson().fromJson(asString, clazz) : null;
+    String keyspace = RedisOMMetrics.keyspaceOf(key);
+    var result = metrics.timeCommand("JSON.GET", keyspace, () -> client.clientForJSON().jsonGet(key.toString(), path));
+    return metrics.timeDeserialization(keyspace, () -> {
+      String asString;
+      if (result instanceof JSONArray jsonArray) {
+        return extractValueAsClassFromJSONArray(jsonArray, clazz);
+      } else if (result instanceof LinkedTreeMap<?, ?> linkedTreeMap) {
+        asString = getGson().toJson(linkedTreeMap);
+      } else {
+        asString = result != null ? result.toString() : null;
+      }
+      if (metrics.isEnabled()) {
+        metrics.recordPayload("JSON.GET", keyspace, RedisOMMetrics.utf8Length(asString));
+      }
+
+      return result != null ? getGson().fromJson(asString, clazz) : null;
+    });
   }
 
   @SafeVarargs
@@ -74,11 +88,19 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   @SafeVarargs
   @Override
   public final <T> List<T> mget(Class<T> clazz, K... keys) {
+    if (keys.length == 0) {
+      return List.of();
+    }
     Gson g = getGson();
-    return (keys.length > 0) ?
-        client.clientForJSON().jsonMGet(getKeysAsString(keys)).stream().filter(Objects::nonNull)
-            .map(jsonArr -> jsonArr.get(0)).map(Object::toString).map(str -> g.fromJson(str, clazz)).toList() :
-        List.of();
+    String keyspace = RedisOMMetrics.keyspaceOf(keys[0]);
+    List<JSONArray> results = metrics.timeCommand("JSON.MGET", keyspace, () -> {
+      List<JSONArray> replies = client.clientForJSON().jsonMGet(getKeysAsString(keys));
+      metrics.recordResults("JSON.MGET", keyspace, replies.stream().filter(Objects::nonNull).count());
+      return replies;
+    });
+    return metrics.timeDeserialization(keyspace,
+        () -> results.stream().filter(Objects::nonNull).map(jsonArr -> jsonArr.get(0)).map(Object::toString)
+            .map(str -> g.fromJson(str, clazz)).toList());
   }
 
   @SafeVarargs
@@ -93,12 +115,19 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
   @Override
   public void set(K key, Object object) {
-    client.clientForJSON().jsonSet(key.toString(), Path2.ROOT_PATH, getGson().toJson(object));
+    set(key, object, Path2.ROOT_PATH);
   }
 
   @Override
   public void set(K key, Object object, Path2 path) {
-    client.clientForJSON().jsonSet(key.toString(), path, getGson().toJson(object));
+    String keyspace = RedisOMMetrics.keyspaceOf(key);
+    String json = getGson().toJson(object);
+    metrics.timeCommand("JSON.SET", keyspace, () -> {
+      if (metrics.isEnabled()) {
+        metrics.recordPayload("JSON.SET", keyspace, RedisOMMetrics.utf8Length(json));
+      }
+      return client.clientForJSON().jsonSet(key.toString(), path, json);
+    });
   }
 
   @Override
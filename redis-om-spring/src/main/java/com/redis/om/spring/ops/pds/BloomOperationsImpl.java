@@ -1,6 +1,7 @@
 package com.redis.om.spring.ops.pds;
 
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import redis.clients.jedis.bloom.BFInsertParams;
 
 import java.util.List;
@@ -8,9 +9,15 @@ import java.util.Map;
 
 public class BloomOperationsImpl<K> implements BloomOperations<K> {
   final RedisModulesClient client;
+  final RedisOMMetrics metrics;
 
   public BloomOperationsImpl(RedisModulesClient client) {
+    this(client, RedisOMMetrics.NOOP);
+  }
+
+  public BloomOperationsImpl(RedisModulesClient client, RedisOMMetrics metrics) {
     this.client = client;
+    this.metrics = metrics;
   }
 
   @Override
@@ -20,27 +27,31 @@ public class BloomOperationsImpl<K> implements BloomOperations<K> {
 
   @Override
   public boolean add(K name, String value) {
-    return client.clientForBloom().bfAdd(name.toString(), value);
+    return metrics.timeCommand("BF.ADD", name.toString(), () -> client.clientForBloom().bfAdd(name.toString(), value));
   }
 
   @Override
   public List<Boolean> insert(K name, BFInsertParams options, String... items) {
-    return client.clientForBloom().bfInsert(name.toString(), options, items);
+    return metrics.timeCommand("BF.INSERT", name.toString(),
+        () -> client.clientForBloom().bfInsert(name.toString(), options, items));
   }
 
   @Override
   public List<Boolean> addMulti(K name, String... values) {
-    return client.clientForBloom().bfMAdd(name.toString(), values);
+    return metrics.timeCommand("BF.MADD", name.toString(),
+        () -> client.clientForBloom().bfMAdd(name.toString(), values));
   }
 
   @Override
   public boolean exists(K name, String value) {
-    return client.clientForBloom().bfExists(name.toString(), value);
+    return metrics.timeCommand("BF.EXISTS", name.toString(),
+        () -> client.clientForBloom().bfExists(name.toString(), value));
   }
 
   @Override
   public List<Boolean> existsMulti(K name, String... values) {
-    return client.clientForBloom().bfMExists(name.toString(), values);
+    return metrics.timeCommand("BF.MEXISTS", name.toString(),
+        () -> client.clientForBloom().bfMExists(name.toString(), values));
   }
 
   @Override
@@ -1,6 +1,7 @@
 package com.redis.om.spring.ops.pds;
 
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 
 import java.util.Arrays;
 import java.util.List;
@@ -9,9 +10,15 @@ import java.util.stream.Collectors;
 
 public class CountMinSketchOperationsImpl<K> implements CountMinSketchOperations<K> {
   final RedisModulesClient client;
+  final RedisOMMetrics metrics;
 
   public CountMinSketchOperationsImpl(RedisModulesClient client) {
+    this(client, RedisOMMetrics.NOOP);
+  }
+
+  public CountMinSketchOperationsImpl(RedisModulesClient client, RedisOMMetrics metrics) {
     this.client = client;
+    this.metrics = metrics;
   }
 
   @Override
@@ -26,17 +33,20 @@ public class CountMinSketchOperationsImpl<K> implements CountMinSketchOperations
 
   @Override
   public long cmsIncrBy(K key, String item, long increment) {
-    return client.clientForCMS().cmsIncrBy(key.toString(), item, increment);
+    return metrics.timeCommand("CMS.INCRBY", key.toString(),
+        () -> client.clientForCMS().cmsIncrBy(key.toString(), item, increment));
   }
 
   @Override
   public List<Long> cmsIncrBy(K key, Map<String, Long> itemIncrements) {
-    return client.clientForCMS().cmsIncrBy(key.toString(), itemIncrements);
+    return metrics.timeCommand("CMS.INCRBY", key.toString(),
+        () -> client.clientForCMS().cmsIncrBy(key.toString(), itemIncrements));
   }
 
   @Override
   public List<Long> cmsQuery(K key, String... items) {
-    return client.clientForCMS().cmsQuery(key.toString(), items);
+    return metrics.timeCommand("CMS.QUERY", key.toString(),
+        () -> client.clientForCMS().cmsQuery(key.toString(), items));
   }
 
   @SuppressWarnings("unchecked")
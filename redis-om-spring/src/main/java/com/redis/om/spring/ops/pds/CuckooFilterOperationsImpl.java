@@ -1,6 +1,7 @@
 package com.redis.om.spring.ops.pds;
 
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import redis.clients.jedis.bloom.CFInsertParams;
 import redis.clients.jedis.bloom.CFReserveParams;
 
@@ -10,9 +11,15 @@ import java.util.Map.Entry;
 
 public class CuckooFilterOperationsImpl<K> implements CuckooFilterOperations<K> {
   final RedisModulesClient client;
+  final RedisOMMetrics metrics;
 
   public CuckooFilterOperationsImpl(RedisModulesClient client) {
+    this(client, RedisOMMetrics.NOOP);
+  }
+
+  public CuckooFilterOperationsImpl(RedisModulesClient client, RedisOMMetrics metrics) {
     this.client = client;
+    this.metrics = metrics;
   }
 
   @Override
@@ -27,52 +34,52 @@ public class CuckooFilterOperationsImpl<K> implements CuckooFilterOperations<K>
 
   @Override
   public boolean add(String key, String item) {
-    return client.clientForCuckoo().cfAdd(key, item);
+    return metrics.timeCommand("CF.ADD", key, () -> client.clientForCuckoo().cfAdd(key, item));
   }
 
   @Override
   public boolean addNx(String key, String item) {
-    return client.clientForCuckoo().cfAddNx(key, item);
+    return metrics.timeCommand("CF.ADDNX", key, () -> client.clientForCuckoo().cfAddNx(key, item));
   }
 
   @Override
   public List<Boolean> insert(String key, String... items) {
-    return client.clientForCuckoo().cfInsert(key, items);
+    return metrics.timeCommand("CF.INSERT", key, () -> client.clientForCuckoo().cfInsert(key, items));
   }
 
   @Override
   public List<Boolean> insert(String key, CFInsertParams insertParams, String... items) {
-    return client.clientForCuckoo().cfInsert(key, insertParams, items);
+    return metrics.timeCommand("CF.INSERT", key, () -> client.clientForCuckoo().cfInsert(key, insertParams, items));
   }
 
   @Override
   public List<Boolean> insertNx(String key, String... items) {
-    return client.clientForCuckoo().cfInsertNx(key, items);
+    return metrics.timeCommand("CF.INSERTNX", key, () -> client.clientForCuckoo().cfInsertNx(key, items));
   }
 
   @Override
   public List<Boolean> insertNx(String key, CFInsertParams insertParams, String... items) {
-    return client.clientForCuckoo().cfInsertNx(key, insertParams, items);
+    return metrics.timeCommand("CF.INSERTNX", key, () -> client.clientForCuckoo().cfInsertNx(key, insertParams, items));
   }
 
   @Override
   public boolean exists(String key, String item) {
-    return client.clientForCuckoo().cfExists(key, item);
+    return metrics.timeCommand("CF.EXISTS", key, () -> client.clientForCuckoo().cfExists(key, item));
   }
 
   @Override
   public List<Boolean> exists(String key, String... items) {
-    return client.clientForCuckoo().cfMExists(key, items);
+    return metrics.timeCommand("CF.MEXISTS", key, () -> client.clientForCuckoo().cfMExists(key, items));
   }
 
   @Override
   public boolean delete(String key, String item) {
-    return client.clientForCuckoo().cfDel(key, item);
+    return metrics.timeCommand("CF.DEL", key, () -> client.clientForCuckoo().cfDel(key, item));
   }
 
   @Override
   public long count(String key, String item) {
-    return client.clientForCuckoo().cfCount(key, item);
+    return metrics.timeCommand("CF.COUNT", key, () -> client.clientForCuckoo().cfCount(key, item));
   }
 
   @Override
@@ -0,0 +1,262 @@
+package com.redis.om.spring.ops.search;
+
+import redis.clients.jedis.params.IParams;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Records, per index, which fields the executed queries filter on, sort by, return and aggregate over. Every
+ * {@code FT.SEARCH} and {@code FT.AGGREGATE} sent through {@link SearchOperations} is recorded, whichever layer
+ * built it (repository queries, entity streams, aggregations), by reading the arguments the command is sent with.
+ * <p>
+ * Text fields filtered only with exact terms, never with prefix, suffix or fuzzy matching, and indexes that never
+ * receive free-text terms, are told apart so that text fields that could be tags can be found.
+ */
+public class QueryFieldUsage {
+  private static final Pattern FIELD_REFERENCE = Pattern.compile("(?<!\\\\)@([A-Za-z_][\\w]*)");
+  private static final Pattern TERM = Pattern.compile("[\\p{L}\\p{N}]");
+
+  private final boolean enabled;
+  private final Map<String, IndexCounters> indexes = new ConcurrentHashMap<>();
+
+  public QueryFieldUsage(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param search the arguments of the {@code FT.SEARCH}, a {@link Query} or the query string with its
+   *               {@link redis.clients.jedis.search.FTSearchParams}
+   */
+  public void recordSearch(String index, IParams search) {
+    if (!enabled) {
+      return;
+    }
+    List<String> args = SearchArguments.strings(SearchCommand.SEARCH, search);
+    IndexCounters counters = countersFor(index);
+    counters.queries.increment();
+    if (args.isEmpty()) {
+      return;
+    }
+    recordQueryString(counters, args.get(0));
+    for (int i = 1; i < args.size(); i++) {
+      String arg = args.get(i);
+      if (arg.equalsIgnoreCase("SORTBY") && i + 1 < args.size()) {
+        counters.field(fieldName(args.get(++i))).sorted.increment();
+      } else if (arg.equalsIgnoreCase("RETURN") && i + 1 < args.size()) {
+        int count = parseCount(args.get(++i));
+        for (int j = 0; j < count && i + 1 < args.size(); j++) {
+          String returned = args.get(++i);
+          if (returned.equalsIgnoreCase("AS")) {
+            // the alias of the previous field
+            i++;
+            j++;
+          } else {
+            counters.field(fieldName(returned)).returned.increment();
+          }
+        }
+      }
+    }
+  }
+
+  public void recordAggregation(String index, AggregationBuilder aggregation) {
+    if (!enabled) {
+      return;
+    }
+    List<String> args = SearchArguments.strings(SearchCommand.AGGREGATE, aggregation);
+    IndexCounters counters = countersFor(index);
+    counters.queries.increment();
+    if (args.isEmpty()) {
+      return;
+    }
+    recordQueryString(counters, args.get(0));
+    Set<String> aggregated = new HashSet<>();
+    for (String arg : args.subList(1, args.size())) {
+      Matcher matcher = FIELD_REFERENCE.matcher(arg);
+      while (matcher.find()) {
+        aggregated.add(matcher.group(1));
+      }
+    }
+    aggregated.forEach(field -> counters.field(field).aggregated.increment());
+  }
+
+  /**
+   * @return the usage recorded for an index, with no queries if none was recorded
+   */
+  public IndexUsage getUsage(String index) {
+    IndexCounters counters = indexes.get(index);
+    if (counters == null) {
+      return new IndexUsage(0, 0, Map.of());
+    }
+    Map<String, FieldUsage> fields = new TreeMap<>();
+    counters.fields.forEach((name, field) -> fields.put(name, field.snapshot()));
+    return new IndexUsage(counters.queries.sum(), counters.freeTextQueries.sum(), fields);
+  }
+
+  public void reset() {
+    indexes.clear();
+  }
+
+  /**
+   * Records the fields a query string filters on, e.g. {@code @name:john @age:[18 65] @tags:{a|b}}, and whether it
+   * has free-text terms not bound to a field. The KNN part of a hybrid query only references its vector field.
+   */
+  private static void recordQueryString(IndexCounters counters, String queryString) {
+    int knn = queryString.indexOf("=>");
+    String filter = knn >= 0 ? queryString.substring(0, knn) : queryString;
+    if (knn >= 0) {
+      Matcher matcher = FIELD_REFERENCE.matcher(queryString.substring(knn));
+      while (matcher.find()) {
+        counters.field(matcher.group(1)).filtered.increment();
+      }
+    }
+
+    StringBuilder unbound = new StringBuilder();
+    int i = 0;
+    while (i < filter.length()) {
+      char c = filter.charAt(i);
+      if (c == '\\' && i + 1 < filter.length()) {
+        unbound.append(filter, i, i + 2);
+        i += 2;
+      } else if (c == '@') {
+        int colon = filter.indexOf(':', i);
+        Matcher matcher = FIELD_REFERENCE.matcher(filter).region(i, filter.length());
+        if (colon < 0 || !matcher.lookingAt() || matcher.end() != colon) {
+          unbound.append(c);
+          i++;
+          continue;
+        }
+        int end = endOfValue(filter, colon + 1);
+        FieldCounters field = counters.field(matcher.group(1));
+        field.filtered.increment();
+        if (hasFullTextOperator(filter.substring(colon + 1, end))) {
+          field.fullTextFiltered.increment();
+        }
+        i = end;
+      } else {
+        unbound.append(c);
+        i++;
+      }
+    }
+    if (TERM.matcher(unbound).find()) {
+      counters.freeTextQueries.increment();
+    }
+  }
+
+  /**
+   * @return the end of the value of a field filter: a {@code {tags}}, {@code [range]} or {@code (group)}, or a
+   *     single term
+   */
+  private static int endOfValue(String filter, int start) {
+    if (start >= filter.length()) {
+      return start;
+    }
+    char open = filter.charAt(start);
+    char close = switch (open) {
+      case '{' -> '}';
+      case '[' -> ']';
+      case '(' -> ')';
+      default -> 0;
+    };
+    int depth = 0;
+    for (int i = start; i < filter.length(); i++) {
+      char c = filter.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (close != 0) {
+        if (c == open) {
+          depth++;
+        } else if (c == close && --depth == 0) {
+          return i + 1;
+        }
+      } else if (Character.isWhitespace(c) || c == ')' || c == '|') {
+        return i;
+      }
+    }
+    return filter.length();
+  }
+
+  private static boolean hasFullTextOperator(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == '*' || c == '%') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String fieldName(String arg) {
+    if (arg.startsWith("@")) {
+      return arg.substring(1);
+    }
+    return arg.startsWith("$.") ? arg.substring(2) : arg;
+  }
+
+  private static int parseCount(String arg) {
+    try {
+      return Integer.parseInt(arg);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private IndexCounters countersFor(String index) {
+    return indexes.computeIfAbsent(index, i -> new IndexCounters());
+  }
+
+  /**
+   * @param queries         the number of queries on the index
+   * @param freeTextQueries the number of queries with free-text terms, which search all the text fields
+   * @param fields          the usage of each field referenced by a query, by field name (the alias in the index)
+   */
+  public record IndexUsage(long queries, long freeTextQueries, Map<String, FieldUsage> fields) {
+    public FieldUsage field(String name) {
+      return fields.getOrDefault(name, FieldUsage.UNUSED);
+    }
+  }
+
+  /**
+   * @param filtered         the number of queries filtering on the field
+   * @param fullTextFiltered the number of those using prefix, suffix, infix or fuzzy matching
+   * @param sorted           the number of queries sorted by the field
+   * @param returned         the number of queries returning the field
+   * @param aggregated       the number of aggregations loading, grouping, sorting or applying over the field
+   */
+  public record FieldUsage(long filtered, long fullTextFiltered, long sorted, long returned, long aggregated) {
+    public static final FieldUsage UNUSED = new FieldUsage(0, 0, 0, 0, 0);
+  }
+
+  private static class IndexCounters {
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder freeTextQueries = new LongAdder();
+    private final Map<String, FieldCounters> fields = new ConcurrentHashMap<>();
+
+    private FieldCounters field(String name) {
+      return fields.computeIfAbsent(name, n -> new FieldCounters());
+    }
+  }
+
+  private static class FieldCounters {
+    private final LongAdder filtered = new LongAdder();
+    private final LongAdder fullTextFiltered = new LongAdder();
+    private final LongAdder sorted = new LongAdder();
+    private final LongAdder returned = new LongAdder();
+    private final LongAdder aggregated = new LongAdder();
+
+    private FieldUsage snapshot() {
+      return new FieldUsage(filtered.sum(), fullTextFiltered.sum(), sorted.sum(), returned.sum(), aggregated.sum());
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.redis.om.spring.ops.search;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.args.Rawable;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.params.IParams;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * The arguments a search command is sent with, as rendered by Jedis, without the command itself.
+ */
+final class SearchArguments {
+  private static final Pattern QUOTED = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"");
+  private static final Pattern TAGS = Pattern.compile("\\{(?:[^}\\\\]|\\\\.)*}");
+  private static final Pattern RANGE = Pattern.compile("\\[(?!KNN )(?:[^]\\\\]|\\\\.)*]");
+  private static final Pattern FIELD_TERM = Pattern.compile("(@[A-Za-z_]\\w*:)(?![\\[{(?])(?:[^\\s()|\\\\]|\\\\.)+");
+  // a term not bound to a field, nor a keyword or the alias after AS
+  private static final Pattern TERM = Pattern.compile(
+      "(?<![@$\\w:.'])(?<!AS )(?![A-Z_]{2,}\\b)[\\p{L}\\p{N}][\\w.*%-]*");
+  private static final Pattern NUMBER = Pattern.compile("(?<![\\w@$])-?\\d+(?:\\.\\d+)?(?!\\w)");
+
+  private SearchArguments() {
+  }
+
+  static List<byte[]> raw(ProtocolCommand command, IParams params) {
+    CommandArguments args = new CommandArguments(command);
+    params.addParams(args);
+    List<byte[]> raw = new ArrayList<>();
+    boolean first = true;
+    for (Rawable arg : args) {
+      if (first) {
+        // the command itself
+        first = false;
+        continue;
+      }
+      raw.add(arg.getRaw());
+    }
+    return raw;
+  }
+
+  static List<String> strings(ProtocolCommand command, IParams params) {
+    return raw(command, params).stream().map(arg -> new String(arg, StandardCharsets.UTF_8)).toList();
+  }
+
+  /**
+   * @return the command with its values left out: the terms, tags, ranges and quoted phrases of the query string, the
+   *     numbers of the options and the parameters
+   */
+  static String shape(ProtocolCommand command, IParams params) {
+    List<byte[]> args = raw(command, params);
+    if (args.isEmpty()) {
+      return "";
+    }
+    StringJoiner shape = new StringJoiner(" ");
+    shape.add(queryShape(printable(args.get(0))));
+    for (int i = 1; i < args.size(); i++) {
+      String arg = printable(args.get(i));
+      if (arg.equalsIgnoreCase("PARAMS") && i + 1 < args.size()) {
+        shape.add("PARAMS ?");
+        try {
+          i += 1 + Integer.parseInt(printable(args.get(i + 1)));
+        } catch (NumberFormatException e) {
+          i++;
+        }
+      } else {
+        shape.add(NUMBER.matcher(arg).replaceAll("?"));
+      }
+    }
+    return shape.toString();
+  }
+
+  static String queryShape(String query) {
+    String shape = QUOTED.matcher(query).replaceAll("?");
+    shape = TAGS.matcher(shape).replaceAll("{?}");
+    shape = RANGE.matcher(shape).replaceAll("[?]");
+    shape = FIELD_TERM.matcher(shape).replaceAll("$1?");
+    return TERM.matcher(shape).replaceAll("?");
+  }
+
+  /**
+   * @return the argument as text, or its size if it is binary (i.e. a vector)
+   */
+  static String printable(byte[] arg) {
+    try {
+      String text = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+          .onUnmappableCharacter(CodingErrorAction.REPORT).decode(ByteBuffer.wrap(arg)).toString();
+      for (int i = 0; i < text.length(); i++) {
+        if (Character.isISOControl(text.charAt(i)) && !Character.isWhitespace(text.charAt(i))) {
+          return binary(arg);
+        }
+      }
+      return text;
+    } catch (CharacterCodingException e) {
+      return binary(arg);
+    }
+  }
+
+  private static String binary(byte[] arg) {
+    return String.format("<%s bytes>", arg.length);
+  }
+}
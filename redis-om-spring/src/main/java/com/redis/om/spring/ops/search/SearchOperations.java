@@ -10,6 +10,7 @@ import redis.clients.jedis.search.schemafields.SchemaField;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 public interface SearchOperations<K> {
 
@@ -23,6 +24,14 @@ public interface SearchOperations<K> {
 
   AggregationResult aggregate(AggregationBuilder q);
 
+  /**
+   * Maps the reply of the last search or aggregation of the calling thread, e.g. to entities, timing the mapping as
+   * part of the query.
+   */
+  default <T> T deserialize(Supplier<T> mapping) {
+    return mapping.get();
+  }
+
   String cursorDelete(long cursorId);
 
   AggregationResult cursorRead(long cursorId, int count);
@@ -4,10 +4,13 @@ import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import com.redis.om.spring.autocomplete.Suggestion;
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import redis.clients.jedis.resps.Tuple;
+import redis.clients.jedis.params.IParams;
 import redis.clients.jedis.search.*;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
 import redis.clients.jedis.search.aggr.AggregationBuilder;
 import redis.clients.jedis.search.aggr.AggregationResult;
 import redis.clients.jedis.search.schemafields.SchemaField;
@@ -16,6 +19,8 @@ import redis.clients.jedis.util.SafeEncoder;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 public class SearchOperationsImpl<K> implements SearchOperations<K> {
 
@@ -23,12 +28,23 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
   private final RedisModulesClient modulesClient;
   private final K index;
   private final StringRedisTemplate template;
+  private final QueryFieldUsage fieldUsage;
+  private final RedisOMMetrics metrics;
+  private final SlowQueryLog slowQueryLog;
 
   public SearchOperationsImpl(K index, RedisModulesClient modulesClient, StringRedisTemplate template) {
+    this(index, modulesClient, template, null, RedisOMMetrics.NOOP, SlowQueryLog.disabled());
+  }
+
+  public SearchOperationsImpl(K index, RedisModulesClient modulesClient, StringRedisTemplate template,
+      QueryFieldUsage fieldUsage, RedisOMMetrics metrics, SlowQueryLog slowQueryLog) {
     this.index = index;
     this.modulesClient = modulesClient;
     this.search = modulesClient.clientForSearch();
     this.template = template;
+    this.fieldUsage = fieldUsage;
+    this.metrics = metrics;
+    this.slowQueryLog = slowQueryLog;
   }
 
   @Override
@@ -43,17 +59,58 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
 
   @Override
   public SearchResult search(Query q) {
-    return search.ftSearch(SafeEncoder.encode(index.toString()), q);
+    if (fieldUsage != null) {
+      fieldUsage.recordSearch(index.toString(), q);
+    }
+    String indexName = index.toString();
+    return query(indexName, SearchCommand.SEARCH, q, () -> search.ftSearch(SafeEncoder.encode(indexName), q),
+        r -> r.getDocuments().size(),
+        () -> search.ftProfileSearch(indexName, FTProfileParams.profileParams(), q).getValue());
   }
 
   @Override
   public SearchResult search(Query q, FTSearchParams params) {
-    return search.ftSearch(index.toString(), q.toString(), params);
+    IParams command = args -> args.add(q.toString()).addParams(params);
+    if (fieldUsage != null) {
+      fieldUsage.recordSearch(index.toString(), command);
+    }
+    String indexName = index.toString();
+    return query(indexName, SearchCommand.SEARCH, command, () -> search.ftSearch(indexName, q.toString(), params),
+        r -> r.getDocuments().size(),
+        () -> search.ftProfileSearch(indexName, FTProfileParams.profileParams(), q.toString(), params).getValue());
   }
 
   @Override
   public AggregationResult aggregate(AggregationBuilder q) {
-    return search.ftAggregate(index.toString(), q);
+    if (fieldUsage != null) {
+      fieldUsage.recordAggregation(index.toString(), q);
+    }
+    String indexName = index.toString();
+    // profiling an aggregation with a cursor would leave a second cursor open on the server
+    Supplier<Map<String, Object>> profile = q.isWithCursor() ? null
+        : () -> search.ftProfileAggregate(indexName, FTProfileParams.profileParams(), q).getValue();
+    return query(indexName, SearchCommand.AGGREGATE, q, () -> search.ftAggregate(indexName, q),
+        r -> r.getResults().size(), profile);
+  }
+
+  /**
+   * Runs a search or aggregation through the slow-query log and the instrumentation.
+   */
+  private <R> R query(String indexName, SearchCommand command, IParams query, Supplier<R> call,
+      ToLongFunction<R> results, Supplier<Map<String, Object>> profile) {
+    String name = command == SearchCommand.SEARCH ? "FT.SEARCH" : "FT.AGGREGATE";
+    return slowQueryLog.execute(indexName, command, query, () -> metrics.timeCommand(name, indexName, () -> {
+      metrics.recordQuery(name, indexName, () -> SearchArguments.shape(command, query));
+      R reply = call.get();
+      metrics.recordResults(name, indexName, results.applyAsLong(reply));
+      return reply;
+    }), results, profile);
+  }
+
+  @Override
+  public <T> T deserialize(Supplier<T> mapping) {
+    String indexName = index.toString();
+    return slowQueryLog.deserialize(indexName, () -> metrics.timeDeserialization(indexName, mapping));
   }
 
   @Override
@@ -63,7 +120,11 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
 
   @Override
   public AggregationResult cursorRead(long cursorId, int count) {
-    return search.ftCursorRead(index.toString(), cursorId, count);
+    String indexName = index.toString();
+    AggregationResult result = metrics.timeCommand("FT.CURSOR READ", indexName,
+        () -> search.ftCursorRead(indexName, cursorId, count));
+    metrics.recordResults("FT.CURSOR READ", indexName, result.getResults().size());
+    return result;
   }
 
   @Override
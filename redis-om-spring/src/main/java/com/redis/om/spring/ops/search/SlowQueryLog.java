@@ -0,0 +1,304 @@
+package com.redis.om.spring.ops.search;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.params.IParams;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Records the searches and aggregations slower than a threshold. The time of a query is the round trip of its
+ * command (sending it, running it and parsing the reply) plus the mapping of the reply to entities, when the caller
+ * maps it through {@link SearchOperations#deserialize(Supplier)}, so either phase can make a query slow.
+ * <p>
+ * A slow query is logged with its rendered query string, parameters (binary ones, i.e. vectors, by size), dialect,
+ * result count and phase timings, and kept in a bounded ring buffer, the oldest first out. A sample of the slow queries
+ * is run again with {@code FT.PROFILE} on a background thread, adding the server-side profile (parsing, iterators,
+ * document loading) to the entry.
+ */
+public class SlowQueryLog {
+  private static final Log logger = LogFactory.getLog(SlowQueryLog.class);
+  private static final int MAX_PENDING_PROFILES = 16;
+
+  private final boolean enabled;
+  private final long thresholdNanos;
+  private final double profileSampleRate;
+  private final int capacity;
+  private final Deque<SlowQuery> entries = new ArrayDeque<>();
+  private final ThreadLocal<LastQuery> lastQuery = new ThreadLocal<>();
+  private ExecutorService profiler;
+
+  /**
+   * @param threshold         the time above which a query is slow
+   * @param profileSampleRate the share of the slow queries to profile, from 0 to 1
+   * @param capacity          the number of slow queries kept
+   */
+  public SlowQueryLog(boolean enabled, Duration threshold, double profileSampleRate, int capacity) {
+    this.enabled = enabled;
+    this.thresholdNanos = threshold.toNanos();
+    this.profileSampleRate = profileSampleRate;
+    this.capacity = Math.max(1, capacity);
+  }
+
+  public static SlowQueryLog disabled() {
+    return new SlowQueryLog(false, Duration.ZERO, 0, 1);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Runs a search or aggregation command, recording it if it is slow.
+   *
+   * @param index   the index queried
+   * @param command {@code FT.SEARCH} or {@code FT.AGGREGATE}
+   * @param query   the query or aggregation
+   * @param call    runs the command
+   * @param results counts the results of the reply
+   * @param profile runs the query with {@code FT.PROFILE} and returns the profile, or {@code null} if it can't be
+   *                profiled
+   */
+  public <R> R execute(String index, SearchCommand command, IParams query, Supplier<R> call,
+      ToLongFunction<R> results, Supplier<Map<String, Object>> profile) {
+    if (!enabled) {
+      return call.get();
+    }
+    long start = System.nanoTime();
+    R reply = call.get();
+    long elapsed = System.nanoTime() - start;
+    LastQuery last = new LastQuery(index, command, query, elapsed, results.applyAsLong(reply), profile);
+    if (elapsed >= thresholdNanos) {
+      last.entry = record(last, 0);
+    }
+    lastQuery.set(last);
+    return reply;
+  }
+
+  /**
+   * Times the mapping of the reply of the last query of the thread on the index, recording the query if the round
+   * trip and the mapping together are slow.
+   */
+  public <T> T deserialize(String index, Supplier<T> mapping) {
+    if (!enabled) {
+      return mapping.get();
+    }
+    long start = System.nanoTime();
+    T mapped = mapping.get();
+    long elapsed = System.nanoTime() - start;
+    LastQuery last = lastQuery.get();
+    if (last != null && last.index.equals(index)) {
+      lastQuery.remove();
+      if (last.entry != null) {
+        last.entry.deserializationNanos = elapsed;
+      } else if (last.roundTripNanos + elapsed >= thresholdNanos) {
+        record(last, elapsed);
+      }
+    }
+    return mapped;
+  }
+
+  /**
+   * @return the slow queries kept, the most recent first
+   */
+  public synchronized List<SlowQuery> getEntries() {
+    List<SlowQuery> recent = new ArrayList<>(entries);
+    Collections.reverse(recent);
+    return recent;
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  private SlowQuery record(LastQuery last, long deserializationNanos) {
+    SlowQuery entry = SlowQuery.of(last.index, last.command, last.query, last.roundTripNanos, deserializationNanos,
+        last.results);
+    synchronized (this) {
+      if (entries.size() >= capacity) {
+        entries.removeFirst();
+      }
+      entries.addLast(entry);
+    }
+    logger.warn(String.format("Slow %s on %s: %s", entry.getCommand(), last.index, entry));
+    if (last.profile != null && profileSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < profileSampleRate) {
+      profile(entry, last.profile);
+    }
+    return entry;
+  }
+
+  private void profile(SlowQuery entry, Supplier<Map<String, Object>> profile) {
+    try {
+      profiler().execute(() -> {
+        try {
+          entry.profile = profile.get();
+          if (entry.profile != null) {
+            logger.info(String.format("Profile of slow %s on %s: %s", entry.getCommand(), entry.getIndex(),
+                entry.profile));
+          }
+        } catch (RuntimeException e) {
+          logger.debug(String.format("Could not profile slow query on %s", entry.getIndex()), e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      logger.debug(String.format("Too many slow queries waiting for a profile, not profiling one on %s",
+          entry.getIndex()));
+    }
+  }
+
+  private synchronized ExecutorService profiler() {
+    if (profiler == null) {
+      profiler = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(MAX_PENDING_PROFILES), r -> {
+        Thread thread = new Thread(r, "redis-om-query-profiler");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return profiler;
+  }
+
+  private static class LastQuery {
+    private final String index;
+    private final SearchCommand command;
+    private final IParams query;
+    private final long roundTripNanos;
+    private final long results;
+    private final Supplier<Map<String, Object>> profile;
+    private SlowQuery entry;
+
+    private LastQuery(String index, SearchCommand command, IParams query, long roundTripNanos, long results,
+        Supplier<Map<String, Object>> profile) {
+      this.index = index;
+      this.command = command;
+      this.query = query;
+      this.roundTripNanos = roundTripNanos;
+      this.results = results;
+      this.profile = profile;
+    }
+  }
+
+  /**
+   * A slow query. The deserialization time and the profile are filled in after the query is recorded.
+   */
+  public static class SlowQuery {
+    private final Instant timestamp;
+    private final String index;
+    private final String command;
+    private final String query;
+    private final Map<String, String> params;
+    private final int dialect;
+    private final String options;
+    private final long results;
+    private final long roundTripNanos;
+    private volatile long deserializationNanos;
+    private volatile Map<String, Object> profile;
+
+    private SlowQuery(Instant timestamp, String index, String command, String query, Map<String, String> params,
+        int dialect, String options, long results, long roundTripNanos, long deserializationNanos) {
+      this.timestamp = timestamp;
+      this.index = index;
+      this.command = command;
+      this.query = query;
+      this.params = params;
+      this.dialect = dialect;
+      this.options = options;
+      this.results = results;
+      this.roundTripNanos = roundTripNanos;
+      this.deserializationNanos = deserializationNanos;
+    }
+
+    static SlowQuery of(String index, ProtocolCommand command, IParams query, long roundTripNanos,
+        long deserializationNanos, long results) {
+      List<byte[]> args = SearchArguments.raw(command, query);
+      String queryString = args.isEmpty() ? "" : SearchArguments.printable(args.get(0));
+      Map<String, String> params = new LinkedHashMap<>();
+      int dialect = 1;
+      StringJoiner options = new StringJoiner(" ");
+      for (int i = 1; i < args.size(); i++) {
+        String arg = SearchArguments.printable(args.get(i));
+        if (arg.equalsIgnoreCase("PARAMS") && i + 1 < args.size()) {
+          int count = Integer.parseInt(SearchArguments.printable(args.get(++i)));
+          for (int j = 0; j + 1 < count && i + 2 < args.size(); j += 2) {
+            params.put(SearchArguments.printable(args.get(++i)), SearchArguments.printable(args.get(++i)));
+          }
+        } else if (arg.equalsIgnoreCase("DIALECT") && i + 1 < args.size()) {
+          dialect = Integer.parseInt(SearchArguments.printable(args.get(++i)));
+        } else {
+          options.add(arg);
+        }
+      }
+      String name = new String(command.getRaw(), StandardCharsets.UTF_8);
+      return new SlowQuery(Instant.now(), index, name, queryString, params, dialect, options.toString(), results,
+          roundTripNanos, deserializationNanos);
+    }
+
+    public Instant getTimestamp() {
+      return timestamp;
+    }
+
+    public String getIndex() {
+      return index;
+    }
+
+    public String getCommand() {
+      return command;
+    }
+
+    public String getQuery() {
+      return query;
+    }
+
+    public Map<String, String> getParams() {
+      return params;
+    }
+
+    public int getDialect() {
+      return dialect;
+    }
+
+    public String getOptions() {
+      return options;
+    }
+
+    public long getResults() {
+      return results;
+    }
+
+    /**
+     * @return the time from sending the command to its parsed reply
+     */
+    public double getRoundTripMillis() {
+      return roundTripNanos / 1_000_000d;
+    }
+
+    /**
+     * @return the time to map the reply to entities, 0 if it was not mapped (yet)
+     */
+    public double getDeserializationMillis() {
+      return deserializationNanos / 1_000_000d;
+    }
+
+    /**
+     * @return the {@code FT.PROFILE} of the query, {@code null} if it was not profiled (yet)
+     */
+    public Map<String, Object> getProfile() {
+      return profile;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("query='%s' params=%s dialect=%s options='%s' results=%s roundTrip=%.3fms "
+              + "deserialization=%.3fms", query, params.keySet(), dialect, options, results, getRoundTripMillis(),
+          getDeserializationMillis());
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.redis.om.spring.repository;
+
+import com.redis.om.spring.indexing.IndexStatus;
+import com.redis.om.spring.indexing.RediSearchIndexer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * A one-off load of many entities of a type with deferred indexing. Opening the session drops the search index of
+ * the type, keeping its documents, so that the writes don't pay for indexing; the entities are written in pipelined
+ * batches through the repository's {@code saveAll}, and {@link #finish()} creates the index again, which indexes all
+ * the documents in a single background scan.
+ * <p>
+ * While the session is open and until the index is built, searches on the type follow
+ * {@code redis.om.spring.repository.async-index-not-ready-policy}. That holds for this instance only: the index is
+ * shared, and searches from other instances fail with an unknown index error until it is created again. Use a session
+ * while nothing else queries the type, such as an initial load or a maintenance window.
+ * <p>
+ * A batch whose write fails is discarded, its exception thrown to the caller; the index is built again when the
+ * session is finished even if the last write fails.
+ * <pre>{@code
+ * try (BulkIngestSession<Person> session = repository.bulkIngest()) {
+ *   people.forEach(session::add);
+ * }
+ * }</pre>
+ */
+public class BulkIngestSession<T> implements AutoCloseable {
+  private static final Log logger = LogFactory.getLog(BulkIngestSession.class);
+
+  private final Class<T> entityClass;
+  private final Consumer<List<T>> writer;
+  private final RediSearchIndexer indexer;
+  private final int batchSize;
+  private final List<T> batch;
+  private final long start = System.nanoTime();
+  private long written;
+  private CompletableFuture<Void> indexed;
+
+  /**
+   * @param entityClass the type of the entities
+   * @param writer      writes a batch of entities, pipelined
+   * @param indexer     the indexer of the entity type
+   * @param batchSize   the number of entities per batch
+   */
+  public BulkIngestSession(Class<T> entityClass, Consumer<List<T>> writer, RediSearchIndexer indexer, int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException(String.format("Bulk ingest batch size must be positive, was %s", batchSize));
+    }
+    this.entityClass = entityClass;
+    this.writer = writer;
+    this.indexer = indexer;
+    this.batchSize = batchSize;
+    this.batch = new ArrayList<>(batchSize);
+    indexer.suspendIndexFor(entityClass);
+    logger.info(String.format("Bulk ingest of %s started, index %s suspended", entityClass.getSimpleName(),
+        indexer.getIndexName(entityClass)));
+  }
+
+  public synchronized void add(T entity) {
+    checkOpen();
+    batch.add(entity);
+    if (batch.size() >= batchSize) {
+      flush();
+    }
+  }
+
+  public synchronized void addAll(Iterable<? extends T> entities) {
+    for (T entity : entities) {
+      add(entity);
+    }
+  }
+
+  /**
+   * @return the number of entities written so far
+   */
+  public synchronized long getWritten() {
+    return written;
+  }
+
+  /**
+   * @return the state of the index of the entity type, indexing once the session is finished
+   */
+  public Optional<IndexStatus> getIndexStatus() {
+    return indexer.getIndexStatus(entityClass);
+  }
+
+  /**
+   * Writes the pending entities and builds the index of the entity type, also when that last write fails.
+   *
+   * @return completes once all the documents are indexed
+   */
+  public synchronized CompletableFuture<Void> finish() {
+    if (indexed == null) {
+      try {
+        flush();
+      } finally {
+        logger.info(String.format("Bulk ingest of %s wrote %s entities in %s ms, building index %s",
+            entityClass.getSimpleName(), written, (System.nanoTime() - start) / 1_000_000,
+            indexer.getIndexName(entityClass)));
+        indexed = indexer.rebuildIndexFor(entityClass);
+      }
+    }
+    return indexed;
+  }
+
+  /**
+   * Finishes the session, without waiting for the index.
+   */
+  @Override
+  public void close() {
+    finish();
+  }
+
+  private void flush() {
+    if (!batch.isEmpty()) {
+      List<T> entities = new ArrayList<>(batch);
+      batch.clear();
+      writer.accept(entities);
+      written += entities.size();
+    }
+  }
+
+  private void checkOpen() {
+    if (indexed != null) {
+      throw new IllegalStateException(String.format("Bulk ingest of %s is finished", entityClass.getSimpleName()));
+    }
+  }
+}
@@ -8,6 +8,9 @@ import org.springframework.data.keyvalue.repository.KeyValueRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @NoRepositoryBean
@@ -43,4 +46,46 @@ public interface RedisEnhancedRepository<T, ID> extends KeyValueRepository<T, ID
   // Key utilities
 
   String getKeyFor(T entity);
+
+  // Materialized aggregations
+
+  /**
+   * Recomputes the {@link com.redis.om.spring.annotations.MaterializedAggregation}s of the entity type from the
+   * stored entities, i.e. to reconcile them after writes that bypassed the repository or after keys expired.
+   */
+  void rebuildMaterializedAggregations();
+
+  // Bulk ingest
+
+  /**
+   * Opens a {@link BulkIngestSession} to load many entities with the index of the entity type dropped, and built
+   * once at the end. The index is missing for every instance in the meantime. Not available for an index created
+   * outside of Redis OM, with {@link com.redis.om.spring.annotations.IndexCreationMode#SKIP_ALWAYS}.
+   */
+  BulkIngestSession<T> bulkIngest();
+
+  // Async
+
+  /**
+   * The asynchronous variants of the lookups and writes. They run on the
+   * {@link com.redis.om.spring.ops.AsyncExecutor}, so that independent calls overlap their round trips:
+   * <pre>{@code
+   * CompletableFuture<Optional<Person>> person = repository.findByIdAsync(id);
+   * CompletableFuture<Long> count = repository.countAsync();
+   * CompletableFuture.allOf(person, count).join();
+   * }</pre>
+   */
+  CompletableFuture<Optional<T>> findByIdAsync(ID id);
+
+  CompletableFuture<List<T>> findAllByIdAsync(Iterable<ID> ids);
+
+  CompletableFuture<Boolean> existsByIdAsync(ID id);
+
+  CompletableFuture<Long> countAsync();
+
+  <S extends T> CompletableFuture<S> saveAsync(S entity);
+
+  <S extends T> CompletableFuture<List<S>> saveAllAsync(Iterable<S> entities);
+
+  CompletableFuture<Void> deleteByIdAsync(ID id);
 }
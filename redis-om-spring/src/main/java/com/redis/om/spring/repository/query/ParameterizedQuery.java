@@ -0,0 +1,160 @@
+package com.redis.om.spring.repository.query;
+
+import com.redis.om.spring.annotations.Dialect;
+import com.redis.om.spring.repository.query.clause.QueryClause;
+import org.springframework.data.util.Pair;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A repository query method compiled once, at repository bootstrap, into a constant query string
+ * with {@code $param} placeholders. Invocation arguments are bound as query PARAMS instead of being
+ * escaped and substituted into the query text, so the rendered query is identical across calls.
+ * PARAMS require dialect 2 or above, see {@link #dialectFor(Dialect)}.
+ */
+public class ParameterizedQuery {
+  static final String PARAM_PREFIX = "param_";
+
+  private final String query;
+  private final List<Binding> bindings;
+
+  private ParameterizedQuery(String query, List<Binding> bindings) {
+    this.query = query;
+    this.bindings = bindings;
+  }
+
+  /**
+   * Compiles the clauses of a derived query method. Returns empty if any clause cannot take its
+   * arguments as query parameters (full-text, wildcard, collection, geo and null checks), in which
+   * case the query has to be rendered per call.
+   */
+  public static Optional<ParameterizedQuery> of(List<List<Pair<String, QueryClause>>> queryOrParts,
+      Class<?>[] parameterTypes) {
+    return of(queryOrParts, parameterTypes, Map.of());
+  }
+
+  /**
+   * Like {@link #of(List, Class[])}, converting the arguments of the clauses on the given fields with their own
+   * converter (i.e. vectors encoded for the vector type of the field) instead of the clause's.
+   */
+  public static Optional<ParameterizedQuery> of(List<List<Pair<String, QueryClause>>> queryOrParts,
+      Class<?>[] parameterTypes, Map<String, Function<Object, Object>> fieldConverters) {
+    if (queryOrParts.isEmpty()) {
+      return Optional.empty();
+    }
+    List<Binding> bindings = new ArrayList<>();
+    List<String> orParts = new ArrayList<>();
+    boolean multipleOrParts = queryOrParts.size() > 1;
+    int argumentIndex = 0;
+
+    for (List<Pair<String, QueryClause>> orPartParts : queryOrParts) {
+      List<String> segments = new ArrayList<>();
+      for (Pair<String, QueryClause> fieldClause : orPartParts) {
+        QueryClause queryClause = fieldClause.getSecond();
+        int paramsCnt = queryClause.getClauseTemplate().getNumberOfArguments();
+        if (paramsCnt == 0 || argumentIndex + paramsCnt > parameterTypes.length) {
+          return Optional.empty();
+        }
+        String[] names = new String[paramsCnt];
+        for (int i = 0; i < paramsCnt; i++) {
+          if (!queryClause.isParameterizable(parameterTypes[argumentIndex])) {
+            return Optional.empty();
+          }
+          names[i] = PARAM_PREFIX + argumentIndex;
+          bindings.add(new Binding(names[i], argumentIndex,
+              fieldConverters.getOrDefault(fieldClause.getFirst(), queryClause::toParameterValue)));
+          argumentIndex++;
+        }
+        segments.add(queryClause.parameterizedQuery(QueryUtils.escape(fieldClause.getFirst()), names));
+      }
+      String orPart = String.join(" ", segments);
+      orParts.add(multipleOrParts ? "(" + orPart + ")" : orPart);
+    }
+
+    return Optional.of(new ParameterizedQuery(String.join(" | ", orParts), List.copyOf(bindings)));
+  }
+
+  /**
+   * Compiles a user supplied query (i.e. {@code @Query} or {@code @Aggregation}) whose
+   * {@code $name} references already follow the query parameter syntax. Only references in positions
+   * where the query engine accepts parameters (exact tag values and numeric/geo range arguments) are
+   * bound; if any reference needs textual substitution the query is not compiled.
+   */
+  public static Optional<ParameterizedQuery> of(String value, List<Optional<String>> parameterNames,
+      Class<?>[] parameterTypes, Function<Object, Object> converter) {
+    if (value == null || value.isBlank()) {
+      return Optional.empty();
+    }
+    List<Binding> bindings = new ArrayList<>();
+    for (int index = 0; index < parameterNames.size(); index++) {
+      Optional<String> maybeName = parameterNames.get(index);
+      if (maybeName.isEmpty() || maybeName.get().isBlank()) {
+        continue;
+      }
+      String name = maybeName.get();
+      Matcher matcher = Pattern.compile("\\$" + Pattern.quote(name) + "(?![a-zA-Z0-9_])").matcher(value);
+      boolean referenced = false;
+      while (matcher.find()) {
+        referenced = true;
+        Class<?> type = parameterTypes[index];
+        if (type.isArray() || Collection.class.isAssignableFrom(type) || !isBindablePosition(value, matcher.start(),
+            matcher.end())) {
+          return Optional.empty();
+        }
+      }
+      if (referenced) {
+        bindings.add(new Binding(name, index, converter));
+      }
+    }
+
+    return bindings.isEmpty() ? Optional.empty() : Optional.of(new ParameterizedQuery(value, List.copyOf(bindings)));
+  }
+
+  /**
+   * Query parameters are only available from dialect 2 on.
+   */
+  public static Dialect dialectFor(Dialect dialect) {
+    return dialect == Dialect.ONE ? Dialect.TWO : dialect;
+  }
+
+  private static boolean isBindablePosition(String value, int start, int end) {
+    char before = start > 0 ? value.charAt(start - 1) : ' ';
+    char after = end < value.length() ? value.charAt(end) : ' ';
+    if (before == '{' && after == '}') {
+      return true;
+    }
+    boolean inRange = value.lastIndexOf('[', start) > value.lastIndexOf(']', start);
+    return inRange && (before == '[' || before == '(' || before == ' ') && (after == ']' || after == ' ');
+  }
+
+  public String getQuery() {
+    return query;
+  }
+
+  public Set<String> getParameterNames() {
+    return bindings.stream().map(Binding::name).collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  /**
+   * Binds the invocation arguments to the query parameters. Returns empty when an argument is null,
+   * since a null cannot be sent as a parameter value.
+   */
+  public Optional<Map<String, Object>> bind(Object[] parameters) {
+    Map<String, Object> params = new HashMap<>(bindings.size());
+    for (Binding binding : bindings) {
+      Object parameter = binding.index() < parameters.length ? parameters[binding.index()] : null;
+      if (parameter == null) {
+        return Optional.empty();
+      }
+      params.put(binding.name(), binding.converter().apply(parameter));
+    }
+    return Optional.of(params);
+  }
+
+  private record Binding(String name, int index, Function<Object, Object> converter) {
+  }
+}
@@ -17,6 +17,7 @@ import com.redis.om.spring.util.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Order;
@@ -45,6 +46,8 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Map.Entry;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -63,6 +66,7 @@ public class RediSearchQuery implements RepositoryQuery {
   private final List<Group> aggregationGroups = new ArrayList<>();
   private final List<SortedField> aggregationSortedFields = new ArrayList<>();
   private final List<List<Pair<String, QueryClause>>> queryOrParts = new ArrayList<>();
+  private final Map<String, Function<Object, Object>> parameterConverters = new HashMap<>();
   // for non @Param annotated dynamic names
   private final List<String> paramNames = new ArrayList<>();
   private final Class<?> domainType;
@@ -87,7 +91,11 @@ public class RediSearchQuery implements RepositoryQuery {
   private Boolean aggregationVerbatim;
   private Gson gson;
   private boolean isNullParamQuery;
+  // CompletableFuture/Future query methods, run on the async executor
+  private boolean isAsyncQuery;
+  private boolean isAsyncOptionalQuery;
   private Dialect dialect = Dialect.ONE;
+  private ParameterizedQuery parameterizedQuery;
 
   @SuppressWarnings("unchecked")
   public RediSearchQuery(//
@@ -120,13 +128,16 @@ public class RediSearchQuery implements RepositoryQuery {
     hasLanguageParameter = Arrays.stream(params).anyMatch(c -> c.isAssignableFrom(SearchLanguage.class));
     isANDQuery = QueryClause.hasContainingAllClause(queryMethod.getName());
 
-    String methodName = isANDQuery ?
-        QueryClause.getPostProcessMethodName(queryMethod.getName()) :
-        queryMethod.getName();
+    String methodName = QueryClause.getPostProcessMethodName(queryMethod.getName());
 
     try {
       java.lang.reflect.Method method = repoClass.getMethod(queryMethod.getName(), params);
 
+      if (Future.class.isAssignableFrom(method.getReturnType())) {
+        isAsyncQuery = true;
+        isAsyncOptionalQuery = ResolvableType.forMethodReturnType(method).getGeneric(0).toClass() == Optional.class;
+      }
+
       // set dialect if @UseDialect is present
       if (method.isAnnotationPresent(UseDialect.class)) {
         UseDialect dialectAnnotation = method.getAnnotation(UseDialect.class);
@@ -246,6 +257,42 @@ public class RediSearchQuery implements RepositoryQuery {
           String.format("Could not resolved query method %s(%s): %s", queryMethod.getName(), Arrays.toString(params),
               e.getMessage()));
     }
+
+    compileParameterizedQuery(params);
+
+    boolean hasVectorRange = queryOrParts.stream().flatMap(List::stream)
+        .anyMatch(pair -> pair.getSecond() == QueryClause.VECTOR_WITHIN);
+    if (hasVectorRange && parameterizedQuery == null) {
+      throw new IllegalArgumentException(String.format(
+          "Query method %s: a vector range can only be combined with clauses whose arguments are bound as query "
+              + "parameters (tag and numeric)", queryMethod.getName()));
+    }
+  }
+
+  private void compileParameterizedQuery(Class<?>[] params) {
+    boolean isSearchQuery = type == RediSearchQueryType.QUERY || type == RediSearchQueryType.DELETE //
+        || type == RediSearchQueryType.AGGREGATION;
+    if (isNullParamQuery || !isSearchQuery) {
+      return;
+    }
+    if (!queryOrParts.isEmpty()) {
+      parameterizedQuery = ParameterizedQuery.of(queryOrParts, params, parameterConverters).orElse(null);
+    } else {
+      List<Optional<String>> names = new ArrayList<>();
+      int index = 0;
+      for (Parameter p : queryMethod.getParameters()) {
+        Optional<String> maybeKey = p.getName();
+        names.add(maybeKey.isPresent() ?
+            maybeKey :
+            Optional.ofNullable(paramNames.size() > index ? paramNames.get(index) : null));
+        index++;
+      }
+      parameterizedQuery = ParameterizedQuery.of(value, names, params, Object::toString).orElse(null);
+    }
+    if (parameterizedQuery != null) {
+      logger.debug(String.format("Compiled %s to parameterized query: %s", queryMethod.getName(),
+          parameterizedQuery.getQuery()));
+    }
   }
 
   private void processPartTree(PartTree pt, List<String> nullParamNames, List<String> notNullParamNames) {
@@ -311,14 +358,30 @@ public class RediSearchQuery implements RepositoryQuery {
       NumericIndexed indexAnnotation = field.getAnnotation(NumericIndexed.class);
       String actualKey = indexAnnotation.alias().isBlank() ? key : indexAnnotation.alias();
       qf.add(Pair.of(actualKey, QueryClause.get(FieldType.NUMERIC, part.getType())));
+    } else if (field.isAnnotationPresent(VectorIndexed.class)) {
+      VectorIndexed indexAnnotation = field.getAnnotation(VectorIndexed.class);
+      String actualKey = indexAnnotation.alias().isBlank() ? key : indexAnnotation.alias();
+      if (part.getType() == Part.Type.WITHIN) {
+        qf.add(Pair.of(actualKey, QueryClause.VECTOR_WITHIN));
+        parameterConverters.put(actualKey, QueryClause.vectorParameterConverter(field));
+      }
     } else if (field.isAnnotationPresent(Indexed.class)) {
       Indexed indexAnnotation = field.getAnnotation(Indexed.class);
       String actualKey = indexAnnotation.alias().isBlank() ? key : indexAnnotation.alias();
       Class<?> fieldType = ClassUtils.resolvePrimitiveIfNecessary(field.getType());
       //
+      // Vector Search Field
+      //
+      if (indexAnnotation.schemaFieldType() == SchemaFieldType.VECTOR) {
+        if (part.getType() == Part.Type.WITHIN) {
+          qf.add(Pair.of(actualKey, QueryClause.VECTOR_WITHIN));
+          parameterConverters.put(actualKey, QueryClause.vectorParameterConverter(field));
+        }
+      }
+      //
       // Any Character class, Enums or Boolean -> Tag Search Field
       //
-      if (CharSequence.class.isAssignableFrom(
+      else if (CharSequence.class.isAssignableFrom(
           fieldType) || (fieldType == Boolean.class) || (fieldType == UUID.class) || (fieldType == Ulid.class) || (fieldType.isEnum())) {
         qf.add(Pair.of(actualKey, QueryClause.get(FieldType.TAG, part.getType())));
       }
@@ -378,9 +441,24 @@ public class RediSearchQuery implements RepositoryQuery {
 
   @Override
   public Object execute(Object[] parameters) {
+    if (isAsyncQuery) {
+      // the result of a future is not post-processed by Spring Data, it is wrapped in an Optional here
+      return modulesOperations.asyncExecutor().supply(() -> {
+        Object result = executeSync(parameters);
+        return isAsyncOptionalQuery && !(result instanceof Optional) ? Optional.ofNullable(result) : result;
+      });
+    }
+    return executeSync(parameters);
+  }
+
+  private Object executeSync(Object[] parameters) {
     Optional<String> maybeBloomFilter = bloomQueryExecutor.getBloomFilter();
     Optional<String> maybeCuckooFilter = cuckooQueryExecutor.getCuckooFilter();
 
+    if (maybeBloomFilter.isEmpty() && maybeCuckooFilter.isEmpty()) {
+      indexer.awaitIndexReady(domainType);
+    }
+
     if (maybeBloomFilter.isPresent()) {
       return bloomQueryExecutor.executeBloomQuery(parameters, maybeBloomFilter.get());
     } else if (maybeCuckooFilter.isPresent()) {
@@ -414,8 +492,12 @@ public class RediSearchQuery implements RepositoryQuery {
     String indexName = indexer.getIndexName(this.domainType);
     SearchOperations<String> ops = modulesOperations.opsForSearch(indexName);
     boolean excludeNullParams = !isNullParamQuery;
-    String preparedQuery = prepareQuery(parameters, excludeNullParams);
+    Optional<Map<String, Object>> queryParams = bindParameters(parameters);
+    String preparedQuery = queryParams.isPresent() ?
+        parameterizedQuery.getQuery() :
+        prepareQuery(parameters, excludeNullParams);
     Query query = new Query(preparedQuery);
+    queryParams.ifPresent(ps -> ps.forEach(query::addParam));
 
     ReturnedType returnedType = processor.getReturnedType();
 
@@ -486,7 +568,7 @@ public class RediSearchQuery implements RepositoryQuery {
     }
 
     // Set query dialect
-    query.dialect(dialect.getValue());
+    query.dialect(dialectFor(queryParams).getValue());
 
     SearchResult searchResult = ops.search(query);
 
@@ -496,7 +578,7 @@ public class RediSearchQuery implements RepositoryQuery {
     if (queryMethod.getReturnedObjectType() == SearchResult.class) {
       result = searchResult;
     } else if (queryMethod.isPageQuery()) {
-      List<Object> content = searchResult.getDocuments().stream().map(this::parseDocumentResult).toList();
+      List<Object> content = parseDocumentResults(indexName, searchResult);
 
       if (maybePageable.isPresent()) {
         Pageable pageable = maybePageable.get();
@@ -510,12 +592,17 @@ public class RediSearchQuery implements RepositoryQuery {
         result = parseDocumentResult(doc);
       }
     } else if ((queryMethod.isCollectionQuery()) || this.type == RediSearchQueryType.DELETE) {
-      result = searchResult.getDocuments().stream().map(this::parseDocumentResult).toList();
+      result = parseDocumentResults(indexName, searchResult);
     }
 
     return processor.processResult(result);
   }
 
+  private List<Object> parseDocumentResults(String indexName, SearchResult searchResult) {
+    return modulesOperations.opsForSearch(indexName).deserialize(
+        () -> searchResult.getDocuments().stream().map(this::parseDocumentResult).toList());
+  }
+
   private Object parseDocumentResult(redis.clients.jedis.search.Document doc) {
     if (doc == null || doc.get("$") == null) {
       return null;
@@ -533,8 +620,10 @@ public class RediSearchQuery implements RepositoryQuery {
   private Object executeDeleteQuery(Object[] parameters) {
     String indexName = indexer.getIndexName(this.domainType);
     SearchOperations<String> ops = modulesOperations.opsForSearch(indexName);
-    String baseQuery = prepareQuery(parameters, true);
+    Optional<Map<String, Object>> queryParams = bindParameters(parameters);
+    String baseQuery = queryParams.isPresent() ? parameterizedQuery.getQuery() : prepareQuery(parameters, true);
     AggregationBuilder aggregation = new AggregationBuilder(baseQuery);
+    queryParams.ifPresent(aggregation::params);
 
     // Load fields with IS_NULL or IS_NOT_NULL query clauses
     String[] fields = Stream.concat(Stream.of("@__key"), queryOrParts.stream().flatMap(List::stream)
@@ -557,7 +646,7 @@ public class RediSearchQuery implements RepositoryQuery {
     aggregation.limit(0, redisOMProperties.getRepository().getQuery().getLimit());
 
     // Set query dialect
-    aggregation.dialect(dialect.getValue());
+    aggregation.dialect(dialectFor(queryParams).getValue());
 
     // Execute the aggregation query
     AggregationResult aggregationResult = ops.aggregate(aggregation);
@@ -592,10 +681,12 @@ public class RediSearchQuery implements RepositoryQuery {
     SearchOperations<String> ops = modulesOperations.opsForSearch(indexName);
 
     // Handle parameters in the base query
-    String preparedQuery = prepareQuery(parameters, true);
+    Optional<Map<String, Object>> queryParams = bindParameters(parameters);
+    String preparedQuery = queryParams.isPresent() ? parameterizedQuery.getQuery() : prepareQuery(parameters, true);
 
     // build the aggregation
     AggregationBuilder aggregation = new AggregationBuilder(preparedQuery);
+    queryParams.ifPresent(aggregation::params);
 
     // timeout
     if (aggregationTimeout != null) {
@@ -680,7 +771,7 @@ public class RediSearchQuery implements RepositoryQuery {
     }
 
     // Set query dialect
-    aggregation.dialect(dialect.getValue());
+    aggregation.dialect(dialectFor(queryParams).getValue());
 
     // execute the aggregation
     AggregationResult aggregationResult = ops.aggregate(aggregation);
@@ -713,6 +804,14 @@ public class RediSearchQuery implements RepositoryQuery {
     return ops.tagVals(this.value);
   }
 
+  private Optional<Map<String, Object>> bindParameters(Object[] parameters) {
+    return parameterizedQuery != null ? parameterizedQuery.bind(parameters) : Optional.empty();
+  }
+
+  private Dialect dialectFor(Optional<Map<String, Object>> queryParams) {
+    return queryParams.isPresent() ? ParameterizedQuery.dialectFor(dialect) : dialect;
+  }
+
   private String prepareQuery(final Object[] parameters, boolean excludeNullParams) {
     logger.debug(String.format("parameters: %s", Arrays.toString(parameters)));
     List<Object> params = new ArrayList<>(Arrays.asList(parameters));
@@ -793,9 +892,11 @@ public class RediSearchQuery implements RepositoryQuery {
   private Object executeNullQuery(Object[] parameters) {
     String indexName = indexer.getIndexName(this.domainType);
     SearchOperations<String> ops = modulesOperations.opsForSearch(indexName);
-    String baseQuery = prepareQuery(parameters, true);
+    Optional<Map<String, Object>> queryParams = bindParameters(parameters);
+    String baseQuery = queryParams.isPresent() ? parameterizedQuery.getQuery() : prepareQuery(parameters, true);
 
     AggregationBuilder aggregation = new AggregationBuilder(baseQuery);
+    queryParams.ifPresent(aggregation::params);
 
     // Load fields with IS_NULL or IS_NOT_NULL query clauses
     String[] fields = Stream.concat(Stream.of("@__key"), queryOrParts.stream().flatMap(List::stream)
@@ -864,7 +965,7 @@ public class RediSearchQuery implements RepositoryQuery {
     }
 
     // Set query dialect
-    aggregation.dialect(dialect.getValue());
+    aggregation.dialect(dialectFor(queryParams).getValue());
 
     // Execute the aggregation query
     AggregationResult aggregationResult = ops.aggregate(aggregation);
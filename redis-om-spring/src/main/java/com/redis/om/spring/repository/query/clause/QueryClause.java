@@ -1,5 +1,6 @@
 package com.redis.om.spring.repository.query.clause;
 
+import com.github.f4b6a3.ulid.Ulid;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.repository.query.QueryUtils;
 import com.redis.om.spring.util.ObjectUtils;
@@ -7,9 +8,15 @@ import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Point;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.util.ClassUtils;
 import redis.clients.jedis.search.Schema.FieldType;
 
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -95,6 +102,10 @@ public enum QueryClause {
   GEO_CONTAINING_ALL( //
       QueryClauseTemplate.of(FieldType.GEO, Part.Type.CONTAINING, QueryClause.FIRST_PARAM, 1) //
   ),
+  // VECTOR
+  VECTOR_WITHIN( //
+      QueryClauseTemplate.of(FieldType.VECTOR, Part.Type.WITHIN, QueryClause.FIELD_VECTOR_RANGE, 2) //
+  ),
   // TAG
   TAG_SIMPLE_PROPERTY( //
       QueryClauseTemplate.of(FieldType.TAG, Part.Type.SIMPLE_PROPERTY, QueryClause.FIELD_TAG_EQUAL, 1) //
@@ -128,6 +139,13 @@ public enum QueryClause {
   public static final Map<String, String> methodNameMap = Map.of("IsContainingAll", "IsContaining", "ContainingAll",
       "Containing", "ContainsAll", "Contains");
   public static final Pattern CONTAINING_ALL_PATTERN = Pattern.compile("(IsContainingAll|ContainingAll|ContainsAll)");
+  // "WithinDistance" reads better for vectors but is not a Spring Data keyword, it is parsed as "Within"
+  public static final Pattern WITHIN_DISTANCE_PATTERN = Pattern.compile("WithinDistance(?![a-z])");
+  public static final Set<QueryClause> PARAMETERIZABLE_NUMERIC_CLAUSES = EnumSet.of( //
+      NUMERIC_SIMPLE_PROPERTY, NUMERIC_BETWEEN, NUMERIC_LESS_THAN, NUMERIC_LESS_THAN_EQUAL, NUMERIC_GREATER_THAN, //
+      NUMERIC_GREATER_THAN_EQUAL, NUMERIC_BEFORE, NUMERIC_AFTER //
+  );
+  private static final Pattern PARAM_PATTERN = Pattern.compile("\\$param_(\\d+)");
   private static final String PARAM_PREFIX = "$param_";
   private static final String FIRST_PARAM = "$param_0";
   private static final String FIELD_EQUAL = "@$field:$param_0";
@@ -149,6 +167,7 @@ public enum QueryClause {
   private static final String FIELD_NUMERIC_BEFORE = "@$field:[-inf ($param_0]";
   private static final String FIELD_NUMERIC_AFTER = "@$field:[($param_0 inf]";
   private static final String FIELD_GEO_NEAR = "@$field:[$param_0 $param_1 $param_2]";
+  private static final String FIELD_VECTOR_RANGE = "@$field:[VECTOR_RANGE $param_1 $param_0]";
   private static final String FIELD_IS_NULL = "!exists(@$field)";
   private static final String FIELD_IS_NOT_NULL = "exists(@$field)";
   private final QueryClauseTemplate clauseTemplate;
@@ -171,6 +190,7 @@ public enum QueryClause {
   }
 
   public static String getPostProcessMethodName(String methodName) {
+    methodName = WITHIN_DISTANCE_PATTERN.matcher(methodName).replaceAll("Within");
     if (hasContainingAllClause(methodName)) {
       Optional<String> maybeMatchSubstring = CONTAINING_ALL_PATTERN.matcher(methodName).results().map(mr -> mr.group(1))
           .findFirst();
@@ -189,7 +209,70 @@ public enum QueryClause {
     return clauseTemplate;
   }
 
+  /**
+   * Whether a value of the given (declared) parameter type can be bound to this clause as a query
+   * parameter (PARAMS, dialect 2+) instead of being rendered into the query text. Only clauses whose
+   * placeholders sit where RediSearch accepts parameters (numeric range bounds and exact tag values)
+   * qualify, and only for scalar values.
+   */
+  public boolean isParameterizable(Class<?> paramType) {
+    if (this == VECTOR_WITHIN) {
+      // the vector (as bytes or floats) and the radius
+      return paramType == byte[].class || paramType == float[].class //
+          || (paramType != null && Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(paramType)));
+    }
+    if (paramType == null || paramType.isArray() || Collection.class.isAssignableFrom(paramType)) {
+      return false;
+    }
+    Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(paramType);
+    if (PARAMETERIZABLE_NUMERIC_CLAUSES.contains(this)) {
+      return Number.class.isAssignableFrom(type) || type == LocalDate.class || type == LocalDateTime.class;
+    } else if (this == TAG_SIMPLE_PROPERTY) {
+      return CharSequence.class.isAssignableFrom(
+          type) || type.isEnum() || type == UUID.class || type == Boolean.class || type == Ulid.class;
+    }
+    return false;
+  }
+
+  /**
+   * Renders the clause for the given field with its positional placeholders replaced by the given
+   * query parameter names, e.g. {@code @age:[$param_3 $param_4]}.
+   */
+  public String parameterizedQuery(String field, String... paramNames) {
+    String template = clauseTemplate.getQuerySegmentTemplate().replace("$field", field);
+    Matcher matcher = PARAM_PATTERN.matcher(template);
+    return matcher.replaceAll(mr -> Matcher.quoteReplacement("$" + paramNames[Integer.parseInt(mr.group(1))]));
+  }
+
+  /**
+   * Converts a clause argument to the raw value bound as a query parameter. Parameter values are
+   * not parsed by the query engine, so unlike {@link #prepareQuery(String, Object...)} no escaping
+   * takes place.
+   */
+  public Object toParameterValue(Object param) {
+    if (param instanceof float[] floats) {
+      return ObjectUtils.floatArrayToByteArray(floats);
+    } else if (param instanceof byte[]) {
+      return param;
+    }
+    return param instanceof Number ? param.toString() : ObjectUtils.asString(param, converter);
+  }
+
+  /**
+   * The parameter converter of a vector range on the given field: vectors are encoded for the vector type of its
+   * index, see {@link ObjectUtils#vectorBlobFor(Field, Object)}.
+   */
+  public static Function<Object, Object> vectorParameterConverter(Field field) {
+    return param -> param instanceof float[] || param instanceof byte[] ?
+        ObjectUtils.vectorBlobFor(field, param) :
+        VECTOR_WITHIN.toParameterValue(param);
+  }
+
   public String prepareQuery(String field, Object... params) {
+    if (this == VECTOR_WITHIN) {
+      throw new IllegalArgumentException(
+          String.format("The vector range on %s needs a non-null vector and radius bound as query parameters", field));
+    }
     String prepared = field.equalsIgnoreCase("__ALL__") ?
         clauseTemplate.getQuerySegmentTemplate() :
         clauseTemplate.getQuerySegmentTemplate().replace("$field", field);
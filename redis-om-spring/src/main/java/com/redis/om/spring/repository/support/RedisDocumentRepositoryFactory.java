@@ -159,6 +159,9 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
     this.gsonBuilder = gsonBuilder;
     this.embedder = embedder;
     this.properties = properties;
+    if (rmo.metrics().isEnabled()) {
+      addRepositoryProxyPostProcessor(new RepositoryMetricsPostProcessor(rmo.metrics()));
+    }
   }
 
   /* (non-Javadoc)
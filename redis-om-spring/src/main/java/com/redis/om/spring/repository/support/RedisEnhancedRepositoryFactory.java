@@ -142,6 +142,9 @@ public class RedisEnhancedRepositoryFactory extends RepositoryFactorySupport {
     this.repositoryQueryType = repositoryQueryType;
     this.embedder = embedder;
     this.properties = properties;
+    if (rmo.metrics().isEnabled()) {
+      addRepositoryProxyPostProcessor(new RepositoryMetricsPostProcessor(rmo.metrics()));
+    }
     MappingConfiguration mappingConfiguration = new MappingConfiguration(new IndexConfiguration(),
         new KeyspaceConfiguration());
     this.enhancedContext = new RedisEnhancedMappingContext(mappingConfiguration);
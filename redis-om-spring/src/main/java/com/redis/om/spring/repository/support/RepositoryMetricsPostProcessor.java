@@ -0,0 +1,53 @@
+package com.redis.om.spring.repository.support;
+
+import com.redis.om.spring.metrics.RedisOMMetrics;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Times every repository method as an operation of the {@link RedisOMMetrics}, e.g.
+ * {@code PersonRepository.findByName} on {@code Person}, so the commands it sends are grouped under it. A method
+ * returning a {@link CompletableFuture} is timed until the future completes.
+ */
+class RepositoryMetricsPostProcessor implements RepositoryProxyPostProcessor {
+  private final RedisOMMetrics metrics;
+
+  RepositoryMetricsPostProcessor(RedisOMMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+    String repository = repositoryInformation.getRepositoryInterface().getSimpleName();
+    String target = repositoryInformation.getDomainType().getSimpleName();
+    factory.addAdvice((MethodInterceptor) invocation -> {
+      if (invocation.getMethod().getDeclaringClass() == Object.class) {
+        return invocation.proceed();
+      }
+      String operation = repository + "." + invocation.getMethod().getName();
+      Supplier<Object> call = () -> {
+        try {
+          return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable t) {
+          throw new UndeclaredThrowableException(t);
+        }
+      };
+      try {
+        if (CompletableFuture.class.isAssignableFrom(invocation.getMethod().getReturnType())) {
+          return metrics.timeAsyncOperation(operation, target, () -> (CompletableFuture<?>) call.get());
+        }
+        return metrics.timeOperation(operation, target, call);
+      } catch (UndeclaredThrowableException e) {
+        throw e.getUndeclaredThrowable();
+      }
+    });
+  }
+}
@@ -12,11 +12,14 @@ import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.id.ULIDIdentifierGenerator;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.mapping.RedisEnhancedPersistentEntity;
+import com.redis.om.spring.materialized.MaterializedAggregationMaintainer;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.MetamodelUtils;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.repository.BulkIngestSession;
 import com.redis.om.spring.repository.RedisDocumentRepository;
 import com.redis.om.spring.search.stream.EntityStream;
 import com.redis.om.spring.search.stream.EntityStreamImpl;
@@ -71,10 +74,12 @@ import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static com.redis.om.spring.util.ObjectUtils.*;
@@ -91,6 +96,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
   protected final RediSearchIndexer indexer;
   protected final MappingRedisOMConverter mappingConverter;
   protected final EntityAuditor auditor;
+  protected final MaterializedAggregationMaintainer materializedAggregations;
   protected final Embedder embedder;
   private final GsonBuilder gsonBuilder;
   private final ULIDIdentifierGenerator generator;
@@ -118,6 +124,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     this.gsonBuilder = gsonBuilder;
     this.mappingContext = mappingContext;
     this.auditor = new EntityAuditor(modulesOperations.template());
+    this.materializedAggregations = new MaterializedAggregationMaintainer(modulesOperations.template());
     this.embedder = embedder;
     this.properties = properties;
     this.entityStream = new EntityStreamImpl(modulesOperations, modulesOperations.gsonBuilder(), indexer);
@@ -155,8 +162,9 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
   @Override
   public void updateField(T entity, MetamodelField<T, ?> field, Object value) {
-    modulesOperations.opsForJSON()
-        .set(getKey(Objects.requireNonNull(metadata.getId(entity))), value, Path2.of(field.getJSONPath()));
+    ID id = Objects.requireNonNull(metadata.getId(entity));
+    modulesOperations.opsForJSON().set(getKey(id), value, Path2.of(field.getJSONPath()));
+    refreshMaterializedAggregations(List.of(id));
   }
 
   @SuppressWarnings("unchecked")
@@ -185,10 +193,15 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     List<S> saved = new ArrayList<>();
     List<Object> entityIds = new ArrayList<>();
 
+    List<S> toSave = new ArrayList<>();
+    entities.forEach(toSave::add);
+    // embeddings are generated for the whole batch at once
+    embedder.processEntities(toSave);
+
     try (Jedis jedis = modulesOperations.client().getJedis().get()) {
       Pipeline pipeline = jedis.pipelined();
       Gson gson = gsonBuilder.create();
-      for (S entity : entities) {
+      for (S entity : toSave) {
         boolean isNew = metadata.isNew(entity);
 
         KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
@@ -209,7 +222,6 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
         // process entity pre-save mutation
         auditor.processEntity(entity, isNew);
-        embedder.processEntity(entity);
 
         Optional<Long> maybeTtl = getTTLForEntity(entity);
 
@@ -233,7 +245,9 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         saved.add(entity);
       }
 
-      List<Object> responses = pipeline.syncAndReturnAll();
+      RedisOMMetrics metrics = modulesOperations.metrics();
+      metrics.recordBatch("saveAll", getKeyspace(), toSave.size());
+      List<Object> responses = metrics.timeCommand("PIPELINE", getKeyspace(), pipeline::syncAndReturnAll);
 
       // Process responses using streams to avoid iterator issues
       if (responses != null && !responses.isEmpty()) {
@@ -248,6 +262,16 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
           logger.warn("Total failed JSON.SET commands: {}", failedCount);
         }
       }
+
+      List<S> withMaterializedAggregations = saved.stream()
+          .filter(e -> MaterializedAggregationMaintainer.hasMaterializedAggregations(e.getClass())).toList();
+      if (!withMaterializedAggregations.isEmpty()) {
+        materializedAggregations.prepare(jedis);
+        Pipeline maintenance = jedis.pipelined();
+        withMaterializedAggregations.forEach(
+            e -> materializedAggregations.onSave(maintenance, metadata.getRequiredId(e), e));
+        maintenance.sync();
+      }
     }
 
     return saved;
@@ -456,7 +480,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       return new PageImpl<>(result, Pageable.unpaged(), result.size());
     }
 
-    if (indexer.indexDefinitionExistsFor(metadata.getJavaType())) {
+    if (indexer.indexDefinitionExistsFor(metadata.getJavaType()) && indexer.canSearch(metadata.getJavaType())) {
       String searchIndex = indexer.getIndexName(metadata.getJavaType());
 
       SearchOperations<String> searchOps = modulesOperations.opsForSearch(searchIndex);
@@ -555,7 +579,11 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     executePipelinedUpdates(updateOperations);
 
     // Use JSON GET operation to fetch the updated entity
-    return (S) getJSONOperations().get(key, entityType);
+    S updated = (S) getJSONOperations().get(key, entityType);
+    if (updated != null) {
+      materializedAggregations.onSave(id, updated);
+    }
+    return updated;
   }
 
   @Override
@@ -565,6 +593,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     }
 
     List<UpdateOperation> updateOperations = new ArrayList<>();
+    List<ID> ids = new ArrayList<>();
     Class<?> entityType = metadata.getJavaType();
     List<MetamodelField<?, ?>> metamodelFields = MetamodelUtils.getMetamodelFieldsForProperties(entityType,
         getAllProperties(entityType));
@@ -577,6 +606,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       if (id == null) {
         throw new IllegalArgumentException("Example object must have an ID");
       }
+      ids.add(id);
 
       String key = getKey(id);
 
@@ -594,6 +624,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     }
 
     executePipelinedUpdates(updateOperations);
+    refreshMaterializedAggregations(ids);
   }
 
   @Override
@@ -634,6 +665,69 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     return modulesOperations.opsForJSON();
   }
 
+  @Override
+  public BulkIngestSession<T> bulkIngest() {
+    return new BulkIngestSession<>(metadata.getJavaType(), this::saveAll, indexer,
+        properties.getRepository().getBulkIngestBatchSize());
+  }
+
+  @Override
+  public CompletableFuture<Optional<T>> findByIdAsync(ID id) {
+    return modulesOperations.asyncExecutor().supply(() -> findById(id));
+  }
+
+  @Override
+  public CompletableFuture<List<T>> findAllByIdAsync(Iterable<ID> ids) {
+    return modulesOperations.asyncExecutor().supply(() -> findAllById(ids));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> existsByIdAsync(ID id) {
+    return modulesOperations.asyncExecutor().supply(() -> existsById(id));
+  }
+
+  @Override
+  public CompletableFuture<Long> countAsync() {
+    return modulesOperations.asyncExecutor().supply(this::count);
+  }
+
+  @Override
+  public <S extends T> CompletableFuture<S> saveAsync(S entity) {
+    return modulesOperations.asyncExecutor().supply(() -> save(entity));
+  }
+
+  @Override
+  public <S extends T> CompletableFuture<List<S>> saveAllAsync(Iterable<S> entities) {
+    return modulesOperations.asyncExecutor().supply(() -> saveAll(entities));
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteByIdAsync(ID id) {
+    return modulesOperations.asyncExecutor().run(() -> deleteById(id));
+  }
+
+  @Override
+  public void rebuildMaterializedAggregations() {
+    Class<T> entityClass = metadata.getJavaType();
+    if (MaterializedAggregationMaintainer.hasMaterializedAggregations(entityClass)) {
+      try (Stream<T> entities = entityStream.of(entityClass).loadAll().stream()) {
+        Iterable<T> iterable = entities::iterator;
+        materializedAggregations.rebuild(entityClass, iterable);
+      }
+    }
+  }
+
+  // partial updates don't carry the whole entity, re-read them to refresh their contributions
+  private void refreshMaterializedAggregations(Collection<ID> ids) {
+    if (!ids.isEmpty() && MaterializedAggregationMaintainer.hasMaterializedAggregations(metadata.getJavaType())) {
+      for (T entity : findAllById(ids)) {
+        if (entity != null) {
+          materializedAggregations.onSave(metadata.getRequiredId(entity), entity);
+        }
+      }
+    }
+  }
+
   private void executePipelinedUpdates(List<UpdateOperation> updateOperations) {
     try (Jedis jedis = modulesOperations.client().getJedis().get()) {
       Pipeline pipeline = jedis.pipelined();
@@ -648,7 +742,8 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[0][]));
       }
 
-      pipeline.sync();
+      modulesOperations.metrics().recordBatch("update", getKeyspace(), updateOperations.size());
+      modulesOperations.metrics().timeCommand("PIPELINE", getKeyspace(), pipeline::sync);
     }
   }
 
@@ -10,10 +10,13 @@ import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.id.ULIDIdentifierGenerator;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.mapping.RedisEnhancedPersistentEntity;
+import com.redis.om.spring.materialized.MaterializedAggregationMaintainer;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.MetamodelUtils;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.repository.BulkIngestSession;
 import com.redis.om.spring.repository.RedisEnhancedRepository;
 import com.redis.om.spring.search.stream.EntityStream;
 import com.redis.om.spring.search.stream.EntityStreamImpl;
@@ -48,9 +51,11 @@ import redis.clients.jedis.util.SafeEncoder;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static com.redis.om.spring.util.ObjectUtils.*;
@@ -65,6 +70,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
   protected final MappingRedisOMConverter mappingConverter;
   protected final RedisEnhancedKeyValueAdapter enhancedKeyValueAdapter;
   protected final EntityAuditor auditor;
+  protected final MaterializedAggregationMaintainer materializedAggregations;
   protected final Embedder embedder;
 
   private final ULIDIdentifierGenerator generator;
@@ -91,6 +97,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
         properties);
     this.generator = ULIDIdentifierGenerator.INSTANCE;
     this.auditor = new EntityAuditor(modulesOperations.template());
+    this.materializedAggregations = new MaterializedAggregationMaintainer(modulesOperations.template());
     this.embedder = embedder;
     this.properties = properties;
     this.entityStream = new EntityStreamImpl(modulesOperations, modulesOperations.gsonBuilder(), indexer);
@@ -199,7 +206,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
       return new PageImpl<>(result, Pageable.unpaged(), result.size());
     }
 
-    if (indexer.indexDefinitionExistsFor(metadata.getJavaType())) {
+    if (indexer.indexDefinitionExistsFor(metadata.getJavaType()) && indexer.canSearch(metadata.getJavaType())) {
       String searchIndex = indexer.getIndexName(metadata.getJavaType());
       SearchOperations<String> searchOps = modulesOperations.opsForSearch(searchIndex);
       Query query = new Query("*");
@@ -269,6 +276,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
     if (!updateOperations.isEmpty()) {
       executePipelinedUpdates(updateOperations);
+      refreshMaterializedAggregations(List.of(id));
     }
 
     return (S) findById(id).orElseThrow(() -> new RuntimeException("Failed to fetch updated entity"));
@@ -281,6 +289,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     }
 
     List<UpdateOperation> updateOperations = new ArrayList<>();
+    List<ID> ids = new ArrayList<>();
     Class<?> entityType = metadata.getJavaType();
     List<MetamodelField<?, ?>> metamodelFields = MetamodelUtils.getMetamodelFieldsForProperties(entityType,
         getAllProperties(entityType));
@@ -293,6 +302,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
       if (id == null) {
         throw new IllegalArgumentException("Example object must have an ID");
       }
+      ids.add(id);
 
       String key = getKey(id);
 
@@ -310,6 +320,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     }
 
     executePipelinedUpdates(updateOperations);
+    refreshMaterializedAggregations(ids);
   }
 
   @Override
@@ -360,10 +371,15 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     Assert.notNull(entities, "The given Iterable of entities must not be null!");
     List<S> saved = new ArrayList<>();
 
+    List<S> toSave = new ArrayList<>();
+    entities.forEach(toSave::add);
+    // embeddings are generated for the whole batch at once
+    embedder.processEntities(toSave);
+
     try (Jedis jedis = modulesOperations.client().getJedis().get()) {
       Pipeline pipeline = jedis.pipelined();
 
-      for (S entity : entities) {
+      for (S entity : toSave) {
         boolean isNew = metadata.isNew(entity);
 
         KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
@@ -380,7 +396,6 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
         // process entity pre-save mutation
         auditor.processEntity(entity, isNew);
-        embedder.processEntity(entity);
 
         RedisData rdo = new RedisData();
         mappingConverter.write(entity, rdo);
@@ -393,7 +408,19 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
         saved.add(entity);
       }
-      pipeline.sync();
+      RedisOMMetrics metrics = modulesOperations.metrics();
+      metrics.recordBatch("saveAll", getKeyspace(), toSave.size());
+      metrics.timeCommand("PIPELINE", getKeyspace(), pipeline::sync);
+
+      List<S> withMaterializedAggregations = saved.stream()
+          .filter(e -> MaterializedAggregationMaintainer.hasMaterializedAggregations(e.getClass())).toList();
+      if (!withMaterializedAggregations.isEmpty()) {
+        materializedAggregations.prepare(jedis);
+        Pipeline maintenance = jedis.pipelined();
+        withMaterializedAggregations.forEach(
+            e -> materializedAggregations.onSave(maintenance, metadata.getRequiredId(e), e));
+        maintenance.sync();
+      }
     }
 
     return saved;
@@ -474,6 +501,69 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
             mappingConverter.getMappingContext()));
   }
 
+  @Override
+  public BulkIngestSession<T> bulkIngest() {
+    return new BulkIngestSession<>(metadata.getJavaType(), this::saveAll, indexer,
+        properties.getRepository().getBulkIngestBatchSize());
+  }
+
+  @Override
+  public CompletableFuture<Optional<T>> findByIdAsync(ID id) {
+    return modulesOperations.asyncExecutor().supply(() -> findById(id));
+  }
+
+  @Override
+  public CompletableFuture<List<T>> findAllByIdAsync(Iterable<ID> ids) {
+    return modulesOperations.asyncExecutor().supply(() -> findAllById(ids));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> existsByIdAsync(ID id) {
+    return modulesOperations.asyncExecutor().supply(() -> existsById(id));
+  }
+
+  @Override
+  public CompletableFuture<Long> countAsync() {
+    return modulesOperations.asyncExecutor().supply(this::count);
+  }
+
+  @Override
+  public <S extends T> CompletableFuture<S> saveAsync(S entity) {
+    return modulesOperations.asyncExecutor().supply(() -> save(entity));
+  }
+
+  @Override
+  public <S extends T> CompletableFuture<List<S>> saveAllAsync(Iterable<S> entities) {
+    return modulesOperations.asyncExecutor().supply(() -> saveAll(entities));
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteByIdAsync(ID id) {
+    return modulesOperations.asyncExecutor().run(() -> deleteById(id));
+  }
+
+  @Override
+  public void rebuildMaterializedAggregations() {
+    Class<T> entityClass = metadata.getJavaType();
+    if (MaterializedAggregationMaintainer.hasMaterializedAggregations(entityClass)) {
+      try (Stream<T> entities = entityStream.of(entityClass).loadAll().stream()) {
+        Iterable<T> iterable = entities::iterator;
+        materializedAggregations.rebuild(entityClass, iterable);
+      }
+    }
+  }
+
+  // partial updates don't carry the whole entity, re-read them to refresh their contributions
+  private void refreshMaterializedAggregations(Collection<ID> ids) {
+    if (!ids.isEmpty() && MaterializedAggregationMaintainer.hasMaterializedAggregations(metadata.getJavaType())) {
+      for (T entity : findAllById(ids)) {
+        if (entity != null) {
+          materializedAggregations.onSave(metadata.getRequiredId(entity), entity);
+        }
+      }
+    }
+  }
+
   private void executePipelinedUpdates(List<UpdateOperation> updateOperations) {
     try (Jedis jedis = modulesOperations.client().getJedis().get()) {
       Pipeline pipeline = jedis.pipelined();
@@ -494,7 +584,8 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
         }
       }
 
-      pipeline.sync();
+      modulesOperations.metrics().recordBatch("update", getKeyspace(), updateOperations.size());
+      modulesOperations.metrics().timeCommand("PIPELINE", getKeyspace(), pipeline::sync);
     }
   }
 
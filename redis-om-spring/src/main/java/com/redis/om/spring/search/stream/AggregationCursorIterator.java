@@ -0,0 +1,116 @@
+package com.redis.om.spring.search.stream;
+
+import com.redis.om.spring.ops.search.SearchOperations;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import redis.clients.jedis.search.aggr.AggregationResult;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Lazily walks the rows of an {@code FT.AGGREGATE ... WITHCURSOR} result. Only the current batch and
+ * the batch being read ahead (with {@code FT.CURSOR READ}) are held in memory. If the iterator is
+ * closed before the cursor is exhausted, the server-side cursor is released with
+ * {@code FT.CURSOR DEL}.
+ */
+public class AggregationCursorIterator<R> implements Iterator<R>, AutoCloseable {
+  private static final Log logger = LogFactory.getLog(AggregationCursorIterator.class);
+
+  private final SearchOperations<String> search;
+  private final int count;
+  private final Function<Map<String, Object>, R> rowMapper;
+  private final Executor executor;
+  private Iterator<Map<String, Object>> batch;
+  private long cursorId;
+  private CompletableFuture<AggregationResult> nextBatch;
+  private boolean closed;
+
+  public AggregationCursorIterator(SearchOperations<String> search, AggregationResult firstBatch, int count,
+      Function<Map<String, Object>, R> rowMapper, Executor executor) {
+    this.search = search;
+    this.count = count;
+    this.rowMapper = rowMapper;
+    this.executor = executor;
+    accept(firstBatch);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!closed && !batch.hasNext()) {
+      if (nextBatch == null) {
+        close();
+        return false;
+      }
+      AggregationResult result;
+      try {
+        result = nextBatch.join();
+      } catch (CompletionException e) {
+        nextBatch = null;
+        close();
+        throw e.getCause() instanceof RuntimeException re ? re : e;
+      }
+      nextBatch = null;
+      accept(result);
+    }
+    return !closed;
+  }
+
+  @Override
+  public R next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return rowMapper.apply(batch.next());
+  }
+
+  /**
+   * Releases the server-side cursor unless it has already been exhausted. Safe to call more than
+   * once.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    batch = List.<Map<String, Object>>of().iterator();
+    if (nextBatch != null) {
+      // a read in flight still owns the cursor, wait for it so that the id we delete is valid
+      try {
+        cursorId = nextBatch.join().getCursorId();
+      } catch (CompletionException e) {
+        logger.debug("Error reading ahead on aggregation cursor", e);
+      }
+      nextBatch = null;
+    }
+    if (cursorId != 0) {
+      try {
+        search.cursorDelete(cursorId);
+      } catch (RuntimeException e) {
+        // the cursor might have already expired on the server
+        logger.debug(String.format("Could not delete aggregation cursor %s", cursorId), e);
+      }
+      cursorId = 0;
+    }
+  }
+
+  long getCursorId() {
+    return cursorId;
+  }
+
+  private void accept(AggregationResult result) {
+    batch = result.getResults().iterator();
+    cursorId = result.getCursorId();
+    if (cursorId != 0) {
+      long id = cursorId;
+      nextBatch = CompletableFuture.supplyAsync(() -> search.cursorRead(id, count), executor);
+    }
+  }
+}
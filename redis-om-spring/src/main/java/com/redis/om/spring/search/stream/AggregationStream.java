@@ -2,6 +2,7 @@ package com.redis.om.spring.search.stream;
 
 import com.redis.om.spring.annotations.ReducerFunction;
 import com.redis.om.spring.metamodel.MetamodelField;
+import com.redis.om.spring.search.stream.aggregations.AggregationColumns;
 import com.redis.om.spring.search.stream.aggregations.filters.AggregationFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ import redis.clients.jedis.search.aggr.AggregationResult;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AggregationStream<T> {
   AggregationStream<T> load(MetamodelField<?, ?>... fields);
@@ -50,6 +52,33 @@ public interface AggregationStream<T> {
 
   <R extends T> List<R> toList(Class<?>... contentTypes);
 
+  /**
+   * Binds each row of the aggregation to a record, whose components are matched by name to the returned fields
+   * (group-by fields and aliases), or to an interface, whose accessors are matched by property name. Numeric
+   * components can be primitives, in which case missing values are read as zero.
+   */
+  <R> List<R> toRows(Class<R> rowType);
+
+  /**
+   * Returns the result of the aggregation column by column, with numeric columns (e.g. counts and averages per
+   * group) as primitive {@code long[]}/{@code double[]} arrays.
+   */
+  AggregationColumns toColumns();
+
+  /**
+   * Runs the aggregation with a cursor ({@code WITHCURSOR COUNT n}, see {@link #cursor(int, Duration)}, defaults
+   * to batches of 1000) and returns its rows as a lazy stream. Batches are fetched with {@code FT.CURSOR READ} as
+   * the stream is consumed, reading one batch ahead, so memory use is bounded by the batch size rather than the
+   * size of the result. Unlike {@link #toList(Class[])}, no implicit {@code LIMIT} is applied.
+   * <p>
+   * The returned stream should be closed (i.e. used in a try-with-resources block) when it is not fully consumed,
+   * so that the server side cursor gets deleted; an abandoned cursor is reclaimed by Redis after its max idle time.
+   *
+   * @param contentTypes the types of the returned fields, as in {@link #toList(Class[])}; pass none (or the entity
+   *                     class) to map each row to the entity
+   */
+  <R extends T> Stream<R> stream(Class<?>... contentTypes);
+
   String backingQuery();
 
   // Cursor API
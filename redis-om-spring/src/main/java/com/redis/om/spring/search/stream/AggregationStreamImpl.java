@@ -7,6 +7,9 @@ import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.search.stream.aggregations.AggregationColumns;
+import com.redis.om.spring.search.stream.aggregations.AggregationRowMapper;
+import com.redis.om.spring.search.stream.aggregations.AggregationValues;
 import com.redis.om.spring.search.stream.aggregations.filters.AggregationFilter;
 import com.redis.om.spring.tuple.Tuples;
 import com.redis.om.spring.util.ObjectUtils;
@@ -20,20 +23,29 @@ import redis.clients.jedis.search.aggr.SortedField.SortOrder;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
   private static final Integer MAX_LIMIT = 10000;
+  private static final int DEFAULT_CURSOR_COUNT = 1000;
+  private static final Duration DEFAULT_CURSOR_MAX_IDLE = Duration.ofMinutes(5);
   private final Class<E> entityClass;
   private final boolean isDocument;
   private final AggregationBuilder aggregation;
   private final MappingRedisOMConverter mappingConverter;
   private final Gson gson;
   private final SearchOperations<String> search;
+  // reads the next batch of a cursor ahead, off the common pool as it blocks on the network
+  private final Executor readAheadExecutor;
   private final Set<String> returnFields = new LinkedHashSet<>();
   private final Map<String, Class<?>> returnFieldsTypeHints = new HashMap<>();
   private Group currentGroup;
   private ReducerFieldPair currentReducer;
   private boolean limitSet = false;
+  private int cursorCount = DEFAULT_CURSOR_COUNT;
   private final String query;
 
   @SafeVarargs
@@ -41,6 +53,7 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
       Class<E> entityClass, String query, MetamodelField<E, ?>... fields) {
     this.entityClass = entityClass;
     search = modulesOperations.opsForSearch(searchIndex);
+    readAheadExecutor = modulesOperations.asyncExecutor();
     aggregation = new AggregationBuilder(query);
     isDocument = entityClass.isAnnotationPresent(Document.class);
     this.query = query;
@@ -49,6 +62,16 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
     createAggregationGroup(fields);
   }
 
+  /**
+   * Binds the parameters referenced by the query of the aggregation, i.e. the vector and radius of a vector range.
+   */
+  AggregationStreamImpl<E, T> params(Map<String, Object> params) {
+    if (!params.isEmpty()) {
+      aggregation.params(params).dialect(2);
+    }
+    return this;
+  }
+
   @Override
   public AggregationStream<T> load(MetamodelField<?, ?>... fields) {
     applyCurrentGroupBy();
@@ -270,112 +293,69 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
   @SuppressWarnings("unchecked")
   @Override
   public <R extends T> List<R> toList(Class<?>... contentTypes) {
+    // execute the aggregation
+    AggregationResult aggregationResult = executeWithDefaultLimit();
+
+    // is toList called with the same type as the stream?
+    if (contentTypes.length == 1 && contentTypes[0].isAssignableFrom(entityClass)) {
+      return (List<R>) toEntityList(aggregationResult);
+    }
+
+    // package the results
+    List<?> asList = aggregationResult.getResults().stream().map(tupleMapper(contentTypes)).toList();
+    return (List<R>) asList;
+  }
+
+  @Override
+  public <R> List<R> toRows(Class<R> rowType) {
+    AggregationRowMapper<R> rowMapper = AggregationRowMapper.of(rowType);
+    return executeWithDefaultLimit().getResults().stream().map(rowMapper).toList();
+  }
+
+  @Override
+  public AggregationColumns toColumns() {
+    AggregationResult aggregationResult = executeWithDefaultLimit();
+    Map<String, Class<?>> columnTypes = new LinkedHashMap<>();
+    for (String label : returnFields) {
+      columnTypes.put(label, returnFieldsTypeHints.getOrDefault(label, String.class));
+    }
+    return AggregationColumns.of(aggregationResult.getResults(), columnTypes);
+  }
+
+  private AggregationResult executeWithDefaultLimit() {
     applyCurrentGroupBy();
 
     if (!limitSet) {
       aggregation.limit(MAX_LIMIT);
     }
 
-    // execute the aggregation
-    AggregationResult aggregationResult = search.aggregate(aggregation);
+    return search.aggregate(aggregation);
+  }
 
-    // is toList called with the same type as the stream?
-    if (contentTypes.length == 1 && contentTypes[0].isAssignableFrom(entityClass)) {
-      return (List<R>) toEntityList(aggregationResult);
+  @SuppressWarnings("unchecked")
+  @Override
+  public <R extends T> Stream<R> stream(Class<?>... contentTypes) {
+    applyCurrentGroupBy();
+
+    if (!aggregation.isWithCursor()) {
+      aggregation.cursor(cursorCount, DEFAULT_CURSOR_MAX_IDLE.toMillis());
     }
 
-    // package the results
-    String[] labels = returnFields.toArray(String[]::new);
+    // executes the aggregation, the first batch comes back with the cursor id
+    AggregationResult firstBatch = search.aggregate(aggregation);
 
-    List<?> asList = aggregationResult.getResults().stream().map(m -> { //
-      List<Object> mappedValues = new ArrayList<>();
-      for (int i = 0; i < labels.length; i++) {
-        Object raw = m.get(labels[i]);
-        if (contentTypes[i] == String.class) {
-          mappedValues.add(raw != null ? raw : "");
-        } else if (contentTypes[i] == Long.class) {
-          mappedValues.add(raw != null ? Long.parseLong(raw.toString()) : 0L);
-        } else if (contentTypes[i] == Integer.class) {
-          mappedValues.add(raw != null ? Integer.parseInt(raw.toString()) : 0);
-        } else if (contentTypes[i] == Double.class) {
-          mappedValues.add(raw != null ? Double.parseDouble(raw.toString()) : 0);
-        } else if (contentTypes[i] == List.class && List.class.isAssignableFrom(raw.getClass())) {
-          Class<?> listContents = returnFieldsTypeHints.get(labels[i]);
-          List<?> rawList = (List<?>) raw;
-          if (listContents != null) {
-            if (listContents == String.class) {
-              mappedValues.add(rawList.stream().map(e -> e != null ? e : "").toList());
-            } else if (listContents == Long.class) {
-              mappedValues.add(rawList.stream().map(e -> e != null ? Long.parseLong(e.toString()) : 0L).toList());
-            } else if (listContents == Integer.class) {
-              mappedValues.add(rawList.stream().map(e -> e != null ? Integer.parseInt(e.toString()) : 0).toList());
-            } else if (listContents == Double.class) {
-              mappedValues.add(rawList.stream().map(e -> e != null ? Double.parseDouble(e.toString()) : 0).toList());
-            } else {
-              mappedValues.add(rawList);
-            }
-          } else {
-            mappedValues.add(rawList);
-          }
-        }
-      }
+    Function<Map<String, Object>, R> rowMapper;
+    if (contentTypes.length == 0 || (contentTypes.length == 1 && contentTypes[0].isAssignableFrom(entityClass))) {
+      rowMapper = row -> (R) toEntity(row);
+    } else {
+      rowMapper = (Function<Map<String, Object>, R>) tupleMapper(contentTypes);
+    }
 
-      Object[] values = mappedValues.toArray();
-
-      return switch (labels.length) {
-        case 1 -> Tuples.of(labels, values[0]);
-        case 2 -> Tuples.of(labels, values[0], values[1]);
-        case 3 -> Tuples.of(labels, values[0], values[1], values[2]);
-        case 4 -> Tuples.of(labels, values[0], values[1], values[2], values[3]);
-        case 5 -> Tuples.of(labels, values[0], values[1], values[2], values[3], values[4]);
-        case 6 -> Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5]);
-        case 7 -> Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
-        case 8 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7]);
-        case 9 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8]);
-        case 10 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9]);
-        case 11 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10]);
-        case 12 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10], values[11]);
-        case 13 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10], values[11], values[12]);
-        case 14 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10], values[11], values[12], values[13]);
-        case 15 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10], values[11], values[12], values[13], values[14]);
-        case 16 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10], values[11], values[12], values[13], values[14], values[15]);
-        case 17 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10], values[11], values[12], values[13], values[14], values[15],
-                values[16]);
-        case 18 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10], values[11], values[12], values[13], values[14], values[15],
-                values[16], values[17]);
-        case 19 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10], values[11], values[12], values[13], values[14], values[15],
-                values[16], values[17], values[18]);
-        case 20 ->
-            Tuples.of(labels, values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
-                values[8], values[9], values[10], values[11], values[12], values[13], values[14], values[15],
-                values[16], values[17], values[18], values[19]);
-        default -> Tuples.of();
-      };
-    }).toList();
-    return (List<R>) asList;
+    AggregationCursorIterator<R> iterator = new AggregationCursorIterator<>(search, firstBatch, cursorCount, rowMapper,
+        readAheadExecutor);
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(iterator::close);
   }
 
   @Override
@@ -387,6 +367,7 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
   public AggregationStream<T> cursor(int count, Duration timeout) {
     applyCurrentGroupBy();
     aggregation.cursor(count, timeout.toMillis());
+    cursorCount = count;
     return this;
   }
 
@@ -445,14 +426,63 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
     };
   }
 
+  /**
+   * Resolves the converter of each returned field once, so that mapping a row to a tuple only converts its values.
+   */
   @SuppressWarnings("unchecked")
+  private Function<Map<String, Object>, Object> tupleMapper(Class<?>[] contentTypes) {
+    String[] labels = returnFields.toArray(String[]::new);
+    if (labels.length > 20) {
+      return row -> Tuples.of();
+    }
+    Function<Object, Object>[] converters = new Function[labels.length];
+    for (int i = 0; i < labels.length; i++) {
+      Class<?> contentType = i < contentTypes.length ? contentTypes[i] : Object.class;
+      if (List.class.isAssignableFrom(contentType)) {
+        Class<?> listContents = returnFieldsTypeHints.get(labels[i]);
+        Function<Object, Object> element = listContents != null ? tupleConverterFor(listContents) : e -> e;
+        converters[i] = raw -> raw instanceof List<?> rawList ? rawList.stream().map(element).toList() : raw;
+      } else {
+        converters[i] = tupleConverterFor(contentType);
+      }
+    }
+    return row -> {
+      Object[] values = new Object[labels.length];
+      for (int i = 0; i < labels.length; i++) {
+        values[i] = converters[i].apply(row.get(labels[i]));
+      }
+      return Tuples.ofArray(labels, values);
+    };
+  }
+
+  // tuples hold defaults rather than nulls for missing values
+  private static Function<Object, Object> tupleConverterFor(Class<?> contentType) {
+    Function<Object, Object> converter = AggregationValues.converterFor(contentType);
+    Object missing;
+    if (contentType == String.class) {
+      missing = "";
+    } else if (contentType == Long.class) {
+      missing = 0L;
+    } else if (contentType == Integer.class) {
+      missing = 0;
+    } else if (contentType == Double.class) {
+      missing = 0d;
+    } else {
+      return converter;
+    }
+    return raw -> raw != null ? converter.apply(raw) : missing;
+  }
+
   List<E> toEntityList(AggregationResult aggregationResult) {
+    return aggregationResult.getResults().stream().map(this::toEntity).toList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private E toEntity(Map<String, Object> row) {
     if (isDocument) {
-      return aggregationResult.getResults().stream().map(d -> gson.fromJson(d.get("$").toString(), entityClass))
-          .toList();
+      return gson.fromJson(row.get("$").toString(), entityClass);
     } else {
-      return aggregationResult.getResults().stream()
-          .map(h -> (E) ObjectUtils.mapToObject(h, entityClass, mappingConverter)).toList();
+      return (E) ObjectUtils.mapToObject(row, entityClass, mappingConverter);
     }
   }
 
@@ -1,9 +1,19 @@
 package com.redis.om.spring.search.stream;
 
+import com.redis.om.spring.materialized.MaterializedAggregationView;
+
 import java.lang.reflect.Field;
 
 public interface EntityStream {
   <E> SearchStream<E> of(final Class<E> entityClass);
 
   <E> SearchStream<E> of(final Class<E> entityClass, String searchIndex, String idField);
+
+  /**
+   * Returns the maintained results of a {@link com.redis.om.spring.annotations.MaterializedAggregation} declared on
+   * the entity class.
+   *
+   * @throws IllegalArgumentException if the entity class declares no materialized aggregation with that name
+   */
+  MaterializedAggregationView materialized(final Class<?> entityClass, String name);
 }
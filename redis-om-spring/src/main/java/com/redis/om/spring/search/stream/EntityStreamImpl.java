@@ -2,6 +2,8 @@ package com.redis.om.spring.search.stream;
 
 import com.google.gson.GsonBuilder;
 import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.materialized.MaterializedAggregationDefinition;
+import com.redis.om.spring.materialized.MaterializedAggregationView;
 import com.redis.om.spring.ops.RedisModulesOperations;
 
 import java.lang.reflect.Field;
@@ -39,4 +41,12 @@ public class EntityStreamImpl implements EntityStream {
 
   }
 
+  @Override
+  public MaterializedAggregationView materialized(Class<?> entityClass, String name) {
+    MaterializedAggregationDefinition definition = MaterializedAggregationDefinition.of(entityClass, name)
+        .orElseThrow(() -> new IllegalArgumentException(
+            String.format("%s has no materialized aggregation named %s", entityClass.getName(), name)));
+    return new MaterializedAggregationView(definition, modulesOperations.template());
+  }
+
 }
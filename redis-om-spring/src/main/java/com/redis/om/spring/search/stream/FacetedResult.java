@@ -0,0 +1,65 @@
+package com.redis.om.spring.search.stream;
+
+import com.redis.om.spring.metamodel.MetamodelField;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The results of a search together with the value counts (facets) of some of its fields over all the documents
+ * matching the search, see {@link SearchStream#facets(MetamodelField[])}.
+ */
+public class FacetedResult<E> {
+  private final List<E> results;
+  private final long totalResults;
+  private final Map<String, Map<String, Long>> facets;
+
+  public FacetedResult(List<E> results, long totalResults, Map<String, Map<String, Long>> facets) {
+    this.results = results;
+    this.totalResults = totalResults;
+    this.facets = facets;
+  }
+
+  /**
+   * @return the page of results selected by the limit/skip/sort of the stream
+   */
+  public List<E> getResults() {
+    return results;
+  }
+
+  /**
+   * @return the number of documents matching the search
+   */
+  public long getTotalResults() {
+    return totalResults;
+  }
+
+  /**
+   * @return the counts of each requested field, by search alias, values ordered by descending count
+   */
+  public Map<String, Map<String, Long>> getFacets() {
+    return facets;
+  }
+
+  /**
+   * @return the counts of the values of the field, ordered by descending count
+   */
+  public Map<String, Long> getFacet(MetamodelField<? super E, ?> field) {
+    return getFacet(field.getSearchAlias());
+  }
+
+  public Map<String, Long> getFacet(String alias) {
+    Map<String, Long> facet = facets.get(alias);
+    if (facet == null) {
+      throw new IllegalArgumentException(
+          String.format("No facet %s in result, facets are %s", alias, facets.keySet()));
+    }
+    return facet;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("FacetedResult[totalResults=%s, results=%s, facets=%s]", totalResults, results.size(),
+        facets);
+  }
+}
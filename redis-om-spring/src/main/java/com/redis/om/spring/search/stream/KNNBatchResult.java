@@ -0,0 +1,98 @@
+package com.redis.om.spring.search.stream;
+
+import java.util.*;
+
+/**
+ * The results of a batch of KNN queries, see {@link SearchStream#knnBatch}. The results of each query are in
+ * ascending order of distance, and are indexed by the position of the query vector in the batch.
+ */
+public class KNNBatchResult<E> {
+  private final List<List<E>> results;
+  private final List<List<String>> ids;
+  private final List<double[]> distances;
+
+  public KNNBatchResult(List<List<E>> results, List<List<String>> ids, List<double[]> distances) {
+    this.results = results;
+    this.ids = ids;
+    this.distances = distances;
+  }
+
+  /**
+   * @return the number of queries in the batch
+   */
+  public int size() {
+    return results.size();
+  }
+
+  public List<List<E>> getResults() {
+    return results;
+  }
+
+  public List<E> getResults(int query) {
+    return results.get(query);
+  }
+
+  /**
+   * @return the keys of the results of the query
+   */
+  public List<String> getIds(int query) {
+    return ids.get(query);
+  }
+
+  /**
+   * @return the distances of the results of the query to its vector, {@code NaN} where the distance was not returned
+   */
+  public double[] getDistances(int query) {
+    return distances.get(query);
+  }
+
+  /**
+   * @return the results of all the queries, each entity once with its smallest distance, closest first
+   */
+  public List<E> merged() {
+    return merged(-1);
+  }
+
+  /**
+   * @param limit the number of entities to return, or a negative number for all
+   * @return the results of all the queries, each entity once with its smallest distance, closest first
+   */
+  public List<E> merged(int limit) {
+    Map<String, Integer> positions = new HashMap<>();
+    List<E> entities = new ArrayList<>();
+    List<Double> best = new ArrayList<>();
+    for (int query = 0; query < results.size(); query++) {
+      List<E> queryResults = results.get(query);
+      List<String> queryIds = ids.get(query);
+      double[] queryDistances = distances.get(query);
+      for (int i = 0; i < queryResults.size(); i++) {
+        double distance = Double.isNaN(queryDistances[i]) ? Double.MAX_VALUE : queryDistances[i];
+        Integer position = positions.get(queryIds.get(i));
+        if (position == null) {
+          positions.put(queryIds.get(i), entities.size());
+          entities.add(queryResults.get(i));
+          best.add(distance);
+        } else if (distance < best.get(position)) {
+          entities.set(position, queryResults.get(i));
+          best.set(position, distance);
+        }
+      }
+    }
+
+    Integer[] order = new Integer[entities.size()];
+    Arrays.setAll(order, i -> i);
+    // stable, so ties keep the order of the queries
+    Arrays.sort(order, Comparator.comparingDouble(best::get));
+    int size = limit < 0 ? order.length : Math.min(limit, order.length);
+    List<E> merged = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      merged.add(entities.get(order[i]));
+    }
+    return merged;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("KNNBatchResult[queries=%s]", results.size());
+  }
+}
@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.indexed.NumericField;
+import com.redis.om.spring.metamodel.indexed.VectorField;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.tuple.Pair;
@@ -458,6 +459,23 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
     throw new UnsupportedOperationException("getPage is not supported on a ReturnFieldSearchStream");
   }
 
+  @SafeVarargs
+  @Override
+  public final FacetedResult<T> facets(MetamodelField<T, ?>... fields) {
+    throw new UnsupportedOperationException("facets is not supported on a ReturnFieldSearchStream");
+  }
+
+  @SafeVarargs
+  @Override
+  public final FacetedResult<T> facets(int maxValues, MetamodelField<T, ?>... fields) {
+    throw new UnsupportedOperationException("facets is not supported on a ReturnFieldSearchStream");
+  }
+
+  @Override
+  public KNNBatchResult<T> knnBatch(VectorField<T, ?> field, int k, List<float[]> vectors) {
+    throw new UnsupportedOperationException("knnBatch is not supported on a ReturnFieldSearchStream");
+  }
+
   @Override
   public <R> SearchStream<T> project(Function<? super T, ? extends R> field) {
     throw new UnsupportedOperationException("project is not supported on a ReturnFieldSearchStream");
@@ -2,6 +2,7 @@ package com.redis.om.spring.search.stream;
 
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.indexed.NumericField;
+import com.redis.om.spring.metamodel.indexed.VectorField;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.tuple.Pair;
@@ -13,8 +14,10 @@ import redis.clients.jedis.search.aggr.SortedField.SortOrder;
 
 import java.time.Duration;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -78,12 +81,24 @@ public interface SearchStream<E> extends BaseStream<E, SearchStream<E>> {
 
   <R, A> R collect(Collector<? super E, A, R> collector);
 
+  /**
+   * Collects the stream asynchronously, see {@link com.redis.om.spring.ops.AsyncExecutor}. Streams not backed by a
+   * query of their own collect synchronously and return a completed future.
+   */
+  default <R, A> CompletableFuture<R> collectAsync(Collector<? super E, A, R> collector) {
+    return CompletableFuture.completedFuture(collect(collector));
+  }
+
   Optional<E> min(Comparator<? super E> comparator);
 
   Optional<E> max(Comparator<? super E> comparator);
 
   long count();
 
+  default CompletableFuture<Long> countAsync() {
+    return CompletableFuture.completedFuture(count());
+  }
+
   boolean anyMatch(Predicate<? super E> predicate);
 
   boolean allMatch(Predicate<? super E> predicate);
@@ -120,6 +135,29 @@ public interface SearchStream<E> extends BaseStream<E, SearchStream<E>> {
 
   Page<E> getPage(Pageable pageable);
 
+  /**
+   * Runs the search together with one {@code GROUPBY ... REDUCE COUNT} aggregation per field, in a single round
+   * trip, and returns the results with the counts of the (up to 100 most frequent) values of each field over all
+   * the documents matching the search.
+   */
+  @SuppressWarnings("unchecked")
+  FacetedResult<E> facets(MetamodelField<E, ?>... fields);
+
+  /**
+   * Like {@link #facets(MetamodelField[])}, keeping up to {@code maxValues} values per facet.
+   */
+  @SuppressWarnings("unchecked")
+  FacetedResult<E> facets(int maxValues, MetamodelField<E, ?>... fields);
+
+  /**
+   * Runs one KNN query per vector, pipelined over a single connection, and returns the {@code k} nearest entities
+   * to each vector. The filters of the stream are the pre-filter shared by all the queries; repeated vectors are
+   * searched once.
+   *
+   * @throws IllegalStateException if the stream is already filtered with a KNN predicate
+   */
+  KNNBatchResult<E> knnBatch(VectorField<E, ?> field, int k, List<float[]> vectors);
+
   <R> SearchStream<E> project(Function<? super E, ? extends R> field);
 
   @SuppressWarnings("unchecked")
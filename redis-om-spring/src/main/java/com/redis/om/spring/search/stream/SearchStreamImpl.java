@@ -4,31 +4,45 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.redis.om.spring.annotations.Document;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
+import com.redis.om.spring.indexing.DistanceMetric;
 import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.indexing.VectorType;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.indexed.NumericField;
+import com.redis.om.spring.metamodel.indexed.VectorField;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.search.stream.actions.TakesJSONOperations;
+import com.redis.om.spring.search.stream.aggregations.AggregationValues;
+import com.redis.om.spring.search.stream.predicates.AndPredicate;
+import com.redis.om.spring.search.stream.predicates.OrPredicate;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.search.stream.predicates.vector.KNNPredicate;
+import com.redis.om.spring.search.stream.predicates.vector.VectorRangePredicate;
 import com.redis.om.spring.tuple.AbstractTupleMapper;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.TupleMapper;
 import com.redis.om.spring.util.ObjectUtils;
 import com.redis.om.spring.util.SearchResultRawResponseToObjectConverter;
+import com.redis.om.spring.util.VectorDistances;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.*;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
+import org.springframework.util.ReflectionUtils;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.Query.HighlightTags;
 import redis.clients.jedis.search.SearchResult;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
 import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.search.aggr.Reducers;
 import redis.clients.jedis.search.aggr.SortedField;
 import redis.clients.jedis.search.aggr.SortedField.SortOrder;
 import redis.clients.jedis.search.querybuilder.Node;
@@ -37,9 +51,11 @@ import redis.clients.jedis.util.SafeEncoder;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -54,7 +70,10 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
 
   private static final Integer MAX_LIMIT = 10000;
 
-  @SuppressWarnings("unused")
+  private static final int DEFAULT_FACET_MAX_VALUES = 100;
+
+  private static final String FACET_COUNT = "count";
+
   private final RedisModulesOperations<String> modulesOperations;
   private final SearchOperations<String> search;
   private final JSONOperations<String> json;
@@ -78,6 +97,11 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   private Runnable closeHandler;
   private Stream<E> resolvedStream;
   private KNNPredicate<E, ?> knnPredicate;
+  private final Map<String, Object> filterParams = new LinkedHashMap<>();
+  private int vectorRanges;
+  private String yieldedDistance;
+  // the entity property receiving the yielded distance, null if there is none
+  private Field distanceField;
   private int dialect = 1;
   private SummarizeParams summarizeParams;
   private Pair<String, String> highlightTags;
@@ -88,6 +112,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     this.indexer = indexer;
     this.modulesOperations = modulesOperations;
     this.entityClass = entityClass;
+    this.indexer.awaitIndexReady(entityClass);
     this.searchIndex = this.indexer.getIndexName(entityClass);
     this.search = modulesOperations.opsForSearch(searchIndex);
     this.json = modulesOperations.opsForJSON();
@@ -131,7 +156,11 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   public SearchStream<E> filter(SearchFieldPredicate<? super E, ?> predicate) {
     if (predicate instanceof KNNPredicate) {
       knnPredicate = (KNNPredicate<E, ?>) predicate;
+      if (knnPredicate.getYieldDistanceAs() != null) {
+        yieldDistanceAs(knnPredicate.getYieldDistanceAs());
+      }
     } else {
+      collectFilterParams(predicate);
       rootNode = processPredicate(predicate);
     }
     return this;
@@ -139,10 +168,41 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
 
   @Override
   public SearchStream<E> filter(Predicate<?> predicate) {
+    collectFilterParams(predicate);
     rootNode = processPredicate(predicate);
     return this;
   }
 
+  /**
+   * Vector ranges reference their vector and radius as query parameters, which have to be sent with every query
+   * (and aggregation) rendered from the filter.
+   */
+  private void collectFilterParams(Predicate<?> predicate) {
+    if (predicate instanceof VectorRangePredicate<?, ?> range) {
+      range.setParamIndex(vectorRanges++);
+      filterParams.putAll(range.getParams());
+      if (range.getYieldDistanceAs() != null) {
+        yieldDistanceAs(range.getYieldDistanceAs());
+      }
+    } else if (predicate instanceof AndPredicate<?, ?> and) {
+      and.stream().forEach(this::collectFilterParams);
+    } else if (predicate instanceof OrPredicate<?, ?> or) {
+      or.stream().forEach(this::collectFilterParams);
+    }
+  }
+
+  private int filterDialect() {
+    return filterParams.isEmpty() ? dialect : Math.max(dialect, 2);
+  }
+
+  private Query withFilterParams(Query query) {
+    if (!filterParams.isEmpty()) {
+      filterParams.forEach(query::addParam);
+      query.dialect(filterDialect());
+    }
+    return query;
+  }
+
   @Override
   public SearchStream<E> filter(String freeText) {
     Node freeTextNode = new Node() {
@@ -204,7 +264,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
         TakesJSONOperations tjo = (TakesJSONOperations) mapper;
         tjo.setJSONOperations(json);
       }
-      return new WrapperSearchStream<>(resolveStream().map(mapper));
+      return new WrapperSearchStream<>(resolveStream("map").map(mapper));
     }
 
     resolvedStream = Stream.empty();
@@ -214,37 +274,37 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
 
   @Override
   public IntStream mapToInt(ToIntFunction<? super E> mapper) {
-    return resolveStream().mapToInt(mapper);
+    return resolveStream("mapToInt").mapToInt(mapper);
   }
 
   @Override
   public LongStream mapToLong(ToLongFunction<? super E> mapper) {
-    return resolveStream().mapToLong(mapper);
+    return resolveStream("mapToLong").mapToLong(mapper);
   }
 
   @Override
   public DoubleStream mapToDouble(ToDoubleFunction<? super E> mapper) {
-    return resolveStream().mapToDouble(mapper);
+    return resolveStream("mapToDouble").mapToDouble(mapper);
   }
 
   @Override
   public <R> SearchStream<R> flatMap(Function<? super E, ? extends Stream<? extends R>> mapper) {
-    return new WrapperSearchStream<>(resolveStream().flatMap(mapper));
+    return new WrapperSearchStream<>(resolveStream("flatMap").flatMap(mapper));
   }
 
   @Override
   public IntStream flatMapToInt(Function<? super E, ? extends IntStream> mapper) {
-    return resolveStream().flatMapToInt(mapper);
+    return resolveStream("flatMapToInt").flatMapToInt(mapper);
   }
 
   @Override
   public LongStream flatMapToLong(Function<? super E, ? extends LongStream> mapper) {
-    return resolveStream().flatMapToLong(mapper);
+    return resolveStream("flatMapToLong").flatMapToLong(mapper);
   }
 
   @Override
   public DoubleStream flatMapToDouble(Function<? super E, ? extends DoubleStream> mapper) {
-    return resolveStream().flatMapToDouble(mapper);
+    return resolveStream("flatMapToDouble").flatMapToDouble(mapper);
   }
 
   @Override
@@ -277,7 +337,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
 
   @Override
   public SearchStream<E> peek(Consumer<? super E> action) {
-    return new WrapperSearchStream<>(resolveStream().peek(action));
+    return new WrapperSearchStream<>(resolveStream("peek").peek(action));
   }
 
   @Override
@@ -299,88 +359,98 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
       tjo.setJSONOperations(json);
     }
 
-    resolveStream().forEach(action);
+    resolveStream("forEach").forEach(action);
   }
 
   @Override
   public void forEachOrdered(Consumer<? super E> action) {
-    resolveStream().forEachOrdered(action);
+    resolveStream("forEachOrdered").forEachOrdered(action);
   }
 
   @Override
   public Object[] toArray() {
-    return resolveStream().toArray();
+    return resolveStream("toArray").toArray();
   }
 
   @Override
   public <A> A[] toArray(IntFunction<A[]> generator) {
-    return resolveStream().toArray(generator);
+    return resolveStream("toArray").toArray(generator);
   }
 
   @Override
   public E reduce(E identity, BinaryOperator<E> accumulator) {
-    return resolveStream().reduce(identity, accumulator);
+    return resolveStream("reduce").reduce(identity, accumulator);
   }
 
   @Override
   public Optional<E> reduce(BinaryOperator<E> accumulator) {
-    return resolveStream().reduce(accumulator);
+    return resolveStream("reduce").reduce(accumulator);
   }
 
   @Override
   public <U> U reduce(U identity, BiFunction<U, ? super E, U> accumulator, BinaryOperator<U> combiner) {
-    return resolveStream().reduce(identity, accumulator, combiner);
+    return resolveStream("reduce").reduce(identity, accumulator, combiner);
   }
 
   @Override
   public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super E> accumulator, BiConsumer<R, R> combiner) {
-    return resolveStream().collect(supplier, accumulator, combiner);
+    return resolveStream("collect").collect(supplier, accumulator, combiner);
   }
 
   @Override
   public <R, A> R collect(Collector<? super E, A, R> collector) {
-    return resolveStream().collect(collector);
+    return resolveStream("collect").collect(collector);
+  }
+
+  @Override
+  public <R, A> CompletableFuture<R> collectAsync(Collector<? super E, A, R> collector) {
+    return modulesOperations.asyncExecutor().supply(() -> collect(collector));
   }
 
   @Override
   public Optional<E> min(Comparator<? super E> comparator) {
-    return resolveStream().min(comparator);
+    return resolveStream("min").min(comparator);
   }
 
   @Override
   public Optional<E> max(Comparator<? super E> comparator) {
-    return resolveStream().max(comparator);
+    return resolveStream("max").max(comparator);
   }
 
   @Override
   public long count() {
-    Query query = (rootNode.toString().isBlank()) ? new Query() : new Query(rootNode.toString());
+    Query query = withFilterParams((rootNode.toString().isBlank()) ? new Query() : new Query(rootNode.toString()));
     query.limit(0, 0);
-    SearchResult searchResult = search.search(query);
+    SearchResult searchResult = instrumented("count", () -> search.search(query));
     resolvedStream = Stream.empty();
 
     return searchResult.getTotalResults();
   }
 
+  @Override
+  public CompletableFuture<Long> countAsync() {
+    return modulesOperations.asyncExecutor().supply(this::count);
+  }
+
   @Override
   public boolean anyMatch(Predicate<? super E> predicate) {
-    return resolveStream().anyMatch(predicate);
+    return resolveStream("anyMatch").anyMatch(predicate);
   }
 
   @Override
   public boolean allMatch(Predicate<? super E> predicate) {
-    return resolveStream().allMatch(predicate);
+    return resolveStream("allMatch").allMatch(predicate);
   }
 
   @Override
   public boolean noneMatch(Predicate<? super E> predicate) {
-    return resolveStream().noneMatch(predicate);
+    return resolveStream("noneMatch").noneMatch(predicate);
   }
 
   @Override
   public Optional<E> findFirst() {
     limit = 1L;
-    return resolveStream().findFirst();
+    return resolveStream("findFirst").findFirst();
   }
 
   @Override
@@ -390,9 +460,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
 
   @Override
   public SearchStream<E> findFirstOrElse(Supplier<? extends E> supplier) {
-    if (resolvedStream == null) {
-      resolvedStream = toEntityList(executeQuery()).stream();
-    }
+    resolveStream("findFirstOrElse");
 
     if (resolvedStream.findFirst().isEmpty()) {
       var entity = supplier.get();
@@ -406,12 +474,12 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
 
   @Override
   public Iterator<E> iterator() {
-    return resolveStream().iterator();
+    return resolveStream("iterator").iterator();
   }
 
   @Override
   public Spliterator<E> spliterator() {
-    return resolveStream().spliterator();
+    return resolveStream("spliterator").spliterator();
   }
 
   @Override
@@ -443,9 +511,9 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   @Override
   public void close() {
     if (closeHandler == null) {
-      resolveStream().close();
+      resolveStream("close").close();
     } else {
-      resolveStream().onClose(closeHandler).close();
+      resolveStream("onClose").onClose(closeHandler).close();
     }
   }
 
@@ -454,18 +522,30 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   }
 
   Query prepareQuery() {
+    return prepareQuery(rootNode.toString(), knnPredicate);
+  }
+
+  private Query prepareQuery(String renderedQuery) {
+    return prepareQuery(renderedQuery, knnPredicate);
+  }
+
+  private Query prepareQuery(String renderedQuery, KNNPredicate<E, ?> knnPredicate) {
     Query query;
 
     if (knnPredicate != null) {
+      if (knnPredicate.isReranked() && (sortBy != null || !projections.isEmpty())) {
+        throw new IllegalStateException(
+            "A reranked KNN query is ordered by exact distance, it cannot be sorted or projected");
+      }
       query = new Query(knnPredicate.apply(rootNode).toString());
-      query.addParam(knnPredicate.getBlobAttributeName(), knnPredicate.getBlobAttribute() != null ?
-          knnPredicate.getBlobAttribute() :
-          floatArrayToByteArray(knnPredicate.getDoublesAttribute()));
-      query.addParam("K", knnPredicate.getK());
+      query.addParam(knnPredicate.getBlobAttributeName(), knnPredicate.getBlob());
+      query.addParam("K", knnPredicate.getCandidates());
+      filterParams.forEach(query::addParam);
       query.dialect(2);
     } else {
-      query = (rootNode.toString().isBlank()) ? new Query() : new Query(rootNode.toString());
-      query.dialect(dialect);
+      query = renderedQuery.isBlank() ? new Query() : new Query(renderedQuery);
+      filterParams.forEach(query::addParam);
+      query.dialect(filterDialect());
     }
 
     query.limit(skip != null ? skip.intValue() : 0, limit != null ? limit.intValue() : MAX_LIMIT);
@@ -523,8 +603,12 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   }
 
   private SearchResult executeQuery() {
+    return executeQuery(() -> search.search(prepareQuery()));
+  }
+
+  private SearchResult executeQuery(Supplier<SearchResult> execution) {
     try {
-      return search.search(prepareQuery());
+      return execution.get();
     } catch (JedisDataException jde) {
       if (isQBE && jde.getMessage().contains("not loaded nor in schema")) {
         throw new UnsupportedOperationException("The example object properties are not part of the search schema", jde);
@@ -536,14 +620,17 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   @SuppressWarnings("unchecked")
   private List<E> toEntityList(SearchResult searchResult) {
     if (projections.isEmpty()) {
-      if (isDocument) {
-        Gson g = getGson();
-        return searchResult.getDocuments().stream()
-            .map(d -> g.fromJson(SafeEncoder.encode((byte[]) d.get("$")), entityClass)).toList();
-      } else {
-        return searchResult.getDocuments().stream()
-            .map(d -> (E) ObjectUtils.documentToObject(d, entityClass, mappingConverter)).toList();
-      }
+      List<E> entities = modulesOperations.opsForSearch(searchIndex).deserialize(() -> {
+        if (isDocument) {
+          Gson g = getGson();
+          return searchResult.getDocuments().stream()
+              .map(d -> withDistance(d, g.fromJson(SafeEncoder.encode((byte[]) d.get("$")), entityClass))).toList();
+        } else {
+          return searchResult.getDocuments().stream()
+              .map(d -> withDistance(d, (E) ObjectUtils.documentToObject(d, entityClass, mappingConverter))).toList();
+        }
+      });
+      return knnPredicate != null && knnPredicate.isReranked() ? rerank(entities) : entities;
     } else {
       List<E> projectedEntities = new ArrayList<>();
       searchResult.getDocuments().forEach(doc -> {
@@ -572,13 +659,102 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     }
   }
 
-  private Stream<E> resolveStream() {
+  /**
+   * Re-ranks the candidates of an oversampled KNN query by their exact distance to the query vector and keeps the
+   * closest {@code k}. The exact distance replaces the yielded one in the entities.
+   */
+  private List<E> rerank(List<E> candidates) {
+    Field vectorField = knnPredicate.getField();
+    DistanceMetric metric = ObjectUtils.getDistanceMetric(vectorField);
+    float[] queryVector = knnPredicate.getQueryVector();
+
+    double[] distances = new double[candidates.size()];
+    Integer[] order = new Integer[candidates.size()];
+    for (int i = 0; i < distances.length; i++) {
+      float[] vector = vectorOf(vectorField, candidates.get(i));
+      distances[i] = vector != null ? VectorDistances.distance(metric, queryVector, vector) : Double.MAX_VALUE;
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparingDouble(i -> distances[i]));
+
+    int size = Math.min(knnPredicate.getK(), order.length);
+    List<E> reranked = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      E entity = candidates.get(order[i]);
+      setDistance(entity, distances[order[i]]);
+      reranked.add(entity);
+    }
+    return reranked;
+  }
+
+  private float[] vectorOf(Field vectorField, E entity) {
+    ReflectionUtils.makeAccessible(vectorField);
+    Object value = ReflectionUtils.getField(vectorField, entity);
+    if (value instanceof float[] floats) {
+      return floats;
+    } else if (value instanceof byte[] bytes) {
+      return ObjectUtils.byteArrayToFloatArray(bytes);
+    } else if (value instanceof double[] doubles) {
+      float[] floats = new float[doubles.length];
+      for (int i = 0; i < doubles.length; i++) {
+        floats[i] = (float) doubles[i];
+      }
+      return floats;
+    }
+    return null;
+  }
+
+  private void yieldDistanceAs(String alias) {
+    yieldedDistance = alias;
+    distanceField = resolveDistanceField(alias);
+  }
+
+  private void setDistance(E entity, Object distance) {
+    if (distanceField == null || distance == null) {
+      return;
+    }
+    try {
+      distanceField.set(entity, AggregationValues.converterFor(distanceField.getType()).apply(distance));
+    } catch (IllegalAccessException | IllegalArgumentException e) {
+      logger.debug("🧨 couldn't set distance on " + distanceField.getName(), e);
+    }
+  }
+
+  /**
+   * Copies the distance yielded by a KNN or vector range query ({@code YIELD_DISTANCE_AS}) into the entity property
+   * of the same name, if there is one.
+   */
+  private E withDistance(redis.clients.jedis.search.Document document, E entity) {
+    if (entity != null && yieldedDistance != null) {
+      setDistance(entity, document.get(yieldedDistance));
+    }
+    return entity;
+  }
+
+  private Field resolveDistanceField(String alias) {
+    try {
+      Field field = ObjectUtils.getDeclaredFieldTransitively(entityClass, alias);
+      field.setAccessible(true);
+      return field;
+    } catch (NoSuchFieldException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @param operation the terminal operation the query runs for, naming the instrumented operation
+   */
+  private Stream<E> resolveStream(String operation) {
     if (resolvedStream == null) {
-      resolvedStream = toEntityList(executeQuery()).stream();
+      resolvedStream = instrumented(operation, () -> toEntityList(executeQuery())).stream();
     }
     return resolvedStream;
   }
 
+  private <T> T instrumented(String operation, Supplier<T> call) {
+    return modulesOperations.metrics().timeOperation("SearchStream." + operation, searchIndex, call);
+  }
+
   private boolean isStreamResolved() {
     return resolvedStream != null;
   }
@@ -600,7 +776,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
       onlyIds = true;
 
       Method idSetter = ObjectUtils.getSetterForField(entityClass, idField);
-      Stream<E> wrappedIds = (Stream<E>) executeQuery().getDocuments() //
+      Stream<E> wrappedIds = (Stream<E>) instrumented("map", this::executeQuery).getDocuments() //
           .stream() //
           .map(d -> {
             try {
@@ -639,15 +815,16 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   public final <R> AggregationStream<R> groupBy(MetamodelField<E, ?>... fields) {
     resolvedStream = Stream.empty();
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    return new AggregationStreamImpl<>(searchIndex, modulesOperations, getGson(), entityClass, query, fields);
+    return new AggregationStreamImpl<E, R>(searchIndex, modulesOperations, getGson(), entityClass, query, fields) //
+        .params(filterParams);
   }
 
   @Override
   public <R> AggregationStream<R> apply(String expression, String alias) {
     resolvedStream = Stream.empty();
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, getGson(),
-        entityClass, query);
+    AggregationStream<R> aggregationStream = new AggregationStreamImpl<E, R>(searchIndex, modulesOperations,
+        getGson(), entityClass, query).params(filterParams);
     aggregationStream.apply(expression, alias);
     return aggregationStream;
   }
@@ -657,8 +834,8 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   public final <R> AggregationStream<R> load(MetamodelField<E, ?>... fields) {
     resolvedStream = Stream.empty();
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, getGson(),
-        entityClass, query);
+    AggregationStream<R> aggregationStream = new AggregationStreamImpl<E, R>(searchIndex, modulesOperations,
+        getGson(), entityClass, query).params(filterParams);
     aggregationStream.load(fields);
     return aggregationStream;
   }
@@ -667,8 +844,8 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   public <R> AggregationStream<R> loadAll() {
     resolvedStream = Stream.empty();
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, getGson(),
-        entityClass, query);
+    AggregationStream<R> aggregationStream = new AggregationStreamImpl<E, R>(searchIndex, modulesOperations,
+        getGson(), entityClass, query).params(filterParams);
     aggregationStream.loadAll();
     return aggregationStream;
   }
@@ -677,8 +854,8 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   public <R> AggregationStream<R> cursor(int count, Duration timeout) {
     resolvedStream = Stream.empty();
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, getGson(),
-        entityClass, query);
+    AggregationStream<R> aggregationStream = new AggregationStreamImpl<E, R>(searchIndex, modulesOperations,
+        getGson(), entityClass, query).params(filterParams);
     aggregationStream.cursor(count, timeout);
     return aggregationStream;
   }
@@ -731,11 +908,14 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
       if (!isStreamResolved()) {
         this.sorted(pageable.getSort()).limit(pageable.getPageSize()).skip(Math.toIntExact(pageable.getOffset()));
         // issue a count query to answer the hasNext? question for the slice/page
-        Query countQuery = (rootNode.toString().isBlank()) ? new Query() : new Query(rootNode.toString());
+        Query countQuery = withFilterParams(
+            (rootNode.toString().isBlank()) ? new Query() : new Query(rootNode.toString()));
         countQuery.limit(Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), pageable.getPageSize());
-        SearchResult searchResult = search.search(countQuery);
-
-        return new PageImpl<>(this.resolveStream().toList(), pageable, searchResult.getTotalResults());
+        return instrumented("getPage", () -> {
+          SearchResult searchResult = search.search(countQuery);
+          resolvedStream = toEntityList(executeQuery()).stream();
+          return new PageImpl<>(resolvedStream.toList(), pageable, searchResult.getTotalResults());
+        });
       } else {
         return new PageImpl<E>(List.of());
       }
@@ -743,6 +923,149 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     }
   }
 
+  @SafeVarargs
+  @Override
+  public final FacetedResult<E> facets(MetamodelField<E, ?>... fields) {
+    return facets(DEFAULT_FACET_MAX_VALUES, fields);
+  }
+
+  @SafeVarargs
+  @Override
+  public final FacetedResult<E> facets(int maxValues, MetamodelField<E, ?>... fields) {
+    return instrumented("facets", () -> facetsOf(maxValues, fields));
+  }
+
+  @SafeVarargs
+  private FacetedResult<E> facetsOf(int maxValues, MetamodelField<E, ?>... fields) {
+    resolvedStream = Stream.empty();
+    // the filter is rendered once, for the search and all the facet aggregations; with a KNN predicate the facets
+    // are counted over the filter (the pre-filter of the KNN query)
+    String renderedQuery = rootNode.toString();
+    Query query = prepareQuery(renderedQuery);
+    String facetQuery = renderedQuery.isBlank() ? "*" : renderedQuery;
+    List<AggregationBuilder> aggregations = new ArrayList<>(fields.length);
+    for (MetamodelField<E, ?> field : fields) {
+      AggregationBuilder aggregation = new AggregationBuilder(facetQuery) //
+          .groupBy("@" + field.getSearchAlias(), Reducers.count().as(FACET_COUNT)) //
+          .sortBy(maxValues, SortedField.desc("@" + FACET_COUNT)) //
+          .dialect(filterDialect());
+      if (!filterParams.isEmpty()) {
+        aggregation.params(filterParams);
+      }
+      aggregations.add(aggregation);
+    }
+
+    SearchResult searchResult;
+    List<AggregationResult> aggregationResults;
+    Optional<Jedis> maybeJedis = modulesOperations.client().getJedis();
+    if (maybeJedis.isPresent()) {
+      try (Jedis jedis = maybeJedis.get()) {
+        Pipeline pipeline = jedis.pipelined();
+        Response<SearchResult> searchResponse = pipeline.ftSearch(SafeEncoder.encode(searchIndex), query);
+        List<Response<AggregationResult>> facetResponses = aggregations.stream() //
+            .map(aggregation -> pipeline.ftAggregate(searchIndex, aggregation)).toList();
+        modulesOperations.metrics().timeCommand("PIPELINE", searchIndex, pipeline::sync);
+
+        searchResult = executeQuery(searchResponse::get);
+        aggregationResults = facetResponses.stream().map(Response::get).toList();
+      }
+    } else {
+      // no single connection to pipeline on (i.e. cluster), fall back to one call per command
+      searchResult = executeQuery(() -> search.search(query));
+      aggregationResults = aggregations.stream().map(search::aggregate).toList();
+    }
+
+    Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+    for (int i = 0; i < fields.length; i++) {
+      String alias = fields[i].getSearchAlias();
+      Map<String, Long> counts = new LinkedHashMap<>();
+      aggregationResults.get(i).getResults().forEach(row -> {
+        Object value = row.get(alias);
+        Object count = row.get(FACET_COUNT);
+        if (value != null && count != null) {
+          counts.put(AggregationValues.asString(value), AggregationValues.parseLong(count));
+        }
+      });
+      facets.put(alias, counts);
+    }
+
+    return new FacetedResult<>(toEntityList(searchResult), searchResult.getTotalResults(), facets);
+  }
+
+  @Override
+  public KNNBatchResult<E> knnBatch(VectorField<E, ?> field, int k, List<float[]> vectors) {
+    return instrumented("knnBatch", () -> knnBatchOf(field, k, vectors));
+  }
+
+  private KNNBatchResult<E> knnBatchOf(VectorField<E, ?> field, int k, List<float[]> vectors) {
+    if (knnPredicate != null) {
+      throw new IllegalStateException("knnBatch cannot be combined with a KNN filter, it runs its own KNN queries");
+    }
+    resolvedStream = Stream.empty();
+    String renderedQuery = rootNode.toString();
+
+    // each distinct vector is encoded and searched once, repeated vectors share the results
+    VectorType vectorType = ObjectUtils.getVectorType(field.getSearchFieldAccessor().getField());
+    Map<ByteBuffer, Integer> distinctBlobs = new LinkedHashMap<>();
+    int[] queryForVector = new int[vectors.size()];
+    for (int i = 0; i < vectors.size(); i++) {
+      byte[] blob = floatArrayToByteArray(vectors.get(i), vectorType);
+      queryForVector[i] = distinctBlobs.computeIfAbsent(ByteBuffer.wrap(blob), b -> distinctBlobs.size());
+    }
+
+    List<Query> queries = new ArrayList<>(distinctBlobs.size());
+    String distanceAlias = null;
+    for (ByteBuffer blob : distinctBlobs.keySet()) {
+      KNNPredicate<E, ?> knn = new KNNPredicate<>(field.getSearchFieldAccessor(), k, blob.array());
+      distanceAlias = knn.getDistanceAlias();
+      Query query = prepareQuery(renderedQuery, knn);
+      query.setSortBy(distanceAlias, true);
+      query.limit(0, k);
+      queries.add(query);
+    }
+
+    List<SearchResult> searchResults;
+    Optional<Jedis> maybeJedis = modulesOperations.client().getJedis();
+    if (maybeJedis.isPresent()) {
+      try (Jedis jedis = maybeJedis.get()) {
+        Pipeline pipeline = jedis.pipelined();
+        byte[] index = SafeEncoder.encode(searchIndex);
+        List<Response<SearchResult>> responses = queries.stream().map(query -> pipeline.ftSearch(index, query))
+            .toList();
+        modulesOperations.metrics().timeCommand("PIPELINE", searchIndex, pipeline::sync);
+        searchResults = responses.stream().map(response -> executeQuery(response::get)).toList();
+      }
+    } else {
+      // no single connection to pipeline on (i.e. cluster), fall back to one call per query
+      searchResults = queries.stream().map(query -> executeQuery(() -> search.search(query))).toList();
+    }
+
+    List<List<E>> distinctResults = new ArrayList<>(searchResults.size());
+    List<List<String>> distinctIds = new ArrayList<>(searchResults.size());
+    List<double[]> distinctDistances = new ArrayList<>(searchResults.size());
+    for (SearchResult searchResult : searchResults) {
+      List<redis.clients.jedis.search.Document> documents = searchResult.getDocuments();
+      double[] distances = new double[documents.size()];
+      for (int i = 0; i < distances.length; i++) {
+        Object distance = documents.get(i).get(distanceAlias);
+        distances[i] = distance != null ? AggregationValues.parseDouble(distance) : Double.NaN;
+      }
+      distinctResults.add(toEntityList(searchResult));
+      distinctIds.add(documents.stream().map(redis.clients.jedis.search.Document::getId).toList());
+      distinctDistances.add(distances);
+    }
+
+    List<List<E>> results = new ArrayList<>(vectors.size());
+    List<List<String>> ids = new ArrayList<>(vectors.size());
+    List<double[]> distances = new ArrayList<>(vectors.size());
+    for (int query : queryForVector) {
+      results.add(distinctResults.get(query));
+      ids.add(distinctIds.get(query));
+      distances.add(distinctDistances.get(query));
+    }
+    return new KNNBatchResult<>(results, ids, distances);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public <R> SearchStream<E> project(Function<? super E, ? extends R> field) {
@@ -2,6 +2,7 @@ package com.redis.om.spring.search.stream;
 
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.indexed.NumericField;
+import com.redis.om.spring.metamodel.indexed.VectorField;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.tuple.Pair;
@@ -317,6 +318,23 @@ public class WrapperSearchStream<E> implements SearchStream<E> {
     throw new UnsupportedOperationException("getPage is not supported on a WrappedSearchStream");
   }
 
+  @SafeVarargs
+  @Override
+  public final FacetedResult<E> facets(MetamodelField<E, ?>... fields) {
+    throw new UnsupportedOperationException("facets is not supported on a WrappedSearchStream");
+  }
+
+  @SafeVarargs
+  @Override
+  public final FacetedResult<E> facets(int maxValues, MetamodelField<E, ?>... fields) {
+    throw new UnsupportedOperationException("facets is not supported on a WrappedSearchStream");
+  }
+
+  @Override
+  public KNNBatchResult<E> knnBatch(VectorField<E, ?> field, int k, List<float[]> vectors) {
+    throw new UnsupportedOperationException("knnBatch is not supported on a WrappedSearchStream");
+  }
+
   @Override
   public <R> SearchStream<E> project(Function<? super E, ? extends R> field) {
     throw new UnsupportedOperationException("project is not supported on a WrappedSearchStream");
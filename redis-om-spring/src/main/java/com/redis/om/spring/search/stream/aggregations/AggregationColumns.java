@@ -0,0 +1,130 @@
+package com.redis.om.spring.search.stream.aggregations;
+
+import java.util.*;
+
+/**
+ * A column oriented view of an aggregation result. Columns whose type is integral (counts, sums over integral
+ * fields, numeric group-by keys) are stored as {@code long[]}, other numeric columns (averages, standard deviations,
+ * quantiles, sums over decimal fields) as {@code double[]}, and everything else as {@code Object[]}. Missing numeric
+ * values are stored as zero.
+ */
+public class AggregationColumns {
+  private final int size;
+  private final Map<String, Object> columns;
+
+  private AggregationColumns(int size, Map<String, Object> columns) {
+    this.size = size;
+    this.columns = columns;
+  }
+
+  /**
+   * @param rows        the rows of the aggregation result
+   * @param columnTypes the type of each column, by label, in column order
+   */
+  public static AggregationColumns of(List<Map<String, Object>> rows, Map<String, Class<?>> columnTypes) {
+    int size = rows.size();
+    Map<String, Object> columns = new LinkedHashMap<>();
+    columnTypes.forEach((label, type) -> {
+      switch (kindOf(type)) {
+        case LONG -> {
+          long[] column = new long[size];
+          for (int i = 0; i < size; i++) {
+            Object raw = rows.get(i).get(label);
+            column[i] = raw != null ? AggregationValues.parseLong(raw) : 0L;
+          }
+          columns.put(label, column);
+        }
+        case DOUBLE -> {
+          double[] column = new double[size];
+          for (int i = 0; i < size; i++) {
+            Object raw = rows.get(i).get(label);
+            column[i] = raw != null ? AggregationValues.parseDouble(raw) : 0d;
+          }
+          columns.put(label, column);
+        }
+        case OBJECT -> {
+          var converter = AggregationValues.converterFor(type);
+          Object[] column = new Object[size];
+          for (int i = 0; i < size; i++) {
+            column[i] = converter.apply(rows.get(i).get(label));
+          }
+          columns.put(label, column);
+        }
+      }
+    });
+    return new AggregationColumns(size, columns);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public List<String> getLabels() {
+    return List.copyOf(columns.keySet());
+  }
+
+  /**
+   * @return {@code long.class}, {@code double.class} or {@code Object.class}
+   */
+  public Class<?> getColumnType(String label) {
+    Object column = column(label);
+    return column instanceof long[] ? long.class : column instanceof double[] ? double.class : Object.class;
+  }
+
+  public long[] getLongs(String label) {
+    if (column(label) instanceof long[] longs) {
+      return longs;
+    }
+    throw new IllegalArgumentException(String.format("Column %s is not an integral column", label));
+  }
+
+  /**
+   * Returns a numeric column as doubles; integral columns are widened into a new array.
+   */
+  public double[] getDoubles(String label) {
+    Object column = column(label);
+    if (column instanceof double[] doubles) {
+      return doubles;
+    } else if (column instanceof long[] longs) {
+      return Arrays.stream(longs).asDoubleStream().toArray();
+    }
+    throw new IllegalArgumentException(String.format("Column %s is not a numeric column", label));
+  }
+
+  /**
+   * Returns any column as objects; numeric columns are boxed into a new array.
+   */
+  public Object[] getValues(String label) {
+    Object column = column(label);
+    if (column instanceof long[] longs) {
+      return Arrays.stream(longs).boxed().toArray();
+    } else if (column instanceof double[] doubles) {
+      return Arrays.stream(doubles).boxed().toArray();
+    }
+    return (Object[]) column;
+  }
+
+  private Object column(String label) {
+    Object column = columns.get(label);
+    if (column == null) {
+      throw new IllegalArgumentException(String.format("No column %s in aggregation result, columns are %s", label,
+          columns.keySet()));
+    }
+    return column;
+  }
+
+  private static Kind kindOf(Class<?> type) {
+    if (type == long.class || type == Long.class || type == int.class || type == Integer.class || type == short.class
+        || type == Short.class || type == byte.class || type == Byte.class) {
+      return Kind.LONG;
+    } else if (type.isPrimitive() && type != boolean.class && type != char.class || Number.class.isAssignableFrom(
+        type)) {
+      return Kind.DOUBLE;
+    }
+    return Kind.OBJECT;
+  }
+
+  private enum Kind {
+    LONG, DOUBLE, OBJECT
+  }
+}
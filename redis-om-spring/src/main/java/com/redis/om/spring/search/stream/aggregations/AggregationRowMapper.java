@@ -0,0 +1,157 @@
+package com.redis.om.spring.search.stream.aggregations;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Binds {@code FT.AGGREGATE} rows to a record or to an interface with accessor methods. The row label each
+ * component (or accessor) reads from, and the converter for its type, are worked out once per target type and
+ * cached, so mapping a row only looks up and converts its values.
+ * <p>
+ * Record components are matched by name to the aliases of the aggregation (group-by fields, reducer aliases set
+ * with {@code as(...)}, {@code apply(...)} aliases). Interface accessors are matched by property name, so
+ * {@code getCount()}, {@code count()} and {@code isCount()} all read the {@code count} label.
+ */
+public final class AggregationRowMapper<R> implements Function<Map<String, Object>, R> {
+  private static final Map<Class<?>, AggregationRowMapper<?>> cache = new ConcurrentHashMap<>();
+
+  private final String[] labels;
+  private final Function<Object, Object>[] converters;
+  private final Function<Object[], R> factory;
+
+  private AggregationRowMapper(String[] labels, Function<Object, Object>[] converters, Function<Object[], R> factory) {
+    this.labels = labels;
+    this.converters = converters;
+    this.factory = factory;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <R> AggregationRowMapper<R> of(Class<R> type) {
+    return (AggregationRowMapper<R>) cache.computeIfAbsent(type, AggregationRowMapper::create);
+  }
+
+  public List<String> getLabels() {
+    return List.of(labels);
+  }
+
+  @Override
+  public R apply(Map<String, Object> row) {
+    Object[] values = new Object[labels.length];
+    for (int i = 0; i < labels.length; i++) {
+      values[i] = converters[i].apply(row.get(labels[i]));
+    }
+    return factory.apply(values);
+  }
+
+  private static <R> AggregationRowMapper<R> create(Class<R> type) {
+    if (type.isRecord()) {
+      return forRecord(type);
+    } else if (type.isInterface()) {
+      return forInterface(type);
+    } else {
+      throw new IllegalArgumentException(
+          String.format("Aggregation rows can only be mapped to records or interfaces, not %s", type.getName()));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <R> AggregationRowMapper<R> forRecord(Class<R> type) {
+    RecordComponent[] components = type.getRecordComponents();
+    String[] labels = new String[components.length];
+    Function<Object, Object>[] converters = new Function[components.length];
+    Class<?>[] parameterTypes = new Class<?>[components.length];
+    for (int i = 0; i < components.length; i++) {
+      labels[i] = components[i].getName();
+      parameterTypes[i] = components[i].getType();
+      converters[i] = AggregationValues.converterFor(parameterTypes[i]);
+    }
+
+    Constructor<R> constructor;
+    try {
+      constructor = type.getDeclaredConstructor(parameterTypes);
+      constructor.setAccessible(true);
+    } catch (NoSuchMethodException | SecurityException e) {
+      throw new IllegalArgumentException(String.format("Cannot access the canonical constructor of %s", type), e);
+    }
+
+    return new AggregationRowMapper<>(labels, converters, values -> {
+      try {
+        return constructor.newInstance(values);
+      } catch (InvocationTargetException e) {
+        throw new IllegalStateException(String.format("Could not create %s from aggregation row", type),
+            e.getCause());
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(String.format("Could not create %s from aggregation row", type), e);
+      }
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <R> AggregationRowMapper<R> forInterface(Class<R> type) {
+    Map<Method, Integer> slots = new HashMap<>();
+    List<String> labels = new ArrayList<>();
+    List<Function<Object, Object>> converters = new ArrayList<>();
+    for (Method method : type.getMethods()) {
+      if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() > 0) {
+        continue;
+      }
+      String label = propertyName(method);
+      int slot = labels.indexOf(label);
+      if (slot < 0) {
+        slot = labels.size();
+        labels.add(label);
+        converters.add(AggregationValues.converterFor(method.getReturnType()));
+      }
+      slots.put(method, slot);
+    }
+
+    String[] labelArray = labels.toArray(String[]::new);
+    ClassLoader classLoader = type.getClassLoader();
+    Class<?>[] interfaces = new Class<?>[] { type };
+    return new AggregationRowMapper<>(labelArray, converters.toArray(Function[]::new),
+        values -> (R) Proxy.newProxyInstance(classLoader, interfaces, new RowInvocationHandler(type, labelArray,
+            slots, values)));
+  }
+
+  private static String propertyName(Method method) {
+    String name = method.getName();
+    String property = name;
+    if (name.startsWith("get") && name.length() > 3) {
+      property = name.substring(3);
+    } else if (name.startsWith("is") && name.length() > 2 && (method.getReturnType() == boolean.class
+        || method.getReturnType() == Boolean.class)) {
+      property = name.substring(2);
+    }
+    return property.equals(name) ? name : Character.toLowerCase(property.charAt(0)) + property.substring(1);
+  }
+
+  private record RowInvocationHandler(Class<?> type, String[] labels, Map<Method, Integer> slots, Object[] values)
+      implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Integer slot = slots.get(method);
+      if (slot != null) {
+        return values[slot];
+      } else if (method.isDefault()) {
+        return InvocationHandler.invokeDefault(proxy, method, args);
+      }
+      return switch (method.getName()) {
+        case "equals" -> proxy == args[0] || (args[0] != null && Proxy.isProxyClass(args[0].getClass())
+            && Proxy.getInvocationHandler(args[0]) instanceof RowInvocationHandler other && type == other.type
+            && Arrays.equals(values, other.values));
+        case "hashCode" -> Arrays.hashCode(values);
+        case "toString" -> {
+          StringJoiner joiner = new StringJoiner(", ", type.getSimpleName() + "[", "]");
+          for (int i = 0; i < labels.length; i++) {
+            joiner.add(labels[i] + "=" + values[i]);
+          }
+          yield joiner.toString();
+        }
+        default -> throw new UnsupportedOperationException(method.toString());
+      };
+    }
+  }
+}
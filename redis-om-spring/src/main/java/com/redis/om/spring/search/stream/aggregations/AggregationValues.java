@@ -0,0 +1,160 @@
+package com.redis.om.spring.search.stream.aggregations;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Conversions for the values of {@code FT.AGGREGATE} rows. RediSearch replies with every value as a bulk string;
+ * depending on the client these arrive as {@code byte[]} or already decoded as {@code String}. Integral numbers are
+ * parsed straight from either form without creating intermediate strings, and {@code inf}/{@code nan} (as
+ * rendered by the server) are understood.
+ */
+public final class AggregationValues {
+
+  private AggregationValues() {
+  }
+
+  /**
+   * Returns the converter for a target type, to be looked up once per column rather than once per value.
+   * Primitive targets map missing values to zero, all other targets map them to {@code null}.
+   */
+  public static Function<Object, Object> converterFor(Class<?> type) {
+    if (type == long.class) {
+      return raw -> raw != null ? parseLong(raw) : 0L;
+    } else if (type == Long.class) {
+      return raw -> raw != null ? parseLong(raw) : null;
+    } else if (type == int.class) {
+      return raw -> raw != null ? (int) parseLong(raw) : 0;
+    } else if (type == Integer.class) {
+      return raw -> raw != null ? (int) parseLong(raw) : null;
+    } else if (type == short.class) {
+      return raw -> raw != null ? (short) parseLong(raw) : (short) 0;
+    } else if (type == Short.class) {
+      return raw -> raw != null ? (short) parseLong(raw) : null;
+    } else if (type == double.class) {
+      return raw -> raw != null ? parseDouble(raw) : 0d;
+    } else if (type == Double.class) {
+      return raw -> raw != null ? parseDouble(raw) : null;
+    } else if (type == float.class) {
+      return raw -> raw != null ? (float) parseDouble(raw) : 0f;
+    } else if (type == Float.class) {
+      return raw -> raw != null ? (float) parseDouble(raw) : null;
+    } else if (type == boolean.class) {
+      return raw -> raw != null && parseBoolean(raw);
+    } else if (type == Boolean.class) {
+      return raw -> raw != null ? parseBoolean(raw) : null;
+    } else if (type == BigDecimal.class) {
+      return raw -> raw != null ? new BigDecimal(asString(raw)) : null;
+    } else if (type == String.class || type == CharSequence.class) {
+      return AggregationValues::asString;
+    } else if (List.class.isAssignableFrom(type)) {
+      return raw -> raw instanceof List<?> list ? list.stream().map(AggregationValues::asString).toList() : raw;
+    } else {
+      return raw -> raw instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : raw;
+    }
+  }
+
+  public static String asString(Object raw) {
+    if (raw == null) {
+      return null;
+    } else if (raw instanceof byte[] bytes) {
+      return new String(bytes, StandardCharsets.UTF_8);
+    } else {
+      return raw.toString();
+    }
+  }
+
+  /**
+   * Parses an integral value. Values with a fractional part (e.g. a {@code SUM} over decimals) are truncated.
+   */
+  public static long parseLong(Object raw) {
+    if (raw instanceof Number n) {
+      return n.longValue();
+    } else if (raw instanceof byte[] bytes) {
+      return isIntegral(bytes) ? parseIntegral(bytes) : parseLongSlow(new String(bytes, StandardCharsets.US_ASCII));
+    } else {
+      CharSequence cs = raw instanceof CharSequence s ? s : raw.toString();
+      return isIntegral(cs) ? Long.parseLong(cs, 0, cs.length(), 10) : parseLongSlow(cs.toString());
+    }
+  }
+
+  public static double parseDouble(Object raw) {
+    if (raw instanceof Number n) {
+      return n.doubleValue();
+    } else if (raw instanceof byte[] bytes) {
+      if (isIntegral(bytes)) {
+        return parseIntegral(bytes);
+      }
+      return parseDecimal(new String(bytes, StandardCharsets.US_ASCII));
+    } else {
+      CharSequence cs = raw instanceof CharSequence s ? s : raw.toString();
+      if (isIntegral(cs)) {
+        return Long.parseLong(cs, 0, cs.length(), 10);
+      }
+      return parseDecimal(cs.toString());
+    }
+  }
+
+  private static boolean parseBoolean(Object raw) {
+    String value = asString(raw);
+    return value.equals("1") || value.equalsIgnoreCase("true");
+  }
+
+  private static long parseLongSlow(String value) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      return (long) parseDecimal(value);
+    }
+  }
+
+  private static double parseDecimal(String value) {
+    return switch (value) {
+      case "inf", "+inf" -> Double.POSITIVE_INFINITY;
+      case "-inf" -> Double.NEGATIVE_INFINITY;
+      case "nan", "-nan" -> Double.NaN;
+      default -> Double.parseDouble(value);
+    };
+  }
+
+  // at most 18 digits, so that accumulating cannot overflow
+  private static boolean isIntegral(CharSequence cs) {
+    int length = cs.length();
+    int start = length > 0 && (cs.charAt(0) == '-' || cs.charAt(0) == '+') ? 1 : 0;
+    if (length == start || length - start > 18) {
+      return false;
+    }
+    for (int i = start; i < length; i++) {
+      char c = cs.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isIntegral(byte[] bytes) {
+    int start = bytes.length > 0 && (bytes[0] == '-' || bytes[0] == '+') ? 1 : 0;
+    if (bytes.length == start || bytes.length - start > 18) {
+      return false;
+    }
+    for (int i = start; i < bytes.length; i++) {
+      if (bytes[i] < '0' || bytes[i] > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long parseIntegral(byte[] bytes) {
+    boolean negative = bytes[0] == '-';
+    int start = negative || bytes[0] == '+' ? 1 : 0;
+    long value = 0;
+    for (int i = start; i < bytes.length; i++) {
+      value = value * 10 + (bytes[i] - '0');
+    }
+    return negative ? -value : value;
+  }
+}
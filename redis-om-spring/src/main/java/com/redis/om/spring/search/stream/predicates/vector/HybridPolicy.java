@@ -0,0 +1,17 @@
+package com.redis.om.spring.search.stream.predicates.vector;
+
+/**
+ * How a KNN query combines the vector search with the filter it is applied to.
+ */
+public enum HybridPolicy {
+  /**
+   * Brute force: the distances of all the documents passing the filter are computed. Efficient for small
+   * filtered sets.
+   */
+  ADHOC_BF,
+  /**
+   * Batches of the nearest neighbours are fetched from the vector index and filtered until K results are found.
+   * Efficient for large filtered sets.
+   */
+  BATCHES
+}
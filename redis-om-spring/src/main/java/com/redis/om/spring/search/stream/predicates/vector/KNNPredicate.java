@@ -1,14 +1,34 @@
 package com.redis.om.spring.search.stream.predicates.vector;
 
+import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 import com.redis.om.spring.search.stream.predicates.BaseAbstractPredicate;
 import redis.clients.jedis.search.querybuilder.Node;
 
+import static com.redis.om.spring.util.ObjectUtils.byteArrayToFloatArray;
+import static com.redis.om.spring.util.ObjectUtils.float32BlobFor;
+import static com.redis.om.spring.util.ObjectUtils.vectorBlobFor;
+
+/**
+ * A KNN vector query, rendered as {@code (filter)=>[KNN $K @field $blob ...attributes]}. The query attributes
+ * tune a single query: {@link #efRuntime(int)} trades latency for recall on HNSW indexes, {@link #hybridPolicy}
+ * and {@link #batchSize(int)} control how the filter is combined with the vector search, and
+ * {@link #yieldDistanceAs(String)} names the distance field so that it can be sorted on and read into an entity
+ * property of the same name.
+ * <p>
+ * With {@link #rerank(int)} the query fetches more candidates than {@code k} and the stream re-ranks them by their
+ * exact distance to the query vector, computed on the client from the stored vectors.
+ */
 public class KNNPredicate<E, T> extends BaseAbstractPredicate<E, T> {
 
   private final int k;
   private final byte[] blob;
   private final float[] floats;
+  private Integer efRuntime;
+  private HybridPolicy hybridPolicy;
+  private Integer batchSize;
+  private String yieldDistanceAs;
+  private int oversampleFactor = 1;
 
   public KNNPredicate(SearchFieldAccessor field, int k, byte[] blob) {
     super(field);
@@ -24,10 +44,94 @@ public class KNNPredicate<E, T> extends BaseAbstractPredicate<E, T> {
     this.floats = floats;
   }
 
+  /**
+   * EF_RUNTIME - the number of candidates kept during an HNSW search, overriding the value the index was created
+   * with for this query only.
+   */
+  public KNNPredicate<E, T> efRuntime(int efRuntime) {
+    if (efRuntime <= 0) {
+      throw new IllegalArgumentException("EF_RUNTIME must be positive, was " + efRuntime);
+    }
+    this.efRuntime = efRuntime;
+    return this;
+  }
+
+  public KNNPredicate<E, T> hybridPolicy(HybridPolicy hybridPolicy) {
+    if (hybridPolicy == HybridPolicy.ADHOC_BF && batchSize != null) {
+      throw new IllegalArgumentException("BATCH_SIZE cannot be used with the ADHOC_BF hybrid policy");
+    }
+    this.hybridPolicy = hybridPolicy;
+    return this;
+  }
+
+  /**
+   * BATCH_SIZE - the number of neighbours fetched per batch when the BATCHES hybrid policy is used.
+   */
+  public KNNPredicate<E, T> batchSize(int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("BATCH_SIZE must be positive, was " + batchSize);
+    }
+    if (hybridPolicy == HybridPolicy.ADHOC_BF) {
+      throw new IllegalArgumentException("BATCH_SIZE cannot be used with the ADHOC_BF hybrid policy");
+    }
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * YIELD_DISTANCE_AS - the name of the distance field in the results, instead of {@code __<field>_score}.
+   */
+  public KNNPredicate<E, T> yieldDistanceAs(String alias) {
+    this.yieldDistanceAs = alias;
+    return this;
+  }
+
+  public KNNPredicate<E, T> yieldDistanceAs(MetamodelField<? super E, ?> scoreField) {
+    return yieldDistanceAs(scoreField.getSearchAlias());
+  }
+
+  /**
+   * Fetches {@code k * oversampleFactor} candidates, re-ranks them by exact distance on the client and keeps the
+   * closest {@code k}. Recovers the recall lost to the approximation of HNSW and to reduced precision vector types;
+   * the entities must be read whole (not projected) so that their vectors are available.
+   * <p>
+   * The results are ordered by the exact distance: a reranked stream can't be {@code sorted} or projected, running
+   * it throws an {@link IllegalStateException}.
+   */
+  public KNNPredicate<E, T> rerank(int oversampleFactor) {
+    if (oversampleFactor < 1) {
+      throw new IllegalArgumentException("The oversample factor must be at least 1, was " + oversampleFactor);
+    }
+    this.oversampleFactor = oversampleFactor;
+    return this;
+  }
+
   public int getK() {
     return k;
   }
 
+  public int getOversampleFactor() {
+    return oversampleFactor;
+  }
+
+  /**
+   * @return the number of neighbours fetched by the query, {@code k} times the oversample factor
+   */
+  public int getCandidates() {
+    return k * oversampleFactor;
+  }
+
+  public boolean isReranked() {
+    return oversampleFactor > 1;
+  }
+
+  /**
+   * @return the query vector as FLOAT32 components
+   */
+  public float[] getQueryVector() {
+    return floats != null ? floats : byteArrayToFloatArray(float32BlobFor(getField(), blob));
+  }
+
   public byte[] getBlobAttribute() {
     return blob;
   }
@@ -36,14 +140,58 @@ public class KNNPredicate<E, T> extends BaseAbstractPredicate<E, T> {
     return floats;
   }
 
+  /**
+   * @return the query vector encoded for the vector type of the indexed field
+   */
+  public byte[] getBlob() {
+    return vectorBlobFor(getField(), blob != null ? blob : floats);
+  }
+
   public String getBlobAttributeName() {
     return String.format("%s_blob", getSearchAlias());
   }
 
+  public Integer getEfRuntime() {
+    return efRuntime;
+  }
+
+  public HybridPolicy getHybridPolicy() {
+    return hybridPolicy;
+  }
+
+  public Integer getBatchSize() {
+    return batchSize;
+  }
+
+  public String getYieldDistanceAs() {
+    return yieldDistanceAs;
+  }
+
+  /**
+   * @return the name of the distance field in the results
+   */
+  public String getDistanceAlias() {
+    return yieldDistanceAs != null ? yieldDistanceAs : String.format("__%s_score", getSearchAlias());
+  }
+
   @Override
   public Node apply(Node root) {
-    String query = String.format("(%s)=>[KNN $K @%s $%s]", root.toString().isBlank() ? "*" : root.toString(),
-        getSearchAlias(), getBlobAttributeName());
+    StringBuilder attributes = new StringBuilder();
+    if (efRuntime != null) {
+      attributes.append(" EF_RUNTIME ").append(efRuntime);
+    }
+    if (hybridPolicy != null) {
+      attributes.append(" HYBRID_POLICY ").append(hybridPolicy.name());
+    }
+    if (batchSize != null) {
+      attributes.append(" BATCH_SIZE ").append(batchSize);
+    }
+    if (yieldDistanceAs != null) {
+      attributes.append(" AS ").append(yieldDistanceAs);
+    }
+
+    String query = String.format("(%s)=>[KNN $K @%s $%s%s]", root.toString().isBlank() ? "*" : root.toString(),
+        getSearchAlias(), getBlobAttributeName(), attributes);
 
     return new Node() {
       @Override
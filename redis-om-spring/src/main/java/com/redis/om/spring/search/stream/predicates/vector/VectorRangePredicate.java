@@ -0,0 +1,140 @@
+package com.redis.om.spring.search.stream.predicates.vector;
+
+import com.redis.om.spring.metamodel.MetamodelField;
+import com.redis.om.spring.metamodel.SearchFieldAccessor;
+import com.redis.om.spring.search.stream.predicates.BaseAbstractPredicate;
+import redis.clients.jedis.search.querybuilder.Node;
+import redis.clients.jedis.search.querybuilder.QueryBuilders;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.redis.om.spring.util.ObjectUtils.vectorBlobFor;
+
+/**
+ * A vector range query, matching every document whose vector is within a distance of the given vector, rendered
+ * as {@code @field:[VECTOR_RANGE $radius $blob]}. Unlike a KNN query it is an ordinary clause of the filter and
+ * can be combined with other predicates. The vector and the radius are sent as query parameters, see
+ * {@link #getParams()}; several ranges on the same field in one query are told apart by their
+ * {@link #setParamIndex(int) index}.
+ */
+public class VectorRangePredicate<E, T> extends BaseAbstractPredicate<E, T> {
+
+  private final byte[] blob;
+  private final float[] floats;
+  private final double radius;
+  private Double epsilon;
+  private String yieldDistanceAs;
+  private int paramIndex;
+
+  public VectorRangePredicate(SearchFieldAccessor field, byte[] blob, double radius) {
+    super(field);
+    this.blob = blob;
+    this.floats = null;
+    this.radius = radius;
+  }
+
+  public VectorRangePredicate(SearchFieldAccessor field, float[] floats, double radius) {
+    super(field);
+    this.blob = null;
+    this.floats = floats;
+    this.radius = radius;
+  }
+
+  /**
+   * EPSILON - the relative factor by which an HNSW range search widens its boundaries, trading latency for
+   * recall.
+   */
+  public VectorRangePredicate<E, T> epsilon(double epsilon) {
+    if (epsilon <= 0) {
+      throw new IllegalArgumentException("EPSILON must be positive, was " + epsilon);
+    }
+    this.epsilon = epsilon;
+    return this;
+  }
+
+  /**
+   * YIELD_DISTANCE_AS - the name of the distance field in the results, to sort on or to be read into an entity
+   * property of the same name.
+   */
+  public VectorRangePredicate<E, T> yieldDistanceAs(String alias) {
+    this.yieldDistanceAs = alias;
+    return this;
+  }
+
+  public VectorRangePredicate<E, T> yieldDistanceAs(MetamodelField<? super E, ?> distanceField) {
+    return yieldDistanceAs(distanceField.getSearchAlias());
+  }
+
+  public double getRadius() {
+    return radius;
+  }
+
+  public Double getEpsilon() {
+    return epsilon;
+  }
+
+  public String getYieldDistanceAs() {
+    return yieldDistanceAs;
+  }
+
+  /**
+   * Sets the position of this range among the vector ranges of its query, appended to the names of its parameters
+   * unless it is the first one.
+   */
+  public void setParamIndex(int paramIndex) {
+    this.paramIndex = paramIndex;
+  }
+
+  public String getBlobAttributeName() {
+    return String.format("%s_range_blob%s", getSearchAlias(), paramSuffix());
+  }
+
+  public String getRadiusAttributeName() {
+    return String.format("%s_range_radius%s", getSearchAlias(), paramSuffix());
+  }
+
+  private String paramSuffix() {
+    return paramIndex == 0 ? "" : "_" + paramIndex;
+  }
+
+  /**
+   * @return the query parameters referenced by the rendered clause
+   */
+  public Map<String, Object> getParams() {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put(getBlobAttributeName(), vectorBlobFor(getField(), blob != null ? blob : floats));
+    params.put(getRadiusAttributeName(), radius);
+    return params;
+  }
+
+  @Override
+  public Node apply(Node root) {
+    StringBuilder attributes = new StringBuilder();
+    if (yieldDistanceAs != null) {
+      attributes.append("$YIELD_DISTANCE_AS: ").append(yieldDistanceAs);
+    }
+    if (epsilon != null) {
+      attributes.append(attributes.isEmpty() ? "" : "; ").append("$EPSILON: ").append(epsilon);
+    }
+    String clause = String.format("@%s:[VECTOR_RANGE $%s $%s]%s", getSearchAlias(), getRadiusAttributeName(),
+        getBlobAttributeName(), attributes.isEmpty() ? "" : "=>{" + attributes + "}");
+
+    Node range = new Node() {
+      @Override
+      public String toString() {
+        return clause;
+      }
+
+      @Override
+      public String toString(Parenthesize mode) {
+        return switch (mode) {
+          case NEVER -> toString();
+          case ALWAYS, DEFAULT -> String.format("(%s)", this);
+        };
+      }
+    };
+
+    return root.toString().isBlank() ? range : QueryBuilders.intersect(root, range);
+  }
+}
@@ -3,17 +3,18 @@ package com.redis.om.spring.serialization.gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.indexing.EntityRegistry;
+import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.annotation.Reference;
 import org.springframework.stereotype.Component;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -22,7 +23,6 @@ import static com.redis.om.spring.util.ObjectUtils.*;
 @Component
 public class GsonReferenceSerializerRegistrar {
   private static final Log logger = LogFactory.getLog(GsonReferenceSerializerRegistrar.class);
-  private static final String SKIPPING_REFERENCE_SEARCH = "Skipping @Reference search for %s because %s";
   private final GsonBuilder builder;
   private final ApplicationContext ac;
   private JSONOperations<?> ops;
@@ -32,19 +32,14 @@ public class GsonReferenceSerializerRegistrar {
     this.ac = ac;
   }
 
+  @SuppressWarnings("unchecked")
   public void registerReferencesFor(Class<?> cls) {
-    Set<BeanDefinition> beanDefs = new HashSet<>(getBeanDefinitionsFor(ac, cls));
+    Set<Class<?>> entityClasses = ac.getBean(EntityRegistry.class)
+        .getEntityClassesAnnotatedWith((Class<? extends Annotation>) cls);
 
-    logger.info(String.format("Found %s @%s annotated Beans...", beanDefs.size(), cls.getSimpleName()));
+    logger.info(String.format("Found %s @%s annotated Beans...", entityClasses.size(), cls.getSimpleName()));
 
-    for (BeanDefinition beanDef : beanDefs) {
-      try {
-        Class<?> cl = Class.forName(beanDef.getBeanClassName());
-        processEntity(cl);
-      } catch (ClassNotFoundException e) {
-        logger.warn(String.format(SKIPPING_REFERENCE_SEARCH, beanDef.getBeanClassName(), e.getMessage()));
-      }
-    }
+    entityClasses.forEach(this::processEntity);
   }
 
   private void processEntity(Class<?> clazz) {
@@ -73,7 +68,8 @@ public class GsonReferenceSerializerRegistrar {
 
     builder.registerTypeAdapter(typeToken.getType(),
         new ReferenceDeserializer(field, ops, ac.getBean(RedisOMProperties.class),
-            ac.getBean("redisOMCacheManager", CacheManager.class)));
+            ac.getBean("redisOMCacheManager", CacheManager.class),
+            ac.getBean("redisModulesOperations", RedisModulesOperations.class).metrics()));
     processEntity(field.getType());
   }
 
@@ -6,6 +6,7 @@ import com.google.gson.internal.ObjectConstructor;
 import com.google.gson.reflect.TypeToken;
 import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.RedisOMProperties.References;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.util.ObjectUtils;
 import org.apache.commons.logging.Log;
@@ -29,11 +30,18 @@ public class ReferenceDeserializer implements JsonDeserializer<Object> {
   private final Gson gson = new Gson();
   private final Cache referenceCache;
   private final List<String> cachedReferenceClasses;
+  private final RedisOMMetrics metrics;
 
-  @SuppressWarnings("unchecked")
   public ReferenceDeserializer(Field field, JSONOperations<?> ops, RedisOMProperties properties,
       CacheManager cacheManager) {
+    this(field, ops, properties, cacheManager, RedisOMMetrics.NOOP);
+  }
+
+  @SuppressWarnings("unchecked")
+  public ReferenceDeserializer(Field field, JSONOperations<?> ops, RedisOMProperties properties,
+      CacheManager cacheManager, RedisOMMetrics metrics) {
     this.ops = (JSONOperations<String>) ops;
+    this.metrics = metrics;
     Map<Type, InstanceCreator<?>> instanceCreators = new HashMap<>();
     ConstructorConstructor constructorConstructor = new ConstructorConstructor(instanceCreators, true,
         Collections.emptyList());
@@ -55,9 +63,17 @@ public class ReferenceDeserializer implements JsonDeserializer<Object> {
   }
 
   @Override
-  @SuppressWarnings({ "unchecked", "rawtypes" })
   public Object deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException {
+    if (json.isJsonObject()) {
+      // embedded, nothing to fetch
+      return resolve(json, typeOfT, context);
+    }
+    return metrics.timeOperation("resolveReferences", type.getSimpleName(), () -> resolve(json, typeOfT, context));
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private Object resolve(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
     Object reference = null;
     JsonObject jsonObject;
     if (json.isJsonPrimitive()) {
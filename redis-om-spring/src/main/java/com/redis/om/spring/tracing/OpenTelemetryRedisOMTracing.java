@@ -0,0 +1,141 @@
+package com.redis.om.spring.tracing;
+
+import com.redis.om.spring.metrics.RedisOMMetrics;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Records the Redis OM operations as OpenTelemetry spans, children of the span current when they are called (i.e.
+ * the span of the request being served):
+ * <ul>
+ *   <li>an {@code INTERNAL} span per operation: {@code PersonRepository.findByName}, {@code SearchStream.count},
+ *   {@code resolveReferences}, {@code embed}, with the {@code redis.om.target} it works on</li>
+ *   <li>a {@code CLIENT} span per command or pipeline, e.g. {@code FT.SEARCH person_idx}, with the
+ *   {@code db.system}, {@code db.operation.name} and {@code db.collection.name} attributes, and for searches the
+ *   {@code db.query.summary} (the query without its values) and {@code db.response.returned_rows}</li>
+ *   <li>an {@code INTERNAL} span per mapping of a reply to entities, {@code deserialize person_idx}</li>
+ * </ul>
+ * Pipelined batch sizes and cache lookups are added to the current span, as an attribute and events.
+ */
+public class OpenTelemetryRedisOMTracing implements RedisOMMetrics {
+  public static final String INSTRUMENTATION_SCOPE = "com.redis.om.spring";
+  static final AttributeKey<String> TARGET = AttributeKey.stringKey("redis.om.target");
+  static final AttributeKey<String> DB_SYSTEM = AttributeKey.stringKey("db.system");
+  static final AttributeKey<String> DB_OPERATION = AttributeKey.stringKey("db.operation.name");
+  static final AttributeKey<String> DB_COLLECTION = AttributeKey.stringKey("db.collection.name");
+  static final AttributeKey<String> DB_QUERY_SUMMARY = AttributeKey.stringKey("db.query.summary");
+  static final AttributeKey<Long> DB_RETURNED_ROWS = AttributeKey.longKey("db.response.returned_rows");
+  static final AttributeKey<Long> PAYLOAD_BYTES = AttributeKey.longKey("redis.om.payload.bytes");
+  static final AttributeKey<Long> BATCH_SIZE = AttributeKey.longKey("redis.om.batch.size");
+  static final AttributeKey<String> CACHE = AttributeKey.stringKey("redis.om.cache");
+
+  private final Tracer tracer;
+
+  public OpenTelemetryRedisOMTracing(OpenTelemetry openTelemetry) {
+    this(openTelemetry.getTracer(INSTRUMENTATION_SCOPE));
+  }
+
+  public OpenTelemetryRedisOMTracing(Tracer tracer) {
+    this.tracer = tracer;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public <T> T timeOperation(String operation, String target, Supplier<T> call) {
+    return inSpan(operation, SpanKind.INTERNAL, Attributes.of(TARGET, target), call);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> timeAsyncOperation(String operation, String target,
+      Supplier<CompletableFuture<T>> call) {
+    Span span = tracer.spanBuilder(operation).setSpanKind(SpanKind.INTERNAL).setAllAttributes(Attributes.of(TARGET,
+        target)).startSpan();
+    CompletableFuture<T> future;
+    try (Scope ignored = Context.current().with(span).makeCurrent()) {
+      future = call.get();
+    } catch (RuntimeException | Error e) {
+      span.recordException(e);
+      span.setStatus(StatusCode.ERROR);
+      span.end();
+      throw e;
+    }
+    future.whenComplete((result, failure) -> {
+      if (failure != null) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ?
+            failure.getCause() :
+            failure;
+        span.recordException(cause);
+        span.setStatus(StatusCode.ERROR);
+      }
+      span.end();
+    });
+    return future;
+  }
+
+  @Override
+  public <T> T timeCommand(String command, String target, Supplier<T> call) {
+    return inSpan(command + " " + target, SpanKind.CLIENT,
+        Attributes.of(DB_SYSTEM, "redis", DB_OPERATION, command, DB_COLLECTION, target), call);
+  }
+
+  @Override
+  public <T> T timeDeserialization(String target, Supplier<T> call) {
+    return inSpan("deserialize " + target, SpanKind.INTERNAL, Attributes.of(TARGET, target), call);
+  }
+
+  @Override
+  public void recordQuery(String command, String target, Supplier<String> queryShape) {
+    Span span = Span.current();
+    if (span.isRecording()) {
+      span.setAttribute(DB_QUERY_SUMMARY, queryShape.get());
+    }
+  }
+
+  @Override
+  public void recordResults(String command, String target, long results) {
+    Span.current().setAttribute(DB_RETURNED_ROWS, results);
+  }
+
+  @Override
+  public void recordPayload(String command, String target, long bytes) {
+    Span.current().setAttribute(PAYLOAD_BYTES, bytes);
+  }
+
+  @Override
+  public void recordBatch(String operation, String target, int size) {
+    Span.current().setAttribute(BATCH_SIZE, (long) size);
+  }
+
+  @Override
+  public void recordCacheAccess(String cache, boolean hit) {
+    Span.current().addEvent(hit ? "cache hit" : "cache miss", Attributes.of(CACHE, cache));
+  }
+
+  private <T> T inSpan(String name, SpanKind kind, Attributes attributes, Supplier<T> call) {
+    Span span = tracer.spanBuilder(name).setSpanKind(kind).setAllAttributes(attributes).startSpan();
+    try (Scope ignored = Context.current().with(span).makeCurrent()) {
+      return call.get();
+    } catch (RuntimeException | Error e) {
+      span.recordException(e);
+      span.setStatus(StatusCode.ERROR);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+}
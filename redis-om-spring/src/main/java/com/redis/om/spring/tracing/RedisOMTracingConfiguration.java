@@ -0,0 +1,27 @@
+package com.redis.om.spring.tracing;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OpenTelemetry tracing, when {@code redis.om.spring.observability.tracing-enabled} is set and the OpenTelemetry API
+ * is on the classpath. The spans go to the application's {@link OpenTelemetry}, or to the global one (i.e. set up by
+ * the OpenTelemetry Java agent) if there is none.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.opentelemetry.api.OpenTelemetry")
+@ConditionalOnProperty(name = "redis.om.spring.observability.tracing-enabled", havingValue = "true")
+public class RedisOMTracingConfiguration {
+
+  @Bean(name = "redisOMTracing")
+  @ConditionalOnMissingBean(name = "redisOMTracing")
+  public OpenTelemetryRedisOMTracing redisOMTracing(ObjectProvider<OpenTelemetry> openTelemetry) {
+    return new OpenTelemetryRedisOMTracing(openTelemetry.getIfAvailable(GlobalOpenTelemetry::get));
+  }
+}
@@ -2,7 +2,11 @@ package com.redis.om.spring.util;
 
 import com.redis.om.spring.annotations.EnableRedisDocumentRepositories;
 import com.redis.om.spring.annotations.EnableRedisEnhancedRepositories;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.VectorIndexed;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
+import com.redis.om.spring.indexing.DistanceMetric;
+import com.redis.om.spring.indexing.VectorType;
 import com.redis.om.spring.tuple.Tuples;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -37,6 +41,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.util.*;
 import java.util.function.Function;
@@ -462,6 +467,224 @@ public class ObjectUtils {
     return floatArray;
   }
 
+  /**
+   * Encodes a vector as a blob of the given element type, little endian. FLOAT16 and BFLOAT16 round to nearest
+   * even; INT8 scales components in [-1, 1] by 127 and clamps the rest.
+   */
+  public static byte[] floatArrayToByteArray(float[] input, VectorType type) {
+    switch (type) {
+      case FLOAT32 -> {
+        return floatArrayToByteArray(input);
+      }
+      case FLOAT64 -> {
+        byte[] bytes = new byte[Double.BYTES * input.length];
+        DoubleBuffer doubles = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        for (float f : input) {
+          doubles.put(f);
+        }
+        return bytes;
+      }
+      case FLOAT16, BFLOAT16 -> {
+        short[] halves = new short[input.length];
+        if (type == VectorType.FLOAT16) {
+          for (int i = 0; i < input.length; i++) {
+            halves[i] = floatToFloat16(input[i]);
+          }
+        } else {
+          for (int i = 0; i < input.length; i++) {
+            halves[i] = floatToBFloat16(input[i]);
+          }
+        }
+        byte[] bytes = new byte[Short.BYTES * input.length];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().put(halves);
+        return bytes;
+      }
+      case INT8 -> {
+        byte[] bytes = new byte[input.length];
+        for (int i = 0; i < input.length; i++) {
+          bytes[i] = (byte) Math.round(Math.max(-1f, Math.min(1f, input[i])) * 127f);
+        }
+        return bytes;
+      }
+      default -> throw new IllegalArgumentException("Unsupported vector type " + type);
+    }
+  }
+
+  /**
+   * Decodes a blob of the given element type, the inverse of {@link #floatArrayToByteArray(float[], VectorType)}.
+   */
+  public static float[] byteArrayToFloatArray(byte[] bytes, VectorType type) {
+    switch (type) {
+      case FLOAT32 -> {
+        return byteArrayToFloatArray(bytes);
+      }
+      case FLOAT64 -> {
+        DoubleBuffer doubles = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        float[] floats = new float[doubles.capacity()];
+        for (int i = 0; i < floats.length; i++) {
+          floats[i] = (float) doubles.get(i);
+        }
+        return floats;
+      }
+      case FLOAT16, BFLOAT16 -> {
+        short[] halves = new short[bytes.length / Short.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(halves);
+        float[] floats = new float[halves.length];
+        if (type == VectorType.FLOAT16) {
+          for (int i = 0; i < halves.length; i++) {
+            floats[i] = float16ToFloat(halves[i]);
+          }
+        } else {
+          for (int i = 0; i < halves.length; i++) {
+            floats[i] = Float.intBitsToFloat(halves[i] << 16);
+          }
+        }
+        return floats;
+      }
+      case INT8 -> {
+        float[] floats = new float[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+          floats[i] = bytes[i] / 127f;
+        }
+        return floats;
+      }
+      default -> throw new IllegalArgumentException("Unsupported vector type " + type);
+    }
+  }
+
+  /**
+   * IEEE 754 binary16, rounding to nearest even; overflows to infinity, underflows through subnormals to zero.
+   */
+  public static short floatToFloat16(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    int sign = (bits >>> 16) & 0x8000;
+    int exponent = (bits >>> 23) & 0xff;
+    int mantissa = bits & 0x7fffff;
+    if (exponent == 0xff) {
+      // infinity, or NaN keeping the top of its payload (and quiet)
+      return (short) (sign | 0x7c00 | (mantissa != 0 ? 0x200 | (mantissa >>> 13) : 0));
+    }
+    int halfExponent = exponent - 127 + 15;
+    if (halfExponent >= 0x1f) {
+      return (short) (sign | 0x7c00);
+    }
+    if (halfExponent <= 0) {
+      if (halfExponent < -10) {
+        return (short) sign;
+      }
+      // subnormal, the implicit leading bit becomes explicit
+      mantissa |= 0x800000;
+      int shift = 14 - halfExponent;
+      int half = mantissa >>> shift;
+      int remainder = mantissa & ((1 << shift) - 1);
+      int halfway = 1 << (shift - 1);
+      if (remainder > halfway || (remainder == halfway && (half & 1) != 0)) {
+        half++;
+      }
+      return (short) (sign | half);
+    }
+    int half = (halfExponent << 10) | (mantissa >>> 13);
+    int remainder = mantissa & 0x1fff;
+    // a carry out of the mantissa correctly bumps the exponent, up to infinity
+    if (remainder > 0x1000 || (remainder == 0x1000 && (half & 1) != 0)) {
+      half++;
+    }
+    return (short) (sign | half);
+  }
+
+  public static float float16ToFloat(short half) {
+    int sign = (half & 0x8000) << 16;
+    int exponent = (half >>> 10) & 0x1f;
+    int mantissa = half & 0x3ff;
+    if (exponent == 0x1f) {
+      return Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+    }
+    if (exponent == 0) {
+      float subnormal = mantissa * 0x1p-24f;
+      return sign != 0 ? -subnormal : subnormal;
+    }
+    return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+  }
+
+  /**
+   * bfloat16 (the top half of a float), rounding to nearest even.
+   */
+  public static short floatToBFloat16(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    if ((bits & 0x7fffffff) > 0x7f800000) {
+      // NaN, keep it quiet so that truncation cannot turn it into infinity
+      return (short) ((bits >>> 16) | 0x40);
+    }
+    return (short) ((bits + 0x7fff + ((bits >>> 16) & 1)) >>> 16);
+  }
+
+  /**
+   * @return the vector type of a field indexed as a vector, FLOAT32 if none is declared
+   */
+  public static VectorType getVectorType(Field field) {
+    if (field.isAnnotationPresent(VectorIndexed.class)) {
+      return field.getAnnotation(VectorIndexed.class).type();
+    } else if (field.isAnnotationPresent(Indexed.class)) {
+      return field.getAnnotation(Indexed.class).type();
+    }
+    return VectorType.FLOAT32;
+  }
+
+  /**
+   * @return the distance metric of a field indexed as a vector, L2 if none is declared
+   */
+  public static DistanceMetric getDistanceMetric(Field field) {
+    if (field.isAnnotationPresent(VectorIndexed.class)) {
+      return field.getAnnotation(VectorIndexed.class).distanceMetric();
+    } else if (field.isAnnotationPresent(Indexed.class)) {
+      return field.getAnnotation(Indexed.class).distanceMetric();
+    }
+    return DistanceMetric.L2;
+  }
+
+  public static int getVectorDimension(Field field) {
+    if (field.isAnnotationPresent(VectorIndexed.class)) {
+      return field.getAnnotation(VectorIndexed.class).dimension();
+    } else if (field.isAnnotationPresent(Indexed.class)) {
+      return field.getAnnotation(Indexed.class).dimension();
+    }
+    return Integer.MIN_VALUE;
+  }
+
+  /**
+   * Encodes a vector (a {@code float[]}, or a FLOAT32 blob) as the blob expected by the index of a vector field.
+   * Blobs of fields with a reduced precision type are converted from FLOAT32 unless their length shows they are
+   * already encoded; other blobs are passed as is.
+   */
+  public static byte[] vectorBlobFor(Field field, Object vector) {
+    VectorType type = getVectorType(field);
+    if (vector instanceof float[] floats) {
+      return floatArrayToByteArray(floats, type);
+    }
+    byte[] blob = (byte[]) vector;
+    if (!type.isReducedPrecision() || !isFloat32Blob(field, blob)) {
+      return blob;
+    }
+    return floatArrayToByteArray(byteArrayToFloatArray(blob), type);
+  }
+
+  /**
+   * Decodes the stored blob of a vector field with a reduced precision type back to FLOAT32, the inverse of
+   * {@link #vectorBlobFor(Field, Object)}. Other blobs are returned as is.
+   */
+  public static byte[] float32BlobFor(Field field, byte[] stored) {
+    VectorType type = getVectorType(field);
+    if (!type.isReducedPrecision() || isFloat32Blob(field, stored)) {
+      return stored;
+    }
+    return floatArrayToByteArray(byteArrayToFloatArray(stored, type));
+  }
+
+  private static boolean isFloat32Blob(Field field, byte[] blob) {
+    int dimension = getVectorDimension(field);
+    return dimension > 0 ? blob.length == dimension * Float.BYTES : blob.length % Float.BYTES == 0;
+  }
+
   public static boolean isPrimitiveOfType(Class<?> clazz, Class<?> wrapper) {
     return clazz.isPrimitive() && resolvePrimitiveIfNecessary(clazz) == wrapper;
   }
@@ -0,0 +1,61 @@
+package com.redis.om.spring.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Runs independent, I/O bound startup tasks (i.e. one {@code FT.CREATE} per entity) concurrently over the connection
+ * pool instead of one round trip after the other.
+ */
+public final class ParallelTasks {
+  private ParallelTasks() {
+  }
+
+  /**
+   * Applies the action to each item, with up to {@code parallelism} items in progress at a time, and waits for all of
+   * them. The action is expected to handle its own failures; an exception escaping it is rethrown once all the items
+   * are done.
+   */
+  public static <T> void forEach(Collection<T> items, int parallelism, String threadName, Consumer<T> action) {
+    if (items.isEmpty()) {
+      return;
+    }
+    if (parallelism <= 1 || items.size() == 1) {
+      items.forEach(action);
+      return;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, items.size()), r -> {
+      Thread thread = new Thread(r, threadName);
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      List<Future<?>> futures = new ArrayList<>(items.size());
+      for (T item : items) {
+        futures.add(executor.submit(() -> action.accept(item)));
+      }
+      RuntimeException failure = null;
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (failure == null) {
+            failure = e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+          }
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(String.format("Interrupted while running %s tasks", threadName), e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -1,8 +1,6 @@
 package com.redis.om.spring.vectorize;
 
 import ai.djl.huggingface.tokenizers.Encoding;
-import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
-import ai.djl.inference.Predictor;
 import ai.djl.modality.cv.Image;
 import ai.djl.modality.cv.ImageFactory;
 import ai.djl.modality.cv.translator.ImageFeatureExtractor;
@@ -12,8 +10,10 @@ import ai.djl.translate.TranslateException;
 import com.azure.ai.openai.OpenAIClient;
 import com.redis.om.spring.RedisOMAiProperties;
 import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.EmbeddingProvider;
 import com.redis.om.spring.annotations.Vectorize;
 import com.redis.om.spring.metamodel.MetamodelField;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.util.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -41,8 +41,15 @@ import org.springframework.ai.vertexai.palm2.VertexAiPaLm2EmbeddingModel;
 import org.springframework.ai.vertexai.palm2.api.VertexAiPaLm2Api;
 import org.springframework.beans.PropertyAccessor;
 import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.io.Resource;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.client.RestClient;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -52,20 +59,23 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import static com.redis.om.spring.annotations.EmbeddingType.SENTENCE;
 import static com.redis.om.spring.util.ObjectUtils.byteArrayToFloatArray;
 import static com.redis.om.spring.util.ObjectUtils.longArrayToFloatArray;
 
-public class DefaultEmbedder implements Embedder {
+public class DefaultEmbedder implements Embedder, ApplicationListener<ContextRefreshedEvent>, DisposableBean {
   private static final Log logger = LogFactory.getLog(DefaultEmbedder.class);
+  private static final String DJL_LOAD_TIME = "redis.om.djl.load.time";
+  private static final String DISPATCHER_METER_PREFIX = "redis.om.embedding.";
   public final Pipeline imagePipeline;
-  public final HuggingFaceTokenizer sentenceTokenizer;
-  private final ZooModel<Image, byte[]> imageEmbeddingModel;
-  private final ZooModel<Image, float[]> faceEmbeddingModel;
+  private final DjlModels models;
   private final ImageFactory imageFactory;
   private final ApplicationContext applicationContext;
   private final ImageFeatureExtractor imageFeatureExtractor;
@@ -77,14 +87,21 @@ public class DefaultEmbedder implements Embedder {
   private final VertexAiPaLm2EmbeddingModel vertexAiPaLm2EmbeddingModel;
   private final BedrockCohereEmbeddingModel bedrockCohereEmbeddingModel;
   private final BedrockTitanEmbeddingModel bedrockTitanEmbeddingModel;
+  private volatile PredictorPool<Image, byte[]> imagePredictors;
+  private volatile PredictorPool<Image, float[]> facePredictors;
+  private final Map<String, EmbeddingDispatcher> dispatchers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Boolean> needsLocalModels = new ConcurrentHashMap<>();
+  // entities saved while the models were loading, with the QUEUE policy
+  private final Queue<Object> pendingEntities = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private volatile boolean contextRefreshed;
+  private RedisOMMetrics metrics = RedisOMMetrics.NOOP;
 
   public DefaultEmbedder( //
       ApplicationContext applicationContext, //
-      ZooModel<Image, byte[]> imageEmbeddingModel, //
-      ZooModel<Image, float[]> faceEmbeddingModel, //
+      DjlModels models, //
       ImageFactory imageFactory, //
       Pipeline imagePipeline, //
-      HuggingFaceTokenizer sentenceTokenizer, //
       OpenAiEmbeddingModel openAITextVectorizer, //
       OpenAIClient azureOpenAIClient, //
       VertexAiPaLm2EmbeddingModel vertexAiPaLm2EmbeddingModel, //
@@ -93,11 +110,9 @@ public class DefaultEmbedder implements Embedder {
       RedisOMAiProperties properties //
   ) {
     this.applicationContext = applicationContext;
-    this.imageEmbeddingModel = imageEmbeddingModel;
-    this.faceEmbeddingModel = faceEmbeddingModel;
+    this.models = models;
     this.imageFactory = imageFactory;
     this.imagePipeline = imagePipeline;
-    this.sentenceTokenizer = sentenceTokenizer;
 
     // feature extractor
     this.imageFeatureExtractor = ImageFeatureExtractor.builder().setPipeline(imagePipeline).build();
@@ -114,217 +129,412 @@ public class DefaultEmbedder implements Embedder {
         new OllamaOptions().withModel(OllamaOptions.DEFAULT_MODEL));
   }
 
-  private byte[] getImageEmbeddingsAsByteArrayFor(InputStream is) {
-    try {
-      var img = imageFactory.fromInputStream(is);
-      Predictor<Image, byte[]> predictor = imageEmbeddingModel.newPredictor(imageFeatureExtractor);
-      return predictor.predict(img);
-    } catch (IOException | TranslateException e) {
-      logger.warn("Error generating image embedding", e);
-      return new byte[] {};
+  public DjlModels getModels() {
+    return models;
+  }
+
+  /**
+   * Sets the instrumentation of the embeddings, and registers with it the load times of the DJL models and the
+   * activity of the remote embedding dispatchers, as in {@link DjlModels#getLoadTimes()} and
+   * {@link #getDispatcherStats()}.
+   */
+  public void setMetrics(RedisOMMetrics metrics) {
+    this.metrics = metrics;
+    if (models != null) {
+      metrics.registerTimeGauge(DJL_LOAD_TIME, "all", models::getLoadTime);
+      for (String model : DjlModels.MODEL_NAMES) {
+        metrics.registerTimeGauge(DJL_LOAD_TIME, model,
+            () -> models.getLoadTimes().getOrDefault(model, Duration.ZERO));
+      }
     }
+    dispatchers.forEach(this::registerDispatcherMeters);
   }
 
-  private float[] getImageEmbeddingsAsFloatArrayFor(InputStream is) {
-    return byteArrayToFloatArray(getImageEmbeddingsAsByteArrayFor(is));
+  // predictors are not thread-safe, each model gets a pool of them sized to the available cores, once loaded
+
+  private PredictorPool<Image, byte[]> imagePredictors() {
+    ZooModel<Image, byte[]> model = models.getImageEmbeddingModel();
+    if (imagePredictors == null && model != null) {
+      synchronized (this) {
+        if (imagePredictors == null) {
+          imagePredictors = new PredictorPool<>(() -> model.newPredictor(imageFeatureExtractor),
+              properties.getDjl().getEffectivePredictorPoolSize(), properties.getDjl().getPredictorBatchSize());
+        }
+      }
+    }
+    return imagePredictors;
   }
 
-  private byte[] getFacialImageEmbeddingsAsByteArrayFor(InputStream is) throws IOException, TranslateException {
-    return ObjectUtils.floatArrayToByteArray(getFacialImageEmbeddingsAsFloatArrayFor(is));
+  private PredictorPool<Image, float[]> facePredictors() {
+    ZooModel<Image, float[]> model = models.getFaceEmbeddingModel();
+    if (facePredictors == null && model != null) {
+      synchronized (this) {
+        if (facePredictors == null) {
+          facePredictors = new PredictorPool<>(model::newPredictor,
+              properties.getDjl().getEffectivePredictorPoolSize(), properties.getDjl().getPredictorBatchSize());
+        }
+      }
+    }
+    return facePredictors;
   }
 
-  private float[] getFacialImageEmbeddingsAsFloatArrayFor(InputStream is) throws IOException, TranslateException {
-    try (Predictor<Image, float[]> predictor = faceEmbeddingModel.newPredictor()) {
-      var img = imageFactory.fromInputStream(is);
-      return predictor.predict(img);
+  /**
+   * Closes the predictor pools, releasing their native predictors, and the remote embedding dispatchers, stopping
+   * their threads. The models themselves belong to {@link DjlModels}.
+   */
+  @Override
+  public synchronized void destroy() {
+    dispatchers.values().forEach(EmbeddingDispatcher::close);
+    dispatchers.clear();
+    if (imagePredictors != null) {
+      imagePredictors.close();
+      imagePredictors = null;
+    }
+    if (facePredictors != null) {
+      facePredictors.close();
+      facePredictors = null;
     }
   }
 
   private List<byte[]> getSentenceEmbeddingsAsByteArrayFor(List<String> texts) {
-    Encoding[] encodings = sentenceTokenizer.batchEncode(texts);
+    Encoding[] encodings = models.getSentenceTokenizer().batchEncode(texts);
     return Arrays.stream(encodings).map(e -> ObjectUtils.longArrayToByteArray(e.getIds())).toList();
   }
 
   private List<float[]> getSentenceEmbeddingAsFloatArrayFor(List<String> texts) {
-    Encoding[] encodings = sentenceTokenizer.batchEncode(texts);
+    Encoding[] encodings = models.getSentenceTokenizer().batchEncode(texts);
     return Arrays.stream(encodings).map(e -> ObjectUtils.longArrayToFloatArray(e.getIds())).toList();
   }
 
   private byte[] getSentenceEmbeddingsAsByteArrayFor(String text) {
-    Encoding encoding = sentenceTokenizer.encode(text);
+    Encoding encoding = models.getSentenceTokenizer().encode(text);
     return ObjectUtils.longArrayToByteArray(encoding.getIds());
   }
 
   private float[] getSentenceEmbeddingAsFloatArrayFor(String text) {
-    Encoding encoding = sentenceTokenizer.encode(text);
+    Encoding encoding = models.getSentenceTokenizer().encode(text);
     return longArrayToFloatArray(encoding.getIds());
   }
 
-  private List<byte[]> getEmbeddingsAsByteArrayFor(List<String> texts, EmbeddingModel model) {
-    EmbeddingResponse embeddingResponse = model.embedForResponse(texts);
-    List<Embedding> embeddings = embeddingResponse.getResults();
-
-    return embeddings.stream().map(e -> ObjectUtils.floatArrayToByteArray(e.getOutput())).toList();
-  }
-
   private List<float[]> getEmbeddingAsFloatArrayFor(List<String> texts, EmbeddingModel model) {
     EmbeddingResponse embeddingResponse = model.embedForResponse(texts);
     List<Embedding> embeddings = embeddingResponse.getResults();
     return embeddings.stream().map(Embedding::getOutput).toList();
   }
 
-  private byte[] getEmbeddingsAsByteArrayFor(String text, EmbeddingModel model) {
-    EmbeddingResponse embeddingResponse = model.embedForResponse(List.of(text));
-    Embedding embedding = embeddingResponse.getResult();
-    return ObjectUtils.floatArrayToByteArray(embedding.getOutput());
-  }
-
-  private float[] getEmbeddingAsFloatArrayFor(String text, EmbeddingModel model) {
-    EmbeddingResponse embeddingResponse = model.embedForResponse(List.of(text));
-    Embedding embedding = embeddingResponse.getResult();
-    return embedding.getOutput();
+  @Override
+  public void processEntity(Object item) {
+    processEntities(List.of(item));
   }
 
+  /**
+   * Embeds the {@code @Vectorize} fields of the entities. Image and face embeddings of all the entities are computed
+   * together: the images are decoded in parallel and run through the pooled predictors in batches.
+   * <p>
+   * Only the fields embedded locally (images, faces and DJL sentences) wait for the DJL models, following the
+   * not-ready policy while they load; fields embedded by a remote provider are embedded right away.
+   */
   @Override
-  public void processEntity(Object item) {
-    if (!isReady()) {
+  public void processEntities(List<?> items) {
+    List<?> vectorized = items.stream()
+        .filter(i -> !ObjectUtils.getFieldsWithAnnotation(i.getClass(), Vectorize.class).isEmpty()).toList();
+    if (vectorized.isEmpty()) {
       return;
     }
-    List<Field> fields = ObjectUtils.getFieldsWithAnnotation(item.getClass(), Vectorize.class);
-    if (!fields.isEmpty()) {
+    boolean local = models.isLoaded() || awaitModels(vectorized.stream().filter(this::needsLocalModels).toList());
+    metrics.timeOperation("embed", vectorized.get(0).getClass().getSimpleName(), () -> embed(vectorized, local));
+  }
+
+  private boolean needsLocalModels(Object item) {
+    return needsLocalModels.computeIfAbsent(ClassUtils.getUserClass(item),
+        type -> ObjectUtils.getFieldsWithAnnotation(type, Vectorize.class).stream()
+            .map(f -> f.getAnnotation(Vectorize.class)).anyMatch(DefaultEmbedder::isLocal));
+  }
+
+  private static boolean isLocal(Vectorize vectorize) {
+    return switch (vectorize.embeddingType()) {
+      case IMAGE, FACE -> true;
+      case SENTENCE -> vectorize.provider() == EmbeddingProvider.DJL;
+      case WORD -> false;
+    };
+  }
+
+  /**
+   * @param local whether to embed the fields embedded locally too, i.e. the DJL models are loaded
+   */
+  private void embed(List<?> items, boolean local) {
+    List<ImageEmbedding> images = new ArrayList<>();
+    List<ImageEmbedding> faces = new ArrayList<>();
+    List<RemoteEmbedding> remote = new ArrayList<>();
+    for (Object item : items) {
+      List<Field> fields = ObjectUtils.getFieldsWithAnnotation(item.getClass(), Vectorize.class);
       PropertyAccessor accessor = PropertyAccessorFactory.forBeanPropertyAccess(item);
+      boolean isDocument = item.getClass().isAnnotationPresent(Document.class);
       fields.forEach(f -> {
         Vectorize vectorize = f.getAnnotation(Vectorize.class);
         Object fieldValue = accessor.getPropertyValue(f.getName());
-        boolean isDocument = item.getClass().isAnnotationPresent(Document.class);
 
-        if (fieldValue != null) {
+        if (fieldValue != null && (local || !isLocal(vectorize))) {
           switch (vectorize.embeddingType()) {
-            case IMAGE -> processImageEmbedding(accessor, vectorize, fieldValue, isDocument);
+            case IMAGE -> images.add(new ImageEmbedding(accessor, vectorize, fieldValue.toString(), isDocument));
             case WORD -> {
               //TODO: implement me!
             }
-            case FACE -> processFaceEmbedding(accessor, vectorize, fieldValue, isDocument);
-            case SENTENCE -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
+            case FACE -> faces.add(new ImageEmbedding(accessor, vectorize, fieldValue.toString(), isDocument));
+            case SENTENCE -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument, remote);
           }
         }
       });
     }
-  }
 
-  private void processImageEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    Resource resource = applicationContext.getResource(fieldValue.toString());
-    try {
-      if (isDocument) {
-        accessor.setPropertyValue(vectorize.destination(),
-            getImageEmbeddingsAsFloatArrayFor(resource.getInputStream()));
-      } else {
-        accessor.setPropertyValue(vectorize.destination(), getImageEmbeddingsAsByteArrayFor(resource.getInputStream()));
+    // remote embeddings were all submitted before waiting on any, so that their dispatchers can batch them
+    remote.forEach(r -> {
+      float[] embedding = EmbeddingDispatcher.join(r.embedding());
+      r.accessor().setPropertyValue(r.vectorize().destination(),
+          r.isDocument() ? embedding : ObjectUtils.floatArrayToByteArray(embedding));
+    });
+
+    embedImages(images, imagePredictors(), "image",
+        (image, embedding) -> image.set(image.isDocument() ? byteArrayToFloatArray(embedding) : embedding));
+    embedImages(faces, facePredictors(), "facial image",
+        (face, embedding) -> face.set(face.isDocument() ? embedding : ObjectUtils.floatArrayToByteArray(embedding)));
+  }
+
+  /**
+   * Applies the configured policy to a write of entities to embed locally arriving while the models are loading.
+   *
+   * @return whether the models are loaded now
+   */
+  private boolean awaitModels(List<?> vectorized) {
+    if (vectorized.isEmpty()) {
+      return false;
+    }
+    switch (properties.getDjl().getNotReadyPolicy()) {
+      case BLOCK -> {
+        Duration timeout = properties.getDjl().getReadyTimeout();
+        if (models.awaitLoaded(timeout)) {
+          return true;
+        }
+        logger.warn(String.format("Embedding models not loaded after %s, saving %s entities without embeddings",
+            timeout, vectorized.size()));
+      }
+      case SKIP -> models.load();
+      case QUEUE -> {
+        for (Object item : vectorized) {
+          if (pendingCount.incrementAndGet() > properties.getDjl().getMaxQueuedEntities()) {
+            pendingCount.decrementAndGet();
+            logger.warn(String.format("Too many entities waiting for the embedding models, saving %s unembedded",
+                item.getClass().getSimpleName()));
+          } else {
+            pendingEntities.add(item);
+          }
+        }
+        models.load().thenRun(this::savePendingEntities);
       }
-    } catch (IOException e) {
-      logger.warn("Error generating image embedding", e);
     }
+    return false;
   }
 
-  private void processFaceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    Resource resource = applicationContext.getResource(fieldValue.toString());
-    try {
-      if (isDocument) {
-        accessor.setPropertyValue(vectorize.destination(),
-            getFacialImageEmbeddingsAsFloatArrayFor(resource.getInputStream()));
-      } else {
-        accessor.setPropertyValue(vectorize.destination(),
-            getFacialImageEmbeddingsAsByteArrayFor(resource.getInputStream()));
+  @Override
+  public void onApplicationEvent(ContextRefreshedEvent event) {
+    if (event.getApplicationContext() == applicationContext) {
+      contextRefreshed = true;
+      if (models.isLoaded()) {
+        savePendingEntities();
       }
-    } catch (IOException | TranslateException e) {
-      logger.warn("Error generating facial image embedding", e);
     }
   }
 
-  private void processSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    switch (vectorize.provider()) {
-      case DJL -> processDjlSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
-      case OPENAI -> processOpenAiSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
-      case OLLAMA -> processOllamaSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
-      case AZURE_OPENAI -> processAzureOpenAiSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
-      case VERTEX_AI -> processVertexAiSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
-      case AMAZON_BEDROCK_COHERE -> processBedrockCohereSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
-      case AMAZON_BEDROCK_TITAN -> processBedrockTitanSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
+  /**
+   * Saves again, now with embeddings, the entities saved while the models were loading. Waits for the application
+   * context to be refreshed so that their repositories can be looked up. The entities are read again by id, so that
+   * the ones deleted in the meantime are not saved back and later updates are embedded rather than overwritten.
+   */
+  @SuppressWarnings("unchecked")
+  private void savePendingEntities() {
+    if (!contextRefreshed) {
+      return;
     }
+    Map<Class<?>, List<Object>> byType = new LinkedHashMap<>();
+    Object entity;
+    while ((entity = pendingEntities.poll()) != null) {
+      pendingCount.decrementAndGet();
+      byType.computeIfAbsent(ClassUtils.getUserClass(entity), t -> new ArrayList<>()).add(entity);
+    }
+    if (byType.isEmpty()) {
+      return;
+    }
+    Repositories repositories = new Repositories(applicationContext);
+    byType.forEach((type, entities) -> {
+      Optional<Object> repository = repositories.getRepositoryFor(type);
+      if (repository.isPresent() && repository.get() instanceof CrudRepository<?, ?> crudRepository) {
+        try {
+          EntityInformation<Object, Object> entityInformation = repositories.getEntityInformationFor(type);
+          List<Object> ids = entities.stream().map(entityInformation::getId).filter(Objects::nonNull).toList();
+          CrudRepository<Object, Object> typedRepository = (CrudRepository<Object, Object>) crudRepository;
+          typedRepository.saveAll(typedRepository.findAllById(ids));
+        } catch (RuntimeException e) {
+          logger.warn(String.format("Error saving %s %s entities with their embeddings", entities.size(),
+              type.getSimpleName()), e);
+        }
+      } else {
+        logger.warn(String.format("No repository to save %s %s entities with their embeddings", entities.size(),
+            type.getSimpleName()));
+      }
+    });
   }
 
-  private void processDjlSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    if (isDocument) {
-      accessor.setPropertyValue(vectorize.destination(), getSentenceEmbeddingAsFloatArrayFor(fieldValue.toString()));
-    } else {
-      accessor.setPropertyValue(vectorize.destination(), getSentenceEmbeddingsAsByteArrayFor(fieldValue.toString()));
+  private <O> void embedImages(List<ImageEmbedding> embeddings, PredictorPool<Image, O> predictors, String kind,
+      BiConsumer<ImageEmbedding, O> setter) {
+    if (embeddings.isEmpty()) {
+      return;
+    }
+    if (predictors == null) {
+      logger.warn(String.format("No model available to generate %s embeddings", kind));
+      return;
     }
-  }
 
-  private void processOpenAiSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    OpenAiEmbeddingModel model = getOpenAiEmbeddingModel(vectorize);
-    if (isDocument) {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingAsFloatArrayFor(fieldValue.toString(), model));
-    } else {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingsAsByteArrayFor(fieldValue.toString(), model));
+    List<ImageEmbedding> decoded = new ArrayList<>(embeddings.size());
+    List<Image> images = new ArrayList<>(embeddings.size());
+    try {
+      List<Image> all = predictors.map(embeddings, e -> decode(e.location(), kind));
+      for (int i = 0; i < all.size(); i++) {
+        if (all.get(i) != null) {
+          decoded.add(embeddings.get(i));
+          images.add(all.get(i));
+        }
+      }
+    } catch (TranslateException e) {
+      logger.warn(String.format("Error decoding images for %s embedding", kind), e);
+      return;
     }
-  }
 
-  private void processOllamaSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    OllamaEmbeddingModel model = getOllamaEmbeddingModel(vectorize);
-    if (isDocument) {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingAsFloatArrayFor(fieldValue.toString(), model));
-    } else {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingsAsByteArrayFor(fieldValue.toString(), model));
+    try {
+      List<O> outputs = predictors.batchPredict(images);
+      for (int i = 0; i < outputs.size(); i++) {
+        setter.accept(decoded.get(i), outputs.get(i));
+      }
+    } catch (TranslateException e) {
+      // a failed batch is retried one image at a time so that a single bad image only loses its own embedding
+      logger.warn(String.format("Error generating %s embeddings in batch, retrying individually", kind), e);
+      for (int i = 0; i < images.size(); i++) {
+        try {
+          setter.accept(decoded.get(i), predictors.predict(images.get(i)));
+        } catch (TranslateException ex) {
+          logger.warn(String.format("Error generating %s embedding for %s", kind, decoded.get(i).location()), ex);
+        }
+      }
     }
   }
 
-  private void processAzureOpenAiSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    AzureOpenAiEmbeddingModel model = getAzureOpenAiEmbeddingModel(vectorize);
-    if (isDocument) {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingAsFloatArrayFor(fieldValue.toString(), model));
-    } else {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingsAsByteArrayFor(fieldValue.toString(), model));
+  private Image decode(String location, String kind) {
+    Resource resource = applicationContext.getResource(location);
+    try (InputStream is = resource.getInputStream()) {
+      return imageFactory.fromInputStream(is);
+    } catch (IOException e) {
+      logger.warn(String.format("Error reading %s %s", kind, location), e);
+      return null;
     }
   }
 
-  private void processVertexAiSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    VertexAiPaLm2EmbeddingModel model = getVertexAiPaLm2EmbeddingModel(vectorize);
-    if (isDocument) {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingAsFloatArrayFor(fieldValue.toString(), model));
-    } else {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingsAsByteArrayFor(fieldValue.toString(), model));
+  private record ImageEmbedding(PropertyAccessor accessor, Vectorize vectorize, String location, boolean isDocument) {
+    void set(Object embedding) {
+      accessor.setPropertyValue(vectorize.destination(), embedding);
     }
   }
 
-  private void processBedrockCohereSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    BedrockCohereEmbeddingModel model = getBedrockCohereEmbeddingModel(vectorize);
-    if (isDocument) {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingAsFloatArrayFor(fieldValue.toString(), model));
+  private record RemoteEmbedding(PropertyAccessor accessor, Vectorize vectorize, boolean isDocument,
+                                 CompletableFuture<float[]> embedding) {
+  }
+
+  private void processSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
+      boolean isDocument, List<RemoteEmbedding> remote) {
+    if (vectorize.provider() == EmbeddingProvider.DJL) {
+      processDjlSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
     } else {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingsAsByteArrayFor(fieldValue.toString(), model));
+      remote.add(new RemoteEmbedding(accessor, vectorize, isDocument,
+          dispatcherFor(vectorize).embed(fieldValue.toString())));
     }
   }
 
-  private void processBedrockTitanSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
+  private void processDjlSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
       boolean isDocument) {
-    BedrockTitanEmbeddingModel model = getBedrockTitanEmbeddingModel(vectorize);
+    if (models.getSentenceTokenizer() == null) {
+      logger.warn("No tokenizer available to generate sentence embeddings");
+      return;
+    }
     if (isDocument) {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingAsFloatArrayFor(fieldValue.toString(), model));
+      accessor.setPropertyValue(vectorize.destination(), getSentenceEmbeddingAsFloatArrayFor(fieldValue.toString()));
     } else {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingsAsByteArrayFor(fieldValue.toString(), model));
+      accessor.setPropertyValue(vectorize.destination(), getSentenceEmbeddingsAsByteArrayFor(fieldValue.toString()));
     }
   }
 
+  /**
+   * Returns the dispatcher sending the requests of the provider and model of the field, one per provider and model,
+   * shared by all the threads embedding with it.
+   */
+  private EmbeddingDispatcher dispatcherFor(Vectorize vectorize) {
+    EmbeddingProvider provider = vectorize.provider();
+    String key = provider + ":" + modelNameFor(vectorize);
+    return dispatchers.computeIfAbsent(key, k -> {
+      EmbeddingModel model = remoteModelFor(vectorize);
+      RedisOMAiProperties.EmbeddingDispatcher config = properties.getEmbeddingDispatcher();
+      EmbeddingDispatcher dispatcher = new EmbeddingDispatcher(k, texts -> getEmbeddingAsFloatArrayFor(texts, model),
+          config.getMaxBatchSize(provider), config.getBatchWindow(), config.getMaxConcurrency(),
+          config.getMaxRetries(), config.getInitialBackoff(), config.getMaxBackoff());
+      registerDispatcherMeters(k, dispatcher);
+      return dispatcher;
+    });
+  }
+
+  private void registerDispatcherMeters(String name, EmbeddingDispatcher dispatcher) {
+    metrics.registerGauge(DISPATCHER_METER_PREFIX + "queued", name, () -> dispatcher.getStats().queued());
+    metrics.registerGauge(DISPATCHER_METER_PREFIX + "in.flight", name, () -> dispatcher.getStats().inFlight());
+    metrics.registerCounter(DISPATCHER_METER_PREFIX + "requests", name, () -> dispatcher.getStats().requests());
+    metrics.registerCounter(DISPATCHER_METER_PREFIX + "calls", name, () -> dispatcher.getStats().calls());
+    metrics.registerCounter(DISPATCHER_METER_PREFIX + "retries", name, () -> dispatcher.getStats().retries());
+    metrics.registerCounter(DISPATCHER_METER_PREFIX + "rate.limited", name,
+        () -> dispatcher.getStats().rateLimited());
+    metrics.registerCounter(DISPATCHER_METER_PREFIX + "failures", name, () -> dispatcher.getStats().failures());
+    metrics.registerCounter(DISPATCHER_METER_PREFIX + "estimated.tokens", name,
+        () -> dispatcher.getStats().estimatedTokens());
+    metrics.registerTimeGauge(DISPATCHER_METER_PREFIX + "max.latency", name, () -> dispatcher.getStats().maxLatency());
+  }
+
+  private static String modelNameFor(Vectorize vectorize) {
+    return switch (vectorize.provider()) {
+      case DJL -> "djl";
+      case OPENAI -> vectorize.openAiEmbeddingModel().getValue();
+      case OLLAMA -> vectorize.ollamaEmbeddingModel().id();
+      case AZURE_OPENAI -> vectorize.azureOpenAiDeploymentName();
+      case VERTEX_AI -> vectorize.vertexAiPaLm2ApiModel();
+      case AMAZON_BEDROCK_COHERE -> vectorize.cohereEmbeddingModel().id();
+      case AMAZON_BEDROCK_TITAN -> vectorize.titanEmbeddingModel().id();
+    };
+  }
+
+  private EmbeddingModel remoteModelFor(Vectorize vectorize) {
+    return switch (vectorize.provider()) {
+      case DJL -> throw new IllegalArgumentException("DJL sentence embeddings are computed locally");
+      case OPENAI -> getOpenAiEmbeddingModel(vectorize);
+      case OLLAMA -> getOllamaEmbeddingModel(vectorize);
+      case AZURE_OPENAI -> getAzureOpenAiEmbeddingModel(vectorize);
+      case VERTEX_AI -> getVertexAiPaLm2EmbeddingModel(vectorize);
+      case AMAZON_BEDROCK_COHERE -> getBedrockCohereEmbeddingModel(vectorize);
+      case AMAZON_BEDROCK_TITAN -> getBedrockTitanEmbeddingModel(vectorize);
+    };
+  }
+
+  /**
+   * @return the activity of the remote embedding dispatchers, by provider and model
+   */
+  public Map<String, EmbeddingDispatcherStats> getDispatcherStats() {
+    Map<String, EmbeddingDispatcherStats> stats = new TreeMap<>();
+    dispatchers.forEach((key, dispatcher) -> stats.put(key, dispatcher.getStats()));
+    return stats;
+  }
+
   private OpenAiEmbeddingModel getOpenAiEmbeddingModel(Vectorize vectorize) {
     if (vectorize.openAiEmbeddingModel() != OpenAiApi.EmbeddingModel.TEXT_EMBEDDING_ADA_002) {
       var openAiApi = new OpenAiApi(properties.getOpenAi().getApiKey());
@@ -384,7 +594,7 @@ public class DefaultEmbedder implements Embedder {
 
   @Override
   public boolean isReady() {
-    return this.faceEmbeddingModel != null && this.sentenceTokenizer != null;
+    return models.isLoaded() && models.getFaceEmbeddingModel() != null && models.getSentenceTokenizer() != null;
   }
 
   @Override
@@ -400,63 +610,17 @@ public class DefaultEmbedder implements Embedder {
   }
 
   private List<byte[]> getSentenceEmbeddingAsBytes(List<String> texts, Vectorize vectorize) {
-    return switch (vectorize.provider()) {
-      case DJL -> getSentenceEmbeddingsAsByteArrayFor(texts);
-      case OPENAI -> {
-        OpenAiEmbeddingModel model = getOpenAiEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case OLLAMA -> {
-        OllamaEmbeddingModel model = getOllamaEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case AZURE_OPENAI -> {
-        AzureOpenAiEmbeddingModel model = getAzureOpenAiEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case VERTEX_AI -> {
-        VertexAiPaLm2EmbeddingModel model = getVertexAiPaLm2EmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case AMAZON_BEDROCK_COHERE -> {
-        BedrockCohereEmbeddingModel model = getBedrockCohereEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case AMAZON_BEDROCK_TITAN -> {
-        BedrockTitanEmbeddingModel model = getBedrockTitanEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-    };
+    if (vectorize.provider() == EmbeddingProvider.DJL) {
+      return getSentenceEmbeddingsAsByteArrayFor(texts);
+    }
+    return dispatcherFor(vectorize).embedAll(texts).stream().map(ObjectUtils::floatArrayToByteArray).toList();
   }
 
   private List<float[]> getSentenceEmbeddingAsFloats(List<String> texts, Vectorize vectorize) {
-    return switch (vectorize.provider()) {
-      case DJL -> getSentenceEmbeddingAsFloatArrayFor(texts);
-      case OPENAI -> {
-        OpenAiEmbeddingModel model = getOpenAiEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case OLLAMA -> {
-        OllamaEmbeddingModel model = getOllamaEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case AZURE_OPENAI -> {
-        AzureOpenAiEmbeddingModel model = getAzureOpenAiEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case VERTEX_AI -> {
-        VertexAiPaLm2EmbeddingModel model = getVertexAiPaLm2EmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case AMAZON_BEDROCK_COHERE -> {
-        BedrockCohereEmbeddingModel model = getBedrockCohereEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case AMAZON_BEDROCK_TITAN -> {
-        BedrockTitanEmbeddingModel model = getBedrockTitanEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-    };
+    if (vectorize.provider() == EmbeddingProvider.DJL) {
+      return getSentenceEmbeddingAsFloatArrayFor(texts);
+    }
+    return dispatcherFor(vectorize).embedAll(texts);
   }
 
   @Override
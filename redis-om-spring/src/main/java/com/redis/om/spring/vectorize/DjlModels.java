@@ -0,0 +1,239 @@
+package com.redis.om.spring.vectorize;
+
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.modality.cv.Image;
+import ai.djl.repository.zoo.Criteria;
+import ai.djl.repository.zoo.ModelZoo;
+import ai.djl.repository.zoo.ZooModel;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The local DJL models used by the {@link DefaultEmbedder}: the image embedding model, the face embedding model and
+ * the sentence tokenizer. Loading them takes seconds (and downloads on a cold cache), so depending on the
+ * {@link Loading} mode they are loaded while the application context starts, on a background thread as soon as it
+ * starts, or on first use.
+ * <p>
+ * A model that fails to load is logged and left {@code null}, as when the models were plain beans.
+ */
+public class DjlModels implements AutoCloseable {
+  private static final Log logger = LogFactory.getLog(DjlModels.class);
+  // the models, as named in the load times
+  static final String IMAGE_EMBEDDING_MODEL = "image embedding model";
+  static final String FACE_EMBEDDING_MODEL = "face embedding model";
+  static final String SENTENCE_TOKENIZER = "sentence tokenizer";
+  static final List<String> MODEL_NAMES = List.of(IMAGE_EMBEDDING_MODEL, FACE_EMBEDDING_MODEL, SENTENCE_TOKENIZER);
+
+  /**
+   * When the models are loaded.
+   */
+  public enum Loading {
+    /** while the application context starts, delaying it */
+    EAGER,
+    /** on a background thread started with the application context */
+    BACKGROUND,
+    /** on a background thread started by the first use */
+    LAZY
+  }
+
+  /**
+   * What a write does with entities to embed locally while the models are loading.
+   */
+  public enum NotReadyPolicy {
+    /** wait for the models, up to the ready timeout */
+    BLOCK,
+    /** save the entities without embeddings */
+    SKIP,
+    /**
+     * save the entities without embeddings, and once the models are loaded read them again by id and save them,
+     * embedded; the ones deleted in the meantime are skipped
+     */
+    QUEUE
+  }
+
+  public enum State {
+    NOT_LOADED, LOADING, LOADED
+  }
+
+  private final Criteria<Image, byte[]> imageEmbeddingCriteria;
+  private final Criteria<Image, float[]> faceEmbeddingCriteria;
+  private final Supplier<HuggingFaceTokenizer> sentenceTokenizerLoader;
+  private final CompletableFuture<DjlModels> loaded = new CompletableFuture<>();
+  private final Map<String, Duration> loadTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+  private volatile State state = State.NOT_LOADED;
+  private volatile Duration loadTime = Duration.ZERO;
+
+  private volatile ZooModel<Image, byte[]> imageEmbeddingModel;
+  private volatile ZooModel<Image, float[]> faceEmbeddingModel;
+  private volatile HuggingFaceTokenizer sentenceTokenizer;
+
+  /**
+   * @param imageEmbeddingCriteria  the image embedding model, or {@code null}
+   * @param faceEmbeddingCriteria   the face embedding model, or {@code null}
+   * @param sentenceTokenizerLoader loads the sentence tokenizer, returning {@code null} if it is not available
+   * @param loading                 when to load the models
+   */
+  public DjlModels(Criteria<Image, byte[]> imageEmbeddingCriteria, Criteria<Image, float[]> faceEmbeddingCriteria,
+      Supplier<HuggingFaceTokenizer> sentenceTokenizerLoader, Loading loading) {
+    this.imageEmbeddingCriteria = imageEmbeddingCriteria;
+    this.faceEmbeddingCriteria = faceEmbeddingCriteria;
+    this.sentenceTokenizerLoader = sentenceTokenizerLoader;
+
+    switch (loading) {
+      case EAGER -> {
+        if (start()) {
+          loadAll();
+        }
+      }
+      case BACKGROUND -> load();
+      case LAZY -> {
+        // loaded on first use
+      }
+    }
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public boolean isLoaded() {
+    return state == State.LOADED;
+  }
+
+  /**
+   * Starts loading the models on a background thread, unless they are loaded or loading already.
+   *
+   * @return completes once the models are loaded
+   */
+  public CompletableFuture<DjlModels> load() {
+    if (start()) {
+      Thread loader = new Thread(this::loadAll, "redis-om-djl-loader");
+      loader.setDaemon(true);
+      loader.start();
+    }
+    return loaded;
+  }
+
+  /**
+   * Starts loading the models if needed and waits for them.
+   *
+   * @return whether the models were loaded within the timeout
+   */
+  public boolean awaitLoaded(Duration timeout) {
+    try {
+      load().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | TimeoutException e) {
+      return false;
+    }
+  }
+
+  public ZooModel<Image, byte[]> getImageEmbeddingModel() {
+    awaitLoaded();
+    return imageEmbeddingModel;
+  }
+
+  public ZooModel<Image, float[]> getFaceEmbeddingModel() {
+    awaitLoaded();
+    return faceEmbeddingModel;
+  }
+
+  public HuggingFaceTokenizer getSentenceTokenizer() {
+    awaitLoaded();
+    return sentenceTokenizer;
+  }
+
+  /**
+   * @return how long loading each model took, by model, once loaded
+   */
+  public Map<String, Duration> getLoadTimes() {
+    synchronized (loadTimes) {
+      return Map.copyOf(loadTimes);
+    }
+  }
+
+  /**
+   * @return how long loading all the models took, once loaded
+   */
+  public Duration getLoadTime() {
+    return loadTime;
+  }
+
+  @Override
+  public void close() {
+    if (imageEmbeddingModel != null) {
+      imageEmbeddingModel.close();
+    }
+    if (faceEmbeddingModel != null) {
+      faceEmbeddingModel.close();
+    }
+    if (sentenceTokenizer != null) {
+      sentenceTokenizer.close();
+    }
+  }
+
+  private synchronized boolean start() {
+    if (state != State.NOT_LOADED) {
+      return false;
+    }
+    state = State.LOADING;
+    return true;
+  }
+
+  private void awaitLoaded() {
+    if (!isLoaded()) {
+      load().join();
+    }
+  }
+
+  private void loadAll() {
+    long start = System.nanoTime();
+    try {
+      imageEmbeddingModel = timed(IMAGE_EMBEDDING_MODEL, () -> loadModel(imageEmbeddingCriteria));
+      faceEmbeddingModel = timed(FACE_EMBEDDING_MODEL, () -> loadModel(faceEmbeddingCriteria));
+      sentenceTokenizer = timed(SENTENCE_TOKENIZER, sentenceTokenizerLoader);
+    } finally {
+      loadTime = Duration.ofNanos(System.nanoTime() - start);
+      state = State.LOADED;
+      logger.info(String.format("Loaded DJL models in %s ms %s", loadTime.toMillis(), getLoadTimes()));
+      loaded.complete(this);
+    }
+  }
+
+  private <T> T timed(String name, Supplier<T> loader) {
+    long start = System.nanoTime();
+    try {
+      return loader.get();
+    } catch (RuntimeException e) {
+      logger.warn(String.format("Error loading DJL %s", name), e);
+      return null;
+    } finally {
+      loadTimes.put(name, Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
+  private static <I, O> ZooModel<I, O> loadModel(Criteria<I, O> criteria) {
+    if (criteria == null) {
+      return null;
+    }
+    try {
+      return ModelZoo.loadModel(criteria);
+    } catch (Exception e) {
+      throw new IllegalStateException(String.format("Could not load model %s", criteria), e);
+    }
+  }
+}
@@ -9,6 +9,14 @@ public interface Embedder {
 
   void processEntity(Object item);
 
+  /**
+   * Embeds the fields of several entities, i.e. the entities of a {@code saveAll}, letting implementations batch
+   * the work.
+   */
+  default void processEntities(List<?> items) {
+    items.forEach(this::processEntity);
+  }
+
   boolean isReady();
 
   List<byte[]> getTextEmbeddingsAsBytes(List<String> texts, Field field);
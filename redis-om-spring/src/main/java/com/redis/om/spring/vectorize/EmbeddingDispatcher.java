@@ -0,0 +1,324 @@
+package com.redis.om.spring.vectorize;
+
+import com.azure.core.exception.HttpResponseException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.client.RestClientResponseException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Sends the embedding requests of a remote provider. Texts submitted concurrently within a short window are coalesced
+ * into batches of up to the provider's batch size, at most a bounded number of batches are in flight at a time, and
+ * rate-limited calls (HTTP 429) are retried with exponential backoff and full jitter, honoring {@code Retry-After}
+ * when the provider sends it.
+ * <p>
+ * Texts wait in an unbounded queue while all the calls are in flight; its length is part of {@link #getStats()}.
+ */
+public class EmbeddingDispatcher implements AutoCloseable {
+  private static final Log logger = LogFactory.getLog(EmbeddingDispatcher.class);
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final String SPRING_AI_RETRY_PACKAGE = "org.springframework.ai.retry.";
+  private static final boolean AZURE_PRESENT = ClassUtils.isPresent(
+      "com.azure.core.exception.HttpResponseException", EmbeddingDispatcher.class.getClassLoader());
+  private static final boolean AWS_PRESENT = ClassUtils.isPresent(
+      "software.amazon.awssdk.core.exception.SdkServiceException", EmbeddingDispatcher.class.getClassLoader());
+
+  private final String name;
+  private final Function<List<String>, List<float[]>> embedder;
+  private final int maxBatchSize;
+  private final long batchWindowNanos;
+  private final int maxRetries;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+
+  private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+  private final Semaphore inFlight;
+  private final int maxConcurrency;
+  private final ExecutorService calls;
+  private final Thread collector;
+  private volatile boolean closed;
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder rateLimited = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder estimatedTokens = new LongAdder();
+  private final LongAdder latencyNanos = new LongAdder();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+  /**
+   * @param name           the provider (and model) the dispatcher sends to, used in thread names and logs
+   * @param embedder       embeds a batch of texts, returning one vector per text in order
+   * @param maxBatchSize   the maximum number of texts per call
+   * @param batchWindow    how long the first text of a batch waits for others to join it
+   * @param maxConcurrency the maximum number of calls in flight
+   * @param maxRetries     the number of retries of a rate-limited call
+   * @param initialBackoff the upper bound of the first backoff, doubled on each retry
+   * @param maxBackoff     the upper bound of any backoff
+   */
+  public EmbeddingDispatcher(String name, Function<List<String>, List<float[]>> embedder, int maxBatchSize,
+      Duration batchWindow, int maxConcurrency, int maxRetries, Duration initialBackoff, Duration maxBackoff) {
+    if (maxBatchSize < 1 || maxConcurrency < 1 || maxRetries < 0) {
+      throw new IllegalArgumentException(
+          String.format("Invalid embedding dispatcher settings for %s: batch size %s, concurrency %s, retries %s",
+              name, maxBatchSize, maxConcurrency, maxRetries));
+    }
+    this.name = name;
+    this.embedder = embedder;
+    this.maxBatchSize = maxBatchSize;
+    this.batchWindowNanos = batchWindow.toNanos();
+    this.maxConcurrency = maxConcurrency;
+    this.maxRetries = maxRetries;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.inFlight = new Semaphore(maxConcurrency);
+    this.calls = Executors.newFixedThreadPool(maxConcurrency, r -> {
+      Thread thread = new Thread(r, "redis-om-embedding-" + name);
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.collector = new Thread(this::collect, "redis-om-embedding-" + name + "-collector");
+    this.collector.setDaemon(true);
+    this.collector.start();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public CompletableFuture<float[]> embed(String text) {
+    CompletableFuture<float[]> result = new CompletableFuture<>();
+    if (closed) {
+      result.completeExceptionally(closedException());
+      return result;
+    }
+    requests.increment();
+    queue.add(new Request(text, result));
+    return result;
+  }
+
+  /**
+   * Embeds the texts, waiting for the result.
+   *
+   * @return one vector per text, in order
+   */
+  public List<float[]> embedAll(List<String> texts) {
+    List<CompletableFuture<float[]>> futures = texts.stream().map(this::embed).toList();
+    List<float[]> vectors = new ArrayList<>(texts.size());
+    for (CompletableFuture<float[]> future : futures) {
+      vectors.add(join(future));
+    }
+    return vectors;
+  }
+
+  /**
+   * Waits for an embedding, rethrowing the failure of the provider call as is.
+   */
+  public static float[] join(CompletableFuture<float[]> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      } else if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  public EmbeddingDispatcherStats getStats() {
+    long calls = batches.sum();
+    return new EmbeddingDispatcherStats(requests.sum(), calls, retries.sum(), rateLimited.sum(), failures.sum(),
+        queue.size(), maxConcurrency - inFlight.availablePermits(), estimatedTokens.sum(),
+        Duration.ofNanos(calls > 0 ? latencyNanos.sum() / calls : 0), Duration.ofNanos(maxLatencyNanos.get()));
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    collector.interrupt();
+    calls.shutdownNow();
+    Request request;
+    while ((request = queue.poll()) != null) {
+      request.result().completeExceptionally(closedException());
+    }
+  }
+
+  private IllegalStateException closedException() {
+    return new IllegalStateException(String.format("Embedding dispatcher %s is closed", name));
+  }
+
+  private void collect() {
+    List<Request> batch = new ArrayList<>();
+    try {
+      while (!closed) {
+        batch = new ArrayList<>();
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + batchWindowNanos;
+        while (batch.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          Request next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        inFlight.acquire();
+        List<Request> sent = batch;
+        batch = new ArrayList<>();
+        try {
+          calls.execute(() -> {
+            try {
+              send(sent);
+            } finally {
+              inFlight.release();
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          inFlight.release();
+          sent.forEach(r -> r.result().completeExceptionally(e));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // closed while collecting a batch
+      batch.forEach(r -> r.result().completeExceptionally(closedException()));
+    }
+  }
+
+  private void send(List<Request> batch) {
+    List<String> texts = batch.stream().map(Request::text).toList();
+    texts.forEach(t -> estimatedTokens.add(estimateTokens(t)));
+    for (int attempt = 0; ; attempt++) {
+      long start = System.nanoTime();
+      try {
+        List<float[]> vectors = embedder.apply(texts);
+        record(System.nanoTime() - start);
+        if (vectors == null || vectors.size() != texts.size()) {
+          throw new IllegalStateException(
+              String.format("Embedding provider %s returned %s vectors for %s texts", name,
+                  vectors != null ? vectors.size() : 0, texts.size()));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+          batch.get(i).result().complete(vectors.get(i));
+        }
+        return;
+      } catch (Throwable e) {
+        boolean isRateLimited = isRateLimited(e);
+        if (isRateLimited) {
+          rateLimited.increment();
+        }
+        if (isRateLimited && attempt < maxRetries && !closed) {
+          retries.increment();
+          Duration backoff = backoff(attempt, retryAfter(e));
+          if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Embedding provider %s rate limited the request, retrying in %s ms", name,
+                backoff.toMillis()));
+          }
+          try {
+            Thread.sleep(backoff.toMillis());
+            continue;
+          } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        failures.increment();
+        batch.forEach(r -> r.result().completeExceptionally(e));
+        if (e instanceof Error error) {
+          throw error;
+        }
+        return;
+      }
+    }
+  }
+
+  private void record(long nanos) {
+    batches.increment();
+    latencyNanos.add(nanos);
+    maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  /**
+   * Full jitter: a random wait up to the exponential bound of the attempt, but never shorter than what the provider
+   * asked for with {@code Retry-After}.
+   */
+  Duration backoff(int attempt, Duration retryAfter) {
+    long bound = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt, 30));
+    long jittered = bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0;
+    return Duration.ofMillis(Math.max(jittered, retryAfter != null ? retryAfter.toMillis() : 0));
+  }
+
+  /**
+   * Recognizes rate limiting by the HTTP status (429) of the typed exceptions of the clients used by the providers:
+   * Spring's {@code RestClient} (OpenAI, Ollama, Vertex AI), Azure's core HTTP pipeline and the AWS SDK (Bedrock).
+   * Spring AI's response error handler keeps only the status, as the start of the message of its {@code *AiException}.
+   */
+  static boolean isRateLimited(Throwable e) {
+    for (Throwable t = e; t != null; t = t.getCause() != t ? t.getCause() : null) {
+      if (t instanceof RestClientResponseException rce && rce.getStatusCode().value() == TOO_MANY_REQUESTS) {
+        return true;
+      } else if (AZURE_PRESENT && AzureStatus.isTooManyRequests(t)) {
+        return true;
+      } else if (AWS_PRESENT && AwsStatus.isTooManyRequests(t)) {
+        return true;
+      } else if (t.getClass().getName().startsWith(SPRING_AI_RETRY_PACKAGE) && t.getMessage() != null
+          && t.getMessage().startsWith(TOO_MANY_REQUESTS + " - ")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Duration retryAfter(Throwable e) {
+    for (Throwable t = e; t != null; t = t.getCause() != t ? t.getCause() : null) {
+      if (t instanceof RestClientResponseException rce && rce.getResponseHeaders() != null) {
+        String retryAfter = rce.getResponseHeaders().getFirst("Retry-After");
+        if (retryAfter != null) {
+          try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+          } catch (NumberFormatException ignored) {
+            // an HTTP date, the jittered backoff applies
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A rough token count for usage tracking, about four characters per token for English text.
+   */
+  static long estimateTokens(String text) {
+    return (text.length() + 3) / 4;
+  }
+
+  private record Request(String text, CompletableFuture<float[]> result) {
+  }
+
+  // the provider clients are optional dependencies, their exceptions are only referenced when on the classpath
+
+  private static final class AzureStatus {
+    static boolean isTooManyRequests(Throwable t) {
+      return t instanceof HttpResponseException hre && hre.getResponse() != null
+          && hre.getResponse().getStatusCode() == TOO_MANY_REQUESTS;
+    }
+  }
+
+  private static final class AwsStatus {
+    static boolean isTooManyRequests(Throwable t) {
+      return t instanceof SdkServiceException sse && (sse.statusCode() == TOO_MANY_REQUESTS
+          || sse.isThrottlingException());
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.redis.om.spring.vectorize;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the activity of an {@link EmbeddingDispatcher}.
+ *
+ * @param requests        the texts submitted
+ * @param calls           the successful calls to the provider
+ * @param retries         the calls retried after rate limiting
+ * @param rateLimited     the calls rejected by the provider for rate limiting
+ * @param failures        the batches that failed for good
+ * @param queued          the texts waiting for a call
+ * @param inFlight        the calls in progress
+ * @param estimatedTokens the tokens sent, estimated from the length of the texts
+ * @param averageLatency  the average duration of a successful call
+ * @param maxLatency      the longest duration of a successful call
+ */
+public record EmbeddingDispatcherStats(long requests, long calls, long retries, long rateLimited, long failures,
+                                       long queued, long inFlight, long estimatedTokens, Duration averageLatency,
+                                       Duration maxLatency) {
+}
@@ -0,0 +1,194 @@
+package com.redis.om.spring.vectorize;
+
+import ai.djl.inference.Predictor;
+import ai.djl.translate.TranslateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of DJL {@link Predictor}s over a single model. Predictors are not thread-safe, so each one is used by
+ * a single thread at a time; the pool creates them on demand, up to its size, and reuses them afterward.
+ * <p>
+ * {@link #batchPredict(List)} splits its inputs into batches and runs them concurrently, one predictor per batch,
+ * on the threads of the pool.
+ */
+public class PredictorPool<I, O> implements AutoCloseable {
+  private final Supplier<Predictor<I, O>> factory;
+  private final int size;
+  private final int batchSize;
+  private final BlockingQueue<Predictor<I, O>> idle;
+  private final Semaphore permits;
+  private final List<Predictor<I, O>> created = new CopyOnWriteArrayList<>();
+  private final ExecutorService executor;
+  private volatile boolean closed;
+
+  /**
+   * @param factory   creates a new predictor on the model
+   * @param size      the maximum number of predictors, and of concurrent batches
+   * @param batchSize the maximum number of inputs per {@link Predictor#batchPredict(List)} call
+   */
+  public PredictorPool(Supplier<Predictor<I, O>> factory, int size, int batchSize) {
+    if (size < 1 || batchSize < 1) {
+      throw new IllegalArgumentException(
+          String.format("Predictor pool size (%s) and batch size (%s) must be positive", size, batchSize));
+    }
+    this.factory = factory;
+    this.size = size;
+    this.batchSize = batchSize;
+    this.idle = new ArrayBlockingQueue<>(size);
+    this.permits = new Semaphore(size);
+    this.executor = Executors.newFixedThreadPool(size, r -> {
+      Thread thread = new Thread(r, "redis-om-predictor");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Runs a single inference on the calling thread with a pooled predictor.
+   */
+  public O predict(I input) throws TranslateException {
+    Predictor<I, O> predictor = borrow();
+    try {
+      return predictor.predict(input);
+    } finally {
+      release(predictor);
+    }
+  }
+
+  /**
+   * Runs batched inference over the inputs, concurrently across the predictors of the pool.
+   *
+   * @return the outputs, in the order of the inputs
+   */
+  public List<O> batchPredict(List<I> inputs) throws TranslateException {
+    if (inputs.isEmpty()) {
+      return List.of();
+    }
+    if (inputs.size() <= batchSize) {
+      return predictBatch(inputs);
+    }
+
+    List<Future<List<O>>> batches = new ArrayList<>();
+    for (int from = 0; from < inputs.size(); from += batchSize) {
+      List<I> batch = inputs.subList(from, Math.min(from + batchSize, inputs.size()));
+      batches.add(executor.submit(() -> predictBatch(batch)));
+    }
+
+    List<O> outputs = new ArrayList<>(inputs.size());
+    for (Future<List<O>> batch : batches) {
+      outputs.addAll(await(batch));
+    }
+    return outputs;
+  }
+
+  /**
+   * Applies a function to each input on the threads of the pool, i.e. to decode the images of a batch in parallel.
+   *
+   * @return the results, in the order of the inputs
+   */
+  public <T, R> List<R> map(List<T> inputs, CheckedFunction<T, R> function) throws TranslateException {
+    if (inputs.size() == 1) {
+      try {
+        return List.of(function.apply(inputs.get(0)));
+      } catch (Exception e) {
+        throw e instanceof TranslateException te ? te : new TranslateException(e);
+      }
+    }
+    List<Future<R>> futures = inputs.stream().map(i -> executor.submit(() -> function.apply(i))).toList();
+    List<R> results = new ArrayList<>(inputs.size());
+    for (Future<R> future : futures) {
+      results.add(await(future));
+    }
+    return results;
+  }
+
+  /**
+   * Stops the threads of the pool and closes its native predictors. A predictor in use is closed when it is returned.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    executor.shutdownNow();
+    Predictor<I, O> predictor;
+    while ((predictor = idle.poll()) != null) {
+      created.remove(predictor);
+      predictor.close();
+    }
+  }
+
+  private List<O> predictBatch(List<I> batch) throws TranslateException {
+    Predictor<I, O> predictor = borrow();
+    try {
+      return predictor.batchPredict(batch);
+    } finally {
+      release(predictor);
+    }
+  }
+
+  private Predictor<I, O> borrow() throws TranslateException {
+    if (closed) {
+      throw new IllegalStateException("The predictor pool is closed");
+    }
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TranslateException("Interrupted while waiting for a predictor", e);
+    }
+    Predictor<I, O> predictor = idle.poll();
+    if (predictor == null) {
+      try {
+        predictor = factory.get();
+      } catch (RuntimeException e) {
+        permits.release();
+        throw e;
+      }
+      created.add(predictor);
+    }
+    return predictor;
+  }
+
+  private void release(Predictor<I, O> predictor) {
+    if (closed) {
+      created.remove(predictor);
+      predictor.close();
+    } else {
+      idle.offer(predictor);
+    }
+    permits.release();
+  }
+
+  private static <T> T await(Future<T> future) throws TranslateException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TranslateException("Interrupted while waiting for a prediction", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof TranslateException te) {
+        throw te;
+      }
+      throw new TranslateException(e.getCause());
+    }
+  }
+
+  /**
+   * A function that may fail with a checked exception, see {@link #map(List, CheckedFunction)}.
+   */
+  @FunctionalInterface
+  public interface CheckedFunction<T, R> {
+    R apply(T input) throws Exception;
+  }
+}
@@ -0,0 +1,310 @@
+package com.redis.om.spring.vectorize.cache;
+
+import com.redis.om.spring.indexing.DistanceMetric;
+import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.indexing.VectorType;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.search.stream.aggregations.AggregationValues;
+import com.redis.om.spring.util.ObjectUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.DigestUtils;
+import redis.clients.jedis.search.Document;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchResult;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A cache of query results keyed by the embedding of the query: a lookup is answered with the results of a
+ * previous query whose embedding is within {@code distanceThreshold} of its own, found with a KNN search on a small
+ * dedicated vector index. Lookups by text first try the exact same text, which needs no embedding at all.
+ * <p>
+ * Results are cached as lists of ids (i.e. entity ids to load, or document keys). Entries expire after
+ * {@code ttl}; beyond {@code maxEntries} the oldest entries are evicted. All the keys of a cache share a hash tag:
+ * <ul>
+ * <li>{@code semantic-cache:{<name>}:entry:<uuid>} - hash, the embedding and the ids of an entry</li>
+ * <li>{@code semantic-cache:{<name>}:text:<md5>} - string, the entry of an exact text</li>
+ * <li>{@code semantic-cache:{<name>}:entries} - sorted set, the entries in creation order</li>
+ * <li>{@code semantic-cache:{<name>}:sequence} - string, the counter giving the creation order</li>
+ * </ul>
+ */
+public class SemanticCache {
+  private static final Log logger = LogFactory.getLog(SemanticCache.class);
+
+  static final String SEPARATOR = "\u001f";
+  private static final String EMBEDDING = "embedding";
+  private static final String IDS = "ids";
+  private static final String DISTANCE = "distance";
+
+  // KEYS: entry, entries, text key, sequence ARGV: embedding, ids, ttl ms, max entries, '1' to set the text key
+  // entries are ordered by a sequence number, not the time, so that puts in the same millisecond are evicted in
+  // order; they all live as long, so the expired ones are the oldest
+  private static final String PUT_SCRIPT = """
+      redis.call('HSET', KEYS[1], 'embedding', ARGV[1], 'ids', ARGV[2])
+      redis.call('PEXPIRE', KEYS[1], ARGV[3])
+      if ARGV[5] == '1' then
+        redis.call('SET', KEYS[3], KEYS[1], 'PX', ARGV[3])
+      end
+      redis.call('ZADD', KEYS[2], redis.call('INCR', KEYS[4]), KEYS[1])
+      while true do
+        local oldest = redis.call('ZRANGE', KEYS[2], 0, 0)
+        if #oldest == 0 or redis.call('EXISTS', oldest[1]) == 1 then
+          break
+        end
+        redis.call('ZREM', KEYS[2], oldest[1])
+      end
+      local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[4])
+      if excess > 0 then
+        local evicted = redis.call('ZPOPMIN', KEYS[2], excess)
+        for i = 1, #evicted, 2 do
+          redis.call('DEL', evicted[i])
+        end
+      end
+      return 0
+      """;
+
+  static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>(PUT_SCRIPT, Long.class);
+
+  private final String name;
+  private final int dimension;
+  private final DistanceMetric distanceMetric;
+  private final double distanceThreshold;
+  private final Duration ttl;
+  private final long maxEntries;
+  private final Function<String, float[]> embedder;
+  private final RedisModulesOperations<String> modulesOperations;
+  private final String keyPrefix;
+  private final String indexName;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder exactHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * @param embedder computes the embedding of a text, or null if the cache is only used with embeddings
+   */
+  public SemanticCache(String name, int dimension, DistanceMetric distanceMetric, double distanceThreshold,
+      Duration ttl, long maxEntries, Function<String, float[]> embedder, RedisModulesOperations<String> modulesOperations,
+      RediSearchIndexer indexer) {
+    if (dimension <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Semantic cache %s needs a positive vector dimension, was %s", name, dimension));
+    }
+    if (ttl.isNegative() || ttl.isZero() || maxEntries <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Semantic cache %s needs a positive ttl and size, were %s and %s", name, ttl, maxEntries));
+    }
+    this.name = name;
+    this.dimension = dimension;
+    this.distanceMetric = distanceMetric;
+    this.distanceThreshold = distanceThreshold;
+    this.ttl = ttl;
+    this.maxEntries = maxEntries;
+    this.embedder = embedder;
+    this.modulesOperations = modulesOperations;
+    this.keyPrefix = String.format("semantic-cache:{%s}:", name);
+    this.indexName = String.format("semantic-cache-%s-idx", name);
+    indexer.createVectorIndex(indexName, keyPrefix + "entry:", EMBEDDING, VectorType.FLOAT32, dimension,
+        distanceMetric);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  public DistanceMetric getDistanceMetric() {
+    return distanceMetric;
+  }
+
+  public double getDistanceThreshold() {
+    return distanceThreshold;
+  }
+
+  /**
+   * @return the ids cached for the closest query within the distance threshold, if any
+   */
+  public Optional<List<String>> get(float[] embedding) {
+    Optional<List<String>> ids = lookup(embedding);
+    (ids.isPresent() ? hits : misses).increment();
+    modulesOperations.metrics().recordCacheAccess(name, ids.isPresent());
+    return ids;
+  }
+
+  /**
+   * Looks up the exact text first, then its embedding.
+   *
+   * @throws IllegalStateException if the cache has no embedder
+   */
+  public Optional<List<String>> get(String text) {
+    Optional<List<String>> exact = lookupText(text);
+    if (exact.isPresent()) {
+      hits.increment();
+      exactHits.increment();
+      modulesOperations.metrics().recordCacheAccess(name, true);
+      return exact;
+    }
+    return get(embed(text));
+  }
+
+  public void put(float[] embedding, List<String> ids) {
+    store(null, embedding, ids);
+  }
+
+  /**
+   * Caches the ids for the text, both by exact text and by its embedding.
+   *
+   * @throws IllegalStateException if the cache has no embedder
+   */
+  public void put(String text, List<String> ids) {
+    store(text, embed(text), ids);
+  }
+
+  /**
+   * Returns the cached ids for the embedding, or loads (i.e. with a KNN search) and caches them.
+   */
+  public List<String> getOrLoad(float[] embedding, Function<float[], List<String>> loader) {
+    Optional<List<String>> cached = get(embedding);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    List<String> ids = loader.apply(embedding);
+    store(null, embedding, ids);
+    return ids;
+  }
+
+  /**
+   * Returns the cached ids for the text, or loads and caches them. The embedding of the text is computed at most
+   * once, and not at all on an exact text hit.
+   *
+   * @throws IllegalStateException if the cache has no embedder
+   */
+  public List<String> getOrLoad(String text, Function<float[], List<String>> loader) {
+    Optional<List<String>> exact = lookupText(text);
+    if (exact.isPresent()) {
+      hits.increment();
+      exactHits.increment();
+      modulesOperations.metrics().recordCacheAccess(name, true);
+      return exact.get();
+    }
+    float[] embedding = embed(text);
+    Optional<List<String>> cached = get(embedding);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    List<String> ids = loader.apply(embedding);
+    store(text, embedding, ids);
+    return ids;
+  }
+
+  /**
+   * Removes all the entries of the cache, keeping its index.
+   */
+  public void clear() {
+    StringRedisTemplate template = modulesOperations.template();
+    Set<String> entries = template.opsForZSet().range(entriesKey(), 0, -1);
+    if (entries != null && !entries.isEmpty()) {
+      template.delete(entries);
+    }
+    template.delete(List.of(entriesKey(), sequenceKey()));
+  }
+
+  public SemanticCacheStats getStats() {
+    Long size = modulesOperations.template().opsForZSet().zCard(entriesKey());
+    return new SemanticCacheStats(hits.sum(), exactHits.sum(), misses.sum(), size != null ? size : 0L);
+  }
+
+  private Optional<List<String>> lookup(float[] embedding) {
+    checkDimension(embedding);
+    Query query = new Query(String.format("*=>[KNN 1 @%s $blob AS %s]", EMBEDDING, DISTANCE)) //
+        .addParam("blob", ObjectUtils.floatArrayToByteArray(embedding)) //
+        .returnFields(IDS, DISTANCE) //
+        .setSortBy(DISTANCE, true) //
+        .limit(0, 1) //
+        .dialect(2);
+    SearchResult result = modulesOperations.opsForSearch(indexName).search(query);
+    if (result.getDocuments().isEmpty()) {
+      return Optional.empty();
+    }
+    Document closest = result.getDocuments().get(0);
+    Object distance = closest.get(DISTANCE);
+    Object ids = closest.get(IDS);
+    if (distance == null || ids == null || AggregationValues.parseDouble(distance) > distanceThreshold) {
+      return Optional.empty();
+    }
+    return Optional.of(splitIds(AggregationValues.asString(ids)));
+  }
+
+  private Optional<List<String>> lookupText(String text) {
+    StringRedisTemplate template = modulesOperations.template();
+    String entry = template.opsForValue().get(textKey(text));
+    if (entry == null) {
+      return Optional.empty();
+    }
+    Object ids = template.opsForHash().get(entry, IDS);
+    // the entry might have been evicted before the text key expired
+    return ids != null ? Optional.of(splitIds(ids.toString())) : Optional.empty();
+  }
+
+  private void store(String text, float[] embedding, List<String> ids) {
+    checkDimension(embedding);
+    String entry = keyPrefix + "entry:" + UUID.randomUUID();
+    List<String> keys = List.of(entry, entriesKey(), text != null ? textKey(text) : entry, sequenceKey());
+    Object[] args = new Object[] { ObjectUtils.floatArrayToByteArray(embedding), //
+        utf8(String.join(SEPARATOR, ids)), //
+        utf8(Long.toString(ttl.toMillis())), //
+        utf8(Long.toString(maxEntries)), //
+        utf8(text != null ? "1" : "0") };
+    modulesOperations.template().execute(SCRIPT, RedisSerializer.byteArray(), null, keys, args);
+    logger.debug(String.format("Cached %s ids in semantic cache %s", ids.size(), name));
+  }
+
+  private float[] embed(String text) {
+    if (embedder == null) {
+      throw new IllegalStateException(
+          String.format("Semantic cache %s has no embedder, look it up by embedding instead of text", name));
+    }
+    return embedder.apply(text);
+  }
+
+  private void checkDimension(float[] embedding) {
+    if (embedding.length != dimension) {
+      throw new IllegalArgumentException(
+          String.format("Semantic cache %s holds vectors of dimension %s, got %s", name, dimension,
+              embedding.length));
+    }
+  }
+
+  private String entriesKey() {
+    return keyPrefix + "entries";
+  }
+
+  private String sequenceKey() {
+    return keyPrefix + "sequence";
+  }
+
+  private String textKey(String text) {
+    return keyPrefix + "text:" + DigestUtils.md5DigestAsHex(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static List<String> splitIds(String joined) {
+    return joined.isEmpty() ? List.of() : List.of(joined.split(SEPARATOR, -1));
+  }
+
+  private static byte[] utf8(String value) {
+    return SafeEncoder.encode(value);
+  }
+}
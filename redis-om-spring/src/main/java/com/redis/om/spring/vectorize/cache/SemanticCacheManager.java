@@ -0,0 +1,74 @@
+package com.redis.om.spring.vectorize.cache;
+
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.indexing.DistanceMetric;
+import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.metamodel.MetamodelField;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.util.ObjectUtils;
+import com.redis.om.spring.vectorize.Embedder;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Creates and keeps the {@link SemanticCache}s of the application, one per name, with the distance threshold, ttl
+ * and size configured under {@code redis.om.spring.semantic-cache}.
+ */
+public class SemanticCacheManager {
+  private final Map<String, SemanticCache> caches = new ConcurrentHashMap<>();
+  private final RedisModulesOperations<String> modulesOperations;
+  private final RediSearchIndexer indexer;
+  private final Embedder embedder;
+  private final RedisOMProperties properties;
+
+  @SuppressWarnings("unchecked")
+  public SemanticCacheManager(RedisModulesOperations<?> rmo, RediSearchIndexer indexer, Embedder embedder,
+      RedisOMProperties properties) {
+    this.modulesOperations = (RedisModulesOperations<String>) rmo;
+    this.indexer = indexer;
+    this.embedder = embedder;
+    this.properties = properties;
+  }
+
+  /**
+   * Returns the cache for queries on a vector field: its embeddings have the dimension and distance metric of the
+   * field, and texts are embedded like the field's {@code @Vectorize} source.
+   */
+  public SemanticCache getCache(String name, MetamodelField<?, ?> vectorField) {
+    Field field = vectorField.getSearchFieldAccessor().getField();
+    return caches.computeIfAbsent(name, n -> create(n, ObjectUtils.getVectorDimension(field),
+        ObjectUtils.getDistanceMetric(field), embedder != null ? text -> embed(field, text) : null));
+  }
+
+  /**
+   * Returns the cache for embeddings computed by the application; it cannot be looked up by text.
+   */
+  public SemanticCache getCache(String name, int dimension, DistanceMetric distanceMetric) {
+    return caches.computeIfAbsent(name, n -> create(n, dimension, distanceMetric, null));
+  }
+
+  public Collection<SemanticCache> getCaches() {
+    return caches.values();
+  }
+
+  private float[] embed(Field field, String text) {
+    List<float[]> embeddings = embedder.getTextEmbeddingsAsFloats(List.of(text), field);
+    if (embeddings.isEmpty()) {
+      throw new IllegalStateException(
+          String.format("No embedding computed for %s, is the embedder configured and ready?", field.getName()));
+    }
+    return embeddings.get(0);
+  }
+
+  private SemanticCache create(String name, int dimension, DistanceMetric distanceMetric,
+      Function<String, float[]> embed) {
+    RedisOMProperties.SemanticCache config = properties.getSemanticCache();
+    return new SemanticCache(name, dimension, distanceMetric, config.getDistanceThreshold(), config.getTtl(),
+        config.getMaxEntries(), embed, modulesOperations, indexer);
+  }
+}
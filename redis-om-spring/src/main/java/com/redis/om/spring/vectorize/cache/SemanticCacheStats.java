@@ -0,0 +1,20 @@
+package com.redis.om.spring.vectorize.cache;
+
+/**
+ * Lookup counts of a {@link SemanticCache} since it was created (per application instance).
+ *
+ * @param hits       lookups answered from the cache, by exact text or by a close enough embedding
+ * @param exactHits  the hits answered by exact text, without computing an embedding
+ * @param misses     lookups that found no close enough entry
+ * @param size       the number of entries in the cache, including entries about to expire
+ */
+public record SemanticCacheStats(long hits, long exactHits, long misses, long size) {
+
+  /**
+   * @return the fraction of lookups answered from the cache, 0 if there were none
+   */
+  public double hitRate() {
+    long lookups = hits + misses;
+    return lookups == 0 ? 0d : (double) hits / lookups;
+  }
+}
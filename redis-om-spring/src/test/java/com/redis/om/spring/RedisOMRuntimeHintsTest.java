@@ -0,0 +1,59 @@
+package com.redis.om.spring;
+
+import com.redis.om.spring.fixtures.document.model.Company;
+import com.redis.om.spring.metamodel.EntityIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.reflection;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.resource;
+
+class RedisOMRuntimeHintsTest {
+
+  @Test
+  void testEntityIndexIsGeneratedForTheTestEntities() {
+    Map<String, String> entities = EntityIndex.load(getClass().getClassLoader()).orElseThrow();
+
+    assertThat(entities).containsEntry(Company.class.getName(), "com.redis.om.spring.annotations.Document")
+        .containsEntry(com.redis.om.spring.fixtures.hash.model.Company.class.getName(),
+            "org.springframework.data.redis.core.RedisHash");
+  }
+
+  @Test
+  void testEntityIndexRoundTrip() throws IOException {
+    Map<String, String> entities = Map.of("com.example.Person", "com.redis.om.spring.annotations.Document");
+    StringWriter writer = new StringWriter();
+
+    EntityIndex.write(entities, writer);
+
+    assertThat(EntityIndex.read(new StringReader(writer.toString()))).isEqualTo(entities);
+  }
+
+  @Test
+  void testRegistersIndexEntitiesAndMetamodels() {
+    RuntimeHints hints = new RuntimeHints();
+
+    new RedisOMRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    assertThat(resource().forResource(EntityIndex.LOCATION)).accepts(hints);
+    assertThat(reflection().onType(Company.class).withMemberCategories(MemberCategory.DECLARED_FIELDS,
+        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    assertThat(reflection().onType(TypeReference.of(Company.class.getName() + "$"))
+        .withMemberCategory(MemberCategory.PUBLIC_FIELDS)).accepts(hints);
+  }
+
+  @Test
+  void testMetamodelClassName() {
+    assertThat(RedisOMRuntimeHints.metamodelClassName("com.example.Person")).isEqualTo("com.example.Person$");
+    assertThat(RedisOMRuntimeHints.metamodelClassName("com.example.Outer$Person")).isEqualTo("com.example.Person$");
+    assertThat(RedisOMRuntimeHints.metamodelClassName("Person")).isEqualTo("Person$");
+  }
+}
@@ -0,0 +1,132 @@
+package com.redis.om.spring.annotations.document;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.Sale;
+import com.redis.om.spring.fixtures.document.model.Sale$;
+import com.redis.om.spring.fixtures.document.repository.SaleRepository;
+import com.redis.om.spring.materialized.MaterializedAggregationMaintainer;
+import com.redis.om.spring.materialized.MaterializedAggregationView;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.search.stream.EntityStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaterializedAggregationTest extends AbstractBaseDocumentTest {
+  @Autowired
+  SaleRepository repository;
+
+  @Autowired
+  EntityStream entityStream;
+
+  @Autowired
+  RedisModulesOperations<String> modulesOperations;
+
+  MaterializedAggregationView byRegion;
+
+  @BeforeEach
+  void loadTestData() {
+    repository.deleteAll();
+    Sale s1 = Sale.of("north", "widget", 10.0, 1);
+    s1.setId("s1");
+    Sale s2 = Sale.of("north", "gadget", 20.0, 3);
+    s2.setId("s2");
+    Sale s3 = Sale.of("south", "widget", 5.5, 2);
+    s3.setId("s3");
+    repository.saveAll(List.of(s1, s2, s3));
+    byRegion = entityStream.materialized(Sale.class, "byRegion");
+  }
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testViewIsMaintainedOnSaveAll() {
+    assertThat(byRegion.count("north")).isEqualTo(2);
+    assertThat(byRegion.count("south")).isEqualTo(1);
+    assertThat(byRegion.count("east")).isZero();
+    assertThat(byRegion.sum("amount", "north")).isEqualTo(30.0);
+    assertThat(byRegion.avg("quantity", "north")).hasValue(2.0);
+    assertThat(byRegion.avg("quantity", "east")).isEmpty();
+    assertThat(byRegion.groups()).containsExactlyInAnyOrder("north", "south");
+    assertThat(byRegion.counts()).containsExactly(Map.entry("north", 2L), Map.entry("south", 1L));
+
+    MaterializedAggregationView byProduct = entityStream.materialized(Sale.class, "byProduct");
+    assertThat(byProduct.topByCount(1)).containsExactly(Map.entry("widget", 2L));
+  }
+
+  @Test
+  void testOverwriteMovesContribution() {
+    Sale s3 = repository.findById("s3").orElseThrow();
+    s3.setRegion("north");
+    s3.setAmount(4.5);
+    repository.save(s3);
+
+    assertThat(byRegion.count("north")).isEqualTo(3);
+    assertThat(byRegion.sum("amount", "north")).isEqualTo(34.5);
+    assertThat(byRegion.groups()).containsExactly("north");
+  }
+
+  @Test
+  void testUpdateByExampleAndPartialUpdates() {
+    Sale probe = new Sale();
+    probe.setId("s1");
+    probe.setAmount(15.0);
+    repository.update(Example.of(probe));
+    assertThat(byRegion.sum("amount", "north")).isEqualTo(35.0);
+
+    Sale s2 = repository.findById("s2").orElseThrow();
+    repository.updateField(s2, Sale$.REGION, "south");
+    assertThat(byRegion.count("south")).isEqualTo(2);
+    assertThat(byRegion.sum("amount", "south")).isEqualTo(25.5);
+  }
+
+  @Test
+  void testDeleteRetractsContribution() {
+    repository.deleteById("s1");
+    assertThat(byRegion.count("north")).isEqualTo(1);
+    assertThat(byRegion.sum("amount", "north")).isEqualTo(20.0);
+
+    repository.deleteById("s3");
+    assertThat(byRegion.groups()).containsExactly("north");
+    assertThat(byRegion.sums("amount")).containsExactly(Map.entry("north", 20.0));
+  }
+
+  @Test
+  void testDeleteAllClearsView() {
+    repository.deleteAll();
+    assertThat(byRegion.groups()).isEmpty();
+    assertThat(byRegion.count("north")).isZero();
+  }
+
+  @Test
+  void testRebuildReconcilesView() {
+    // simulate a view that drifted from the stored entities
+    new MaterializedAggregationMaintainer(modulesOperations.template()).clear(Sale.class);
+    assertThat(byRegion.groups()).isEmpty();
+
+    repository.rebuildMaterializedAggregations();
+    assertThat(byRegion.groups()).isEqualTo(Set.of("north", "south"));
+    assertThat(byRegion.count("north")).isEqualTo(2);
+    assertThat(byRegion.sum("amount", "south")).isEqualTo(5.5);
+  }
+
+  @Test
+  void testUnknownViewOrProperty() {
+    assertThatThrownBy(() -> entityStream.materialized(Sale.class, "byMonth")) //
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> byRegion.sum("product", "north")) //
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
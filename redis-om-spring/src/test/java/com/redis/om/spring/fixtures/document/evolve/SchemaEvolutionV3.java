@@ -0,0 +1,21 @@
+package com.redis.om.spring.fixtures.document.evolve;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.Searchable;
+import lombok.Data;
+import lombok.NonNull;
+import org.springframework.data.annotation.Id;
+
+@Data
+@Document(value = "schema-evolution", indexName = "SchemaEvolutionIdx")
+public class SchemaEvolutionV3 {
+  @Id
+  private String id;
+  @NonNull
+  @Searchable
+  private String name;
+  @NonNull
+  @Indexed
+  private String city;
+}
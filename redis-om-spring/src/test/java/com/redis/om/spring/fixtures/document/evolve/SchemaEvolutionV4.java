@@ -0,0 +1,20 @@
+package com.redis.om.spring.fixtures.document.evolve;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import lombok.Data;
+import lombok.NonNull;
+import org.springframework.data.annotation.Id;
+
+@Data
+@Document(value = "schema-evolution", indexName = "SchemaEvolutionIdx")
+public class SchemaEvolutionV4 {
+  @Id
+  private String id;
+  @NonNull
+  @Indexed(alias = "fullName")
+  private String name;
+  @NonNull
+  @Indexed
+  private String city;
+}
@@ -0,0 +1,17 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import lombok.Data;
+import lombok.NonNull;
+import org.springframework.data.annotation.Id;
+
+@Data
+@Document(async = true)
+public class ModelAsyncIndex {
+  @Id
+  private String id;
+  @NonNull
+  @Indexed
+  private String name;
+}
@@ -0,0 +1,21 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.IndexingOptions;
+import lombok.Data;
+import lombok.NonNull;
+import org.springframework.data.annotation.Id;
+
+import static com.redis.om.spring.annotations.IndexCreationMode.REINDEX_AND_SWAP;
+
+@Data
+@Document
+@IndexingOptions(creationMode = REINDEX_AND_SWAP)
+public class ModelReindexAndSwap {
+  @Id
+  private String id;
+  @NonNull
+  @Indexed
+  private String name;
+}
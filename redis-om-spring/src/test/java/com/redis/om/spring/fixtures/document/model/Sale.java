@@ -0,0 +1,40 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.MaterializedAggregation;
+import com.redis.om.spring.annotations.Reducer;
+import com.redis.om.spring.annotations.ReducerFunction;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(force = true)
+@Document
+@MaterializedAggregation(name = "byRegion", groupBy = "region", reduce = {
+    @Reducer(func = ReducerFunction.COUNT), @Reducer(func = ReducerFunction.SUM, args = "amount"),
+    @Reducer(func = ReducerFunction.AVG, args = "quantity")
+})
+@MaterializedAggregation(name = "byProduct", groupBy = "product")
+public class Sale {
+  @Id
+  private String id;
+
+  @Indexed
+  @NonNull
+  private String region;
+
+  @Indexed
+  @NonNull
+  private String product;
+
+  @Indexed
+  @NonNull
+  private Double amount;
+
+  @Indexed
+  @NonNull
+  private Integer quantity;
+}
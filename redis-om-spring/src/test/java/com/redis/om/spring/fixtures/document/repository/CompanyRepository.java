@@ -8,6 +8,7 @@ import org.springframework.data.geo.Point;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @SuppressWarnings("unused")
 public interface CompanyRepository extends RedisDocumentRepository<Company, String> {
@@ -49,4 +50,9 @@ public interface CompanyRepository extends RedisDocumentRepository<Company, Stri
 
   List<Company> findByYearFoundedOrderByNameDesc(int year);
 
+  // run on the async executor
+  CompletableFuture<List<Company>> findAllByYearFoundedOrderByNameAsc(int year);
+
+  CompletableFuture<Optional<Company>> findOneByEmail(String email);
+
 }
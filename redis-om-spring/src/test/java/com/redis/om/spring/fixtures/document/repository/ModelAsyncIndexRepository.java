@@ -0,0 +1,10 @@
+package com.redis.om.spring.fixtures.document.repository;
+
+import com.redis.om.spring.fixtures.document.model.ModelAsyncIndex;
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+import java.util.List;
+
+public interface ModelAsyncIndexRepository extends RedisDocumentRepository<ModelAsyncIndex, String> {
+  List<ModelAsyncIndex> findByName(String name);
+}
@@ -0,0 +1,7 @@
+package com.redis.om.spring.fixtures.document.repository;
+
+import com.redis.om.spring.fixtures.document.model.ModelReindexAndSwap;
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface ModelReindexAndSwapRepository extends RedisDocumentRepository<ModelReindexAndSwap, String> {
+}
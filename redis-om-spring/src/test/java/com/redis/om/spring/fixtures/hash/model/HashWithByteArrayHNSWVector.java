@@ -33,4 +33,6 @@ public class HashWithByteArrayHNSWVector {
   @Indexed
   @NonNull
   private int number;
+
+  private Double distance;
 }
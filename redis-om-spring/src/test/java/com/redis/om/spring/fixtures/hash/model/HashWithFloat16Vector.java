@@ -0,0 +1,31 @@
+package com.redis.om.spring.fixtures.hash.model;
+
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.SchemaFieldType;
+import com.redis.om.spring.indexing.DistanceMetric;
+import com.redis.om.spring.indexing.VectorType;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import redis.clients.jedis.search.schemafields.VectorField.VectorAlgorithm;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+@NoArgsConstructor(force = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@RedisHash
+public class HashWithFloat16Vector {
+  @Id
+  @NonNull
+  private String id;
+
+  @Indexed(//
+           schemaFieldType = SchemaFieldType.VECTOR, //
+           algorithm = VectorAlgorithm.HNSW, //
+           type = VectorType.FLOAT16, //
+           dimension = 3, //
+           distanceMetric = DistanceMetric.L2 //
+  )
+  @NonNull
+  private byte[] vector;
+}
@@ -3,5 +3,13 @@ package com.redis.om.spring.fixtures.hash.repository;
 import com.redis.om.spring.fixtures.hash.model.ASimpleHash;
 import com.redis.om.spring.repository.RedisEnhancedRepository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 public interface ASimpleHashRepository extends RedisEnhancedRepository<ASimpleHash, String> {
+  // run on the async executor
+  CompletableFuture<List<ASimpleHash>> findBySecond(String second);
+
+  CompletableFuture<Optional<ASimpleHash>> findOneByFirst(String first);
 }
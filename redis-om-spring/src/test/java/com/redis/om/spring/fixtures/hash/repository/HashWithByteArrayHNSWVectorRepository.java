@@ -3,6 +3,12 @@ package com.redis.om.spring.fixtures.hash.repository;
 import com.redis.om.spring.fixtures.hash.model.HashWithByteArrayHNSWVector;
 import com.redis.om.spring.repository.RedisEnhancedRepository;
 
+import java.util.List;
+
 public interface HashWithByteArrayHNSWVectorRepository
     extends RedisEnhancedRepository<HashWithByteArrayHNSWVector, String> {
+  List<HashWithByteArrayHNSWVector> findByVectorWithinDistance(byte[] vector, double radius);
+
+  List<HashWithByteArrayHNSWVector> findByVectorWithinDistanceAndNumberGreaterThan(float[] vector, double radius,
+      int number);
 }
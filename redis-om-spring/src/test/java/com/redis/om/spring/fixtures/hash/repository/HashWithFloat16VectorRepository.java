@@ -0,0 +1,7 @@
+package com.redis.om.spring.fixtures.hash.repository;
+
+import com.redis.om.spring.fixtures.hash.model.HashWithFloat16Vector;
+import com.redis.om.spring.repository.RedisEnhancedRepository;
+
+public interface HashWithFloat16VectorRepository extends RedisEnhancedRepository<HashWithFloat16Vector, String> {
+}
@@ -0,0 +1,67 @@
+package com.redis.om.spring.indexing;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.fixtures.document.model.Product;
+import com.redis.om.spring.fixtures.document.model.VersionedEntity;
+import com.redis.om.spring.fixtures.hash.model.CustomIndexHash;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisHash;
+
+import java.lang.annotation.Annotation;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityRegistryTest {
+  private static final String FIXTURES = "com.redis.om.spring.fixtures";
+
+  @Test
+  void testFromIndexGroupsEntitiesByAnnotation() {
+    Map<String, String> index = new LinkedHashMap<>();
+    index.put(Product.class.getName(), Document.class.getName());
+    index.put(VersionedEntity.class.getName(), Document.class.getName());
+    index.put(CustomIndexHash.class.getName(), RedisHash.class.getName());
+
+    Map<Class<? extends Annotation>, Set<Class<?>>> entities = EntityRegistry.fromIndex(index, Set.of(FIXTURES));
+
+    assertThat(entities.get(Document.class)).containsExactly(Product.class, VersionedEntity.class);
+    assertThat(entities.get(RedisHash.class)).containsExactly(CustomIndexHash.class);
+  }
+
+  @Test
+  void testFromIndexKeepsTheEntitiesOfTheBasePackagesOnly() {
+    Map<String, String> index = Map.of(Product.class.getName(), Document.class.getName(),
+        CustomIndexHash.class.getName(), RedisHash.class.getName());
+
+    Map<Class<? extends Annotation>, Set<Class<?>>> entities = EntityRegistry.fromIndex(index,
+        Set.of(FIXTURES + ".hash"));
+
+    assertThat(entities.get(Document.class)).isEmpty();
+    assertThat(entities.get(RedisHash.class)).containsExactly(CustomIndexHash.class);
+  }
+
+  @Test
+  void testFromPartialIndexOnlyRegistersTheIndexedEntities() {
+    // e.g. a jar compiled without the generator: its entities are in the packages but not in the index
+    Map<String, String> index = Map.of(Product.class.getName(), Document.class.getName());
+
+    Map<Class<? extends Annotation>, Set<Class<?>>> entities = EntityRegistry.fromIndex(index, Set.of(FIXTURES));
+
+    assertThat(entities.get(Document.class)).containsExactly(Product.class).doesNotContain(VersionedEntity.class);
+    assertThat(entities.get(RedisHash.class)).isEmpty();
+  }
+
+  @Test
+  void testFromIndexSkipsMissingClassesAndUnknownAnnotations() {
+    Map<String, String> index = new LinkedHashMap<>();
+    index.put(FIXTURES + ".document.model.Removed", Document.class.getName());
+    index.put(VersionedEntity.class.getName(), Deprecated.class.getName());
+    index.put(Product.class.getName(), Document.class.getName());
+
+    Map<Class<? extends Annotation>, Set<Class<?>>> entities = EntityRegistry.fromIndex(index, Set.of(""));
+
+    assertThat(entities.get(Document.class)).containsExactly(Product.class);
+  }
+}
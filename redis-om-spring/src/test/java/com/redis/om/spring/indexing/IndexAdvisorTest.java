@@ -0,0 +1,80 @@
+package com.redis.om.spring.indexing;
+
+import com.redis.om.spring.indexing.IndexAdvisor.Action;
+import com.redis.om.spring.indexing.IndexAdvisor.IndexReport;
+import com.redis.om.spring.indexing.IndexAdvisor.Recommendation;
+import com.redis.om.spring.ops.search.QueryFieldUsage;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.Query;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+class IndexAdvisorTest {
+  private static final Map<String, Object> INFO = Map.of( //
+      "num_docs", "1000", //
+      "inverted_sz_mb", "4", //
+      "offset_vectors_sz_mb", "1", //
+      "vector_index_sz_mb", "8", //
+      "sortable_values_size_mb", "2", //
+      "doc_table_size_mb", "0.5", //
+      "key_table_size_mb", "nan", //
+      "attributes", List.of( //
+          List.of("identifier", "$.name", "attribute", "name", "type", "TEXT", "WEIGHT", "1", "SORTABLE"), //
+          List.of("identifier", "$.email", "attribute", "email", "type", "TAG", "SEPARATOR", "|", "SORTABLE"), //
+          List.of("identifier", "$.age", "attribute", "age", "type", "NUMERIC", "SORTABLE"), //
+          List.of("identifier", "$.bio", "attribute", "bio", "type", "TEXT", "WEIGHT", "1"), //
+          List.of("identifier", "$.embedding", "attribute", "embedding", "type", "VECTOR")));
+
+  private final QueryFieldUsage usage = new QueryFieldUsage(true);
+
+  @Test
+  void testRecommendsChangesForUnneededIndexing() {
+    usage.recordSearch("personIdx", new Query("@name:john @email:{john\\@example\\.com}"));
+    usage.recordSearch("personIdx", new Query("@name:jane").setSortBy("age", true));
+
+    IndexReport report = IndexAdvisor.advise("personIdx", INFO, usage.getUsage("personIdx"), 2);
+
+    assertThat(report.numDocs()).isEqualTo(1000);
+    assertThat(report.memory().totalMb()).isEqualTo(15.5);
+    assertThat(report.fields()).extracting(f -> f.name(), f -> f.type(), f -> f.sortable()).containsExactly( //
+        tuple("name", "TEXT", true), tuple("email", "TAG", true), tuple("age", "NUMERIC", true),
+        tuple("bio", "TEXT", false), tuple("embedding", "VECTOR", false));
+    // 4 MB of inverted index over 4 fields, 2 MB of sortable values over 3, 1 MB of offsets over 2 text fields
+    assertThat(report.recommendations()).extracting(Recommendation::field, Recommendation::action) //
+        .containsExactlyInAnyOrder( //
+            tuple("embedding", Action.REMOVE_FIELD), //
+            tuple("bio", Action.REMOVE_FIELD), //
+            tuple("age", Action.NOINDEX), //
+            tuple("name", Action.DROP_SORTABLE), //
+            tuple("email", Action.DROP_SORTABLE), //
+            tuple("name", Action.TEXT_TO_TAG));
+    assertThat(report.recommendations().get(0).projectedSavingsMb()).isEqualTo(8d);
+    assertThat(report.projectedSavingsMb()).isEqualTo(8 + 1 + 1 + 2d / 3 + 2d / 3 + 0.5, within(1e-9));
+  }
+
+  @Test
+  void testFullTextSearchKeepsTextFields() {
+    usage.recordSearch("personIdx", new Query("@name:jo* @bio:redis @email:{a} @embedding:[1 2]"));
+    usage.recordSearch("personIdx", new Query("redis").setSortBy("age", true));
+
+    IndexReport report = IndexAdvisor.advise("personIdx", INFO, usage.getUsage("personIdx"), 2);
+
+    assertThat(report.recommendations()).extracting(Recommendation::action).doesNotContain(Action.TEXT_TO_TAG);
+  }
+
+  @Test
+  void testNoRecommendationsWithTooFewQueries() {
+    usage.recordSearch("personIdx", new Query("@name:john"));
+
+    IndexReport report = IndexAdvisor.advise("personIdx", INFO, usage.getUsage("personIdx"), 100);
+
+    assertThat(report.queries()).isEqualTo(1);
+    assertThat(report.recommendations()).isEmpty();
+    assertThat(report.projectedSavingsMb()).isZero();
+  }
+}
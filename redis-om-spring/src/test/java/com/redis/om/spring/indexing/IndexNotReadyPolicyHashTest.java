@@ -0,0 +1,57 @@
+package com.redis.om.spring.indexing;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.fixtures.hash.model.ASimpleHash;
+import com.redis.om.spring.fixtures.hash.repository.ASimpleHashRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IndexNotReadyPolicyHashTest extends AbstractBaseEnhancedRedisTest {
+  @Autowired
+  ASimpleHashRepository repository;
+
+  private String keyspace;
+
+  @BeforeEach
+  void suspendIndexWithData() {
+    repository.deleteAll();
+    repository.saveAll(List.of(ASimpleHash.of("a"), ASimpleHash.of("b"), ASimpleHash.of("c")));
+    keyspace = indexer.getKeyspaceForEntityClass(ASimpleHash.class);
+    // a phantom copy of an expiring entity and a secondary index set share the prefix
+    template.opsForHash().put(keyspace + "gone:phantom", "first", "gone");
+    template.opsForSet().add(keyspace + "a:idx", "first:a");
+    indexer.suspendIndexFor(ASimpleHash.class);
+  }
+
+  @AfterEach
+  void rebuildIndex() throws Exception {
+    indexer.getProperties().getRepository().setAsyncIndexNotReadyPolicy(IndexNotReadyPolicy.WAIT);
+    template.delete(List.of(keyspace + "gone:phantom", keyspace + "a:idx"));
+    indexer.rebuildIndexFor(ASimpleHash.class).get(30, TimeUnit.SECONDS);
+    repository.deleteAll();
+  }
+
+  @Test
+  void testScanSkipsAuxiliaryKeys() {
+    indexer.getProperties().getRepository().setAsyncIndexNotReadyPolicy(IndexNotReadyPolicy.SCAN);
+
+    assertThat(repository.count()).isEqualTo(3);
+    assertThat(repository.findAll()).extracting(ASimpleHash::getFirst).containsExactlyInAnyOrder("a", "b", "c");
+  }
+
+  @Test
+  void testFailRejectsQueries() {
+    indexer.getProperties().getRepository().setAsyncIndexNotReadyPolicy(IndexNotReadyPolicy.FAIL);
+
+    assertThatThrownBy(() -> repository.count()).isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("is not ready");
+  }
+}
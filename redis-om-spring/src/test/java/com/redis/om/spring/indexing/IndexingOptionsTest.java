@@ -1,17 +1,31 @@
 package com.redis.om.spring.indexing;
 
 import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.ModelAsyncIndex;
 import com.redis.om.spring.fixtures.document.model.ModelDropAndRecreate;
+import com.redis.om.spring.fixtures.document.model.ModelReindexAndSwap;
 import com.redis.om.spring.fixtures.document.model.ModelSkipAlways;
 import com.redis.om.spring.fixtures.document.model.ModelSkipIfExist;
+import com.redis.om.spring.fixtures.document.repository.ModelAsyncIndexRepository;
 import com.redis.om.spring.fixtures.document.repository.ModelDropAndRecreateRepository;
+import com.redis.om.spring.fixtures.document.repository.ModelReindexAndSwapRepository;
 import com.redis.om.spring.fixtures.document.repository.ModelSkipAlwaysRepository;
 import com.redis.om.spring.fixtures.document.repository.ModelSkipIfExistsRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.annotation.DirtiesContext;
+import redis.clients.jedis.search.FTCreateParams;
+import redis.clients.jedis.search.IndexDataType;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.schemafields.TagField;
+import redis.clients.jedis.search.schemafields.TextField;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class IndexingOptionsTest extends AbstractBaseDocumentTest {
   @Autowired
@@ -20,6 +34,10 @@ public class IndexingOptionsTest extends AbstractBaseDocumentTest {
   ModelSkipAlwaysRepository modelSkipAlwaysRepository;
   @Autowired
   ModelDropAndRecreateRepository modelDropAndRecreateRepository;
+  @Autowired
+  ModelReindexAndSwapRepository modelReindexAndSwapRepository;
+  @Autowired
+  ModelAsyncIndexRepository modelAsyncIndexRepository;
 
   @Test
   @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
@@ -27,16 +45,151 @@ public class IndexingOptionsTest extends AbstractBaseDocumentTest {
     assertThat(indexer.indexExistsFor(ModelSkipIfExist.class)).isTrue();
   }
 
+  @Test
+  void testCreateIndicesForClassesThatAreNotEntitiesIsANoOp() {
+    assertThatCode(() -> indexer.createIndicesFor(Deprecated.class)).doesNotThrowAnyException();
+    assertThatCode(() -> indexer.createIndicesFor(List.<Class<?>>of(String.class))).doesNotThrowAnyException();
+  }
+
   @Test
   @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
   void testSkipAlways() {
     assertThat(indexer.indexExistsFor(ModelSkipAlways.class)).isFalse();
   }
 
+  @Test
+  void testIndexesManagedOutsideAreNotSuspended() {
+    assertThatThrownBy(() -> modelSkipAlwaysRepository.bulkIngest()).isInstanceOf(IllegalStateException.class);
+    assertThat(indexer.getIndexStatus(ModelSkipAlways.class)).isEmpty();
+  }
+
   @Test
   @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
   void testDropAndRecreate() {
     assertThat(indexer.indexExistsFor(ModelDropAndRecreate.class)).isTrue();
   }
 
+  @Test
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+  void testReindexAndSwap() throws Exception {
+    assertThat(indexer.indexExistsFor(ModelReindexAndSwap.class)).isTrue();
+    modelReindexAndSwapRepository.saveAll(List.of(new ModelReindexAndSwap("foo"), new ModelReindexAndSwap("bar")));
+    String alias = indexer.getIndexName(ModelReindexAndSwap.class);
+
+    String next = indexer.reindexFor(ModelReindexAndSwap.class).get(30, TimeUnit.SECONDS);
+
+    assertThat(next).startsWith(alias + "_v");
+    assertThat(String.valueOf(modulesOperations.opsForSearch(alias).getInfo().get("index_name"))).isEqualTo(next);
+    assertThat(modulesOperations.opsForSearch(alias).search(new Query("*")).getTotalResults()).isEqualTo(2);
+
+    modelReindexAndSwapRepository.deleteAll();
+  }
+
+  @Test
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+  void testReindexAndSwapResumesAnInterruptedBuild() throws Exception {
+    modelReindexAndSwapRepository.saveAll(List.of(new ModelReindexAndSwap("foo"), new ModelReindexAndSwap("bar")));
+    String alias = indexer.getIndexName(ModelReindexAndSwap.class);
+    String orphan = leaveInterruptedReindex(alias, true);
+
+    String next = indexer.reindexFor(ModelReindexAndSwap.class).get(30, TimeUnit.SECONDS);
+
+    assertThat(next).isEqualTo(orphan);
+    assertThat(String.valueOf(modulesOperations.opsForSearch(alias).getInfo().get("index_name"))).isEqualTo(next);
+    assertThat(modulesOperations.opsForSearch(alias).search(new Query("*")).getTotalResults()).isEqualTo(2);
+    assertThat(template.hasKey("redis-om:index-schema:" + next)).isFalse();
+
+    modelReindexAndSwapRepository.deleteAll();
+  }
+
+  @Test
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+  void testReindexAndSwapReplacesAStaleInterruptedBuild() throws Exception {
+    modelReindexAndSwapRepository.saveAll(List.of(new ModelReindexAndSwap("foo"), new ModelReindexAndSwap("bar")));
+    String alias = indexer.getIndexName(ModelReindexAndSwap.class);
+    String orphan = leaveInterruptedReindex(alias, false);
+
+    String next = indexer.reindexFor(ModelReindexAndSwap.class).get(30, TimeUnit.SECONDS);
+
+    assertThat(next).isEqualTo(orphan);
+    assertThat(String.valueOf(modulesOperations.opsForSearch(alias).getInfo().get("index_name"))).isEqualTo(next);
+    assertThat(modulesOperations.opsForSearch(alias).search(new Query("@name:{foo}")).getTotalResults())
+        .isEqualTo(1);
+
+    modelReindexAndSwapRepository.deleteAll();
+  }
+
+  /**
+   * Creates the next version of the index as an instance stopped in the middle of a reindex leaves it, with the
+   * current schema fingerprint or with an unrelated schema.
+   */
+  private String leaveInterruptedReindex(String alias, boolean sameSchema) {
+    String current = String.valueOf(modulesOperations.opsForSearch(alias).getInfo().get("index_name"));
+    String next = String.format("%s_v%s", alias, RediSearchIndexer.indexVersionOf(current) + 1);
+    FTCreateParams params = FTCreateParams.createParams().on(IndexDataType.JSON)
+        .prefix(indexer.getKeyspaceForEntityClass(ModelReindexAndSwap.class));
+    if (sameSchema) {
+      modulesOperations.opsForSearch(next).createIndex(params, List.of(TagField.of("$.name").as("name")));
+      template.opsForHash().putAll("redis-om:index-schema:" + next,
+          template.opsForHash().entries("redis-om:index-schema:" + alias));
+    } else {
+      modulesOperations.opsForSearch(next).createIndex(params, List.of(TextField.of("$.name").as("title")));
+    }
+    return next;
+  }
+
+  @Test
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+  void testAsyncIndex() {
+    assertThat(indexer.getIndexStatus(ModelAsyncIndex.class)).isPresent();
+    modelAsyncIndexRepository.save(new ModelAsyncIndex("foo"));
+
+    // the query waits for the index to be ready
+    assertThat(modelAsyncIndexRepository.findByName("foo")).extracting(ModelAsyncIndex::getName).containsExactly("foo");
+    assertThat(indexer.getIndexStatus(ModelAsyncIndex.class)).hasValueSatisfying(status -> {
+      assertThat(status.state()).isEqualTo(IndexStatus.State.READY);
+      assertThat(status.percentIndexed()).isEqualTo(1d);
+    });
+
+    modelAsyncIndexRepository.deleteAll();
+  }
+
+  @Test
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+  void testScanPolicyCountsTheDocumentsOfASuspendedIndex() throws Exception {
+    modelAsyncIndexRepository.saveAll(List.of(new ModelAsyncIndex("foo"), new ModelAsyncIndex("bar")));
+    String keyspace = indexer.getKeyspaceForEntityClass(ModelAsyncIndex.class);
+    template.opsForValue().set(keyspace + "not-a-document", "ignored");
+    indexer.awaitIndexReady(ModelAsyncIndex.class);
+    indexer.suspendIndexFor(ModelAsyncIndex.class);
+    indexer.getProperties().getRepository().setAsyncIndexNotReadyPolicy(IndexNotReadyPolicy.SCAN);
+    try {
+      assertThat(modelAsyncIndexRepository.count()).isEqualTo(2);
+      assertThat(modelAsyncIndexRepository.findAll()).extracting(ModelAsyncIndex::getName)
+          .containsExactlyInAnyOrder("foo", "bar");
+    } finally {
+      indexer.getProperties().getRepository().setAsyncIndexNotReadyPolicy(IndexNotReadyPolicy.WAIT);
+      template.delete(keyspace + "not-a-document");
+      indexer.rebuildIndexFor(ModelAsyncIndex.class).get(30, TimeUnit.SECONDS);
+      modelAsyncIndexRepository.deleteAll();
+    }
+  }
+
+  @Test
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+  void testFailPolicyRejectsQueriesOnASuspendedIndex() throws Exception {
+    modelAsyncIndexRepository.save(new ModelAsyncIndex("foo"));
+    indexer.awaitIndexReady(ModelAsyncIndex.class);
+    indexer.suspendIndexFor(ModelAsyncIndex.class);
+    indexer.getProperties().getRepository().setAsyncIndexNotReadyPolicy(IndexNotReadyPolicy.FAIL);
+    try {
+      assertThatThrownBy(() -> modelAsyncIndexRepository.findByName("foo")).isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("is not ready");
+      assertThatThrownBy(() -> modelAsyncIndexRepository.count()).isInstanceOf(IllegalStateException.class);
+    } finally {
+      indexer.getProperties().getRepository().setAsyncIndexNotReadyPolicy(IndexNotReadyPolicy.WAIT);
+      indexer.rebuildIndexFor(ModelAsyncIndex.class).get(30, TimeUnit.SECONDS);
+      modelAsyncIndexRepository.deleteAll();
+    }
+  }
 }
@@ -0,0 +1,27 @@
+package com.redis.om.spring.indexing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RediSearchIndexerReindexTest {
+
+  @Test
+  void testIndexVersion() {
+    assertThat(RediSearchIndexer.indexVersionOf("com.example.PersonIdx")).isZero();
+    assertThat(RediSearchIndexer.indexVersionOf("com.example.PersonIdx_v1")).isEqualTo(1);
+    assertThat(RediSearchIndexer.indexVersionOf("com.example.PersonIdx_v12")).isEqualTo(12);
+    assertThat(RediSearchIndexer.indexVersionOf("my_videos")).isZero();
+  }
+
+  @Test
+  void testIsIndexedFromInfo() {
+    assertThat(RediSearchIndexer.isIndexed(Map.of("indexing", 1L, "percent_indexed", "0.42"))).isFalse();
+    assertThat(RediSearchIndexer.isIndexed(Map.of("indexing", 0L, "percent_indexed", "0.99"))).isFalse();
+    assertThat(RediSearchIndexer.isIndexed(Map.of("indexing", 0L, "percent_indexed", "1"))).isTrue();
+    assertThat(RediSearchIndexer.isIndexed(Map.of("indexing", "0".getBytes(), "percent_indexed", "1".getBytes())))
+        .isTrue();
+  }
+}
@@ -0,0 +1,109 @@
+package com.redis.om.spring.indexing;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.evolve.SchemaEvolutionV1;
+import com.redis.om.spring.fixtures.document.evolve.SchemaEvolutionV2;
+import com.redis.om.spring.fixtures.document.evolve.SchemaEvolutionV3;
+import com.redis.om.spring.fixtures.document.evolve.SchemaEvolutionV4;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.search.Query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.with;
+
+class SchemaEvolutionTest extends AbstractBaseDocumentTest {
+  private static final String INDEX = "SchemaEvolutionIdx";
+  private static final String SCHEMA_KEY = "redis-om:index-schema:" + INDEX;
+
+  @BeforeEach
+  void createFirstVersion() {
+    cleanUp();
+    indexer.createIndexFor(SchemaEvolutionV1.class);
+    SchemaEvolutionV2 doc = new SchemaEvolutionV2("Alice", "Paris");
+    doc.setId("1");
+    modulesOperations.opsForJSON().set("schema-evolution:1", doc);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    for (String index : List.of(INDEX, INDEX + "_v1", INDEX + "_v2")) {
+      try {
+        modulesOperations.opsForSearch(index).dropIndex();
+      } catch (JedisDataException e) {
+        // not created
+      }
+    }
+    template.delete(List.of(SCHEMA_KEY, SCHEMA_KEY + ":lock", SCHEMA_KEY + "_v1", SCHEMA_KEY + "_v2",
+        "schema-evolution:1"));
+  }
+
+  @Test
+  void testAddedFieldIsAltered() {
+    indexer.createIndexFor(SchemaEvolutionV2.class);
+
+    assertThat(template.<String, String>opsForHash().keys(SCHEMA_KEY)).contains("field:name", "field:city");
+    awaitResults("@city:{Paris}", 1);
+    assertThat(search("@name:{Alice}")).isEqualTo(1);
+  }
+
+  @Test
+  void testRedefinedFieldRebuildsTheIndex() {
+    indexer.createIndexFor(SchemaEvolutionV3.class);
+
+    // the name is full-text now, the documents are indexed again
+    awaitResults("@name:Ali*", 1);
+    assertThat(search("@city:{Paris}")).isEqualTo(1);
+  }
+
+  @Test
+  void testRenamedAliasRebuildsTheIndex() {
+    indexer.createIndexFor(SchemaEvolutionV2.class);
+    indexer.createIndexFor(SchemaEvolutionV4.class);
+
+    assertThat(template.<String, String>opsForHash().keys(SCHEMA_KEY)).contains("field:fullName")
+        .doesNotContain("field:name");
+    awaitResults("@fullName:{Alice}", 1);
+  }
+
+  @Test
+  void testRedefinedFieldOfAnAliasedIndexSwapsANewVersion() {
+    assertThat(indexer.reindexFor(SchemaEvolutionV1.class).join()).isEqualTo(INDEX + "_v1");
+
+    indexer.createIndexFor(SchemaEvolutionV3.class);
+
+    // the queries keep going through the alias, which ends up on the rebuilt version
+    with().pollInterval(Duration.ofMillis(100)).await().atMost(Duration.ofSeconds(10)).until(
+        () -> String.valueOf(modulesOperations.opsForSearch(INDEX).getInfo().get("index_name")).equals(INDEX + "_v2"));
+    awaitResults("@name:Ali*", 1);
+    assertThat(search("@city:{Paris}")).isEqualTo(1);
+  }
+
+  @Test
+  void testConcurrentStartupsEvolveTheSchemaOnce() {
+    CompletableFuture<?>[] startups = IntStream.range(0, 4)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> indexer.createIndexFor(SchemaEvolutionV2.class)))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(startups).join();
+
+    assertThat(template.hasKey(SCHEMA_KEY + ":lock")).isFalse();
+    assertThat(template.<String, String>opsForHash().keys(SCHEMA_KEY)).contains("field:city");
+    awaitResults("@city:{Paris}", 1);
+  }
+
+  private long search(String query) {
+    return modulesOperations.opsForSearch(INDEX).search(new Query(query)).getTotalResults();
+  }
+
+  private void awaitResults(String query, long expected) {
+    with().pollInterval(Duration.ofMillis(100)).await(query).atMost(Duration.ofSeconds(10))
+        .until(() -> search(query) == expected);
+  }
+}
@@ -0,0 +1,75 @@
+package com.redis.om.spring.indexing;
+
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.FTCreateParams;
+import redis.clients.jedis.search.IndexDataType;
+import redis.clients.jedis.search.schemafields.SchemaField;
+import redis.clients.jedis.search.schemafields.TagField;
+import redis.clients.jedis.search.schemafields.TextField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaFingerprintTest {
+  private static final List<SchemaField> FIELDS = List.of(TextField.of("$.name").as("name"),
+      TagField.of("$.email").as("email"));
+
+  private static FTCreateParams params(String prefix) {
+    return FTCreateParams.createParams().on(IndexDataType.JSON).prefix(prefix);
+  }
+
+  @Test
+  void testSameSchemaHasSameFingerprint() {
+    SchemaFingerprint a = SchemaFingerprint.of(params("person:"), FIELDS);
+    SchemaFingerprint b = SchemaFingerprint.of(params("person:"), List.of(FIELDS.get(1), FIELDS.get(0)));
+
+    assertThat(a.getFingerprint()).isEqualTo(b.getFingerprint());
+    assertThat(b.addedFieldsSince(a)).contains(Set.of());
+  }
+
+  @Test
+  void testAddedFieldsAreAdditive() {
+    SchemaFingerprint previous = SchemaFingerprint.of(params("person:"), FIELDS);
+    SchemaFingerprint current = SchemaFingerprint.of(params("person:"),
+        List.of(FIELDS.get(0), FIELDS.get(1), TagField.of("$.city").as("city")));
+
+    assertThat(current.getFingerprint()).isNotEqualTo(previous.getFingerprint());
+    assertThat(current.addedFieldsSince(previous)).contains(Set.of("city"));
+  }
+
+  @Test
+  void testRemovedChangedFieldsAndDefinitionAreIncompatible() {
+    SchemaFingerprint previous = SchemaFingerprint.of(params("person:"), FIELDS);
+
+    assertThat(SchemaFingerprint.of(params("person:"), List.of(FIELDS.get(0))).addedFieldsSince(previous)).isEmpty();
+    assertThat(SchemaFingerprint.of(params("person:"), List.of(FIELDS.get(0), TextField.of("$.email").as("email")))
+        .addedFieldsSince(previous)).isEmpty();
+    assertThat(SchemaFingerprint.of(params("people:"), FIELDS).addedFieldsSince(previous)).isEmpty();
+  }
+
+  @Test
+  void testFieldsAreKeyedByAlias() {
+    SchemaFingerprint previous = SchemaFingerprint.of(params("person:"), FIELDS);
+    SchemaFingerprint renamed = SchemaFingerprint.of(params("person:"),
+        List.of(TextField.of("$.name").as("fullName"), FIELDS.get(1)));
+    SchemaFingerprint samePathTwice = SchemaFingerprint.of(params("person:"),
+        List.of(FIELDS.get(0), FIELDS.get(1), TagField.of("$.name").as("name_tag")));
+
+    assertThat(renamed.addedFieldsSince(previous)).isEmpty();
+    assertThat(samePathTwice.addedFieldsSince(previous)).contains(Set.of("name_tag"));
+    assertThat(SchemaFingerprint.keyOf(TagField.of("$.city"))).isEqualTo("$.city");
+  }
+
+  @Test
+  void testStoredHashRoundTrip() {
+    SchemaFingerprint fingerprint = SchemaFingerprint.of(params("person:"), FIELDS);
+
+    SchemaFingerprint stored = SchemaFingerprint.fromHash(fingerprint.toHash()).orElseThrow();
+
+    assertThat(stored.getFingerprint()).isEqualTo(fingerprint.getFingerprint());
+    assertThat(SchemaFingerprint.fromHash(Map.of())).isEmpty();
+  }
+}
@@ -0,0 +1,85 @@
+package com.redis.om.spring.materialized;
+
+import com.redis.om.spring.annotations.MaterializedAggregation;
+import com.redis.om.spring.annotations.Reducer;
+import com.redis.om.spring.annotations.ReducerFunction;
+import com.redis.om.spring.fixtures.document.model.Sale;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaterializedAggregationDefinitionTest {
+
+  @Test
+  void testParsesRepeatedAnnotations() {
+    List<MaterializedAggregationDefinition> definitions = MaterializedAggregationDefinition.of(Sale.class);
+    assertThat(definitions).extracting(MaterializedAggregationDefinition::getName)
+        .containsExactly("byRegion", "byProduct");
+
+    MaterializedAggregationDefinition byRegion = definitions.get(0);
+    assertThat(byRegion.getGroupBy()).isEqualTo("region");
+    assertThat(byRegion.getSummedProperties()).containsExactly("amount", "quantity");
+    assertThat(MaterializedAggregationDefinition.of(Sale.class, "byProduct").get().getSummedProperties()).isEmpty();
+    assertThat(MaterializedAggregationDefinition.of(Sale.class, "missing")).isEmpty();
+  }
+
+  @Test
+  void testKeysShareHashTag() {
+    MaterializedAggregationDefinition byRegion = MaterializedAggregationDefinition.of(Sale.class, "byRegion").get();
+    String tag = "{" + Sale.class.getName() + ":byRegion}";
+    assertThat(byRegion.getKeys()).containsExactly( //
+        "materialized:" + tag + ":entries", //
+        "materialized:" + tag + ":count", //
+        "materialized:" + tag + ":sum:amount", //
+        "materialized:" + tag + ":sum:quantity" //
+    );
+  }
+
+  @Test
+  void testNoAnnotations() {
+    assertThat(MaterializedAggregationDefinition.of(String.class)).isEmpty();
+    assertThat(MaterializedAggregationMaintainer.hasMaterializedAggregations(String.class)).isFalse();
+    assertThat(MaterializedAggregationMaintainer.hasMaterializedAggregations(Sale.class)).isTrue();
+  }
+
+  @Test
+  void testRejectsUnsupportedDefinitions() {
+    assertThatThrownBy(() -> MaterializedAggregationDefinition.of(UnknownProperty.class)) //
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("unknown property nope");
+    assertThatThrownBy(() -> MaterializedAggregationDefinition.of(NonNumericSum.class)) //
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("not numeric");
+    assertThatThrownBy(() -> MaterializedAggregationDefinition.of(CollectionGroup.class)) //
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("collection property");
+    assertThatThrownBy(() -> MaterializedAggregationDefinition.of(NonIncremental.class)) //
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("cannot be maintained incrementally");
+  }
+
+  @MaterializedAggregation(name = "view", groupBy = "nope")
+  static class UnknownProperty {
+    String id;
+  }
+
+  @MaterializedAggregation(name = "view", groupBy = "group", reduce = @Reducer(
+      func = ReducerFunction.SUM, args = "group"
+  ))
+  static class NonNumericSum {
+    String group;
+  }
+
+  @MaterializedAggregation(name = "view", groupBy = "tags")
+  static class CollectionGroup {
+    Set<String> tags;
+  }
+
+  @MaterializedAggregation(name = "view", groupBy = "group", reduce = @Reducer(
+      func = ReducerFunction.MAX, args = "value"
+  ))
+  static class NonIncremental {
+    String group;
+    double value;
+  }
+}
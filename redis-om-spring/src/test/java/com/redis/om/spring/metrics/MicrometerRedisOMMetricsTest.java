@@ -0,0 +1,111 @@
+package com.redis.om.spring.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MicrometerRedisOMMetricsTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final RedisOMMetrics metrics = new MicrometerRedisOMMetrics(registry);
+
+  @Test
+  void testTimesCommandsByCommandTargetAndOutcome() {
+    assertThat(metrics.timeCommand("FT.SEARCH", "personIdx", () -> "result")).isEqualTo("result");
+    metrics.timeCommand("FT.SEARCH", "personIdx", () -> "result");
+    assertThatThrownBy(() -> metrics.timeCommand("FT.SEARCH", "personIdx", (Runnable) () -> {
+      throw new IllegalStateException("down");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(registry.get(MicrometerRedisOMMetrics.COMMANDS).tags("command", "FT.SEARCH", "target", "personIdx",
+        "outcome", "success").timer().count()).isEqualTo(2);
+    assertThat(registry.get(MicrometerRedisOMMetrics.COMMANDS).tags("outcome", "error").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void testTimesAsyncOperationsUntilTheFutureCompletes() {
+    CompletableFuture<String> pending = new CompletableFuture<>();
+    CompletableFuture<String> failing = new CompletableFuture<>();
+
+    assertThat(metrics.timeAsyncOperation("PersonRepository.findByIdAsync", "Person", () -> pending))
+        .isSameAs(pending);
+    metrics.timeAsyncOperation("PersonRepository.findByIdAsync", "Person", () -> failing);
+    assertThat(registry.find(MicrometerRedisOMMetrics.OPERATIONS).timer()).isNull();
+
+    pending.complete("john");
+    failing.completeExceptionally(new IllegalStateException("down"));
+    assertThatThrownBy(() -> metrics.timeAsyncOperation("PersonRepository.findByIdAsync", "Person", () -> {
+      throw new IllegalStateException("down");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(registry.get(MicrometerRedisOMMetrics.OPERATIONS).tags("operation", "PersonRepository.findByIdAsync",
+        "target", "Person", "outcome", "success").timer().count()).isEqualTo(1);
+    assertThat(registry.get(MicrometerRedisOMMetrics.OPERATIONS).tags("outcome", "error").timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void testRecordsDistributionsAndCacheAccesses() {
+    metrics.recordResults("FT.SEARCH", "personIdx", 10);
+    metrics.recordResults("FT.SEARCH", "personIdx", 30);
+    metrics.recordPayload("JSON.SET", "person:", 512);
+    metrics.recordBatch("saveAll", "person:", 1000);
+    metrics.timeDeserialization("person:", () -> 1);
+    metrics.recordCacheAccess("answers", true);
+    metrics.recordCacheAccess("answers", false);
+    metrics.recordCacheAccess("answers", true);
+
+    assertThat(registry.get(MicrometerRedisOMMetrics.RESULTS).summary().mean()).isEqualTo(20);
+    assertThat(registry.get(MicrometerRedisOMMetrics.PAYLOAD).tag("command", "JSON.SET").summary().totalAmount())
+        .isEqualTo(512);
+    assertThat(registry.get(MicrometerRedisOMMetrics.PIPELINE_BATCH_SIZE).tag("operation", "saveAll").summary()
+        .max()).isEqualTo(1000);
+    assertThat(registry.get(MicrometerRedisOMMetrics.DESERIALIZATION).tag("target", "person:").timer().count())
+        .isEqualTo(1);
+    assertThat(registry.get(MicrometerRedisOMMetrics.CACHE_REQUESTS).tags("cache", "answers", "result", "hit")
+        .counter().count()).isEqualTo(2);
+    assertThat(registry.get(MicrometerRedisOMMetrics.CACHE_REQUESTS).tags("result", "miss").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testRegistersSampledValues() {
+    AtomicLong queued = new AtomicLong(3);
+    metrics.registerGauge("redis.om.embedding.queued", "OPENAI:ada", queued::get);
+    metrics.registerCounter("redis.om.embedding.calls", "OPENAI:ada", () -> 7);
+    metrics.registerTimeGauge("redis.om.djl.load.time", "all", () -> Duration.ofMillis(1500));
+    System.gc();
+    queued.set(5);
+
+    assertThat(registry.get("redis.om.embedding.queued").tag("target", "OPENAI:ada").gauge().value()).isEqualTo(5);
+    assertThat(registry.get("redis.om.embedding.calls").functionCounter().count()).isEqualTo(7);
+    assertThat(registry.get("redis.om.djl.load.time").tag("target", "all").timeGauge().value(TimeUnit.MILLISECONDS))
+        .isEqualTo(1500);
+  }
+
+  @Test
+  void testLowCardinalityTargetsAndSizes() {
+    RedisOMMetrics.registerKeyspace("person:");
+    RedisOMMetrics.registerKeyspace("app:person");
+    assertThat(RedisOMMetrics.keyspaceOf("person:01HN8Z4W6J")).isEqualTo("person:");
+    assertThat(RedisOMMetrics.keyspaceOf("app:person:01HN8Z4W6J")).isEqualTo("app:person:");
+    // ids with a separator stay out of the tag
+    assertThat(RedisOMMetrics.keyspaceOf("person:tenant:42:01HN8Z4W6J")).isEqualTo("person:");
+    assertThat(RedisOMMetrics.keyspaceOf("cache:user:42")).isEqualTo("other");
+    assertThat(RedisOMMetrics.keyspaceOf("standalone")).isEqualTo("other");
+    assertThat(RedisOMMetrics.utf8Length("aé€😀")).isEqualTo(1 + 2 + 3 + 4);
+
+    Map<byte[], byte[]> hash = new LinkedHashMap<>();
+    hash.put("name".getBytes(), "john".getBytes());
+    hash.put("age".getBytes(), "42".getBytes());
+    assertThat(RedisOMMetrics.hashLength(hash)).isEqualTo(13);
+  }
+}
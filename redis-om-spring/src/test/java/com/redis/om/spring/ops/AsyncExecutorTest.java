@@ -0,0 +1,100 @@
+package com.redis.om.spring.ops;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncExecutorTest {
+
+  @Test
+  void testSuppliesResultsAsynchronously() {
+    try (AsyncExecutor executor = new AsyncExecutor(2, true)) {
+      CompletableFuture<String> future = executor.supply(() -> Thread.currentThread().getName());
+      CompletableFuture<Void> run = executor.run(() -> { });
+
+      assertThat(future.join()).isNotEqualTo(Thread.currentThread().getName());
+      assertThat(run.join()).isNull();
+    }
+  }
+
+  @Test
+  void testRunsAtMostMaxConcurrencyOperationsAtOnce() throws InterruptedException {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (AsyncExecutor executor = new AsyncExecutor(3, true)) {
+      List<CompletableFuture<Integer>> futures = IntStream.range(0, 10).mapToObj(i -> executor.supply(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        return i;
+      })).toList();
+
+      Thread.sleep(100);
+      release.countDown();
+
+      assertThat(futures.stream().map(CompletableFuture::join)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+      assertThat(maxRunning.get()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void testPlatformThreadsAreNamedDaemons() {
+    try (AsyncExecutor executor = new AsyncExecutor(1, false)) {
+      Thread thread = executor.supply(Thread::currentThread).join();
+
+      assertThat(thread.getName()).startsWith("redis-om-async-");
+      assertThat(thread.isDaemon()).isTrue();
+    }
+  }
+
+  @Test
+  void testFailuresCompleteTheFutureExceptionally() {
+    try (AsyncExecutor executor = new AsyncExecutor(1, true)) {
+      CompletableFuture<Object> future = executor.supply(() -> {
+        throw new IllegalStateException("boom");
+      });
+
+      assertThatThrownBy(future::join).isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(IllegalStateException.class);
+      // the permit was released
+      assertThat(executor.supply(() -> "next").join()).isEqualTo("next");
+    }
+  }
+
+  @Test
+  void testOperationsRunInTheContextOfTheCaller() {
+    ContextKey<String> key = ContextKey.named("caller");
+    try (AsyncExecutor executor = new AsyncExecutor(1, true)) {
+      CompletableFuture<String> future;
+      try (Scope ignored = Context.current().with(key, "repository").makeCurrent()) {
+        future = executor.supply(() -> Context.current().get(key));
+      }
+
+      assertThat(future.join()).isEqualTo("repository");
+      assertThat(executor.supply(() -> Context.current().get(key)).join()).isNull();
+    }
+  }
+
+  @Test
+  void testMaxConcurrencyMustBePositive() {
+    assertThatThrownBy(() -> new AsyncExecutor(0, true)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
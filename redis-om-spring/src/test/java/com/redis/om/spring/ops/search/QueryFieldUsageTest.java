@@ -0,0 +1,89 @@
+package com.redis.om.spring.ops.search;
+
+import com.redis.om.spring.ops.search.QueryFieldUsage.IndexUsage;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.args.SortingOrder;
+import redis.clients.jedis.search.FTSearchParams;
+import redis.clients.jedis.search.FieldName;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.Reducers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryFieldUsageTest {
+  private final QueryFieldUsage usage = new QueryFieldUsage(true);
+
+  @Test
+  void testRecordsFilteredSortedAndReturnedFields() {
+    usage.recordSearch("personIdx",
+        new Query("@name:john @age:[18 65] @tags:{a | b} -@city:(new york)").setSortBy("age", true)
+            .returnFields("$.name", "email"));
+
+    IndexUsage index = usage.getUsage("personIdx");
+    assertThat(index.queries()).isEqualTo(1);
+    assertThat(index.freeTextQueries()).isZero();
+    assertThat(index.field("name").filtered()).isEqualTo(1);
+    assertThat(index.field("name").returned()).isEqualTo(1);
+    assertThat(index.field("age").filtered()).isEqualTo(1);
+    assertThat(index.field("age").sorted()).isEqualTo(1);
+    assertThat(index.field("tags").filtered()).isEqualTo(1);
+    assertThat(index.field("city").filtered()).isEqualTo(1);
+    assertThat(index.field("email").returned()).isEqualTo(1);
+    assertThat(index.field("email").filtered()).isZero();
+  }
+
+  @Test
+  void testRecordsSortedAndReturnedFieldsOfSearchParams() {
+    FTSearchParams params = FTSearchParams.searchParams().sortBy("age", SortingOrder.DESC)
+        .returnFields(FieldName.of("$.name").as("name"), FieldName.of("email"));
+    usage.recordSearch("personIdx", args -> args.add("@city:{Paris}").addParams(params));
+
+    IndexUsage index = usage.getUsage("personIdx");
+    assertThat(index.field("city").filtered()).isEqualTo(1);
+    assertThat(index.field("age").sorted()).isEqualTo(1);
+    assertThat(index.field("name").returned()).isEqualTo(1);
+    assertThat(index.field("email").returned()).isEqualTo(1);
+  }
+
+  @Test
+  void testTellsFullTextFromExactMatches() {
+    usage.recordSearch("personIdx", new Query("@name:jo* @email:john\\@example\\.com"));
+    usage.recordSearch("personIdx", new Query("@title:%%%redis%%%"));
+
+    IndexUsage index = usage.getUsage("personIdx");
+    assertThat(index.field("name").fullTextFiltered()).isEqualTo(1);
+    assertThat(index.field("email").fullTextFiltered()).isZero();
+    assertThat(index.field("example").filtered()).isZero();
+    assertThat(index.field("title").fullTextFiltered()).isEqualTo(1);
+    assertThat(index.freeTextQueries()).isZero();
+
+    usage.recordSearch("personIdx", new Query("redis @age:[1 2]"));
+    usage.recordSearch("personIdx", new Query("*"));
+    assertThat(usage.getUsage("personIdx").freeTextQueries()).isEqualTo(1);
+  }
+
+  @Test
+  void testRecordsVectorAndAggregatedFields() {
+    usage.recordSearch("docIdx", new Query("(@category:{books})=>[KNN 5 @embedding $blob AS score]"));
+    usage.recordAggregation("docIdx", new AggregationBuilder("@category:{books}").load("@price")
+        .groupBy("@author", Reducers.count().as("count")).sortByDesc("@count"));
+
+    IndexUsage index = usage.getUsage("docIdx");
+    assertThat(index.queries()).isEqualTo(2);
+    assertThat(index.field("embedding").filtered()).isEqualTo(1);
+    assertThat(index.field("category").filtered()).isEqualTo(2);
+    assertThat(index.field("price").aggregated()).isEqualTo(1);
+    assertThat(index.field("author").aggregated()).isEqualTo(1);
+    assertThat(index.freeTextQueries()).isZero();
+  }
+
+  @Test
+  void testDisabledRecordsNothing() {
+    QueryFieldUsage disabled = new QueryFieldUsage(false);
+    disabled.recordSearch("personIdx", new Query("@name:john"));
+
+    assertThat(disabled.getUsage("personIdx").queries()).isZero();
+    assertThat(disabled.getUsage("personIdx").fields()).isEmpty();
+  }
+}
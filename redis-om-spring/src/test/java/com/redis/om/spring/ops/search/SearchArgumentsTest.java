@@ -0,0 +1,43 @@
+package com.redis.om.spring.ops.search;
+
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.Reducers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchArgumentsTest {
+
+  @Test
+  void testQueryShapeLeavesValuesOut() {
+    assertThat(SearchArguments.queryShape("@name:john @age:[18 65] @tags:{a | b}")) //
+        .isEqualTo("@name:? @age:[?] @tags:{?}");
+    assertThat(SearchArguments.queryShape("@title:\"red fox\" (@city:Paris | @city:Lyon) hello world")) //
+        .isEqualTo("@title:? (@city:? | @city:?) ? ?");
+    assertThat(SearchArguments.queryShape("(@category:{shoes})=>[KNN 10 @embedding $vector AS distance]")) //
+        .isEqualTo("(@category:{?})=>[KNN ? @embedding $vector AS distance]");
+    assertThat(SearchArguments.queryShape("*")).isEqualTo("*");
+  }
+
+  @Test
+  void testQueriesDifferingByValuesHaveSameShape() {
+    Query first = new Query("@name:john").addParam("vector", new byte[] { 1, 2 }).limit(0, 5).dialect(2);
+    Query second = new Query("@name:jane").addParam("vector", new byte[] { 3, 4 }).limit(5, 5).dialect(2);
+
+    String shape = SearchArguments.shape(SearchCommand.SEARCH, first);
+
+    assertThat(shape).isEqualTo(SearchArguments.shape(SearchCommand.SEARCH, second));
+    assertThat(shape).contains("@name:?", "LIMIT ? ?", "PARAMS ?").doesNotContain("vector");
+  }
+
+  @Test
+  void testAggregationShape() {
+    AggregationBuilder aggregation = new AggregationBuilder("@age:[30 +inf]").groupBy("@city",
+        Reducers.count().as("count")).filter("@count > 5");
+
+    assertThat(SearchArguments.shape(SearchCommand.AGGREGATE, aggregation)) //
+        .startsWith("@age:[?] GROUPBY ? @city REDUCE COUNT ? AS count FILTER @count > ?");
+  }
+}
@@ -0,0 +1,105 @@
+package com.redis.om.spring.ops.search;
+
+import com.redis.om.spring.ops.search.SlowQueryLog.SlowQuery;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLogTest {
+
+  private static <T> T sleeping(long millis, T value) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return value;
+  }
+
+  @Test
+  void testRecordsQueriesAboveThresholdWithRenderedArguments() {
+    SlowQueryLog log = new SlowQueryLog(true, Duration.ofMillis(20), 0, 10);
+    Query query = new Query("@name:john =>[KNN 3 @embedding $vector]").addParam("vector", new byte[] { 0, -1, 2, 3 })
+        .limit(0, 3).dialect(2);
+
+    log.execute("person_idx", SearchCommand.SEARCH, new Query("@name:fast"), () -> "fast", r -> 1, () -> null);
+    log.execute("person_idx", SearchCommand.SEARCH, query, () -> sleeping(30, "slow"), r -> 3, () -> null);
+
+    List<SlowQuery> entries = log.getEntries();
+    assertThat(entries).hasSize(1);
+    SlowQuery slow = entries.get(0);
+    assertThat(slow.getIndex()).isEqualTo("person_idx");
+    assertThat(slow.getCommand()).isEqualTo("FT.SEARCH");
+    assertThat(slow.getQuery()).isEqualTo("@name:john =>[KNN 3 @embedding $vector]");
+    assertThat(slow.getParams()).containsEntry("vector", "<4 bytes>");
+    assertThat(slow.getDialect()).isEqualTo(2);
+    assertThat(slow.getOptions()).contains("LIMIT 0 3");
+    assertThat(slow.getResults()).isEqualTo(3);
+    assertThat(slow.getRoundTripMillis()).isGreaterThanOrEqualTo(20);
+  }
+
+  @Test
+  void testSlowDeserializationMakesQuerySlow() {
+    SlowQueryLog log = new SlowQueryLog(true, Duration.ofMillis(20), 0, 10);
+
+    log.execute("person_idx", SearchCommand.SEARCH, new Query("*"), () -> "reply", r -> 1, () -> null);
+    String mapped = log.deserialize("person_idx", () -> sleeping(30, "entities"));
+
+    assertThat(mapped).isEqualTo("entities");
+    assertThat(log.getEntries()).singleElement()
+        .satisfies(slow -> assertThat(slow.getDeserializationMillis()).isGreaterThanOrEqualTo(20));
+
+    // a mapping of another index doesn't belong to the last query
+    log.clear();
+    log.execute("person_idx", SearchCommand.SEARCH, new Query("*"), () -> "reply", r -> 1, () -> null);
+    log.deserialize("company_idx", () -> sleeping(30, "entities"));
+    assertThat(log.getEntries()).isEmpty();
+  }
+
+  @Test
+  void testBufferKeepsMostRecentEntries() {
+    SlowQueryLog log = new SlowQueryLog(true, Duration.ZERO, 0, 2);
+
+    for (String index : List.of("a_idx", "b_idx", "c_idx")) {
+      log.execute(index, SearchCommand.AGGREGATE, new AggregationBuilder("*"), () -> "reply", r -> 0, () -> null);
+    }
+
+    assertThat(log.getEntries()).extracting(SlowQuery::getIndex).containsExactly("c_idx", "b_idx");
+  }
+
+  @Test
+  void testSampledQueriesAreProfiledInBackground() throws InterruptedException {
+    SlowQueryLog log = new SlowQueryLog(true, Duration.ZERO, 1.0, 10);
+    CountDownLatch profiled = new CountDownLatch(1);
+
+    log.execute("person_idx", SearchCommand.SEARCH, new Query("*"), () -> "reply", r -> 0, () -> {
+      profiled.countDown();
+      return Map.of("Total profile time", 1.5);
+    });
+
+    assertThat(profiled.await(5, TimeUnit.SECONDS)).isTrue();
+    SlowQuery slow = log.getEntries().get(0);
+    for (int i = 0; i < 50 && slow.getProfile() == null; i++) {
+      Thread.sleep(10);
+    }
+    assertThat(slow.getProfile()).containsEntry("Total profile time", 1.5);
+  }
+
+  @Test
+  void testDisabledLogRecordsNothing() {
+    SlowQueryLog log = SlowQueryLog.disabled();
+
+    log.execute("person_idx", SearchCommand.SEARCH, new Query("*"), () -> sleeping(5, "reply"), r -> 0, () -> null);
+
+    assertThat(log.getEntries()).isEmpty();
+  }
+}
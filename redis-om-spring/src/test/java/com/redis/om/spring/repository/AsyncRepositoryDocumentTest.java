@@ -0,0 +1,88 @@
+package com.redis.om.spring.repository;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.Company;
+import com.redis.om.spring.fixtures.document.model.Company$;
+import com.redis.om.spring.fixtures.document.repository.CompanyRepository;
+import com.redis.om.spring.search.stream.EntityStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.geo.Point;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncRepositoryDocumentTest extends AbstractBaseDocumentTest {
+  @Autowired
+  CompanyRepository repository;
+
+  @Autowired
+  EntityStream entityStream;
+
+  private Company redis;
+  private Company microsoft;
+
+  @BeforeEach
+  void createCompanies() {
+    redis = repository.save(Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540, 37.377690),
+        "stack@redis.com"));
+    microsoft = repository.save(Company.of("Microsoft", 1975, LocalDate.of(2022, 8, 15),
+        new Point(-122.124500, 47.640160), "research@microsoft.com"));
+  }
+
+  @AfterEach
+  void deleteAll() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testRepositoryAsyncMethods() {
+    Company apple = Company.of("Apple", 1976, LocalDate.of(2022, 1, 3), new Point(-122.009102, 37.334606),
+        "info@apple.com");
+
+    CompletableFuture<Optional<Company>> found = repository.findByIdAsync(redis.getId());
+    CompletableFuture<List<Company>> both = repository.findAllByIdAsync(List.of(redis.getId(), microsoft.getId()));
+    CompletableFuture<Boolean> missing = repository.existsByIdAsync("no-such-company");
+    CompletableFuture.allOf(found, both, missing).join();
+
+    assertThat(found.join()).map(Company::getName).contains("RedisInc");
+    assertThat(both.join()).extracting(Company::getName).containsExactlyInAnyOrder("RedisInc", "Microsoft");
+    assertThat(missing.join()).isFalse();
+
+    assertThat(repository.saveAsync(apple).join().getId()).isNotNull();
+    assertThat(repository.countAsync().join()).isEqualTo(3);
+    repository.deleteByIdAsync(microsoft.getId()).join();
+    assertThat(repository.existsById(microsoft.getId())).isFalse();
+  }
+
+  @Test
+  void testDerivedQueriesReturningFutures() {
+    CompletableFuture<List<Company>> founded = repository.findAllByYearFoundedOrderByNameAsc(2011);
+    CompletableFuture<Optional<Company>> byEmail = repository.findOneByEmail("research@microsoft.com");
+    CompletableFuture<Optional<Company>> noMatch = repository.findOneByEmail("nobody@example.com");
+
+    assertThat(founded.join()).extracting(Company::getName).containsExactly("RedisInc");
+    assertThat(byEmail.join()).map(Company::getName).contains("Microsoft");
+    // the future of an Optional query never completes with null
+    assertThat(noMatch.join()).isEmpty();
+  }
+
+  @Test
+  void testCollectAsync() {
+    CompletableFuture<List<String>> names = entityStream.of(Company.class) //
+        .filter(Company$.YEAR_FOUNDED.gt(1970)) //
+        .map(Company$.NAME) //
+        .collectAsync(Collectors.toList());
+    CompletableFuture<Long> count = entityStream.of(Company.class).filter(Company$.NAME.eq("RedisInc")).countAsync();
+
+    assertThat(names.join()).containsExactlyInAnyOrder("RedisInc", "Microsoft");
+    assertThat(count.join()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,81 @@
+package com.redis.om.spring.repository;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.fixtures.hash.model.ASimpleHash;
+import com.redis.om.spring.fixtures.hash.model.ASimpleHash$;
+import com.redis.om.spring.fixtures.hash.repository.ASimpleHashRepository;
+import com.redis.om.spring.search.stream.EntityStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncRepositoryHashTest extends AbstractBaseEnhancedRedisTest {
+  @Autowired
+  ASimpleHashRepository repository;
+
+  @Autowired
+  EntityStream entityStream;
+
+  private ASimpleHash alpha;
+
+  @BeforeEach
+  void createHashes() {
+    alpha = ASimpleHash.of("alpha");
+    alpha.setSecond("shared");
+    ASimpleHash beta = ASimpleHash.of("beta");
+    beta.setSecond("shared");
+    repository.saveAll(List.of(alpha, beta));
+  }
+
+  @AfterEach
+  void deleteAll() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testRepositoryAsyncMethods() {
+    CompletableFuture<Optional<ASimpleHash>> found = repository.findByIdAsync(alpha.getId());
+    CompletableFuture<Boolean> exists = repository.existsByIdAsync(alpha.getId());
+    CompletableFuture<Long> count = repository.countAsync();
+
+    assertThat(found.join()).map(ASimpleHash::getFirst).contains("alpha");
+    assertThat(exists.join()).isTrue();
+    assertThat(count.join()).isEqualTo(2);
+
+    List<ASimpleHash> saved = repository.saveAllAsync(List.of(ASimpleHash.of("gamma"), ASimpleHash.of("delta")))
+        .join();
+    assertThat(saved).extracting(ASimpleHash::getId).doesNotContainNull();
+    repository.deleteByIdAsync(alpha.getId()).join();
+    assertThat(repository.findByIdAsync(alpha.getId()).join()).isEmpty();
+  }
+
+  @Test
+  void testDerivedQueriesReturningFutures() {
+    CompletableFuture<List<ASimpleHash>> shared = repository.findBySecond("shared");
+    CompletableFuture<Optional<ASimpleHash>> first = repository.findOneByFirst("beta");
+    CompletableFuture<Optional<ASimpleHash>> noMatch = repository.findOneByFirst("omega");
+
+    assertThat(shared.join()).extracting(ASimpleHash::getFirst).containsExactlyInAnyOrder("alpha", "beta");
+    assertThat(first.join()).map(ASimpleHash::getFirst).contains("beta");
+    // the future of an Optional query never completes with null
+    assertThat(noMatch.join()).isEmpty();
+  }
+
+  @Test
+  void testCollectAsync() {
+    CompletableFuture<List<String>> firsts = entityStream.of(ASimpleHash.class) //
+        .filter(ASimpleHash$.SECOND.eq("shared")) //
+        .map(ASimpleHash$.FIRST) //
+        .collectAsync(Collectors.toList());
+
+    assertThat(firsts.join()).containsExactlyInAnyOrder("alpha", "beta");
+  }
+}
@@ -0,0 +1,59 @@
+package com.redis.om.spring.repository;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.ModelAsyncIndex;
+import com.redis.om.spring.fixtures.document.repository.ModelAsyncIndexRepository;
+import com.redis.om.spring.indexing.IndexStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkIngestDocumentTest extends AbstractBaseDocumentTest {
+  @Autowired
+  ModelAsyncIndexRepository repository;
+
+  @BeforeEach
+  void cleanUp() {
+    indexer.awaitIndexReady(ModelAsyncIndex.class);
+    repository.deleteAll();
+  }
+
+  @AfterEach
+  void deleteAll() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testSuspendWriteAndRebuild() throws Exception {
+    CompletableFuture<Void> indexed;
+    try (BulkIngestSession<ModelAsyncIndex> session = repository.bulkIngest()) {
+      assertThat(session.getIndexStatus()).map(IndexStatus::state).contains(IndexStatus.State.SUSPENDED);
+      IntStream.range(0, 2500).forEach(i -> session.add(new ModelAsyncIndex("name-" + i)));
+      indexed = session.finish();
+    }
+    indexed.get(30, TimeUnit.SECONDS);
+
+    assertThat(indexer.getIndexStatus(ModelAsyncIndex.class)).map(IndexStatus::state)
+        .contains(IndexStatus.State.READY);
+    assertThat(repository.count()).isEqualTo(2500);
+    assertThat(repository.findByName("name-42")).extracting(ModelAsyncIndex::getName).containsExactly("name-42");
+    assertThat(repository.findByName("name-2499")).hasSize(1);
+  }
+
+  @Test
+  void testQueriesWaitForTheRebuild() {
+    try (BulkIngestSession<ModelAsyncIndex> session = repository.bulkIngest()) {
+      session.add(new ModelAsyncIndex("foo"));
+    }
+
+    // the default policy waits for the index to be built again
+    assertThat(repository.findByName("foo")).hasSize(1);
+  }
+}
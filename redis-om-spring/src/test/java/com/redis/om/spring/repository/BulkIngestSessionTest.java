@@ -0,0 +1,84 @@
+package com.redis.om.spring.repository;
+
+import com.redis.om.spring.indexing.RediSearchIndexer;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class BulkIngestSessionTest {
+  private final RediSearchIndexer indexer = Mockito.mock(RediSearchIndexer.class);
+  private final List<List<String>> batches = new ArrayList<>();
+
+  @Test
+  void testWritesInBatchesAndRebuildsTheIndexOnClose() {
+    CompletableFuture<Void> indexed = new CompletableFuture<>();
+    when(indexer.rebuildIndexFor(String.class)).thenReturn(indexed);
+
+    try (BulkIngestSession<String> session = new BulkIngestSession<>(String.class, batches::add, indexer, 2)) {
+      session.addAll(List.of("a", "b", "c"));
+      session.add("d");
+      session.add("e");
+      assertThat(session.getWritten()).isEqualTo(4);
+      verify(indexer, never()).rebuildIndexFor(any());
+    }
+
+    assertThat(batches).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+    InOrder inOrder = inOrder(indexer);
+    inOrder.verify(indexer).suspendIndexFor(String.class);
+    inOrder.verify(indexer).rebuildIndexFor(String.class);
+  }
+
+  @Test
+  void testFinishIsIdempotentAndClosesTheSession() {
+    CompletableFuture<Void> indexed = CompletableFuture.completedFuture(null);
+    when(indexer.rebuildIndexFor(String.class)).thenReturn(indexed);
+    BulkIngestSession<String> session = new BulkIngestSession<>(String.class, batches::add, indexer, 10);
+    session.add("a");
+
+    assertThat(session.finish()).isSameAs(indexed);
+    assertThat(session.finish()).isSameAs(indexed);
+    session.close();
+
+    assertThat(batches).containsExactly(List.of("a"));
+    verify(indexer, times(1)).rebuildIndexFor(String.class);
+    assertThatThrownBy(() -> session.add("b")).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void testRebuildsTheIndexWhenAWriteFails() {
+    CompletableFuture<Void> indexed = CompletableFuture.completedFuture(null);
+    when(indexer.rebuildIndexFor(String.class)).thenReturn(indexed);
+    IllegalStateException failure = new IllegalStateException("connection lost");
+    BulkIngestSession<String> session = new BulkIngestSession<>(String.class, entities -> {
+      if (entities.contains("fails")) {
+        throw failure;
+      }
+      batches.add(entities);
+    }, indexer, 2);
+
+    assertThatThrownBy(() -> session.addAll(List.of("a", "fails"))).isSameAs(failure);
+    session.addAll(List.of("b", "c", "fails"));
+    assertThatThrownBy(session::close).isSameAs(failure);
+
+    // the failed batches are discarded, not written again
+    assertThat(batches).containsExactly(List.of("b", "c"));
+    assertThat(session.getWritten()).isEqualTo(2);
+    verify(indexer).rebuildIndexFor(String.class);
+    assertThat(session.finish()).isSameAs(indexed);
+  }
+
+  @Test
+  void testRejectsNonPositiveBatchSize() {
+    assertThatThrownBy(() -> new BulkIngestSession<>(String.class, batches::add, indexer, 0)) //
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(indexer, never()).suspendIndexFor(any());
+  }
+}
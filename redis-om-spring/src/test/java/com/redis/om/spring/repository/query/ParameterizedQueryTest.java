@@ -0,0 +1,114 @@
+package com.redis.om.spring.repository.query;
+
+import com.redis.om.spring.annotations.Dialect;
+import com.redis.om.spring.repository.query.clause.QueryClause;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.util.Pair;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParameterizedQueryTest {
+
+  @Test
+  void testCompileDerivedTagAndNumericClauses() {
+    var orParts = List.of(List.of( //
+        Pair.of("name", QueryClause.TAG_SIMPLE_PROPERTY), //
+        Pair.of("age", QueryClause.NUMERIC_BETWEEN) //
+    ));
+
+    Optional<ParameterizedQuery> maybeQuery = ParameterizedQuery.of(orParts,
+        new Class<?>[] { String.class, int.class, Integer.class });
+
+    assertThat(maybeQuery).isPresent();
+    ParameterizedQuery query = maybeQuery.get();
+    assertThat(query.getQuery()).isEqualTo("@name:{$param_0} @age:[$param_1 $param_2]");
+    assertThat(query.bind(new Object[] { "roger.green@example.com", 18, 65 })).contains(
+        Map.of("param_0", "roger.green@example.com", "param_1", "18", "param_2", "65"));
+  }
+
+  @Test
+  void testCompileDerivedOrParts() {
+    var orParts = List.of( //
+        List.of(Pair.of("name", QueryClause.TAG_SIMPLE_PROPERTY)), //
+        List.of(Pair.of("age", QueryClause.NUMERIC_GREATER_THAN)) //
+    );
+
+    Optional<ParameterizedQuery> maybeQuery = ParameterizedQuery.of(orParts, new Class<?>[] { String.class, long.class });
+
+    assertThat(maybeQuery).map(ParameterizedQuery::getQuery)
+        .contains("(@name:{$param_0}) | (@age:[($param_1 inf])");
+  }
+
+  @Test
+  void testDerivedQueriesWithNonBindableClausesAreNotCompiled() {
+    var fullText = List.of(List.of(Pair.of("title", QueryClause.TEXT_SIMPLE_PROPERTY)));
+    var collection = List.of(List.of(Pair.of("tags", QueryClause.TAG_IN)));
+    var geo = List.of(List.of(Pair.of("location", QueryClause.GEO_NEAR)));
+
+    assertThat(ParameterizedQuery.of(fullText, new Class<?>[] { String.class })).isEmpty();
+    assertThat(ParameterizedQuery.of(collection, new Class<?>[] { Set.class })).isEmpty();
+    assertThat(ParameterizedQuery.of(geo, new Class<?>[] { Point.class, Distance.class })).isEmpty();
+  }
+
+  @Test
+  void testCompileAnnotatedQueryKeepsQueryText() {
+    Optional<ParameterizedQuery> maybeQuery = ParameterizedQuery.of("@tag:{$tag} @year:[$from $to]",
+        List.of(Optional.of("tag"), Optional.of("from"), Optional.of("to")),
+        new Class<?>[] { String.class, int.class, int.class }, Object::toString);
+
+    assertThat(maybeQuery).isPresent();
+    assertThat(maybeQuery.get().getQuery()).isEqualTo("@tag:{$tag} @year:[$from $to]");
+    assertThat(maybeQuery.get().getParameterNames()).containsExactly("tag", "from", "to");
+    assertThat(maybeQuery.get().bind(new Object[] { "a b", 2000, 2010 })).contains(
+        Map.of("tag", "a b", "from", "2000", "to", "2010"));
+  }
+
+  @Test
+  void testAnnotatedQueriesWithTextualSubstitutionAreNotCompiled() {
+    var names = List.of(Optional.of("prefix"));
+    var types = new Class<?>[] { String.class };
+
+    assertThat(ParameterizedQuery.of("@title:$prefix*", names, types, Object::toString)).isEmpty();
+    assertThat(ParameterizedQuery.of("@title:$prefix", names, types, Object::toString)).isEmpty();
+    assertThat(ParameterizedQuery.of("@roles:{$prefix}", names, new Class<?>[] { List.class }, Object::toString))
+        .isEmpty();
+  }
+
+  @Test
+  void testNullArgumentsAreNotBound() {
+    var orParts = List.of(List.of(Pair.of("name", QueryClause.TAG_SIMPLE_PROPERTY)));
+    ParameterizedQuery query = ParameterizedQuery.of(orParts, new Class<?>[] { String.class }).orElseThrow();
+
+    assertThat(query.bind(new Object[] { null })).isEmpty();
+  }
+
+  @Test
+  void testDialectForParameterizedQueries() {
+    assertThat(ParameterizedQuery.dialectFor(Dialect.ONE)).isEqualTo(Dialect.TWO);
+    assertThat(ParameterizedQuery.dialectFor(Dialect.TWO)).isEqualTo(Dialect.TWO);
+    assertThat(ParameterizedQuery.dialectFor(Dialect.THREE)).isEqualTo(Dialect.THREE);
+  }
+
+  @Test
+  void testCompileVectorRangeClause() {
+    var orParts = List.of(List.of( //
+        Pair.of("embedding", QueryClause.VECTOR_WITHIN), //
+        Pair.of("number", QueryClause.NUMERIC_GREATER_THAN) //
+    ));
+
+    ParameterizedQuery query = ParameterizedQuery.of(orParts,
+        new Class<?>[] { float[].class, double.class, int.class }).orElseThrow();
+
+    assertThat(query.getQuery()).isEqualTo("@embedding:[VECTOR_RANGE $param_1 $param_0] @number:[($param_2 inf]");
+    Map<String, Object> params = query.bind(new Object[] { new float[] { 1f }, 0.5, 10 }).orElseThrow();
+    assertThat(params).containsEntry("param_1", "0.5").containsEntry("param_2", "10");
+    assertThat((byte[]) params.get("param_0")).hasSize(Float.BYTES);
+  }
+}
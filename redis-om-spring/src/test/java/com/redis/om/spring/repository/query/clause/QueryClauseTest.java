@@ -102,4 +102,12 @@ class QueryClauseTest {
     String methodName1 = "SomeOtherMethodName";
     assertEquals(methodName1, QueryClause.getPostProcessMethodName(methodName1));
   }
+
+  @Test
+  void testWithinDistanceIsParsedAsWithin() {
+    assertEquals("findByEmbeddingWithin", QueryClause.getPostProcessMethodName("findByEmbeddingWithinDistance"));
+    assertEquals("findByEmbeddingWithinAndNumberGreaterThan",
+        QueryClause.getPostProcessMethodName("findByEmbeddingWithinDistanceAndNumberGreaterThan"));
+    assertEquals("findByWithinDistances", QueryClause.getPostProcessMethodName("findByWithinDistances"));
+  }
 }
@@ -0,0 +1,90 @@
+package com.redis.om.spring.search.stream;
+
+import com.redis.om.spring.ops.search.SearchOperations;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import redis.clients.jedis.search.aggr.AggregationResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class AggregationCursorIteratorTest {
+  private static final Executor SAME_THREAD = Runnable::run;
+  private static final Function<Map<String, Object>, Object> NAME = row -> row.get("name");
+
+  @SuppressWarnings("unchecked")
+  private final SearchOperations<String> search = Mockito.mock(SearchOperations.class);
+
+  @Test
+  void testIteratesAllBatches() {
+    AggregationResult first = batch(42L, "a", "b");
+    AggregationResult second = batch(42L, "c", "d");
+    AggregationResult last = batch(0L, "e");
+    when(search.cursorRead(42L, 2)).thenReturn(second, last);
+
+    var iterator = new AggregationCursorIterator<>(search, first, 2, NAME, SAME_THREAD);
+    var names = new ArrayList<>();
+    iterator.forEachRemaining(names::add);
+
+    assertThat(names).containsExactly("a", "b", "c", "d", "e");
+    verify(search, times(2)).cursorRead(42L, 2);
+    verify(search, never()).cursorDelete(anyLong());
+  }
+
+  @Test
+  void testReadsOneBatchAhead() {
+    AggregationResult first = batch(42L, "a", "b");
+    AggregationResult second = batch(42L, "c", "d");
+    when(search.cursorRead(42L, 2)).thenReturn(second);
+
+    var iterator = new AggregationCursorIterator<>(search, first, 2, NAME, SAME_THREAD);
+
+    // the second batch is requested while the first one is being consumed, but not the third
+    verify(search, times(1)).cursorRead(42L, 2);
+    assertThat(iterator.next()).isEqualTo("a");
+    verify(search, times(1)).cursorRead(42L, 2);
+  }
+
+  @Test
+  void testCloseDeletesOpenCursor() {
+    AggregationResult first = batch(42L, "a", "b");
+    AggregationResult second = batch(43L, "c", "d");
+    when(search.cursorRead(42L, 2)).thenReturn(second);
+
+    var iterator = new AggregationCursorIterator<>(search, first, 2, NAME, SAME_THREAD);
+    assertThat(iterator.next()).isEqualTo("a");
+    iterator.close();
+    iterator.close();
+
+    assertThat(iterator.hasNext()).isFalse();
+    verify(search, times(1)).cursorDelete(43L);
+  }
+
+  @Test
+  void testExhaustedCursorIsNotDeleted() {
+    var iterator = new AggregationCursorIterator<>(search, batch(0L, "a"), 2, NAME, SAME_THREAD);
+    assertThat(iterator.next()).isEqualTo("a");
+    assertThat(iterator.hasNext()).isFalse();
+    iterator.close();
+
+    verify(search, never()).cursorRead(anyLong(), anyInt());
+    verify(search, never()).cursorDelete(anyLong());
+  }
+
+  private static AggregationResult batch(long cursorId, String... names) {
+    AggregationResult result = Mockito.mock(AggregationResult.class);
+    List<Map<String, Object>> rows = Arrays.stream(names).map(n -> Map.<String, Object>of("name", n)).toList();
+    when(result.getResults()).thenReturn(rows);
+    when(result.getCursorId()).thenReturn(cursorId);
+    return result;
+  }
+}
@@ -15,6 +15,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -127,4 +128,39 @@ class EntityStreamsAggregationsDocsPagingTest extends AbstractBaseDocumentTest {
         () -> assertEquals(pageSize, pageCounts.get(5)), () -> assertEquals(30, pageCounts.get(6)));
   }
 
+  /**
+   * <pre>
+   * "FT.AGGREGATE" "com.redis.om.spring.annotations.document.fixtures.GameIdx" "*" "WITHCURSOR" "COUNT" "45" "MAXIDLE" "300000" "LOAD" "*" "LIMIT" "0" "300"
+   * "FT.CURSOR" "READ" "com.redis.om.spring.annotations.document.fixtures.GameIdx" "17284697" "45"
+   * ...
+   * </pre>
+   */
+  @Test
+  void testCursorBackedStream() {
+    try (Stream<Game> games = entityStream.of(Game.class) //
+        .cursor(45, Duration.ofSeconds(300)).loadAll().limit(300).stream(Game.class)) {
+      List<Game> result = games.toList();
+
+      assertThat(result).hasSize(300);
+      assertThat(result).allSatisfy(game -> assertThat(game.getTitle()).isNotNull());
+    }
+  }
+
+  /**
+   * <pre>
+   * "FT.AGGREGATE" "com.redis.om.spring.annotations.document.fixtures.GameIdx" "*" "WITHCURSOR" "COUNT" "10" "MAXIDLE" "300000" "LOAD" "*"
+   * "FT.CURSOR" "READ" "com.redis.om.spring.annotations.document.fixtures.GameIdx" "17284697" "10"
+   * "FT.CURSOR" "DEL" "com.redis.om.spring.annotations.document.fixtures.GameIdx" "17284697"
+   * </pre>
+   */
+  @Test
+  void testCursorBackedStreamEarlyTermination() {
+    try (Stream<Game> games = entityStream.of(Game.class) //
+        .cursor(10, Duration.ofSeconds(300)).loadAll().stream()) {
+      List<Game> firstFive = games.limit(5).toList();
+
+      assertThat(firstFive).hasSize(5);
+    }
+  }
+
 }
@@ -5,11 +5,13 @@ import com.redis.om.spring.annotations.ReducerFunction;
 import com.redis.om.spring.fixtures.document.model.*;
 import com.redis.om.spring.fixtures.document.repository.*;
 import com.redis.om.spring.metamodel.Alias;
+import com.redis.om.spring.search.stream.aggregations.AggregationColumns;
 import com.redis.om.spring.tuple.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort.Order;
+import redis.clients.jedis.search.aggr.SortedField.SortOrder;
 
 import java.io.IOException;
 import java.time.Instant;
@@ -17,6 +19,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
@@ -985,4 +988,99 @@ class EntityStreamsAggregationsDocsTest extends AbstractBaseDocumentTest {
     assertThat(releasedFilms.get(0).getFirst()).isEqualTo(1);
   }
 
+  record BrandCount(String brand, long count) {
+  }
+
+  interface BrandPrice {
+    String getBrand();
+
+    double getMaxPrice();
+  }
+
+  @Test
+  void testCountAggregationToRecords() {
+    List<BrandCount> countsPerBrand = entityStream.of(Game.class) //
+        .groupBy(Game$.BRAND) //
+        .reduce(ReducerFunction.COUNT).as("count") //
+        .sorted(Order.desc("@count")) //
+        .limit(5) //
+        .toRows(BrandCount.class);
+
+    assertThat(countsPerBrand).containsExactly( //
+        new BrandCount("", 1498L), new BrandCount("Mad Catz", 43L), new BrandCount("Generic", 40L),
+        new BrandCount("SteelSeries", 37L), new BrandCount("Logitech", 35L) //
+    );
+  }
+
+  @Test
+  void testMaxPriceAggregationToInterface() {
+    List<BrandPrice> maxPrices = entityStream.of(Game.class) //
+        .filter("sony") //
+        .groupBy(Game$.BRAND) //
+        .reduce(ReducerFunction.MAX, Game$.PRICE).as("maxPrice") //
+        .sorted(Order.desc("@maxPrice")) //
+        .toRows(BrandPrice.class);
+
+    assertThat(maxPrices).isNotEmpty();
+    assertThat(maxPrices.get(0).getBrand()).isEqualTo("Sony");
+    assertThat(maxPrices.get(0).getMaxPrice()).isEqualTo(695.8);
+  }
+
+  @Test
+  void testCountAggregationToColumns() {
+    AggregationColumns columns = entityStream.of(Game.class) //
+        .groupBy(Game$.BRAND) //
+        .reduce(ReducerFunction.COUNT).as("count") //
+        .reduce(ReducerFunction.AVG, Game$.PRICE).as("avgPrice") //
+        .sorted(Order.desc("@count")) //
+        .limit(5) //
+        .toColumns();
+
+    assertThat(columns.size()).isEqualTo(5);
+    assertThat(columns.getLabels()).containsExactly("brand", "count", "avgPrice");
+    assertThat(columns.getValues("brand")).containsExactly("", "Mad Catz", "Generic", "SteelSeries", "Logitech");
+    assertThat(columns.getLongs("count")).containsExactly(1498L, 43L, 40L, 37L, 35L);
+    assertThat(columns.getColumnType("avgPrice")).isEqualTo(double.class);
+    assertThat(columns.getDoubles("avgPrice")).hasSize(5);
+  }
+
+  @Test
+  void testFacetsWithSearchResults() {
+    FacetedResult<Game> result = entityStream.of(Game.class) //
+        .filter("sony") //
+        .sorted(Game$.PRICE, SortOrder.DESC) //
+        .limit(3) //
+        .facets(Game$.BRAND);
+
+    long total = entityStream.of(Game.class).filter("sony").count();
+    List<BrandCount> countsPerBrand = entityStream.of(Game.class) //
+        .filter("sony") //
+        .groupBy(Game$.BRAND) //
+        .reduce(ReducerFunction.COUNT).as("count") //
+        .sorted(Order.desc("@count")) //
+        .toRows(BrandCount.class);
+
+    assertThat(result.getTotalResults()).isEqualTo(total);
+    assertThat(result.getResults()).hasSize(3);
+    assertThat(result.getResults().get(0).getPrice()).isEqualTo(695.8);
+    assertThat(result.getFacets()).containsOnlyKeys("brand");
+    assertThat(result.getFacet(Game$.BRAND)).hasSize(countsPerBrand.size());
+    countsPerBrand.forEach(bc -> assertThat(result.getFacet(Game$.BRAND)).containsEntry(bc.brand(), bc.count()));
+    assertThat(result.getFacet(Game$.BRAND).values().stream().mapToLong(Long::longValue).sum()).isEqualTo(total);
+  }
+
+  @Test
+  void testFacetsMaxValues() {
+    FacetedResult<Game> result = entityStream.of(Game.class) //
+        .limit(0) //
+        .facets(3, Game$.BRAND, Game$.PRICE);
+
+    assertThat(result.getResults()).isEmpty();
+    assertThat(result.getTotalResults()).isEqualTo(repository.count());
+    assertThat(result.getFacet(Game$.BRAND)).containsExactly( //
+        Map.entry("", 1498L), Map.entry("Mad Catz", 43L), Map.entry("Generic", 40L) //
+    );
+    assertThat(result.getFacet("price")).hasSize(3);
+  }
+
 }
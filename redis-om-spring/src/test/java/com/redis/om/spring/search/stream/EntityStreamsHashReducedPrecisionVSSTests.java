@@ -0,0 +1,73 @@
+package com.redis.om.spring.search.stream;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.fixtures.hash.model.HashWithFloat16Vector;
+import com.redis.om.spring.fixtures.hash.model.HashWithFloat16Vector$;
+import com.redis.om.spring.fixtures.hash.repository.HashWithFloat16VectorRepository;
+import com.redis.om.spring.util.ObjectUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class EntityStreamsHashReducedPrecisionVSSTests extends AbstractBaseEnhancedRedisTest {
+  @Autowired
+  HashWithFloat16VectorRepository repository;
+
+  @Autowired
+  EntityStream entityStream;
+
+  @BeforeEach
+  void loadTestData() {
+    repository.saveAll(List.of( //
+        HashWithFloat16Vector.of("v1", ObjectUtils.floatArrayToByteArray(new float[] { 1f, 0f, 0f })), //
+        HashWithFloat16Vector.of("v2", ObjectUtils.floatArrayToByteArray(new float[] { 0.9f, 0.1f, 0f })), //
+        HashWithFloat16Vector.of("v3", ObjectUtils.floatArrayToByteArray(new float[] { 0f, 1f, 0f }))));
+  }
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testVectorsAreStoredAsFloat16AndReadAsFloat32() {
+    byte[] key = (HashWithFloat16Vector.class.getName() + ":v2").getBytes(StandardCharsets.UTF_8);
+    byte[] stored = template.execute((RedisCallback<byte[]>) connection -> connection.hashCommands()
+        .hGet(key, "vector".getBytes(StandardCharsets.UTF_8)));
+    assertThat(stored).hasSize(6);
+
+    HashWithFloat16Vector v2 = repository.findById("v2").orElseThrow();
+    assertThat(ObjectUtils.byteArrayToFloatArray(v2.getVector())).containsExactly(new float[] { 0.9f, 0.1f, 0f },
+        withPrecision(0.001f));
+  }
+
+  @Test
+  void testKnnOnFloat16Vectors() {
+    List<HashWithFloat16Vector> results = entityStream.of(HashWithFloat16Vector.class) //
+        .filter(HashWithFloat16Vector$.VECTOR.knn(2, new float[] { 1f, 0f, 0f })) //
+        .sorted(Sort.by("__vector_score")) //
+        .collect(Collectors.toList());
+
+    assertThat(results).map(HashWithFloat16Vector::getId).containsExactly("v1", "v2");
+  }
+
+  @Test
+  void testVectorRangeWithFloat32BlobOnFloat16Vectors() {
+    List<HashWithFloat16Vector> results = entityStream.of(HashWithFloat16Vector.class) //
+        .filter(HashWithFloat16Vector$.VECTOR.withinRadius(
+            ObjectUtils.floatArrayToByteArray(new float[] { 0f, 1f, 0f }), 0.1)) //
+        .collect(Collectors.toList());
+
+    assertThat(results).map(HashWithFloat16Vector::getId).containsExactly("v3");
+  }
+}
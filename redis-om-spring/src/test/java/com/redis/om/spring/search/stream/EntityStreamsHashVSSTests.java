@@ -7,12 +7,14 @@ import com.redis.om.spring.fixtures.hash.model.HashWithByteArrayHNSWVector;
 import com.redis.om.spring.fixtures.hash.model.HashWithByteArrayHNSWVector$;
 import com.redis.om.spring.fixtures.hash.repository.HashWithByteArrayFlatVectorRepository;
 import com.redis.om.spring.fixtures.hash.repository.HashWithByteArrayHNSWVectorRepository;
+import com.redis.om.spring.search.stream.predicates.vector.HybridPolicy;
 import com.redis.om.spring.tuple.Fields;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.util.ObjectUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,6 +22,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
@@ -168,4 +171,159 @@ class EntityStreamsHashVSSTests extends AbstractBaseEnhancedRedisTest {
         .containsExactly("doc:0", "doc:1", "doc:2", "doc:3", "doc:4");
   }
 
+  /**
+   * KNN with query-time attributes, the distance is yielded into the distance property of the entity
+   * FT.SEARCH QUERY = `"(*)=>[KNN $K @vector $vector_blob EF_RUNTIME 200 AS distance]"`
+   */
+  @Test
+  void testKNNSearchWithEfRuntimeYieldingDistance() {
+    float[] e = new float[100];
+    Arrays.fill(e, 1.4e-30f);
+
+    int K = 4;
+
+    SearchStream<HashWithByteArrayHNSWVector> stream = entityStream.of(HashWithByteArrayHNSWVector.class);
+
+    List<HashWithByteArrayHNSWVector> results = stream //
+        .filter(HashWithByteArrayHNSWVector$.VECTOR.knn(K, ObjectUtils.floatArrayToByteArray(e)) //
+            .efRuntime(200) //
+            .yieldDistanceAs("distance")) //
+        .sorted(Sort.by("distance")) //
+        .limit(K) //
+        .collect(Collectors.toList());
+
+    double[] expected = new double[] { 0.0, 0.00980296079069, 0.0384467579424, 0.0848336219788 };
+
+    assertAll( //
+        () -> assertThat(results).map(HashWithByteArrayHNSWVector::getId)
+            .containsExactly("doc:0", "doc:1", "doc:2", "doc:3"), //
+        () -> assertThat(results.stream().mapToDouble(HashWithByteArrayHNSWVector::getDistance).toArray())
+            .containsExactly(expected, withPrecision(0.001)));
+  }
+
+  /**
+   * Hybrid KNN with an explicit batches policy
+   * FT.SEARCH QUERY = `"(@number:[10 200])=>[KNN $K @vector $vector_blob HYBRID_POLICY BATCHES BATCH_SIZE 50]"`
+   */
+  @Test
+  void testHybridKNNSearchWithBatchesPolicy() {
+    float[] e = new float[100];
+    Arrays.fill(e, 1.4e-30f);
+
+    int K = 3;
+
+    SearchStream<HashWithByteArrayHNSWVector> stream = entityStream.of(HashWithByteArrayHNSWVector.class);
+
+    List<HashWithByteArrayHNSWVector> results = stream //
+        .filter(HashWithByteArrayHNSWVector$.NUMBER.between(10, 200)) //
+        .filter(HashWithByteArrayHNSWVector$.VECTOR.knn(K, ObjectUtils.floatArrayToByteArray(e)) //
+            .hybridPolicy(HybridPolicy.BATCHES) //
+            .batchSize(50)) //
+        .sorted(HashWithByteArrayHNSWVector$._VECTOR_SCORE) //
+        .limit(K) //
+        .collect(Collectors.toList());
+
+    assertThat(results).map(HashWithByteArrayHNSWVector::getId).containsExactly("doc:10", "doc:11", "doc:12");
+  }
+
+  /**
+   * Every document within a distance of the query vector, combined with another predicate
+   * FT.SEARCH QUERY = `"@number:[0 200] (@vector:[VECTOR_RANGE $vector_range_radius $vector_range_blob]=>{$YIELD_DISTANCE_AS: distance})"`
+   */
+  @Test
+  void testVectorRangeSearchCombinedWithFilter() {
+    float[] e = new float[100];
+    Arrays.fill(e, 1.4e-30f);
+
+    SearchStream<HashWithByteArrayHNSWVector> stream = entityStream.of(HashWithByteArrayHNSWVector.class);
+
+    List<HashWithByteArrayHNSWVector> results = stream //
+        .filter(HashWithByteArrayHNSWVector$.NUMBER.between(0, 200)) //
+        .filter(HashWithByteArrayHNSWVector$.VECTOR.withinRadius(e, 0.1).yieldDistanceAs("distance")) //
+        .sorted(Sort.by("distance")) //
+        .collect(Collectors.toList());
+
+    double[] expected = new double[] { 0.0, 0.00980296079069, 0.0384467579424, 0.0848336219788 };
+
+    assertAll( //
+        () -> assertThat(results).map(HashWithByteArrayHNSWVector::getId)
+            .containsExactly("doc:0", "doc:1", "doc:2", "doc:3"), //
+        () -> assertThat(results.stream().mapToDouble(HashWithByteArrayHNSWVector::getDistance).toArray())
+            .containsExactly(expected, withPrecision(0.001)));
+
+    long count = entityStream.of(HashWithByteArrayHNSWVector.class) //
+        .filter(HashWithByteArrayHNSWVector$.VECTOR.withinRadius(e, 0.1)) //
+        .count();
+    assertThat(count).isEqualTo(4);
+  }
+
+  @Test
+  void testVectorRangeDerivedQueries() {
+    float[] e = new float[100];
+    Arrays.fill(e, 1.4e-30f);
+
+    List<HashWithByteArrayHNSWVector> withinDistance = hnswRepository.findByVectorWithinDistance(
+        ObjectUtils.floatArrayToByteArray(e), 0.1);
+    assertThat(withinDistance).map(HashWithByteArrayHNSWVector::getId)
+        .containsExactlyInAnyOrder("doc:0", "doc:1", "doc:2", "doc:3");
+
+    List<HashWithByteArrayHNSWVector> filtered = hnswRepository.findByVectorWithinDistanceAndNumberGreaterThan(e, 0.1,
+        1);
+    assertThat(filtered).map(HashWithByteArrayHNSWVector::getId).containsExactlyInAnyOrder("doc:2", "doc:3");
+  }
+
+  @Test
+  void testKnnBatchWithSharedFilter() {
+    float[] e = new float[100];
+    Arrays.fill(e, 1.4e-30f);
+    float[] f = new float[100];
+    Arrays.fill(f, 2.0e-30f);
+
+    KNNBatchResult<HashWithByteArrayHNSWVector> batch = entityStream.of(HashWithByteArrayHNSWVector.class) //
+        .filter(HashWithByteArrayHNSWVector$.NUMBER.between(0, 200)) //
+        .knnBatch(HashWithByteArrayHNSWVector$.VECTOR, 3, List.of(e, f, e));
+
+    assertAll( //
+        () -> assertThat(batch.size()).isEqualTo(3), //
+        () -> assertThat(batch.getResults(0)).map(HashWithByteArrayHNSWVector::getId)
+            .containsExactly("doc:0", "doc:1", "doc:2"), //
+        () -> assertThat(batch.getDistances(0)).containsExactly(
+            new double[] { 0.0, 0.00980296079069, 0.0384467579424 }, withPrecision(0.001)), //
+        () -> assertThat(batch.getResults(1)).hasSize(3), //
+        () -> assertThat(batch.getResults(2)).map(HashWithByteArrayHNSWVector::getId)
+            .containsExactly("doc:0", "doc:1", "doc:2"), //
+        () -> assertThat(batch.merged()).map(HashWithByteArrayHNSWVector::getId).doesNotHaveDuplicates()
+            .startsWith("doc:0"));
+  }
+
+  @Test
+  void testKnnWithRerank() {
+    float[] e = new float[100];
+    Arrays.fill(e, 1.4e-30f);
+
+    List<HashWithByteArrayHNSWVector> results = entityStream.of(HashWithByteArrayHNSWVector.class) //
+        .filter(HashWithByteArrayHNSWVector$.VECTOR.knn(4, e).rerank(10).yieldDistanceAs("distance")) //
+        .collect(Collectors.toList());
+
+    double[] expected = new double[] { 0.0, 0.00980296079069, 0.0384467579424, 0.0848336219788 };
+
+    assertAll( //
+        () -> assertThat(results).map(HashWithByteArrayHNSWVector::getId)
+            .containsExactly("doc:0", "doc:1", "doc:2", "doc:3"), //
+        () -> assertThat(results.stream().mapToDouble(HashWithByteArrayHNSWVector::getDistance).toArray())
+            .containsExactly(expected, withPrecision(0.001)));
+  }
+
+  @Test
+  void testKnnWithRerankCannotBeSorted() {
+    float[] e = new float[100];
+    Arrays.fill(e, 1.4e-30f);
+
+    SearchStream<HashWithByteArrayHNSWVector> stream = entityStream.of(HashWithByteArrayHNSWVector.class) //
+        .filter(HashWithByteArrayHNSWVector$.VECTOR.knn(4, e).rerank(10).yieldDistanceAs("distance")) //
+        .sorted(HashWithByteArrayHNSWVector$.NUMBER);
+
+    assertThatThrownBy(() -> stream.collect(Collectors.toList())).isInstanceOf(IllegalStateException.class);
+  }
+
 }
@@ -0,0 +1,44 @@
+package com.redis.om.spring.search.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KNNBatchResultTest {
+
+  @Test
+  void testResultsPerQuery() {
+    KNNBatchResult<String> result = new KNNBatchResult<>( //
+        List.of(List.of("a", "b"), List.of("c")), //
+        List.of(List.of("k:a", "k:b"), List.of("k:c")), //
+        List.of(new double[] { 0.1, 0.2 }, new double[] { 0.05 }));
+
+    assertThat(result.size()).isEqualTo(2);
+    assertThat(result.getResults(0)).containsExactly("a", "b");
+    assertThat(result.getIds(1)).containsExactly("k:c");
+    assertThat(result.getDistances(0)).containsExactly(0.1, 0.2);
+  }
+
+  @Test
+  void testMergeKeepsSmallestDistancePerEntity() {
+    KNNBatchResult<String> result = new KNNBatchResult<>( //
+        List.of(List.of("a", "b", "c"), List.of("b'", "d")), //
+        List.of(List.of("k:a", "k:b", "k:c"), List.of("k:b", "k:d")), //
+        List.of(new double[] { 0.1, 0.4, 0.5 }, new double[] { 0.05, 0.3 }));
+
+    assertThat(result.merged()).containsExactly("b'", "a", "d", "c");
+    assertThat(result.merged(2)).containsExactly("b'", "a");
+  }
+
+  @Test
+  void testMergeOrdersMissingDistancesLast() {
+    KNNBatchResult<String> result = new KNNBatchResult<>( //
+        List.of(List.of("a"), List.of("b")), //
+        List.of(List.of("k:a"), List.of("k:b")), //
+        List.of(new double[] { Double.NaN }, new double[] { 0.3 }));
+
+    assertThat(result.merged()).containsExactly("b", "a");
+  }
+}
@@ -0,0 +1,97 @@
+package com.redis.om.spring.search.stream.aggregations;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AggregationRowMapperTest {
+
+  record BrandStats(String brand, long count, Double avgPrice, int rank) {
+  }
+
+  interface BrandSummary {
+    String getBrand();
+
+    long count();
+
+    boolean isActive();
+
+    default String label() {
+      return getBrand() + " (" + count() + ")";
+    }
+  }
+
+  @Test
+  void testMapRowToRecord() {
+    Map<String, Object> row = Map.of("brand", "Sony", "count", "14", "avgPrice", "120.5", "ignored", "x");
+
+    BrandStats stats = AggregationRowMapper.of(BrandStats.class).apply(row);
+
+    assertThat(stats).isEqualTo(new BrandStats("Sony", 14L, 120.5, 0));
+  }
+
+  @Test
+  void testMapRowToInterface() {
+    Map<String, Object> row = Map.of("brand", "Sony", "count", "14", "active", "1");
+
+    BrandSummary summary = AggregationRowMapper.of(BrandSummary.class).apply(row);
+
+    assertThat(summary.getBrand()).isEqualTo("Sony");
+    assertThat(summary.count()).isEqualTo(14L);
+    assertThat(summary.isActive()).isTrue();
+    assertThat(summary.label()).isEqualTo("Sony (14)");
+    assertThat(summary).isEqualTo(AggregationRowMapper.of(BrandSummary.class).apply(row));
+  }
+
+  @Test
+  void testMappersAreComputedOncePerType() {
+    assertThat(AggregationRowMapper.of(BrandStats.class)).isSameAs(AggregationRowMapper.of(BrandStats.class));
+    assertThat(AggregationRowMapper.of(BrandStats.class).getLabels()).containsExactly("brand", "count", "avgPrice",
+        "rank");
+  }
+
+  @Test
+  void testOnlyRecordsAndInterfacesAreSupported() {
+    assertThatThrownBy(() -> AggregationRowMapper.of(StringBuilder.class)).isInstanceOf(
+        IllegalArgumentException.class);
+  }
+
+  @Test
+  void testParseNumbers() {
+    assertThat(AggregationValues.parseLong("-1234")).isEqualTo(-1234L);
+    assertThat(AggregationValues.parseLong("42".getBytes(StandardCharsets.US_ASCII))).isEqualTo(42L);
+    assertThat(AggregationValues.parseLong("9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+    assertThat(AggregationValues.parseLong("12.75")).isEqualTo(12L);
+    assertThat(AggregationValues.parseDouble("12.75".getBytes(StandardCharsets.US_ASCII))).isEqualTo(12.75);
+    assertThat(AggregationValues.parseDouble("7")).isEqualTo(7.0);
+    assertThat(AggregationValues.parseDouble("inf")).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(AggregationValues.parseDouble("-inf")).isEqualTo(Double.NEGATIVE_INFINITY);
+    assertThat(AggregationValues.parseDouble("nan")).isNaN();
+  }
+
+  @Test
+  void testColumns() {
+    List<Map<String, Object>> rows = new ArrayList<>();
+    rows.add(Map.of("brand", "Sony", "count", "14", "avgPrice", "120.5"));
+    rows.add(Map.of("brand", "Nintendo", "count", "3"));
+    Map<String, Class<?>> columnTypes = new LinkedHashMap<>();
+    columnTypes.put("brand", String.class);
+    columnTypes.put("count", Long.class);
+    columnTypes.put("avgPrice", Double.class);
+
+    AggregationColumns columns = AggregationColumns.of(rows, columnTypes);
+
+    assertThat(columns.size()).isEqualTo(2);
+    assertThat(columns.getLabels()).containsExactly("brand", "count", "avgPrice");
+    assertThat(columns.getValues("brand")).containsExactly("Sony", "Nintendo");
+    assertThat(columns.getLongs("count")).containsExactly(14L, 3L);
+    assertThat(columns.getDoubles("count")).containsExactly(14.0, 3.0);
+    assertThat(columns.getDoubles("avgPrice")).containsExactly(120.5, 0.0);
+    assertThatThrownBy(() -> columns.getLongs("avgPrice")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> columns.getValues("price")).isInstanceOf(IllegalArgumentException.class);
+  }
+}
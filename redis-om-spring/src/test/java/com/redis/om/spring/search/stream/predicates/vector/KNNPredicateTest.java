@@ -0,0 +1,63 @@
+package com.redis.om.spring.search.stream.predicates.vector;
+
+import com.redis.om.spring.fixtures.hash.model.HashWithByteArrayHNSWVector;
+import com.redis.om.spring.metamodel.SearchFieldAccessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.querybuilder.QueryBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KNNPredicateTest {
+  SearchFieldAccessor accessor;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    accessor = new SearchFieldAccessor("vector", null, HashWithByteArrayHNSWVector.class.getDeclaredField("vector"));
+  }
+
+  @Test
+  void testDefaultRendering() {
+    KNNPredicate<HashWithByteArrayHNSWVector, byte[]> knn = new KNNPredicate<>(accessor, 4, new byte[0]);
+
+    assertThat(knn.apply(QueryBuilders.union()).toString()).isEqualTo("(*)=>[KNN $K @vector $vector_blob]");
+    assertThat(knn.getDistanceAlias()).isEqualTo("__vector_score");
+  }
+
+  @Test
+  void testQueryTimeAttributes() {
+    KNNPredicate<HashWithByteArrayHNSWVector, byte[]> knn = new KNNPredicate<HashWithByteArrayHNSWVector, byte[]>(
+        accessor, 4, new float[] { 1f }) //
+        .efRuntime(150) //
+        .hybridPolicy(HybridPolicy.BATCHES) //
+        .batchSize(20) //
+        .yieldDistanceAs("distance");
+
+    assertThat(knn.apply(QueryBuilders.union()).toString()).isEqualTo(
+        "(*)=>[KNN $K @vector $vector_blob EF_RUNTIME 150 HYBRID_POLICY BATCHES BATCH_SIZE 20 AS distance]");
+    assertThat(knn.getDistanceAlias()).isEqualTo("distance");
+  }
+
+  @Test
+  void testInvalidAttributes() {
+    KNNPredicate<HashWithByteArrayHNSWVector, byte[]> knn = new KNNPredicate<>(accessor, 4, new byte[0]);
+
+    assertThatThrownBy(() -> knn.efRuntime(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> knn.batchSize(-1)).isInstanceOf(IllegalArgumentException.class);
+    knn.hybridPolicy(HybridPolicy.ADHOC_BF);
+    assertThatThrownBy(() -> knn.batchSize(10)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testRerankOversamplesCandidates() {
+    KNNPredicate<HashWithByteArrayHNSWVector, byte[]> knn = new KNNPredicate<HashWithByteArrayHNSWVector, byte[]>(
+        accessor, 4, new float[] { 1f, 2f }).rerank(5);
+
+    assertThat(knn.getK()).isEqualTo(4);
+    assertThat(knn.getCandidates()).isEqualTo(20);
+    assertThat(knn.isReranked()).isTrue();
+    assertThat(knn.getQueryVector()).containsExactly(1f, 2f);
+    assertThatThrownBy(() -> knn.rerank(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,64 @@
+package com.redis.om.spring.search.stream.predicates.vector;
+
+import com.redis.om.spring.fixtures.hash.model.HashWithByteArrayHNSWVector;
+import com.redis.om.spring.metamodel.SearchFieldAccessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.querybuilder.QueryBuilders;
+import redis.clients.jedis.search.querybuilder.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VectorRangePredicateTest {
+  SearchFieldAccessor accessor;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    accessor = new SearchFieldAccessor("vector", null, HashWithByteArrayHNSWVector.class.getDeclaredField("vector"));
+  }
+
+  @Test
+  void testRendering() {
+    VectorRangePredicate<HashWithByteArrayHNSWVector, byte[]> range = new VectorRangePredicate<>(accessor,
+        new byte[] { 1, 2, 3, 4 }, 0.2);
+
+    assertThat(range.apply(QueryBuilders.union()).toString()).isEqualTo(
+        "@vector:[VECTOR_RANGE $vector_range_radius $vector_range_blob]");
+    assertThat(range.getParams()).containsOnlyKeys("vector_range_blob", "vector_range_radius")
+        .containsEntry("vector_range_radius", 0.2);
+  }
+
+  @Test
+  void testRenderingWithAttributesCombinedWithFilter() {
+    var range = new VectorRangePredicate<HashWithByteArrayHNSWVector, byte[]>(accessor, new float[] { 1f }, 0.2) //
+        .yieldDistanceAs("distance") //
+        .epsilon(0.01);
+
+    String query = range.apply(QueryBuilders.intersect().add("number", Values.between(1, 10))).toString();
+    assertThat(query).isEqualTo(
+        "(@number:[1 10] (@vector:[VECTOR_RANGE $vector_range_radius $vector_range_blob]=>{$YIELD_DISTANCE_AS: "
+            + "distance; $EPSILON: 0.01}))");
+    assertThat((byte[]) range.getParams().get("vector_range_blob")).hasSize(Float.BYTES);
+  }
+
+  @Test
+  void testRangesOfTheSameQueryHaveTheirOwnParams() {
+    var near = new VectorRangePredicate<HashWithByteArrayHNSWVector, byte[]>(accessor, new float[] { 1f }, 0.2);
+    var far = new VectorRangePredicate<HashWithByteArrayHNSWVector, byte[]>(accessor, new float[] { 2f }, 0.8);
+    far.setParamIndex(1);
+
+    assertThat(far.apply(near.apply(QueryBuilders.union())).toString()).isEqualTo(
+        "((@vector:[VECTOR_RANGE $vector_range_radius $vector_range_blob]) "
+            + "(@vector:[VECTOR_RANGE $vector_range_radius_1 $vector_range_blob_1]))");
+    assertThat(far.getParams()).containsOnlyKeys("vector_range_blob_1", "vector_range_radius_1")
+        .containsEntry("vector_range_radius_1", 0.8);
+  }
+
+  @Test
+  void testInvalidEpsilon() {
+    VectorRangePredicate<HashWithByteArrayHNSWVector, byte[]> range = new VectorRangePredicate<>(accessor,
+        new byte[0], 0.2);
+    assertThatThrownBy(() -> range.epsilon(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
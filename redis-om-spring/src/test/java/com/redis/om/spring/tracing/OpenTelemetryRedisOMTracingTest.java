@@ -0,0 +1,174 @@
+package com.redis.om.spring.tracing;
+
+import com.google.gson.GsonBuilder;
+import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.metrics.RedisOMMetrics;
+import com.redis.om.spring.ops.AsyncExecutor;
+import com.redis.om.spring.ops.json.JSONOperationsImpl;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.json.JSONArray;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.json.commands.RedisJsonCommands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OpenTelemetryRedisOMTracingTest {
+  private final Map<String, Span> spans = new LinkedHashMap<>();
+  private final List<SpanKind> kinds = new ArrayList<>();
+  private OpenTelemetryRedisOMTracing tracing;
+
+  @BeforeEach
+  void setUp() {
+    Tracer tracer = mock(Tracer.class);
+    when(tracer.spanBuilder(anyString())).thenAnswer(invocation -> {
+      String name = invocation.getArgument(0);
+      SpanBuilder builder = mock(SpanBuilder.class);
+      Span span = mock(Span.class);
+      when(span.isRecording()).thenReturn(true);
+      when(span.storeInContext(any())).thenCallRealMethod();
+      when(builder.setSpanKind(any())).thenAnswer(kind -> {
+        kinds.add(kind.getArgument(0));
+        return builder;
+      });
+      when(builder.setAllAttributes(any())).thenReturn(builder);
+      when(builder.startSpan()).thenAnswer(start -> {
+        spans.put(name, span);
+        return span;
+      });
+      return builder;
+    });
+    tracing = new OpenTelemetryRedisOMTracing(tracer);
+  }
+
+  @Test
+  void testCommandSpansAreChildrenOfOperationSpans() {
+    String result = tracing.timeOperation("PersonRepository.findByName", "Person", () -> {
+      assertThat(Span.current()).isSameAs(spans.get("PersonRepository.findByName"));
+      return tracing.timeCommand("FT.SEARCH", "person_idx", () -> {
+        tracing.recordQuery("FT.SEARCH", "person_idx", () -> "@name:?");
+        tracing.recordResults("FT.SEARCH", "person_idx", 3);
+        return "reply";
+      });
+    });
+
+    assertThat(result).isEqualTo("reply");
+    assertThat(spans).containsOnlyKeys("PersonRepository.findByName", "FT.SEARCH person_idx");
+    assertThat(kinds).containsExactly(SpanKind.INTERNAL, SpanKind.CLIENT);
+    Span command = spans.get("FT.SEARCH person_idx");
+    verify(command).setAttribute(OpenTelemetryRedisOMTracing.DB_QUERY_SUMMARY, "@name:?");
+    verify(command).setAttribute(OpenTelemetryRedisOMTracing.DB_RETURNED_ROWS, 3L);
+    verify(command).end();
+    verify(spans.get("PersonRepository.findByName")).end();
+    assertThat(Span.current()).isNotIn(spans.values());
+  }
+
+  @Test
+  void testAsyncOperationSpansEndWhenTheFutureCompletes() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    try (AsyncExecutor executor = new AsyncExecutor(1, true)) {
+      CompletableFuture<Span> future = tracing.timeAsyncOperation("PersonRepository.findByIdAsync", "Person",
+          () -> executor.supply(() -> {
+            try {
+              release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return Span.current();
+          }));
+
+      Span operation = spans.get("PersonRepository.findByIdAsync");
+      verify(operation, never()).end();
+      assertThat(Span.current()).isNotSameAs(operation);
+
+      release.countDown();
+      assertThat(future.join()).isSameAs(operation);
+      verify(operation, timeout(1000)).end();
+      verify(operation, never()).setStatus(StatusCode.ERROR);
+    }
+  }
+
+  @Test
+  void testFailedAsyncOperationSpansRecordTheCause() {
+    IllegalStateException failure = new IllegalStateException("boom");
+
+    CompletableFuture<Object> future = tracing.timeAsyncOperation("PersonRepository.findByIdAsync", "Person",
+        () -> CompletableFuture.supplyAsync(() -> {
+          throw failure;
+        }));
+
+    assertThatThrownBy(future::join).hasCause(failure);
+    Span span = spans.get("PersonRepository.findByIdAsync");
+    verify(span, timeout(1000)).end();
+    verify(span).recordException(failure);
+    verify(span).setStatus(StatusCode.ERROR);
+  }
+
+  @Test
+  void testJsonPayloadAndResultsAreRecordedOnTheCommandSpans() {
+    RedisModulesClient client = mock(RedisModulesClient.class);
+    RedisJsonCommands json = mock(RedisJsonCommands.class);
+    when(client.clientForJSON()).thenReturn(json);
+    when(json.jsonMGet(any(String[].class)))
+        .thenReturn(Arrays.asList(new JSONArray("[{\"name\":\"john\"}]"), null));
+    RedisOMMetrics.registerKeyspace("person:");
+    JSONOperationsImpl<String> ops = new JSONOperationsImpl<>(client, new GsonBuilder(), tracing);
+
+    ops.set("person:1", Map.of("name", "john"));
+    List<Map> people = ops.mget(Map.class, "person:1", "person:2");
+
+    assertThat(people).hasSize(1);
+    verify(spans.get("JSON.SET person:")).setAttribute(OpenTelemetryRedisOMTracing.PAYLOAD_BYTES, 15L);
+    verify(spans.get("JSON.MGET person:")).setAttribute(OpenTelemetryRedisOMTracing.DB_RETURNED_ROWS, 1L);
+  }
+
+  @Test
+  void testFailedSpansRecordTheException() {
+    IllegalStateException failure = new IllegalStateException("boom");
+
+    assertThatThrownBy(() -> tracing.timeDeserialization("person_idx", () -> {
+      throw failure;
+    })).isSameAs(failure);
+
+    Span span = spans.get("deserialize person_idx");
+    verify(span).recordException(failure);
+    verify(span).setStatus(StatusCode.ERROR);
+    verify(span).end();
+  }
+
+  @Test
+  void testComposedInstrumentationCallsEach() {
+    RedisOMMetrics other = mock(RedisOMMetrics.class);
+    when(other.isEnabled()).thenReturn(true);
+    when(other.timeCommand(anyString(), anyString(), any(Supplier.class)))
+        .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+
+    RedisOMMetrics composed = RedisOMMetrics.compose(List.of(tracing, other, RedisOMMetrics.NOOP));
+    composed.timeCommand("JSON.GET", "person:", () -> "json");
+    composed.recordCacheAccess("semantic", true);
+
+    assertThat(spans).containsOnlyKeys("JSON.GET person:");
+    verify(other).timeCommand(eq("JSON.GET"), eq("person:"), any(Supplier.class));
+    verify(other).recordCacheAccess("semantic", true);
+    assertThat(RedisOMMetrics.compose(List.of(RedisOMMetrics.NOOP))).isSameAs(RedisOMMetrics.NOOP);
+    assertThat(RedisOMMetrics.compose(List.of(tracing))).isSameAs(tracing);
+  }
+}
@@ -9,6 +9,8 @@ import com.redis.om.spring.annotations.Searchable;
 import com.redis.om.spring.fixtures.document.model.*;
 import com.redis.om.spring.fixtures.document.repository.CompanyRepository;
 import com.redis.om.spring.fixtures.document.repository.DocWithCustomNameIdRepository;
+import com.redis.om.spring.fixtures.hash.model.HashWithFloat16Vector;
+import com.redis.om.spring.indexing.VectorType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +27,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 @SuppressWarnings({ "ConstantConditions", "SpellCheckingInspection" })
@@ -378,4 +381,52 @@ class ObjectUtilsTest extends AbstractBaseDocumentTest {
     public final Set<Integer> sois = new HashSet<>();
     public final Iterable<Company> ioc = new ArrayList<>();
   }
+
+  @Test
+  void testReducedPrecisionVectorEncoding() {
+    float[] vector = new float[] { 1f, -0.5f, 0.3333f, 0f, 65504f, 1e-7f };
+
+    byte[] float16 = ObjectUtils.floatArrayToByteArray(vector, VectorType.FLOAT16);
+    byte[] bfloat16 = ObjectUtils.floatArrayToByteArray(vector, VectorType.BFLOAT16);
+    byte[] int8 = ObjectUtils.floatArrayToByteArray(new float[] { 1f, -1f, 0.5f, 2f }, VectorType.INT8);
+
+    assertAll( //
+        () -> assertThat(float16).hasSize(12), //
+        () -> assertThat(ObjectUtils.byteArrayToFloatArray(float16, VectorType.FLOAT16)).containsExactly(
+            new float[] { 1f, -0.5f, 0.3333f, 0f, 65504f, 1e-7f }, withPrecision(0.0002f)), //
+        () -> assertThat(bfloat16).hasSize(12), //
+        () -> assertThat(ObjectUtils.byteArrayToFloatArray(bfloat16, VectorType.BFLOAT16)[2]).isCloseTo(0.3333f,
+            withPrecision(0.002f)), //
+        () -> assertThat(int8).containsExactly(127, -127, 64, 127), //
+        () -> assertThat(ObjectUtils.byteArrayToFloatArray(
+            ObjectUtils.floatArrayToByteArray(vector, VectorType.FLOAT64), VectorType.FLOAT64)).containsExactly(vector));
+  }
+
+  @Test
+  void testFloat16Rounding() {
+    assertAll( //
+        () -> assertThat(ObjectUtils.floatToFloat16(1f)).isEqualTo((short) 0x3c00), //
+        () -> assertThat(ObjectUtils.floatToFloat16(-2f)).isEqualTo((short) 0xc000), //
+        () -> assertThat(ObjectUtils.floatToFloat16(65520f)).isEqualTo((short) 0x7c00), //
+        () -> assertThat(ObjectUtils.floatToFloat16(0x1p-24f)).isEqualTo((short) 0x0001), //
+        () -> assertThat(ObjectUtils.floatToFloat16(0x1p-26f)).isEqualTo((short) 0), //
+        () -> assertThat(ObjectUtils.float16ToFloat((short) 0x0001)).isEqualTo(0x1p-24f), //
+        () -> assertThat(ObjectUtils.float16ToFloat(ObjectUtils.floatToFloat16(Float.NaN))).isNaN(), //
+        () -> assertThat(ObjectUtils.floatToBFloat16(1f)).isEqualTo((short) 0x3f80), //
+        () -> assertThat(ObjectUtils.floatToBFloat16(Float.NaN) & 0x7fff).isGreaterThan(0x7f80));
+  }
+
+  @Test
+  void testVectorBlobForReducedPrecisionField() throws NoSuchFieldException {
+    Field field = HashWithFloat16Vector.class.getDeclaredField("vector");
+    byte[] float32 = ObjectUtils.floatArrayToByteArray(new float[] { 1f, 0.5f, 0f });
+
+    byte[] encoded = ObjectUtils.vectorBlobFor(field, float32);
+    assertAll( //
+        () -> assertThat(encoded).hasSize(6), //
+        () -> assertThat(ObjectUtils.vectorBlobFor(field, encoded)).isSameAs(encoded), //
+        () -> assertThat(ObjectUtils.vectorBlobFor(field, new float[] { 1f, 0.5f, 0f })).isEqualTo(encoded), //
+        () -> assertThat(ObjectUtils.float32BlobFor(field, encoded)).isEqualTo(float32), //
+        () -> assertThat(ObjectUtils.float32BlobFor(field, float32)).isSameAs(float32));
+  }
 }
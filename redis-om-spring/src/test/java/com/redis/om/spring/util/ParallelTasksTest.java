@@ -0,0 +1,59 @@
+package com.redis.om.spring.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelTasksTest {
+
+  @Test
+  void testRunsEveryItemConcurrently() {
+    List<Integer> items = IntStream.range(0, 4).boxed().toList();
+    CountDownLatch allStarted = new CountDownLatch(items.size());
+    Set<Integer> done = ConcurrentHashMap.newKeySet();
+
+    ParallelTasks.forEach(items, 4, "test-parallel", i -> {
+      allStarted.countDown();
+      try {
+        // only returns if the four items run at the same time
+        assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      done.add(i);
+    });
+
+    assertThat(done).containsExactlyInAnyOrderElementsOf(items);
+  }
+
+  @Test
+  void testRunsOnTheCallingThreadWithoutParallelism() {
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    ParallelTasks.forEach(List.of(1, 2, 3), 1, "test-parallel", i -> threads.add(Thread.currentThread().getName()));
+
+    assertThat(threads).containsExactly(Thread.currentThread().getName());
+  }
+
+  @Test
+  void testRethrowsFailureOnceAllItemsAreDone() {
+    Set<Integer> done = ConcurrentHashMap.newKeySet();
+
+    assertThatThrownBy(() -> ParallelTasks.forEach(List.of(1, 2, 3), 3, "test-parallel", i -> {
+      if (i == 2) {
+        throw new IllegalArgumentException("boom");
+      }
+      done.add(i);
+    })).isInstanceOf(IllegalArgumentException.class).hasMessage("boom");
+
+    assertThat(done).containsExactlyInAnyOrder(1, 3);
+  }
+}
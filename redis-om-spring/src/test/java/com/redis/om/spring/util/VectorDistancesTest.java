@@ -0,0 +1,34 @@
+package com.redis.om.spring.util;
+
+import com.redis.om.spring.indexing.DistanceMetric;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class VectorDistancesTest {
+
+  @Test
+  void testDistancesMatchTheSearchEngine() {
+    float[] a = new float[] { 1f, 2f, 3f, 4f, 5f };
+    float[] b = new float[] { 2f, 2f, 1f, 4f, 3f };
+
+    assertThat(VectorDistances.distance(DistanceMetric.L2, a, b)).isEqualTo(9d);
+    assertThat(VectorDistances.distance(DistanceMetric.IP, a, b)).isEqualTo(1d - 40d);
+    assertThat(VectorDistances.distance(DistanceMetric.COSINE, a, b)).isCloseTo(
+        1d - 40d / (Math.sqrt(55d) * Math.sqrt(34d)), withPrecision(1e-6));
+  }
+
+  @Test
+  void testCosineOfZeroVector() {
+    assertThat(VectorDistances.cosine(new float[] { 0f, 0f, 0f }, new float[] { 1f, 0f, 0f })).isEqualTo(1d);
+    assertThat(VectorDistances.cosine(new float[] { 3f, 0f, 0f }, new float[] { 1f, 0f, 0f })).isEqualTo(0d);
+  }
+
+  @Test
+  void testDimensionsMustMatch() {
+    assertThatThrownBy(() -> VectorDistances.l2(new float[2], new float[3])) //
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
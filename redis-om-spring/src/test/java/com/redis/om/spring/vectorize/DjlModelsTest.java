@@ -0,0 +1,73 @@
+package com.redis.om.spring.vectorize;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DjlModelsTest {
+
+  @Test
+  void testEagerLoadingLoadsInConstructor() {
+    AtomicInteger loads = new AtomicInteger();
+    try (DjlModels models = new DjlModels(null, null, () -> {
+      loads.incrementAndGet();
+      return null;
+    }, DjlModels.Loading.EAGER)) {
+      assertThat(models.isLoaded()).isTrue();
+      assertThat(loads).hasValue(1);
+      assertThat(models.getLoadTimes()).containsKeys("image embedding model", "face embedding model",
+          "sentence tokenizer");
+    }
+  }
+
+  @Test
+  void testLazyLoadingWaitsForFirstUse() {
+    AtomicInteger loads = new AtomicInteger();
+    try (DjlModels models = new DjlModels(null, null, () -> {
+      loads.incrementAndGet();
+      return null;
+    }, DjlModels.Loading.LAZY)) {
+      assertThat(models.getState()).isEqualTo(DjlModels.State.NOT_LOADED);
+      assertThat(loads).hasValue(0);
+
+      assertThat(models.getSentenceTokenizer()).isNull();
+      assertThat(models.isLoaded()).isTrue();
+      models.getFaceEmbeddingModel();
+      assertThat(loads).hasValue(1);
+    }
+  }
+
+  @Test
+  void testBackgroundLoadingReportsState() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    try (DjlModels models = new DjlModels(null, null, () -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return null;
+    }, DjlModels.Loading.BACKGROUND)) {
+      assertThat(models.getState()).isEqualTo(DjlModels.State.LOADING);
+      assertThat(models.awaitLoaded(Duration.ofMillis(50))).isFalse();
+
+      release.countDown();
+      assertThat(models.awaitLoaded(Duration.ofSeconds(10))).isTrue();
+      assertThat(models.getLoadTime()).isPositive();
+    }
+  }
+
+  @Test
+  void testFailedModelIsLeftUnset() {
+    try (DjlModels models = new DjlModels(null, null, () -> {
+      throw new IllegalStateException("offline");
+    }, DjlModels.Loading.EAGER)) {
+      assertThat(models.isLoaded()).isTrue();
+      assertThat(models.getSentenceTokenizer()).isNull();
+    }
+  }
+}
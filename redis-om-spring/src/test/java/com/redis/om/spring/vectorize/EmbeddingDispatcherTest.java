@@ -0,0 +1,237 @@
+package com.redis.om.spring.vectorize;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the dispatcher against a local HTTP stub of an embedding provider: the stub embeds each line of the request
+ * body as {@code [length, 1]} and can be told to answer 429 a number of times first.
+ */
+class EmbeddingDispatcherTest {
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private RestClient client;
+  private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+  private final AtomicInteger rateLimitedResponses = new AtomicInteger();
+  private final AtomicInteger concurrent = new AtomicInteger();
+  private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+  @BeforeEach
+  void startStub() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/embed", exchange -> {
+      String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+      byte[] response;
+      if (rateLimitedResponses.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+        exchange.getResponseHeaders().add("Retry-After", "0");
+        response = "slow down".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(429, response.length);
+      } else {
+        int now = concurrent.incrementAndGet();
+        maxConcurrent.accumulateAndGet(now, Math::max);
+        try {
+          Thread.sleep(20);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        List<String> texts = Arrays.asList(body.split("\n"));
+        batchSizes.add(texts.size());
+        StringBuilder vectors = new StringBuilder();
+        texts.forEach(t -> vectors.append(t.length()).append(",1\n"));
+        response = vectors.toString().getBytes(StandardCharsets.UTF_8);
+        concurrent.decrementAndGet();
+        exchange.sendResponseHeaders(200, response.length);
+      }
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(response);
+      }
+    });
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+    client = RestClient.builder().baseUrl("http://127.0.0.1:" + server.getAddress().getPort()).build();
+  }
+
+  @AfterEach
+  void stopStub() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  private List<float[]> callStub(List<String> texts) {
+    String response = client.post().uri("/embed").contentType(MediaType.TEXT_PLAIN).body(String.join("\n", texts))
+        .retrieve().body(String.class);
+    List<float[]> vectors = new ArrayList<>();
+    for (String line : response.split("\n")) {
+      String[] parts = line.split(",");
+      vectors.add(new float[] { Float.parseFloat(parts[0]), Float.parseFloat(parts[1]) });
+    }
+    return vectors;
+  }
+
+  private EmbeddingDispatcher dispatcher(int maxBatchSize, int maxConcurrency, int maxRetries) {
+    return new EmbeddingDispatcher("stub", this::callStub, maxBatchSize, Duration.ofMillis(50), maxConcurrency,
+        maxRetries, Duration.ofMillis(10), Duration.ofMillis(50));
+  }
+
+  @Test
+  void testConcurrentRequestsAreCoalescedIntoBatches() {
+    try (EmbeddingDispatcher dispatcher = dispatcher(8, 2, 0)) {
+      List<String> texts = IntStream.rangeClosed(1, 20).mapToObj("x"::repeat).toList();
+      List<CompletableFuture<float[]>> futures = texts.parallelStream().map(dispatcher::embed).toList();
+
+      for (int i = 0; i < texts.size(); i++) {
+        assertThat(EmbeddingDispatcher.join(futures.get(i))).containsExactly(texts.get(i).length(), 1f);
+      }
+      assertThat(batchSizes).allMatch(size -> size <= 8);
+      assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(20);
+      assertThat(batchSizes.size()).isLessThan(20);
+      assertThat(maxConcurrent.get()).isLessThanOrEqualTo(2);
+
+      EmbeddingDispatcherStats stats = dispatcher.getStats();
+      assertThat(stats.requests()).isEqualTo(20);
+      assertThat(stats.calls()).isEqualTo(batchSizes.size());
+      assertThat(stats.queued()).isZero();
+      assertThat(stats.estimatedTokens()).isPositive();
+      assertThat(stats.maxLatency()).isGreaterThanOrEqualTo(stats.averageLatency());
+    }
+  }
+
+  @Test
+  void testRateLimitedCallsAreRetried() {
+    rateLimitedResponses.set(2);
+    try (EmbeddingDispatcher dispatcher = dispatcher(4, 1, 3)) {
+      assertThat(dispatcher.embedAll(List.of("a", "bb"))).satisfiesExactly(
+          v -> assertThat(v).containsExactly(1f, 1f), v -> assertThat(v).containsExactly(2f, 1f));
+
+      EmbeddingDispatcherStats stats = dispatcher.getStats();
+      assertThat(stats.rateLimited()).isEqualTo(2);
+      assertThat(stats.retries()).isEqualTo(2);
+      assertThat(stats.failures()).isZero();
+    }
+  }
+
+  @Test
+  void testGivesUpAfterMaxRetries() {
+    rateLimitedResponses.set(10);
+    try (EmbeddingDispatcher dispatcher = dispatcher(4, 1, 1)) {
+      assertThatThrownBy(() -> dispatcher.embedAll(List.of("a"))).isInstanceOf(
+          HttpClientErrorException.TooManyRequests.class);
+      assertThat(dispatcher.getStats().retries()).isEqualTo(1);
+      assertThat(dispatcher.getStats().failures()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void testOtherFailuresAreNotRetried() {
+    Function<List<String>, List<float[]>> failing = texts -> {
+      throw new IllegalArgumentException("bad request");
+    };
+    try (EmbeddingDispatcher dispatcher = new EmbeddingDispatcher("failing", failing, 4, Duration.ZERO, 1, 3,
+        Duration.ofMillis(10), Duration.ofMillis(50))) {
+      assertThatThrownBy(() -> dispatcher.embedAll(List.of("a"))).isInstanceOf(IllegalArgumentException.class);
+      assertThat(dispatcher.getStats().retries()).isZero();
+    }
+  }
+
+  @Test
+  void testBackoffIsJitteredAndBounded() {
+    try (EmbeddingDispatcher dispatcher = dispatcher(1, 1, 3)) {
+      for (int attempt = 0; attempt < 10; attempt++) {
+        assertThat(dispatcher.backoff(attempt, null)).isBetween(Duration.ZERO, Duration.ofMillis(50));
+      }
+      assertThat(dispatcher.backoff(0, Duration.ofSeconds(2))).isEqualTo(Duration.ofSeconds(2));
+    }
+  }
+
+  @Test
+  void testErrorsFailTheBatch() {
+    Function<List<String>, List<float[]>> failing = texts -> {
+      throw new OutOfMemoryError("no room for vectors");
+    };
+    try (EmbeddingDispatcher dispatcher = new EmbeddingDispatcher("erroring", failing, 4, Duration.ZERO, 1, 3,
+        Duration.ofMillis(10), Duration.ofMillis(50))) {
+      CompletableFuture<float[]> future = dispatcher.embed("a");
+
+      assertThatThrownBy(() -> EmbeddingDispatcher.join(future)).isInstanceOf(OutOfMemoryError.class);
+      assertThat(dispatcher.getStats().failures()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void testCloseFailsQueuedTexts() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Function<List<String>, List<float[]>> blocking = texts -> {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return texts.stream().map(t -> new float[] { 1f }).toList();
+    };
+    EmbeddingDispatcher dispatcher = new EmbeddingDispatcher("closing", blocking, 1, Duration.ZERO, 1, 0,
+        Duration.ofMillis(10), Duration.ofMillis(50));
+    List<CompletableFuture<float[]>> futures = IntStream.range(0, 5).mapToObj(i -> dispatcher.embed("t" + i)).toList();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    dispatcher.close();
+    release.countDown();
+
+    // the first text is in flight, the others fail
+    assertThat(futures.get(0)).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(futures.subList(1, 5)).allSatisfy(f -> assertThat(f).failsWithin(Duration.ofSeconds(5))
+        .withThrowableThat().havingCause().isInstanceOf(IllegalStateException.class).withMessageContaining("closed"));
+    assertThat(dispatcher.embed("late")).isCompletedExceptionally();
+  }
+
+  @Test
+  void testRecognizesRateLimitingByStatus() {
+    HttpResponse azureResponse = mock(HttpResponse.class);
+    when(azureResponse.getStatusCode()).thenReturn(429);
+
+    assertThat(EmbeddingDispatcher.isRateLimited(
+        HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null)))
+        .isTrue();
+    assertThat(EmbeddingDispatcher.isRateLimited(new IllegalStateException("wrapped",
+        new HttpResponseException("throttled", azureResponse)))).isTrue();
+    assertThat(EmbeddingDispatcher.isRateLimited(SdkServiceException.builder().statusCode(429).build())).isTrue();
+    assertThat(EmbeddingDispatcher.isRateLimited(
+        HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null))).isFalse();
+    // message text alone is not a status
+    assertThat(EmbeddingDispatcher.isRateLimited(new RuntimeException("Rate limit reached for requests"))).isFalse();
+  }
+}
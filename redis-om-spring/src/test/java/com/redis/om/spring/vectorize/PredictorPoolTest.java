@@ -0,0 +1,112 @@
+package com.redis.om.spring.vectorize;
+
+import ai.djl.inference.Predictor;
+import ai.djl.translate.TranslateException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class PredictorPoolTest {
+
+  @SuppressWarnings("unchecked")
+  private static Predictor<Integer, Integer> doubling() throws TranslateException {
+    Predictor<Integer, Integer> predictor = Mockito.mock(Predictor.class);
+    when(predictor.predict(any())).thenAnswer(i -> (Integer) i.getArgument(0) * 2);
+    when(predictor.batchPredict(anyList())).thenAnswer(
+        i -> ((List<Integer>) i.getArgument(0)).stream().map(n -> n * 2).toList());
+    return predictor;
+  }
+
+  @Test
+  void testBatchPredictKeepsInputOrder() throws Exception {
+    List<Predictor<Integer, Integer>> created = new ArrayList<>();
+    try (PredictorPool<Integer, Integer> pool = new PredictorPool<>(() -> {
+      try {
+        Predictor<Integer, Integer> predictor = doubling();
+        synchronized (created) {
+          created.add(predictor);
+        }
+        return predictor;
+      } catch (TranslateException e) {
+        throw new IllegalStateException(e);
+      }
+    }, 3, 4)) {
+      List<Integer> inputs = IntStream.range(0, 25).boxed().toList();
+
+      List<Integer> outputs = pool.batchPredict(inputs);
+
+      assertThat(outputs).isEqualTo(inputs.stream().map(n -> n * 2).toList());
+      assertThat(created).hasSizeBetween(1, 3);
+      int batches = 0;
+      for (Predictor<Integer, Integer> predictor : created) {
+        batches += mockingDetails(predictor).getInvocations().stream()
+            .filter(i -> i.getMethod().getName().equals("batchPredict")).count();
+      }
+      assertThat(batches).isEqualTo(7);
+    }
+  }
+
+  @Test
+  void testPredictorsAreReused() throws Exception {
+    AtomicInteger created = new AtomicInteger();
+    try (PredictorPool<Integer, Integer> pool = new PredictorPool<>(() -> {
+      created.incrementAndGet();
+      try {
+        return doubling();
+      } catch (TranslateException e) {
+        throw new IllegalStateException(e);
+      }
+    }, 2, 8)) {
+      for (int i = 0; i < 10; i++) {
+        assertThat(pool.predict(i)).isEqualTo(i * 2);
+      }
+      assertThat(created).hasValue(1);
+    }
+  }
+
+  @Test
+  void testMapRunsInParallelAndPropagatesFailures() throws Exception {
+    try (PredictorPool<Integer, Integer> pool = new PredictorPool<>(() -> null, 4, 8)) {
+      assertThat(pool.map(List.of("a", "bb", "ccc"), String::length)).containsExactly(1, 2, 3);
+      assertThatThrownBy(() -> pool.map(List.of("a", "b"), s -> {
+        throw new java.io.IOException("unreadable " + s);
+      })).isInstanceOf(TranslateException.class);
+    }
+  }
+
+  @Test
+  void testCloseClosesThePredictors() throws Exception {
+    List<Predictor<Integer, Integer>> created = new ArrayList<>();
+    PredictorPool<Integer, Integer> pool = new PredictorPool<>(() -> {
+      try {
+        Predictor<Integer, Integer> predictor = doubling();
+        created.add(predictor);
+        return predictor;
+      } catch (TranslateException e) {
+        throw new IllegalStateException(e);
+      }
+    }, 2, 8);
+    pool.predict(1);
+
+    pool.close();
+
+    assertThat(created).singleElement().satisfies(predictor -> verify(predictor).close());
+    assertThatThrownBy(() -> pool.predict(2)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void testRejectsInvalidSizes() {
+    assertThatThrownBy(() -> new PredictorPool<Integer, Integer>(() -> null, 0, 1)).isInstanceOf(
+        IllegalArgumentException.class);
+  }
+}
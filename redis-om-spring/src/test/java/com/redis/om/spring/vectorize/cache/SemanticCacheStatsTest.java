@@ -0,0 +1,14 @@
+package com.redis.om.spring.vectorize.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SemanticCacheStatsTest {
+
+  @Test
+  void testHitRate() {
+    assertThat(new SemanticCacheStats(3, 1, 1, 10).hitRate()).isEqualTo(0.75);
+    assertThat(new SemanticCacheStats(0, 0, 0, 0).hitRate()).isZero();
+  }
+}
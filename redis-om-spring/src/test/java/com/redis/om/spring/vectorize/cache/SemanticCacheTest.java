@@ -0,0 +1,111 @@
+package com.redis.om.spring.vectorize.cache;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.indexing.DistanceMetric;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SemanticCacheTest extends AbstractBaseEnhancedRedisTest {
+  @Autowired
+  SemanticCacheManager semanticCacheManager;
+
+  @AfterEach
+  void cleanUp() {
+    semanticCacheManager.getCaches().forEach(SemanticCache::clear);
+  }
+
+  @Test
+  void testCloseEmbeddingsShareResults() {
+    SemanticCache cache = semanticCacheManager.getCache("questions", 3, DistanceMetric.COSINE);
+    cache.put(new float[] { 1f, 0f, 0f }, List.of("doc:1", "doc:2"));
+
+    assertThat(cache.get(new float[] { 0.99f, 0.05f, 0f })).contains(List.of("doc:1", "doc:2"));
+    assertThat(cache.get(new float[] { 0f, 1f, 0f })).isEmpty();
+
+    SemanticCacheStats stats = cache.getStats();
+    assertThat(stats.hits()).isEqualTo(1);
+    assertThat(stats.misses()).isEqualTo(1);
+    assertThat(stats.size()).isEqualTo(1);
+    assertThat(stats.hitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  void testGetOrLoadLoadsOnce() {
+    SemanticCache cache = semanticCacheManager.getCache("loaded", 3, DistanceMetric.COSINE);
+    AtomicInteger loads = new AtomicInteger();
+
+    List<String> first = cache.getOrLoad(new float[] { 0f, 0f, 1f }, e -> {
+      loads.incrementAndGet();
+      return List.of("doc:7");
+    });
+    List<String> second = cache.getOrLoad(new float[] { 0f, 0.01f, 1f }, e -> {
+      loads.incrementAndGet();
+      return List.of("doc:8");
+    });
+
+    assertThat(first).containsExactly("doc:7");
+    assertThat(second).containsExactly("doc:7");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void testOldestEntriesAreEvicted() {
+    SemanticCache cache = new SemanticCache("bounded", 2, DistanceMetric.L2, 0.01, Duration.ofMinutes(1), 2, null,
+        modulesOperations, indexer);
+    cache.put(new float[] { 1f, 0f }, List.of("a"));
+    cache.put(new float[] { 0f, 1f }, List.of("b"));
+    cache.put(new float[] { 1f, 1f }, List.of("c"));
+
+    assertThat(cache.getStats().size()).isEqualTo(2);
+    assertThat(cache.get(new float[] { 1f, 0f })).isEmpty();
+    assertThat(cache.get(new float[] { 1f, 1f })).contains(List.of("c"));
+    cache.clear();
+  }
+
+  @Test
+  void testEvictionFollowsPutOrderWithinTheSameMillisecond() {
+    SemanticCache cache = new SemanticCache("ordered", 2, DistanceMetric.L2, 0.01, Duration.ofMinutes(1), 3, null,
+        modulesOperations, indexer);
+    for (int i = 0; i < 10; i++) {
+      cache.put(new float[] { i, 0f }, List.of("id" + i));
+    }
+
+    assertThat(cache.getStats().size()).isEqualTo(3);
+    for (int i = 0; i < 7; i++) {
+      assertThat(cache.get(new float[] { i, 0f })).isEmpty();
+    }
+    for (int i = 7; i < 10; i++) {
+      assertThat(cache.get(new float[] { i, 0f })).contains(List.of("id" + i));
+    }
+    cache.clear();
+  }
+
+  @Test
+  void testExpiredEntriesLeaveTheCache() throws InterruptedException {
+    SemanticCache cache = new SemanticCache("expiring", 2, DistanceMetric.L2, 0.01, Duration.ofMillis(100), 10, null,
+        modulesOperations, indexer);
+    cache.put(new float[] { 1f, 0f }, List.of("a"));
+    Thread.sleep(200);
+    cache.put(new float[] { 0f, 1f }, List.of("b"));
+
+    assertThat(cache.getStats().size()).isEqualTo(1);
+    assertThat(cache.get(new float[] { 0f, 1f })).contains(List.of("b"));
+    cache.clear();
+  }
+
+  @Test
+  void testTextLookupNeedsAnEmbedder() {
+    SemanticCache cache = semanticCacheManager.getCache("embeddings-only", 3, DistanceMetric.COSINE);
+
+    assertThatThrownBy(() -> cache.get("what is redis?")).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> cache.put(new float[] { 1f }, List.of())).isInstanceOf(IllegalArgumentException.class);
+  }
+}